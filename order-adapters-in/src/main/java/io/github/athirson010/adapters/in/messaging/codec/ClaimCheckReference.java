@@ -0,0 +1,18 @@
+package io.github.athirson010.adapters.in.messaging.codec;
+
+import io.github.athirson010.domain.enums.Category;
+import io.github.athirson010.domain.enums.PolicyStatus;
+import io.github.athirson010.domain.enums.SalesChannel;
+import io.github.athirson010.domain.model.PolicyProposalId;
+
+/**
+ * Referência publicada no lugar da proposta completa quando a mensagem passa do limite de claim-check.
+ * O {@code status} é o da proposta no momento da publicação e define o roteamento no consumer.
+ */
+public record ClaimCheckReference(
+        PolicyProposalId id,
+        PolicyStatus status,
+        Category category,
+        SalesChannel salesChannel
+) {
+}
@@ -0,0 +1,179 @@
+package io.github.athirson010.adapters.in.messaging.codec;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import io.github.athirson010.domain.enums.Category;
+import io.github.athirson010.domain.enums.PaymentMethod;
+import io.github.athirson010.domain.enums.PolicyStatus;
+import io.github.athirson010.domain.enums.SalesChannel;
+import io.github.athirson010.domain.model.HistoryEntry;
+import io.github.athirson010.domain.model.Money;
+import io.github.athirson010.domain.model.PolicyProposal;
+import io.github.athirson010.domain.model.PolicyProposalId;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Lê {@link PolicyProposal} token a token com o {@link JsonParser} e monta a proposta pelo builder,
+ * sem reflexão sobre os campos da classe Lombok. Aceita o JSON produzido pela serialização por bean
+ * (mensagens publicadas antes da troca) e ignora campos desconhecidos.
+ */
+public class PolicyProposalJsonDeserializer extends StdDeserializer<PolicyProposal> {
+
+    public PolicyProposalJsonDeserializer() {
+        super(PolicyProposal.class);
+    }
+
+    @Override
+    public PolicyProposal deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        expect(p, ctxt, JsonToken.START_OBJECT);
+        PolicyProposal.PolicyProposalBuilder builder = PolicyProposal.builder();
+
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            JsonToken value = p.nextToken();
+            if (value == JsonToken.VALUE_NULL) {
+                continue;
+            }
+
+            switch (field) {
+                case "id" -> builder.id(readId(p, ctxt));
+                case "customerId" -> builder.customerId(UUID.fromString(p.getText()));
+                case "productId" -> builder.productId(p.getText());
+                case "category" -> builder.category(Category.valueOf(p.getText()));
+                case "salesChannel" -> builder.salesChannel(SalesChannel.valueOf(p.getText()));
+                case "paymentMethod" -> builder.paymentMethod(PaymentMethod.valueOf(p.getText()));
+                case "totalMonthlyPremiumAmount" -> builder.totalMonthlyPremiumAmount(readMoney(p, ctxt));
+                case "insuredAmount" -> builder.insuredAmount(readMoney(p, ctxt));
+                case "coverages" -> builder.coverages(readCoverages(p, ctxt));
+                case "assistances" -> builder.assistances(readAssistances(p, ctxt));
+                case "status" -> builder.status(PolicyStatus.valueOf(p.getText()));
+                case "createdAt" -> builder.createdAt(readInstant(p, ctxt));
+                case "finishedAt" -> builder.finishedAt(readInstant(p, ctxt));
+                case "paymentConfirmed" -> builder.paymentConfirmed(p.getBooleanValue());
+                case "subscriptionConfirmed" -> builder.subscriptionConfirmed(p.getBooleanValue());
+                case "paymentResponseReceived" -> builder.paymentResponseReceived(p.getBooleanValue());
+                case "subscriptionResponseReceived" -> builder.subscriptionResponseReceived(p.getBooleanValue());
+                case "paymentRejectionReason" -> builder.paymentRejectionReason(p.getText());
+                case "subscriptionRejectionReason" -> builder.subscriptionRejectionReason(p.getText());
+                case "history" -> builder.history(readHistory(p, ctxt));
+                case "version" -> builder.version(p.getLongValue());
+                default -> p.skipChildren();
+            }
+        }
+
+        return builder.build();
+    }
+
+    private PolicyProposalId readId(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_STRING) {
+            return PolicyProposalId.from(p.getText());
+        }
+
+        expect(p, ctxt, JsonToken.START_OBJECT);
+        PolicyProposalId id = null;
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            if ("value".equals(field) && p.currentToken() != JsonToken.VALUE_NULL) {
+                id = PolicyProposalId.from(p.getText());
+            } else {
+                p.skipChildren();
+            }
+        }
+        return id;
+    }
+
+    private Money readMoney(JsonParser p, DeserializationContext ctxt) throws IOException {
+        expect(p, ctxt, JsonToken.START_OBJECT);
+        BigDecimal amount = null;
+        String currency = null;
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            JsonToken value = p.nextToken();
+            if ("amount".equals(field) && value != JsonToken.VALUE_NULL) {
+                amount = value == JsonToken.VALUE_STRING ? new BigDecimal(p.getText()) : p.getDecimalValue();
+            } else if ("currency".equals(field) && value != JsonToken.VALUE_NULL) {
+                currency = p.getText();
+            } else {
+                p.skipChildren();
+            }
+        }
+        return new Money(amount, currency);
+    }
+
+    private Map<String, Money> readCoverages(JsonParser p, DeserializationContext ctxt) throws IOException {
+        expect(p, ctxt, JsonToken.START_OBJECT);
+        Map<String, Money> coverages = new LinkedHashMap<>();
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String name = p.currentName();
+            p.nextToken();
+            coverages.put(name, readMoney(p, ctxt));
+        }
+        return coverages;
+    }
+
+    private List<String> readAssistances(JsonParser p, DeserializationContext ctxt) throws IOException {
+        expect(p, ctxt, JsonToken.START_ARRAY);
+        List<String> assistances = new ArrayList<>();
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            assistances.add(p.getText());
+        }
+        return assistances;
+    }
+
+    private List<HistoryEntry> readHistory(JsonParser p, DeserializationContext ctxt) throws IOException {
+        expect(p, ctxt, JsonToken.START_ARRAY);
+        List<HistoryEntry> history = new ArrayList<>();
+        while (p.nextToken() == JsonToken.START_OBJECT) {
+            PolicyStatus status = null;
+            Instant timestamp = null;
+            String reason = null;
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                JsonToken value = p.nextToken();
+                if (value == JsonToken.VALUE_NULL) {
+                    continue;
+                }
+                switch (field) {
+                    case "status" -> status = PolicyStatus.valueOf(p.getText());
+                    case "timestamp" -> timestamp = readInstant(p, ctxt);
+                    case "reason" -> reason = p.getText();
+                    default -> p.skipChildren();
+                }
+            }
+            history.add(HistoryEntry.of(status, timestamp, reason));
+        }
+        return history;
+    }
+
+    /**
+     * Aceita ISO-8601 e o formato numérico (segundos.nanos) do {@code JavaTimeModule}.
+     */
+    private Instant readInstant(JsonParser p, DeserializationContext ctxt) throws IOException {
+        return switch (p.currentToken()) {
+            case VALUE_STRING -> Instant.parse(p.getText());
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> {
+                BigDecimal seconds = p.getDecimalValue();
+                yield Instant.ofEpochSecond(seconds.longValue(),
+                        seconds.remainder(BigDecimal.ONE).movePointRight(9).intValue());
+            }
+            default -> (Instant) ctxt.handleUnexpectedToken(Instant.class, p);
+        };
+    }
+
+    private void expect(JsonParser p, DeserializationContext ctxt, JsonToken expected) throws IOException {
+        if (p.currentToken() != expected) {
+            ctxt.reportWrongTokenException(PolicyProposal.class, expected, "Unexpected token in PolicyProposal message");
+        }
+    }
+}
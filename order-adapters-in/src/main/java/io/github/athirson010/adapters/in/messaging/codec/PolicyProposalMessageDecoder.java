@@ -0,0 +1,83 @@
+package io.github.athirson010.adapters.in.messaging.codec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.github.athirson010.domain.enums.Category;
+import io.github.athirson010.domain.enums.PolicyStatus;
+import io.github.athirson010.domain.enums.SalesChannel;
+import io.github.athirson010.domain.model.PolicyProposal;
+import io.github.athirson010.domain.model.PolicyProposalId;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Lê o {@link PolicyProposal} da fila order-service-consumer escolhendo o formato pelo
+ * {@code content-type} da mensagem:
+ * <ul>
+ *     <li>{@value #SMILE_V1_CONTENT_TYPE}: Smile binário compacto</li>
+ *     <li>{@value #CLAIM_CHECK_V1_CONTENT_TYPE}: apenas a referência, lida por {@link #decodeClaimCheck}</li>
+ *     <li>outra versão {@code application/vnd.policy-proposal.*}: rejeitada, para não interpretar
+ *     um formato desconhecido como JSON</li>
+ *     <li>demais valores ({@code application/json}, {@code text/plain} ou ausente): JSON, incluindo
+ *     mensagens publicadas antes do formato binário</li>
+ * </ul>
+ * O mapper Smile é copiado do {@code ObjectMapper} da aplicação e herda o
+ * {@link PolicyProposalJsonDeserializer} registrado nele.
+ */
+@Component
+public class PolicyProposalMessageDecoder {
+
+    /**
+     * Mesmo valor de {@code PolicyProposalMessageConverter.SMILE_V1_CONTENT_TYPE} no produtor.
+     */
+    public static final String SMILE_V1_CONTENT_TYPE = "application/vnd.policy-proposal.v1+smile";
+
+    /**
+     * Mesmo valor de {@code PolicyProposalMessageConverter.CLAIM_CHECK_V1_CONTENT_TYPE} no produtor.
+     */
+    public static final String CLAIM_CHECK_V1_CONTENT_TYPE = "application/vnd.policy-proposal.claim-check.v1+json";
+
+    private static final String VENDOR_CONTENT_TYPE_PREFIX = "application/vnd.policy-proposal.";
+
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper smileMapper;
+
+    public PolicyProposalMessageDecoder(ObjectMapper objectMapper) {
+        this.jsonMapper = objectMapper;
+        this.smileMapper = objectMapper.copyWith(new SmileFactory());
+    }
+
+    public PolicyProposal decode(Message message) throws IOException {
+        String contentType = message.getMessageProperties().getContentType();
+
+        if (SMILE_V1_CONTENT_TYPE.equals(contentType)) {
+            return smileMapper.readValue(message.getBody(), PolicyProposal.class);
+        }
+        if (contentType != null && contentType.startsWith(VENDOR_CONTENT_TYPE_PREFIX)) {
+            throw new MessageConversionException("Formato de mensagem não suportado: " + contentType);
+        }
+        return jsonMapper.readValue(message.getBody(), PolicyProposal.class);
+    }
+
+    public boolean isClaimCheck(Message message) {
+        return CLAIM_CHECK_V1_CONTENT_TYPE.equals(message.getMessageProperties().getContentType());
+    }
+
+    public ClaimCheckReference decodeClaimCheck(Message message) throws IOException {
+        JsonNode reference = jsonMapper.readTree(message.getBody());
+        if (!reference.hasNonNull("id") || !reference.hasNonNull("status")) {
+            throw new MessageConversionException("Claim-check sem id ou status");
+        }
+
+        return new ClaimCheckReference(
+                PolicyProposalId.from(reference.get("id").asText()),
+                PolicyStatus.valueOf(reference.get("status").asText()),
+                reference.hasNonNull("category") ? Category.valueOf(reference.get("category").asText()) : null,
+                reference.hasNonNull("salesChannel") ? SalesChannel.valueOf(reference.get("salesChannel").asText()) : null
+        );
+    }
+}
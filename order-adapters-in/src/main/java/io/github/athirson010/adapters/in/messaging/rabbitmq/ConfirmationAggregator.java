@@ -0,0 +1,454 @@
+package io.github.athirson010.adapters.in.messaging.rabbitmq;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.athirson010.adapters.in.messaging.dto.PaymentConfirmationEvent;
+import io.github.athirson010.adapters.in.messaging.dto.SubscriptionConfirmationEvent;
+import io.github.athirson010.adapters.in.messaging.rabbitmq.ConsumerStepMetrics.Consumer;
+import io.github.athirson010.adapters.in.messaging.rabbitmq.ConsumerStepMetrics.Step;
+import io.github.athirson010.adapters.in.messaging.rabbitmq.PolicyLifecycleMetrics.Response;
+import io.github.athirson010.core.port.out.ConfirmationChangelogPort;
+import io.github.athirson010.core.port.out.OrderRepository;
+import io.github.athirson010.domain.enums.PolicyStatus;
+import io.github.athirson010.domain.model.PolicyProposal;
+import io.github.athirson010.domain.model.PolicyProposalId;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Consumer único das respostas de pagamento e de subscrição (perfil {@code confirmation-aggregator}), no lugar do
+ * {@link PaymentConfirmationConsumer} e do {@link InsuranceSubscriptionConfirmationConsumer}.
+ * <p>
+ * As propostas que aguardam a outra resposta ficam em memória, divididas em partições pelo id. Cada partição tem
+ * uma única thread, dona do seu mapa: as respostas da mesma proposta são aplicadas em série, sem locks, e a segunda
+ * resposta não relê a proposta do repositório. A proposta só é gravada quando a resposta muda o status ou acrescenta
+ * histórico (rejeição, aprovação, resposta após rejeição); a primeira aprovação fica só em memória e no changelog
+ * ({@link ConfirmationChangelogPort}), gravado antes do ack da mensagem e relido na inicialização. Sem changelog,
+ * toda resposta é gravada no repositório. A proposta sai da memória quando as duas respostas
+ * chegam ou depois de {@code idle-timeout} sem respostas; nesse caso e no desligamento, as respostas ainda não
+ * gravadas vão para o repositório antes.
+ * <p>
+ * Se a gravação encontrar a proposta em um status que não aceita o novo (por exemplo, cancelada pela API enquanto
+ * estava em memória), o estado em memória é descartado e a resposta é reaplicada sobre a proposta lida do
+ * repositório. A listener thread espera o processamento na partição, então erros continuam voltando ao RabbitMQ.
+ * <p>
+ * Deve rodar em uma única instância: com consumers concorrentes, as duas respostas de uma proposta podem chegar a
+ * instâncias diferentes e cada uma guardaria só metade das confirmações. Por isso as filas são consumidas em modo
+ * exclusivo e a inicialização falha se elas já tiverem consumers (outra instância do agregador ou os consumers
+ * separados).
+ */
+@Slf4j
+@Profile("confirmation-aggregator")
+@Component
+public class ConfirmationAggregator implements DisposableBean {
+
+    static final String PENDING_METRIC = "policy.aggregator.pending";
+    static final String LOOKUPS_METRIC = "policy.aggregator.lookups";
+    static final String WRITES_METRIC = "policy.aggregator.writes";
+
+    private final ObjectMapper objectMapper;
+    private final OrderRepository orderRepository;
+    private final ConfirmationChangelogPort changelog;
+    private final PolicyLifecycleMetrics lifecycleMetrics;
+    private final ConsumerStepMetrics stepMetrics;
+    private final Duration idleTimeout;
+    private final Clock clock;
+    private final Partition[] partitions;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Counter memoryLookups;
+    private final Counter repositoryLookups;
+    private final Counter writes;
+    private final Counter deferredWrites;
+
+    @Autowired
+    public ConfirmationAggregator(ObjectMapper objectMapper,
+                                  OrderRepository orderRepository,
+                                  ObjectProvider<ConfirmationChangelogPort> changelog,
+                                  PolicyLifecycleMetrics lifecycleMetrics,
+                                  ConsumerStepMetrics stepMetrics,
+                                  MeterRegistry meterRegistry,
+                                  ObjectProvider<AmqpAdmin> amqpAdmin,
+                                  @Value("${rabbitmq.queues.payment-confirmation}") String paymentQueue,
+                                  @Value("${rabbitmq.queues.subscription-confirmation}") String subscriptionQueue,
+                                  @Value("${policy.confirmation-aggregator.partitions:8}") int partitions,
+                                  @Value("${policy.confirmation-aggregator.idle-timeout:15m}") Duration idleTimeout) {
+        this(objectMapper, orderRepository, changelog.getIfAvailable(), lifecycleMetrics, stepMetrics, meterRegistry,
+                partitions, idleTimeout, Clock.systemUTC());
+        AmqpAdmin admin = amqpAdmin.getIfAvailable();
+        if (admin != null) {
+            requireNoOtherConsumers(admin, paymentQueue, subscriptionQueue);
+        }
+    }
+
+    ConfirmationAggregator(ObjectMapper objectMapper,
+                           OrderRepository orderRepository,
+                           ConfirmationChangelogPort changelog,
+                           PolicyLifecycleMetrics lifecycleMetrics,
+                           ConsumerStepMetrics stepMetrics,
+                           MeterRegistry meterRegistry,
+                           int partitions,
+                           Duration idleTimeout,
+                           Clock clock) {
+        if (partitions <= 0) {
+            throw new IllegalArgumentException("Quantidade de partições do agregador inválida: " + partitions);
+        }
+        this.objectMapper = objectMapper;
+        this.orderRepository = orderRepository;
+        this.changelog = changelog;
+        this.lifecycleMetrics = lifecycleMetrics;
+        this.stepMetrics = stepMetrics;
+        this.idleTimeout = idleTimeout;
+        this.clock = clock;
+        this.partitions = new Partition[partitions];
+        for (int index = 0; index < partitions; index++) {
+            this.partitions[index] = new Partition(index);
+        }
+        if (changelog != null) {
+            recover();
+        }
+
+        Gauge.builder(PENDING_METRIC, pending, AtomicInteger::get)
+                .description("Propostas aguardando a outra resposta no agregador de confirmações")
+                .register(meterRegistry);
+        this.memoryLookups = lookupCounter(meterRegistry, "MEMORY");
+        this.repositoryLookups = lookupCounter(meterRegistry, "REPOSITORY");
+        this.writes = writeCounter(meterRegistry, "WRITTEN");
+        this.deferredWrites = writeCounter(meterRegistry, "DEFERRED");
+    }
+
+    @RabbitListener(queues = "${rabbitmq.queues.payment-confirmation}", exclusive = true, concurrency = "1")
+    public void consumePaymentConfirmation(String messageBody) {
+        try {
+            PaymentConfirmationEvent event = stepMetrics.time(Consumer.PAYMENT, Step.DESERIALIZE,
+                    () -> objectMapper.readValue(messageBody, PaymentConfirmationEvent.class));
+
+            log.info("Resposta de PAGAMENTO recebida no agregador. PolicyId={}, Status={}, TransactionId={}",
+                    event.getPolicyRequestId(), event.getPaymentStatus(), event.getTransactionId());
+
+            aggregate(Response.PAYMENT, PolicyProposalId.from(event.getPolicyRequestId()),
+                    event.isApproved(), event.getRejectionReason());
+            stepMetrics.countMessage(Consumer.PAYMENT, true);
+
+        } catch (Exception e) {
+            stepMetrics.countMessage(Consumer.PAYMENT, false);
+            log.error("Erro ao processar mensagem de confirmação de pagamento no agregador", e);
+            throw new RuntimeException("Falha ao processar mensagem de confirmação de pagamento", e);
+        }
+    }
+
+    @RabbitListener(queues = "${rabbitmq.queues.subscription-confirmation}", exclusive = true, concurrency = "1")
+    public void consumeSubscriptionConfirmation(String messageBody) {
+        try {
+            SubscriptionConfirmationEvent event = stepMetrics.time(Consumer.SUBSCRIPTION, Step.DESERIALIZE,
+                    () -> objectMapper.readValue(messageBody, SubscriptionConfirmationEvent.class));
+
+            log.info("Resposta de SUBSCRIÇÃO recebida no agregador. PolicyId={}, Status={}, SubscriptionId={}",
+                    event.getPolicyRequestId(), event.getSubscriptionStatus(), event.getSubscriptionId());
+
+            aggregate(Response.SUBSCRIPTION, PolicyProposalId.from(event.getPolicyRequestId()),
+                    event.isApproved(), event.getRejectionReason());
+            stepMetrics.countMessage(Consumer.SUBSCRIPTION, true);
+
+        } catch (Exception e) {
+            stepMetrics.countMessage(Consumer.SUBSCRIPTION, false);
+            log.error("Erro ao processar mensagem de confirmação de subscrição no agregador", e);
+            throw new RuntimeException("Falha ao processar mensagem de confirmação de subscrição", e);
+        }
+    }
+
+    /**
+     * Aplica a resposta na thread da partição da proposta e espera o resultado.
+     */
+    PolicyProposal aggregate(Response response, PolicyProposalId id, boolean approved, String rejectionReason)
+            throws Exception {
+        Partition partition = partitionOf(id);
+        return partition.run(() -> partition.apply(response, id, approved, rejectionReason));
+    }
+
+    /**
+     * Remove as propostas sem respostas há mais de {@code idle-timeout}, gravando as respostas pendentes, e
+     * compacta o changelog das partições alteradas desde a última compactação.
+     */
+    @Scheduled(fixedDelayString = "${policy.confirmation-aggregator.sweep-interval:1m}",
+            initialDelayString = "${policy.confirmation-aggregator.sweep-interval:1m}")
+    public void sweep() {
+        Instant idleSince = clock.instant().minus(idleTimeout);
+        for (Partition partition : partitions) {
+            try {
+                partition.run(() -> {
+                    partition.evictIdle(idleSince);
+                    partition.compactIfNeeded();
+                    return null;
+                });
+            } catch (Exception e) {
+                log.warn("Falha na limpeza da partição {} do agregador de confirmações: {}",
+                        partition.index, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Grava as respostas ainda só em memória e encerra as partições. As listeners do RabbitMQ já pararam.
+     */
+    @Override
+    public void destroy() {
+        for (Partition partition : partitions) {
+            try {
+                partition.run(() -> {
+                    partition.flush();
+                    return null;
+                });
+            } catch (Exception e) {
+                log.warn("Falha ao gravar respostas pendentes da partição {} no desligamento: {}",
+                        partition.index, e.getMessage());
+            }
+            partition.executor.shutdown();
+        }
+    }
+
+    int pendingCount() {
+        return pending.get();
+    }
+
+    /**
+     * O hash do id em texto é estável entre execuções, então o changelog de cada partição continua valendo depois
+     * de reiniciar.
+     */
+    private Partition partitionOf(PolicyProposalId id) {
+        return partitions[Math.floorMod(id.asString().hashCode(), partitions.length)];
+    }
+
+    private void recover() {
+        for (Partition partition : partitions) {
+            long records = changelog.replay(partition.index, proposal -> {
+                if (isComplete(proposal)) {
+                    partition.state.remove(proposal.getId());
+                } else {
+                    // Sem saber o que chegou ao repositório, trata tudo como pendente de gravação
+                    partition.state.put(proposal.getId(), new Entry(proposal, clock.instant(), true));
+                }
+            });
+            changelog.compact(partition.index, partition.proposals());
+            pending.addAndGet(partition.state.size());
+            log.info("Partição {} do agregador recuperada: {} propostas a partir de {} registros",
+                    partition.index, partition.state.size(), records);
+        }
+    }
+
+    /**
+     * Falha a inicialização se alguma das filas já tiver consumers: o estado em memória só é correto com uma única
+     * instância recebendo as duas respostas. O consumer exclusivo impede que outra instância entre depois.
+     */
+    static void requireNoOtherConsumers(AmqpAdmin admin, String... queues) {
+        for (String queue : queues) {
+            QueueInformation info = admin.getQueueInfo(queue);
+            if (info != null && info.getConsumerCount() > 0) {
+                throw new IllegalStateException(String.format(
+                        "Fila %s já tem %d consumer(s). O agregador de confirmações deve ser o único consumer das "
+                                + "respostas de pagamento e subscrição", queue, info.getConsumerCount()));
+            }
+        }
+    }
+
+    private static boolean isComplete(PolicyProposal proposal) {
+        return proposal.isPaymentResponseReceived() && proposal.isSubscriptionResponseReceived();
+    }
+
+    private static Counter lookupCounter(MeterRegistry registry, String source) {
+        return Counter.builder(LOOKUPS_METRIC)
+                .description("Origem da proposta para aplicar a resposta no agregador de confirmações")
+                .tag("source", source)
+                .register(registry);
+    }
+
+    private static Counter writeCounter(MeterRegistry registry, String outcome) {
+        return Counter.builder(WRITES_METRIC)
+                .description("Respostas gravadas no repositório ou mantidas só em memória pelo agregador")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    /**
+     * Proposta em memória. {@code dirty} indica respostas ainda não gravadas no repositório.
+     */
+    private record Entry(PolicyProposal proposal, Instant updatedAt, boolean dirty) {
+    }
+
+    private final class Partition {
+
+        private final int index;
+        private final ExecutorService executor;
+        /** Acessado só pela thread da partição. */
+        private final Map<PolicyProposalId, Entry> state = new HashMap<>();
+        /** O changelog tem registros além do estado atual (gravações ou remoções desde a última compactação). */
+        private boolean compactionDue;
+
+        private Partition(int index) {
+            this.index = index;
+            this.executor = Executors.newSingleThreadExecutor(
+                    new CustomizableThreadFactory("confirmation-aggregator-" + index + "-"));
+        }
+
+        private <T> T run(Callable<T> task) throws Exception {
+            try {
+                return executor.submit(task).get();
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof Exception cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+
+        private PolicyProposal apply(Response response, PolicyProposalId id, boolean approved, String rejectionReason) {
+            Entry entry = state.get(id);
+            try {
+                return apply(entry, response, id, approved, rejectionReason);
+            } catch (OptimisticLockingFailureException e) {
+                if (entry == null) {
+                    throw e;
+                }
+                log.warn("Proposta {} mudou no repositório enquanto estava no agregador; reaplicando a resposta de {}",
+                        id.asString(), response);
+                remove(id);
+                return apply(null, response, id, approved, rejectionReason);
+            }
+        }
+
+        private PolicyProposal apply(Entry entry, Response response, PolicyProposalId id,
+                                     boolean approved, String rejectionReason) {
+            PolicyProposal proposal;
+            if (entry != null) {
+                memoryLookups.increment();
+                // Trabalha sobre uma cópia: se a gravação falhar, a memória continua com o estado anterior à resposta
+                proposal = entry.proposal().toBuilder().history(new ArrayList<>(entry.proposal().getHistory())).build();
+            } else {
+                repositoryLookups.increment();
+                proposal = orderRepository.findById(id)
+                        .orElseThrow(() -> new IllegalArgumentException(
+                                "Proposta de apólice não encontrada: " + id.asString()));
+            }
+
+            Instant now = clock.instant();
+            PolicyStatus previousStatus = proposal.getStatus();
+            int previousHistory = proposal.getHistory().size();
+            if (response == Response.PAYMENT) {
+                proposal.processPaymentResponse(approved, rejectionReason, now);
+            } else {
+                proposal.processSubscriptionResponse(approved, rejectionReason, now);
+            }
+
+            // Sem changelog a resposta só sobreviveria em memória: grava sempre
+            boolean write = changelog == null
+                    || proposal.getStatus() != previousStatus
+                    || proposal.getHistory().size() != previousHistory;
+            if (write) {
+                orderRepository.save(proposal);
+                writes.increment();
+            } else {
+                deferredWrites.increment();
+            }
+            if (changelog != null) {
+                changelog.append(index, proposal);
+                compactionDue = true;
+            }
+
+            if (isComplete(proposal)) {
+                remove(id);
+            } else {
+                Entry previous = state.put(id, new Entry(proposal, now, !write));
+                if (previous == null) {
+                    pending.incrementAndGet();
+                }
+            }
+            lifecycleMetrics.recordTransition(previousStatus, proposal, response);
+
+            log.info("Resposta de {} aplicada pelo agregador. PolicyId={}, Status={}, Gravada={}",
+                    response, id.asString(), proposal.getStatus(), write);
+            return proposal;
+        }
+
+        private void evictIdle(Instant idleSince) {
+            Iterator<Entry> entries = state.values().iterator();
+            while (entries.hasNext()) {
+                Entry entry = entries.next();
+                if (entry.updatedAt().isBefore(idleSince) && write(entry)) {
+                    entries.remove();
+                    pending.decrementAndGet();
+                    compactionDue = true;
+                }
+            }
+        }
+
+        private void flush() {
+            state.values().forEach(this::write);
+        }
+
+        /**
+         * Grava as respostas pendentes da entrada. Retorna {@code false} se a gravação falhou e a entrada deve ficar
+         * em memória para a próxima tentativa.
+         */
+        private boolean write(Entry entry) {
+            if (!entry.dirty()) {
+                return true;
+            }
+            try {
+                orderRepository.save(entry.proposal());
+                writes.increment();
+                return true;
+            } catch (OptimisticLockingFailureException e) {
+                log.warn("Proposta {} mudou no repositório; respostas em memória descartadas: {}",
+                        entry.proposal().getId().asString(), e.getMessage());
+                return true;
+            } catch (RuntimeException e) {
+                log.warn("Falha ao gravar respostas pendentes da proposta {}: {}",
+                        entry.proposal().getId().asString(), e.getMessage());
+                return false;
+            }
+        }
+
+        private void compactIfNeeded() {
+            if (changelog != null && compactionDue) {
+                changelog.compact(index, proposals());
+                compactionDue = false;
+            }
+        }
+
+        private void remove(PolicyProposalId id) {
+            if (state.remove(id) != null) {
+                pending.decrementAndGet();
+            }
+        }
+
+        private List<PolicyProposal> proposals() {
+            return state.values().stream().map(Entry::proposal).toList();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package io.github.athirson010.adapters.in.messaging.rabbitmq;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Métricas do caminho quente dos consumers: tempo de cada etapa ({@code policy.consumer.step}, tags
+ * {@code consumer}, {@code step} e {@code outcome}) e mensagens processadas ({@code policy.consumer.messages},
+ * tags {@code consumer} e {@code outcome}). {@code outcome} é {@code SUCCESS} ou {@code ERROR}.
+ * Os medidores são criados na primeira medição e reaproveitados.
+ */
+@Component
+public class ConsumerStepMetrics {
+
+    static final String STEP_METRIC = "policy.consumer.step";
+    static final String MESSAGES_METRIC = "policy.consumer.messages";
+
+    public enum Consumer {
+        ORDER,
+        PAYMENT,
+        SUBSCRIPTION
+    }
+
+    public enum Step {
+        DESERIALIZE,
+        FRAUD_ANALYSIS,
+        VALIDATION
+    }
+
+    @FunctionalInterface
+    public interface StepAction<T, E extends Exception> {
+        T run() throws E;
+    }
+
+    private final MeterRegistry registry;
+    private final Timer[][][] stepTimers = new Timer[Consumer.values().length][Step.values().length][2];
+    private final Counter[][] messageCounters = new Counter[Consumer.values().length][2];
+
+    public ConsumerStepMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Executa a etapa medindo o tempo; exceções são registradas com {@code outcome=ERROR} e relançadas.
+     */
+    public <T, E extends Exception> T time(Consumer consumer, Step step, StepAction<T, E> action) throws E {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            T result = action.run();
+            success = true;
+            return result;
+        } finally {
+            stepTimer(consumer, step, success).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public void countMessage(Consumer consumer, boolean success) {
+        int outcome = success ? 0 : 1;
+        Counter counter = messageCounters[consumer.ordinal()][outcome];
+        if (counter == null) {
+            // Corrida inofensiva: o registry devolve o mesmo medidor
+            counter = Counter.builder(MESSAGES_METRIC)
+                    .description("Mensagens processadas pelos consumers")
+                    .tag("consumer", consumer.name())
+                    .tag("outcome", outcome(success))
+                    .register(registry);
+            messageCounters[consumer.ordinal()][outcome] = counter;
+        }
+        counter.increment();
+    }
+
+    private Timer stepTimer(Consumer consumer, Step step, boolean success) {
+        int outcome = success ? 0 : 1;
+        Timer timer = stepTimers[consumer.ordinal()][step.ordinal()][outcome];
+        if (timer == null) {
+            timer = Timer.builder(STEP_METRIC)
+                    .description("Tempo de cada etapa do processamento das mensagens")
+                    .tag("consumer", consumer.name())
+                    .tag("step", step.name())
+                    .tag("outcome", outcome(success))
+                    .register(registry);
+            stepTimers[consumer.ordinal()][step.ordinal()][outcome] = timer;
+        }
+        return timer;
+    }
+
+    private static String outcome(boolean success) {
+        return success ? "SUCCESS" : "ERROR";
+    }
+}
@@ -3,7 +3,10 @@ package io.github.athirson010.adapters.in.messaging.rabbitmq;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.athirson010.adapters.in.messaging.dto.SubscriptionConfirmationEvent;
+import io.github.athirson010.adapters.in.messaging.rabbitmq.ConsumerStepMetrics.Consumer;
+import io.github.athirson010.adapters.in.messaging.rabbitmq.ConsumerStepMetrics.Step;
 import io.github.athirson010.core.port.out.OrderRepository;
+import io.github.athirson010.domain.enums.PolicyStatus;
 import io.github.athirson010.domain.model.PolicyProposal;
 import io.github.athirson010.domain.model.PolicyProposalId;
 import lombok.RequiredArgsConstructor;
@@ -15,28 +18,34 @@ import org.springframework.stereotype.Component;
 import java.time.Instant;
 
 @Slf4j
-@Profile("order-response-insurance-consumer")
+@Profile("order-response-insurance-consumer & !confirmation-aggregator")
 @Component
 @RequiredArgsConstructor
 public class InsuranceSubscriptionConfirmationConsumer {
 
     private final ObjectMapper objectMapper;
     private final OrderRepository orderRepository;
+    private final PolicyLifecycleMetrics lifecycleMetrics;
+    private final ConsumerStepMetrics stepMetrics;
 
-    @RabbitListener(queues = "${rabbitmq.queues.subscription-confirmation}")
+    @RabbitListener(queues = "${rabbitmq.queues.subscription-confirmation}",
+            autoStartup = "${rabbitmq.listeners.auto-startup:true}")
     public void consumeInsuranceSubscriptionConfirmation(String messageBody) {
         try {
             log.info("Mensagem de confirmação de subscrição de seguro recebida");
 
-            SubscriptionConfirmationEvent event = deserializeMessage(messageBody);
+            SubscriptionConfirmationEvent event = stepMetrics.time(Consumer.SUBSCRIPTION, Step.DESERIALIZE,
+                    () -> deserializeMessage(messageBody));
 
             log.info("Evento de subscrição de seguro desserializado. PolicyId={}, Status={}",
                     event.getPolicyRequestId(),
                     event.getSubscriptionStatus());
 
             processInsuranceSubscriptionConfirmation(event);
+            stepMetrics.countMessage(Consumer.SUBSCRIPTION, true);
 
         } catch (Exception e) {
+            stepMetrics.countMessage(Consumer.SUBSCRIPTION, false);
             log.error("Erro ao processar mensagem de confirmação de subscrição de seguro", e);
             throw new RuntimeException("Falha ao processar mensagem de confirmação de subscrição de seguro", e);
         }
@@ -64,10 +73,13 @@ public class InsuranceSubscriptionConfirmationConsumer {
                 approved ? "APPROVED" : "REJECTED",
                 event.getSubscriptionId());
 
+        PolicyStatus previousStatus = policyProposal.getStatus();
+
         // Nova lógica: só aprova/rejeita quando AMBAS respostas chegarem
         policyProposal.processSubscriptionResponse(approved, rejectionReason, now);
 
         orderRepository.save(policyProposal);
+        lifecycleMetrics.recordTransition(previousStatus, policyProposal, PolicyLifecycleMetrics.Response.SUBSCRIPTION);
 
         log.info("Resposta de subscrição de seguro processada. PolicyId={}, Status final={}",
                 policyId.asString(),
@@ -1,84 +1,283 @@
 package io.github.athirson010.adapters.in.messaging.rabbitmq;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.athirson010.adapters.in.messaging.codec.ClaimCheckReference;
+import io.github.athirson010.adapters.in.messaging.codec.PolicyProposalMessageDecoder;
+import io.github.athirson010.adapters.in.messaging.rabbitmq.ConsumerStepMetrics.Consumer;
+import io.github.athirson010.adapters.in.messaging.rabbitmq.ConsumerStepMetrics.Step;
+import io.github.athirson010.core.port.out.ClaimCheckCachePort;
 import io.github.athirson010.core.port.out.FraudCheckPort;
 import io.github.athirson010.core.port.out.OrderEventPort;
 import io.github.athirson010.core.port.out.OrderRepository;
+import io.github.athirson010.core.service.PendingExpiryService;
 import io.github.athirson010.core.service.PolicyValidationService;
 import io.github.athirson010.domain.enums.PolicyStatus;
+import io.github.athirson010.domain.enums.ProcessingLane;
 import io.github.athirson010.domain.model.FraudAnalysisResult;
 import io.github.athirson010.domain.model.PolicyProposal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
 import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Consumer da fila order-service-consumer. O detalhe de cada etapa sai em DEBUG; por mensagem é emitido um único
+ * evento INFO de resumo no logger {@code OrderQueueConsumer.summary}, com os campos principais também no MDC
+ * ({@code policyId}, {@code lane}, {@code status}, {@code classification}, {@code outcome}, {@code durationMs}).
+ */
 @Slf4j
 @Profile("order-consumer")
 @Component
 @RequiredArgsConstructor
 public class OrderQueueConsumer {
 
-    private final ObjectMapper objectMapper;
+    private static final Logger summaryLog = LoggerFactory.getLogger(OrderQueueConsumer.class.getName() + ".summary");
+
+    /**
+     * Mesmo nome em {@code PolicyTraceTurboFilter.MDC_KEY} (order-application), que liga o detalhe por proposta.
+     */
+    static final String MDC_POLICY_ID = "policyId";
+    static final String MDC_LANE = "lane";
+    static final String MDC_STATUS = "status";
+    static final String MDC_CLASSIFICATION = "classification";
+    static final String MDC_OUTCOME = "outcome";
+    static final String MDC_DURATION_MS = "durationMs";
+    private static final List<String> MDC_KEYS = List.of(
+            MDC_POLICY_ID, MDC_LANE, MDC_STATUS, MDC_CLASSIFICATION, MDC_OUTCOME, MDC_DURATION_MS);
+
+    static final String OUTCOME_SUCCESS = "SUCCESS";
+    static final String OUTCOME_IGNORED = "IGNORED";
+    static final String OUTCOME_ERROR = "ERROR";
+
+    private final PolicyProposalMessageDecoder messageDecoder;
     private final FraudCheckPort fraudCheckPort;
     private final PolicyValidationService policyValidationService;
     private final OrderRepository orderRepository;
     private final OrderEventPort orderEventPort;
+    private final ClaimCheckCachePort claimCheckCache;
+    private final ProcessingLaneMetrics laneMetrics;
+    private final PolicyLifecycleMetrics lifecycleMetrics;
+    private final ConsumerStepMetrics stepMetrics;
+    private final PendingExpiryService pendingExpiryService;
+
+    /**
+     * Raias com consumers próprios: a concorrência de cada listener define o peso da raia no consumo, e um
+     * volume grande na raia BULK não ocupa os consumers das demais.
+     */
+    @RabbitListener(queues = "${rabbitmq.queues.order-consumer-priority}",
+            concurrency = "${rabbitmq.lanes.priority.concurrency:4}",
+            autoStartup = "${rabbitmq.listeners.auto-startup:true}")
+    public void consumePriorityMessage(Message message) {
+        consume(message, ProcessingLane.PRIORITY);
+    }
+
+    @RabbitListener(queues = "${rabbitmq.queues.order-consumer}",
+            concurrency = "${rabbitmq.lanes.standard.concurrency:2}",
+            autoStartup = "${rabbitmq.listeners.auto-startup:true}")
+    public void consumeMessage(Message message) {
+        consume(message, ProcessingLane.STANDARD);
+    }
+
+    @RabbitListener(queues = "${rabbitmq.queues.order-consumer-bulk}",
+            concurrency = "${rabbitmq.lanes.bulk.concurrency:1}",
+            autoStartup = "${rabbitmq.listeners.auto-startup:true}")
+    public void consumeBulkMessage(Message message) {
+        consume(message, ProcessingLane.BULK);
+    }
+
+    /**
+     * Processa a mensagem de uma raia. Também usado pelo {@code SqsOrderQueueListener} no profile {@code sqs}.
+     */
+    public void consume(Message message, ProcessingLane lane) {
+        laneMetrics.recordQueueWait(lane, message);
+        long start = System.nanoTime();
+        MDC.put(MDC_LANE, lane.name());
+        String outcome = OUTCOME_ERROR;
+        try {
+            outcome = process(message);
+        } finally {
+            long elapsedNanos = System.nanoTime() - start;
+            laneMetrics.recordProcessing(lane, elapsedNanos);
+            logSummary(outcome, elapsedNanos);
+        }
+    }
+
+    /**
+     * Evento único de resumo da mensagem. Remove do MDC apenas as chaves do consumer (traceId/spanId ficam).
+     */
+    private void logSummary(String outcome, long elapsedNanos) {
+        try {
+            if (summaryLog.isInfoEnabled()) {
+                MDC.put(MDC_OUTCOME, outcome);
+                MDC.put(MDC_DURATION_MS, Long.toString(TimeUnit.NANOSECONDS.toMillis(elapsedNanos)));
+                summaryLog.info("Mensagem processada. PolicyId={}, Raia={}, Status={}, Classificação={}, Resultado={}, DuraçãoMs={}",
+                        MDC.get(MDC_POLICY_ID),
+                        MDC.get(MDC_LANE),
+                        MDC.get(MDC_STATUS),
+                        MDC.get(MDC_CLASSIFICATION),
+                        outcome,
+                        MDC.get(MDC_DURATION_MS));
+            }
+        } finally {
+            MDC_KEYS.forEach(MDC::remove);
+        }
+    }
 
-    @RabbitListener(queues = "${rabbitmq.queues.order-consumer}")
-    public void consumeMessage(String messageBody) {
+    private String process(Message message) {
         try {
-            log.info("Mensagem recebida da fila order-service-consumer");
+            log.debug("Mensagem recebida da fila order-service-consumer. Tamanho={} bytes, ContentType={}",
+                    message.getBody().length,
+                    message.getMessageProperties().getContentType());
 
-            PolicyProposal policyProposal = deserializeMessage(messageBody);
+            Optional<DecodedProposal> decoded = stepMetrics.time(Consumer.ORDER, Step.DESERIALIZE,
+                    () -> decodeMessage(message));
+            if (decoded.isEmpty()) {
+                stepMetrics.countMessage(Consumer.ORDER, true);
+                return OUTCOME_IGNORED;
+            }
+            PolicyProposal policyProposal = decoded.get().proposal();
+            MDC.put(MDC_POLICY_ID, policyProposal.getId().asString());
 
-            log.info("Proposta desserializada. PolicyId={}, CustomerId={}, Status={}",
+            log.debug("Proposta desserializada. PolicyId={}, CustomerId={}, Status={}",
                     policyProposal.getId().asString(),
                     policyProposal.getCustomerId(),
                     policyProposal.getStatus());
 
+            String outcome = OUTCOME_SUCCESS;
             if (PolicyStatus.RECEIVED.equals(policyProposal.getStatus())) {
-                log.info("Processando inclusão de apólice - iniciando validação de fraude");
-                processInclusion(policyProposal);
+                log.debug("Processando inclusão de apólice - iniciando validação de fraude");
+                Optional<PolicyProposal> processed = processInclusion(policyProposal, decoded.get().stored());
+                if (processed.isPresent()) {
+                    policyProposal = processed.get();
+                } else {
+                    outcome = OUTCOME_IGNORED;
+                }
             } else if (PolicyStatus.CANCELED.equals(policyProposal.getStatus())) {
-                log.info("Processando cancelamento de apólice - enviando direto para Kafka");
+                log.debug("Processando cancelamento de apólice - enviando direto para Kafka");
                 processCancellation(policyProposal);
             } else {
                 log.warn("Status não reconhecido para processamento: {}. PolicyId={}",
                         policyProposal.getStatus(),
                         policyProposal.getId().asString());
+                outcome = OUTCOME_IGNORED;
             }
+            MDC.put(MDC_STATUS, policyProposal.getStatus().name());
+            stepMetrics.countMessage(Consumer.ORDER, true);
+            return outcome;
 
         } catch (Exception e) {
+            stepMetrics.countMessage(Consumer.ORDER, false);
             log.error("Erro ao processar mensagem da fila order-service-consumer", e);
             throw new RuntimeException("Falha ao processar mensagem da fila order-service-consumer", e);
             // RabbitMQ: exception = requeue ou DLQ (dependendo config)
         }
     }
 
-    private void processInclusion(PolicyProposal policyProposal) {
-        log.info("Iniciando análise de fraude para apólice: {}", policyProposal.getId().asString());
+    private Optional<DecodedProposal> decodeMessage(Message message) throws IOException {
+        if (!messageDecoder.isClaimCheck(message)) {
+            return Optional.of(new DecodedProposal(messageDecoder.decode(message), false));
+        }
+
+        ClaimCheckReference reference = messageDecoder.decodeClaimCheck(message);
+        Optional<PolicyProposal> cached = claimCheckCache.take(reference.id());
+        PolicyProposal policyProposal = cached
+                .or(() -> orderRepository.findById(reference.id()))
+                .orElseThrow(() -> new IllegalStateException(
+                        "Proposta do claim-check não encontrada: " + reference.id().asString()));
+
+        // A proposta pode ter mudado desde a publicação (cancelada ou já processada em uma reentrega).
+        // A mensagem do novo status, se houver, faz o processamento.
+        if (policyProposal.getStatus() != reference.status()) {
+            log.warn("Claim-check ignorado: status publicado={} difere do atual={}. PolicyId={}",
+                    reference.status(),
+                    policyProposal.getStatus(),
+                    reference.id().asString());
+            return Optional.empty();
+        }
+
+        log.debug("Proposta carregada por claim-check. PolicyId={}", reference.id().asString());
+        return Optional.of(new DecodedProposal(policyProposal, cached.isEmpty()));
+    }
+
+    /**
+     * Proposta da mensagem; {@code stored} indica que ela já veio do repositório (claim-check fora do cache local)
+     * e não precisa ser relida.
+     */
+    private record DecodedProposal(PolicyProposal proposal, boolean stored) {
+    }
 
-        FraudAnalysisResult analysisResult = fraudCheckPort.analyzeFraud(policyProposal);
+    /**
+     * A mesma proposta pode chegar mais de uma vez (reentrega ou reenvio da reconciliação). A proposta é relida e só
+     * é processada se continua em RECEIVED, a partir da cópia gravada (com a versão atual); uma cópia processada em
+     * paralelo perde na pré-condição de gravação. Nos dois casos a mensagem é descartada, sem nova análise de fraude
+     * nem novo evento no Kafka. Uma proposta que já veio do repositório não é relida.
+     *
+     * @param alreadyStored {@code received} foi lida do repositório ao decodificar a mensagem
+     * @return a proposta processada, ou vazio se a mensagem foi descartada
+     */
+    private Optional<PolicyProposal> processInclusion(PolicyProposal received, boolean alreadyStored) {
+        Optional<PolicyProposal> stored = alreadyStored
+                ? Optional.of(received)
+                : orderRepository.findById(received.getId());
+        if (stored.isPresent() && stored.get().getStatus() != PolicyStatus.RECEIVED) {
+            log.info("Proposta já processada. Mensagem descartada. PolicyId={}, StatusAtual={}",
+                    received.getId().asString(),
+                    stored.get().getStatus());
+            return Optional.empty();
+        }
+        PolicyProposal policyProposal = stored.orElse(received);
+        log.debug("Iniciando análise de fraude para apólice: {}", policyProposal.getId().asString());
 
-        log.info("Análise concluída. PolicyId={}, Classificação={}, Ocorrências={}",
+        FraudAnalysisResult analysisResult = stepMetrics.time(Consumer.ORDER, Step.FRAUD_ANALYSIS,
+                () -> fraudCheckPort.analyzeFraud(policyProposal));
+
+        log.debug("Análise concluída. PolicyId={}, Classificação={}, Ocorrências={}",
                 analysisResult.getOrderId(),
                 analysisResult.getClassification(),
                 analysisResult.getOccurrences().size());
 
-        processValidation(policyProposal, analysisResult);
+        MDC.put(MDC_CLASSIFICATION, analysisResult.getClassification().name());
+        try {
+            processValidation(policyProposal, analysisResult);
+        } catch (OptimisticLockingFailureException e) {
+            log.info("Proposta processada por outra cópia da mensagem. Mensagem descartada. PolicyId={}: {}",
+                    policyProposal.getId().asString(),
+                    e.getMessage());
+            return Optional.empty();
+        }
+        return Optional.of(policyProposal);
+    }
+
+    /**
+     * Grava a marca fora da thread do produtor Kafka, que completa o envio. Sem a marca, a reconciliação apenas
+     * reenvia uma cópia do evento.
+     */
+    private void markPublished(PolicyProposal policyProposal) {
+        try {
+            orderRepository.markPublished(policyProposal.getId(), Instant.now());
+        } catch (RuntimeException e) {
+            log.warn("Falha ao marcar proposta {} como publicada: {}",
+                    policyProposal.getId().asString(), e.getMessage());
+        }
     }
 
     private void processCancellation(PolicyProposal policyProposal) {
-        log.info("Publicando evento de cancelamento no Kafka para apólice: {}", policyProposal.getId().asString());
+        log.debug("Publicando evento de cancelamento no Kafka para apólice: {}", policyProposal.getId().asString());
 
         orderEventPort.sendOrderCancelledEvent(policyProposal);
 
-        log.info("Evento de cancelamento publicado com sucesso. PolicyId={}", policyProposal.getId().asString());
+        log.debug("Evento de cancelamento publicado com sucesso. PolicyId={}", policyProposal.getId().asString());
     }
 
     private void processValidation(
@@ -88,24 +287,24 @@ public class OrderQueueConsumer {
         Instant now = Instant.now();
 
         policyProposal.validate(now);
-        log.info("Policy {} marcada como VALIDADA", policyProposal.getId().asString());
+        log.debug("Policy {} marcada como VALIDADA", policyProposal.getId().asString());
 
-        boolean isValid = policyValidationService.validatePolicy(
-                policyProposal,
-                analysisResult.getClassification()
-        );
+        boolean isValid = stepMetrics.time(Consumer.ORDER, Step.VALIDATION,
+                () -> policyValidationService.validatePolicy(policyProposal, analysisResult.getClassification()));
 
         if (isValid) {
             policyProposal.markAsPending(now);
 
-            log.info("Policy {} marcada como PENDING aguardando confirmação de pagamento e subscrição. Classificação={}",
+            log.debug("Policy {} marcada como PENDING aguardando confirmação de pagamento e subscrição. Classificação={}",
                     policyProposal.getId().asString(),
                     analysisResult.getClassification());
 
             orderRepository.save(policyProposal);
+            pendingExpiryService.register(policyProposal);
 
-            orderEventPort.sendOrderApprovedEvent(policyProposal);
-            log.info("Evento de validação aprovada enviado para Kafka. Policy aguardando confirmações.");
+            orderEventPort.sendOrderApprovedEvent(policyProposal)
+                    .thenRunAsync(() -> markPublished(policyProposal));
+            log.debug("Evento de validação aprovada enviado para Kafka. Policy aguardando confirmações.");
 
         } else {
             String reason = String.format(
@@ -116,21 +315,17 @@ public class OrderQueueConsumer {
 
             policyProposal.reject(reason, now);
 
-            log.info("Policy {} REJEITADA. Motivo={}",
+            log.debug("Policy {} REJEITADA. Motivo={}",
                     policyProposal.getId().asString(),
                     reason);
 
             orderRepository.save(policyProposal);
         }
 
-        log.info("Policy {} persistida com status={}",
+        lifecycleMetrics.recordTransition(PolicyStatus.RECEIVED, policyProposal, null);
+
+        log.debug("Policy {} persistida com status={}",
                 policyProposal.getId().asString(),
                 policyProposal.getStatus());
     }
-
-    private PolicyProposal deserializeMessage(String messageBody)
-            throws JsonProcessingException {
-
-        return objectMapper.readValue(messageBody, PolicyProposal.class);
-    }
 }
@@ -3,7 +3,10 @@ package io.github.athirson010.adapters.in.messaging.rabbitmq;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.athirson010.adapters.in.messaging.dto.PaymentConfirmationEvent;
+import io.github.athirson010.adapters.in.messaging.rabbitmq.ConsumerStepMetrics.Consumer;
+import io.github.athirson010.adapters.in.messaging.rabbitmq.ConsumerStepMetrics.Step;
 import io.github.athirson010.core.port.out.OrderRepository;
+import io.github.athirson010.domain.enums.PolicyStatus;
 import io.github.athirson010.domain.model.PolicyProposal;
 import io.github.athirson010.domain.model.PolicyProposalId;
 import lombok.RequiredArgsConstructor;
@@ -15,28 +18,34 @@ import org.springframework.stereotype.Component;
 import java.time.Instant;
 
 @Slf4j
-@Profile("order-response-payment-consumer")
+@Profile("order-response-payment-consumer & !confirmation-aggregator")
 @Component
 @RequiredArgsConstructor
 public class PaymentConfirmationConsumer {
 
     private final ObjectMapper objectMapper;
     private final OrderRepository orderRepository;
+    private final PolicyLifecycleMetrics lifecycleMetrics;
+    private final ConsumerStepMetrics stepMetrics;
 
-    @RabbitListener(queues = "${rabbitmq.queues.payment-confirmation}")
+    @RabbitListener(queues = "${rabbitmq.queues.payment-confirmation}",
+            autoStartup = "${rabbitmq.listeners.auto-startup:true}")
     public void consumePaymentConfirmation(String messageBody) {
         try {
             log.info("Mensagem de confirmação de pagamento recebida");
 
-            PaymentConfirmationEvent event = deserializeMessage(messageBody);
+            PaymentConfirmationEvent event = stepMetrics.time(Consumer.PAYMENT, Step.DESERIALIZE,
+                    () -> deserializeMessage(messageBody));
 
             log.info("Evento de pagamento desserializado. PolicyId={}, Status={}",
                     event.getPolicyRequestId(),
                     event.getPaymentStatus());
 
             processPaymentConfirmation(event);
+            stepMetrics.countMessage(Consumer.PAYMENT, true);
 
         } catch (Exception e) {
+            stepMetrics.countMessage(Consumer.PAYMENT, false);
             log.error("Erro ao processar mensagem de confirmação de pagamento", e);
             throw new RuntimeException("Falha ao processar mensagem de confirmação de pagamento", e);
         }
@@ -64,10 +73,13 @@ public class PaymentConfirmationConsumer {
                 approved ? "APPROVED" : "REJECTED",
                 event.getTransactionId());
 
+        PolicyStatus previousStatus = policyProposal.getStatus();
+
         // Nova lógica: só aprova/rejeita quando AMBAS respostas chegarem
         policyProposal.processPaymentResponse(approved, rejectionReason, now);
 
         orderRepository.save(policyProposal);
+        lifecycleMetrics.recordTransition(previousStatus, policyProposal, PolicyLifecycleMetrics.Response.PAYMENT);
 
         log.info("Resposta de pagamento processada. PolicyId={}, Status final={}",
                 policyId.asString(),
@@ -0,0 +1,128 @@
+package io.github.athirson010.adapters.in.messaging.rabbitmq;
+
+import io.github.athirson010.domain.enums.PolicyStatus;
+import io.github.athirson010.domain.model.HistoryEntry;
+import io.github.athirson010.domain.model.PolicyProposal;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Latência ponta a ponta por etapa do ciclo de vida da proposta ({@code policy.lifecycle.stage}), calculada a
+ * partir dos timestamps do histórico no momento em que a etapa termina. Tags: {@code stage}, {@code category},
+ * {@code sales_channel}, {@code outcome} (status final ou {@code NONE}) e {@code first_response} (qual confirmação
+ * chegou primeiro na etapa PENDING→final; {@code NONE} nas demais). O histograma usa buckets nos SLOs configurados
+ * em {@code policy.lifecycle.slo}.
+ */
+@Component
+public class PolicyLifecycleMetrics {
+
+    static final String METRIC_NAME = "policy.lifecycle.stage";
+    static final String NONE = "NONE";
+
+    public enum Stage {
+        RECEIVED_TO_VALIDATED,
+        VALIDATED_TO_PENDING,
+        /** Rejeição pelas regras de validação, sem passar por PENDING. */
+        VALIDATED_TO_FINAL,
+        PENDING_TO_FINAL
+    }
+
+    /**
+     * Confirmação que provocou a transição registrada.
+     */
+    public enum Response {
+        PAYMENT,
+        SUBSCRIPTION
+    }
+
+    private final MeterRegistry registry;
+    private final Duration[] slos;
+
+    public PolicyLifecycleMetrics(
+            MeterRegistry registry,
+            @Value("${policy.lifecycle.slo:1s,5s,30s,1m,5m,15m,1h,6h,24h}") List<Duration> slos) {
+        this.registry = registry;
+        this.slos = slos.toArray(Duration[]::new);
+    }
+
+    /**
+     * Registra as etapas concluídas desde {@code previousStatus}. Deve ser chamado depois que a proposta foi
+     * persistida. {@code trigger} é a confirmação processada, ou {@code null} fora dos consumers de confirmação.
+     */
+    public void recordTransition(PolicyStatus previousStatus, PolicyProposal proposal, Response trigger) {
+        PolicyStatus status = proposal.getStatus();
+        if (status == previousStatus) {
+            return;
+        }
+
+        List<HistoryEntry> history = proposal.getHistory();
+        Instant received = firstTimestamp(history, PolicyStatus.RECEIVED);
+        Instant validated = firstTimestamp(history, PolicyStatus.VALIDATED);
+        Instant pending = firstTimestamp(history, PolicyStatus.PENDING);
+        Instant finished = status.isFinalState() ? firstTimestamp(history, status) : null;
+        String outcome = status.isFinalState() ? status.name() : NONE;
+
+        if (previousStatus == PolicyStatus.RECEIVED) {
+            record(Stage.RECEIVED_TO_VALIDATED, proposal, received, validated, NONE, NONE);
+        }
+        if (previousStatus == PolicyStatus.RECEIVED || previousStatus == PolicyStatus.VALIDATED) {
+            if (pending != null) {
+                record(Stage.VALIDATED_TO_PENDING, proposal, validated, pending, NONE, NONE);
+            } else {
+                record(Stage.VALIDATED_TO_FINAL, proposal, validated, finished, outcome, NONE);
+            }
+        }
+        if (previousStatus == PolicyStatus.PENDING) {
+            record(Stage.PENDING_TO_FINAL, proposal, pending, finished, outcome, firstResponse(proposal, trigger));
+        }
+    }
+
+    /**
+     * A confirmação que chegou primeiro é a outra quando ela já havia sido recebida; senão, é a própria
+     * {@code trigger} (rejeição imediata ou cancelamento antes da outra resposta).
+     */
+    static String firstResponse(PolicyProposal proposal, Response trigger) {
+        if (trigger == null) {
+            return NONE;
+        }
+        boolean otherReceived = trigger == Response.PAYMENT
+                ? proposal.isSubscriptionResponseReceived()
+                : proposal.isPaymentResponseReceived();
+        if (!otherReceived) {
+            return trigger.name();
+        }
+        return trigger == Response.PAYMENT ? Response.SUBSCRIPTION.name() : Response.PAYMENT.name();
+    }
+
+    private void record(Stage stage, PolicyProposal proposal, Instant start, Instant end,
+                        String outcome, String firstResponse) {
+        if (start == null || end == null || end.isBefore(start)) {
+            return;
+        }
+        Timer.builder(METRIC_NAME)
+                .description("Tempo entre etapas do ciclo de vida da proposta")
+                .tag("stage", stage.name())
+                .tag("category", String.valueOf(proposal.getCategory()))
+                .tag("sales_channel", String.valueOf(proposal.getSalesChannel()))
+                .tag("outcome", outcome)
+                .tag("first_response", firstResponse)
+                .serviceLevelObjectives(slos)
+                .register(registry)
+                .record(Duration.between(start, end));
+    }
+
+    private static Instant firstTimestamp(List<HistoryEntry> history, PolicyStatus status) {
+        for (HistoryEntry entry : history) {
+            if (entry.status() == status) {
+                return entry.timestamp();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.athirson010.adapters.in.messaging.rabbitmq;
+
+import io.github.athirson010.domain.enums.ProcessingLane;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.amqp.core.Message;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latência por raia da fila order-service-consumer: tempo de espera na fila ({@code policy.lane.queue.wait},
+ * da publicação até a entrega ao consumer) e tempo de processamento ({@code policy.lane.processing}), com a
+ * tag {@code lane}.
+ */
+@Component
+@Profile("order-consumer")
+public class ProcessingLaneMetrics {
+
+    /**
+     * Epoch millis da publicação. Mesmo nome em {@code FraudQueueAdapter.PUBLISHED_AT_HEADER} (adapters-out).
+     */
+    static final String PUBLISHED_AT_HEADER = "x-published-at";
+
+    private final Map<ProcessingLane, Timer> queueWait = new EnumMap<>(ProcessingLane.class);
+    private final Map<ProcessingLane, Timer> processing = new EnumMap<>(ProcessingLane.class);
+
+    public ProcessingLaneMetrics(MeterRegistry registry) {
+        for (ProcessingLane lane : ProcessingLane.values()) {
+            queueWait.put(lane, Timer.builder("policy.lane.queue.wait")
+                    .description("Tempo entre a publicação e a entrega da proposta ao consumer")
+                    .tag("lane", lane.name())
+                    .register(registry));
+            processing.put(lane, Timer.builder("policy.lane.processing")
+                    .description("Tempo de processamento da proposta pelo consumer")
+                    .tag("lane", lane.name())
+                    .register(registry));
+        }
+    }
+
+    /**
+     * Mensagens publicadas antes do cabeçalho existir não são medidas.
+     */
+    public void recordQueueWait(ProcessingLane lane, Message message) {
+        Object publishedAt = message.getMessageProperties().getHeader(PUBLISHED_AT_HEADER);
+        if (publishedAt instanceof Number publishedAtMillis) {
+            long waitMillis = System.currentTimeMillis() - publishedAtMillis.longValue();
+            queueWait.get(lane).record(Math.max(0, waitMillis), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public void recordProcessing(ProcessingLane lane, long elapsedNanos) {
+        processing.get(lane).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.athirson010.adapters.in.messaging.sqs;
+
+import io.github.athirson010.adapters.in.messaging.rabbitmq.InsuranceSubscriptionConfirmationConsumer;
+import io.github.athirson010.adapters.in.messaging.rabbitmq.PaymentConfirmationConsumer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.Message;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Entrega as confirmações de pagamento e de subscrição recebidas do SQS (profile {@code sqs}) aos mesmos consumers
+ * da versão RabbitMQ. Cada fila só é consumida quando o profile do seu consumer está ativo
+ * ({@code order-response-payment-consumer}, {@code order-response-insurance-consumer}). O join em memória do
+ * profile {@code confirmation-aggregator} continua apenas no RabbitMQ.
+ */
+@Profile("sqs & !confirmation-aggregator")
+@Component
+public class SqsConfirmationListener implements InitializingBean, DisposableBean {
+
+    private final List<SqsQueuePoller> pollers = new ArrayList<>();
+    private final List<Runnable> starters = new ArrayList<>();
+
+    public SqsConfirmationListener(SqsAsyncClient sqsClient,
+                                   MeterRegistry meterRegistry,
+                                   ObjectProvider<PaymentConfirmationConsumer> paymentConsumer,
+                                   ObjectProvider<InsuranceSubscriptionConfirmationConsumer> subscriptionConsumer,
+                                   @Value("${sqs.queues.payment-confirmation}") String paymentQueue,
+                                   @Value("${sqs.queues.subscription-confirmation}") String subscriptionQueue,
+                                   @Value("${sqs.consumer.wait-time:20s}") Duration waitTime,
+                                   @Value("${sqs.consumer.concurrency:1}") int concurrency,
+                                   @Value("${sqs.consumer.retry-backoff:5s}") Duration retryBackoff) {
+        paymentConsumer.ifAvailable(consumer -> register(sqsClient, meterRegistry, paymentQueue, waitTime,
+                concurrency, retryBackoff, message -> consumer.consumePaymentConfirmation(message.body())));
+        subscriptionConsumer.ifAvailable(consumer -> register(sqsClient, meterRegistry, subscriptionQueue, waitTime,
+                concurrency, retryBackoff,
+                message -> consumer.consumeInsuranceSubscriptionConfirmation(message.body())));
+    }
+
+    private void register(SqsAsyncClient sqsClient, MeterRegistry meterRegistry, String queue, Duration waitTime,
+                          int concurrency, Duration retryBackoff, Consumer<Message> handler) {
+        SqsQueuePoller poller = new SqsQueuePoller(sqsClient, queue, waitTime, handler, meterRegistry, retryBackoff);
+        pollers.add(poller);
+        starters.add(() -> poller.start(concurrency));
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        starters.forEach(Runnable::run);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        for (SqsQueuePoller poller : pollers) {
+            poller.close();
+        }
+    }
+}
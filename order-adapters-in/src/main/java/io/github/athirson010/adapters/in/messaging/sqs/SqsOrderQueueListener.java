@@ -0,0 +1,99 @@
+package io.github.athirson010.adapters.in.messaging.sqs;
+
+import io.github.athirson010.adapters.in.messaging.rabbitmq.OrderQueueConsumer;
+import io.github.athirson010.domain.enums.ProcessingLane;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Consome as filas SQS das raias da order-service-consumer (profile {@code sqs}) e entrega cada mensagem ao
+ * {@link OrderQueueConsumer}, com a concorrência de cada raia ({@code rabbitmq.lanes.*.concurrency}).
+ * <p>
+ * A mensagem SQS vira a mesma mensagem que o consumer recebe do RabbitMQ: {@code content-type} e instante da
+ * publicação vêm dos atributos e o corpo em Base64 (formato Smile) é decodificado. Mesmos nomes de atributo em
+ * {@code FraudSqsQueueAdapter} (adapters-out).
+ */
+@Profile("order-consumer & sqs")
+@Component
+public class SqsOrderQueueListener implements InitializingBean, DisposableBean {
+
+    static final String CONTENT_TYPE_ATTRIBUTE = "contentType";
+    static final String CONTENT_ENCODING_ATTRIBUTE = "contentEncoding";
+    static final String PUBLISHED_AT_ATTRIBUTE = "x-published-at";
+    static final String BASE64 = "base64";
+
+    private final Map<ProcessingLane, SqsQueuePoller> pollers = new EnumMap<>(ProcessingLane.class);
+    private final Map<ProcessingLane, Integer> concurrency = new EnumMap<>(ProcessingLane.class);
+
+    public SqsOrderQueueListener(SqsAsyncClient sqsClient,
+                                 MeterRegistry meterRegistry,
+                                 OrderQueueConsumer consumer,
+                                 @Value("${sqs.queues.order-consumer}") String standardQueue,
+                                 @Value("${sqs.queues.order-consumer-priority}") String priorityQueue,
+                                 @Value("${sqs.queues.order-consumer-bulk}") String bulkQueue,
+                                 @Value("${rabbitmq.lanes.standard.concurrency:2}") int standardConcurrency,
+                                 @Value("${rabbitmq.lanes.priority.concurrency:4}") int priorityConcurrency,
+                                 @Value("${rabbitmq.lanes.bulk.concurrency:1}") int bulkConcurrency,
+                                 @Value("${sqs.consumer.wait-time:20s}") Duration waitTime,
+                                 @Value("${sqs.consumer.retry-backoff:5s}") Duration retryBackoff) {
+        Map<ProcessingLane, String> queues = Map.of(
+                ProcessingLane.STANDARD, standardQueue,
+                ProcessingLane.PRIORITY, priorityQueue,
+                ProcessingLane.BULK, bulkQueue);
+        concurrency.put(ProcessingLane.STANDARD, standardConcurrency);
+        concurrency.put(ProcessingLane.PRIORITY, priorityConcurrency);
+        concurrency.put(ProcessingLane.BULK, bulkConcurrency);
+        for (ProcessingLane lane : ProcessingLane.values()) {
+            pollers.put(lane, new SqsQueuePoller(sqsClient, queues.get(lane), waitTime,
+                    message -> consumer.consume(toAmqpMessage(message), lane), meterRegistry, retryBackoff));
+        }
+    }
+
+    static org.springframework.amqp.core.Message toAmqpMessage(Message message) {
+        Map<String, MessageAttributeValue> attributes = message.messageAttributes();
+        MessageProperties properties = new MessageProperties();
+        properties.setMessageId(message.messageId());
+
+        MessageAttributeValue contentType = attributes.get(CONTENT_TYPE_ATTRIBUTE);
+        if (contentType != null) {
+            properties.setContentType(contentType.stringValue());
+        }
+        MessageAttributeValue publishedAt = attributes.get(PUBLISHED_AT_ATTRIBUTE);
+        if (publishedAt != null) {
+            properties.setHeader(PUBLISHED_AT_ATTRIBUTE, Long.parseLong(publishedAt.stringValue()));
+        }
+
+        MessageAttributeValue encoding = attributes.get(CONTENT_ENCODING_ATTRIBUTE);
+        byte[] body = encoding != null && BASE64.equals(encoding.stringValue())
+                ? Base64.getDecoder().decode(message.body())
+                : message.body().getBytes(StandardCharsets.UTF_8);
+        properties.setContentLength(body.length);
+        return new org.springframework.amqp.core.Message(body, properties);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        pollers.forEach((lane, poller) -> poller.start(concurrency.get(lane)));
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        for (SqsQueuePoller poller : pollers.values()) {
+            poller.close();
+        }
+    }
+}
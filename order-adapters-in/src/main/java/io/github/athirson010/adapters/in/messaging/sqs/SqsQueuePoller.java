@@ -0,0 +1,193 @@
+package io.github.athirson010.adapters.in.messaging.sqs;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.GetQueueUrlRequest;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.MessageSystemAttributeName;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Consome uma fila SQS com {@code ReceiveMessage} de até {@value #MAX_MESSAGES} mensagens e long polling
+ * ({@code waitTime}), entrega cada mensagem ao handler e remove as processadas com um único
+ * {@code DeleteMessageBatch}.
+ * <p>
+ * Uma mensagem cujo handler lança exceção não é removida: volta a ficar visível depois do visibility timeout da fila
+ * e, após {@code maxReceiveCount} entregas, vai para a DLQ da redrive policy. A entrega é at-least-once, como no
+ * RabbitMQ.
+ * <p>
+ * Métricas: {@code policy.sqs.requests} (tags {@code queue} e {@code operation}) e {@code policy.sqs.messages}
+ * (tags {@code queue} e {@code outcome}: PROCESSED ou FAILED).
+ */
+@Slf4j
+public class SqsQueuePoller implements AutoCloseable {
+
+    static final int MAX_MESSAGES = 10;
+    static final String REQUESTS_METRIC = "policy.sqs.requests";
+    static final String MESSAGES_METRIC = "policy.sqs.messages";
+
+    private final SqsAsyncClient sqsClient;
+    private final String queueName;
+    private final Duration waitTime;
+    private final Consumer<Message> handler;
+    private final MeterRegistry meterRegistry;
+    private final Duration retryBackoff;
+    private ExecutorService executor;
+    private volatile String queueUrl;
+    private volatile boolean running;
+
+    public SqsQueuePoller(SqsAsyncClient sqsClient,
+                          String queueName,
+                          Duration waitTime,
+                          Consumer<Message> handler,
+                          MeterRegistry meterRegistry,
+                          Duration retryBackoff) {
+        if (waitTime.isNegative() || waitTime.toSeconds() > 20) {
+            throw new IllegalArgumentException("Long polling do SQS aceita de 0 a 20s: " + waitTime);
+        }
+        this.sqsClient = sqsClient;
+        this.queueName = queueName;
+        this.waitTime = waitTime;
+        this.handler = handler;
+        this.meterRegistry = meterRegistry;
+        this.retryBackoff = retryBackoff;
+    }
+
+    /**
+     * Inicia {@code concurrency} threads, cada uma com seu próprio ciclo receive/delete.
+     */
+    public synchronized void start(int concurrency) {
+        if (running) {
+            throw new IllegalStateException("Poller da fila " + queueName + " já iniciado");
+        }
+        running = true;
+        executor = Executors.newFixedThreadPool(concurrency, new CustomizableThreadFactory("sqs-" + queueName + "-"));
+        for (int i = 0; i < concurrency; i++) {
+            executor.execute(this::loop);
+        }
+        log.info("Consumindo fila SQS {} com {} thread(s), long polling de {}s", queueName, concurrency,
+                waitTime.toSeconds());
+    }
+
+    private void loop() {
+        while (running) {
+            try {
+                poll();
+            } catch (RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                log.error("Falha ao consumir a fila SQS {}. Nova tentativa em {}", queueName, retryBackoff, e);
+                try {
+                    Thread.sleep(retryBackoff.toMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Um ciclo: recebe até {@value #MAX_MESSAGES} mensagens, processa e remove as que deram certo.
+     *
+     * @return quantidade de mensagens processadas com sucesso
+     */
+    int poll() {
+        String url = queueUrl();
+        count(REQUESTS_METRIC, "operation", "ReceiveMessage");
+        List<Message> messages = sqsClient.receiveMessage(ReceiveMessageRequest.builder()
+                        .queueUrl(url)
+                        .maxNumberOfMessages(MAX_MESSAGES)
+                        .waitTimeSeconds((int) waitTime.toSeconds())
+                        .messageAttributeNames("All")
+                        .attributeNamesWithStrings(MessageSystemAttributeName.SENT_TIMESTAMP.toString(),
+                                MessageSystemAttributeName.APPROXIMATE_RECEIVE_COUNT.toString())
+                        .build())
+                .join()
+                .messages();
+        if (messages.isEmpty()) {
+            return 0;
+        }
+
+        List<DeleteMessageBatchRequestEntry> processed = new ArrayList<>(messages.size());
+        for (Message message : messages) {
+            try {
+                handler.accept(message);
+                processed.add(DeleteMessageBatchRequestEntry.builder()
+                        .id(Integer.toString(processed.size()))
+                        .receiptHandle(message.receiptHandle())
+                        .build());
+                count(MESSAGES_METRIC, "outcome", "PROCESSED");
+            } catch (RuntimeException e) {
+                count(MESSAGES_METRIC, "outcome", "FAILED");
+                log.warn("Mensagem {} da fila SQS {} não processada (recebida {} vez(es)); volta após o visibility timeout",
+                        message.messageId(), queueName,
+                        message.attributesAsStrings().get(MessageSystemAttributeName.APPROXIMATE_RECEIVE_COUNT.toString()));
+            }
+        }
+        if (!processed.isEmpty()) {
+            delete(url, processed);
+        }
+        return processed.size();
+    }
+
+    private void delete(String url, List<DeleteMessageBatchRequestEntry> entries) {
+        count(REQUESTS_METRIC, "operation", "DeleteMessageBatch");
+        DeleteMessageBatchResponse response = sqsClient.deleteMessageBatch(DeleteMessageBatchRequest.builder()
+                        .queueUrl(url)
+                        .entries(entries)
+                        .build())
+                .join();
+        // A mensagem não removida é entregue de novo; o processamento precisa tolerar a repetição
+        response.failed().forEach(failed -> log.warn("Falha ao remover mensagem da fila SQS {}: {} {}",
+                queueName, failed.code(), failed.message()));
+    }
+
+    private String queueUrl() {
+        if (queueUrl == null) {
+            count(REQUESTS_METRIC, "operation", "GetQueueUrl");
+            queueUrl = sqsClient.getQueueUrl(GetQueueUrlRequest.builder().queueName(queueName).build())
+                    .join()
+                    .queueUrl();
+        }
+        return queueUrl;
+    }
+
+    private void count(String metric, String tag, String value) {
+        Counter.builder(metric)
+                .tag("queue", queueName)
+                .tag(tag, value)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Para de receber; as threads terminam o ciclo em andamento (no máximo um long polling).
+     */
+    @Override
+    public synchronized void close() throws InterruptedException {
+        running = false;
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        if (!executor.awaitTermination(waitTime.toSeconds() + 5, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
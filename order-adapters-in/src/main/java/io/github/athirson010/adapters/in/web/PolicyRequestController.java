@@ -1,13 +1,19 @@
 package io.github.athirson010.adapters.in.web;
 
+import io.github.athirson010.adapters.in.web.admission.PolicyAdmissionControl;
 import io.github.athirson010.adapters.in.web.dto.CancelPolicyRequest;
 import io.github.athirson010.adapters.in.web.dto.CancelPolicyResponse;
 import io.github.athirson010.adapters.in.web.dto.CreatePolicyRequest;
 import io.github.athirson010.adapters.in.web.dto.CreatePolicyResponse;
+import io.github.athirson010.adapters.in.web.dto.PolicyProposalPageResponse;
+import io.github.athirson010.adapters.in.web.dto.PolicyStatisticsResponse;
 import io.github.athirson010.adapters.in.web.mapper.PolicyRequestMapper;
 import io.github.athirson010.core.port.in.CreateOrderUseCase;
+import io.github.athirson010.domain.enums.PolicyStatus;
 import io.github.athirson010.domain.model.PolicyProposal;
 import io.github.athirson010.domain.model.PolicyProposalId;
+import io.github.athirson010.domain.model.PolicyProposalPage;
+import io.github.athirson010.domain.model.ProposalPageCursor;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -15,6 +21,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Profile;
@@ -22,6 +29,11 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
 @Slf4j
 @Profile("api")
 @RestController
@@ -31,6 +43,7 @@ import org.springframework.web.bind.annotation.*;
 public class PolicyRequestController {
 
     private final CreateOrderUseCase createOrderUseCase;
+    private final PolicyAdmissionControl admissionControl;
 
     @PostMapping
     @Operation(
@@ -43,15 +56,22 @@ public class PolicyRequestController {
                     description = "Proposta criada com sucesso",
                     content = @Content(schema = @Schema(implementation = CreatePolicyResponse.class))
             ),
-            @ApiResponse(responseCode = "400", description = "Dados inválidos fornecidos")
+            @ApiResponse(responseCode = "400", description = "Dados inválidos fornecidos"),
+            @ApiResponse(responseCode = "429", description = "Limite de requisições excedido; tente novamente após o Retry-After")
     })
     public ResponseEntity<CreatePolicyResponse> createPolicy(
             @Parameter(description = "Dados da proposta de apólice a ser criada", required = true)
-            @RequestBody @jakarta.validation.Valid CreatePolicyRequest request) {
+            @RequestBody CreatePolicyRequest request,
+            @Parameter(hidden = true) HttpServletRequest httpRequest) {
         log.info("Received request to create policy for customer: {}", request.getCustomerId());
 
+        // Validação e conversão em uma passagem (CreatePolicyRequestParser), sem Bean Validation
         PolicyProposal policyProposal = PolicyRequestMapper.toDomain(request);
-        PolicyProposal savedPolicy = createOrderUseCase.createPolicyRequest(policyProposal);
+        PolicyProposal savedPolicy;
+        try (PolicyAdmissionControl.Permit ignored = admissionControl.admit(
+                PolicyAdmissionControl.clientKeyOf(httpRequest), policyProposal.getSalesChannel())) {
+            savedPolicy = createOrderUseCase.createPolicyRequest(policyProposal);
+        }
 
         log.info("Policy proposal created and persisted with ID: {}", savedPolicy.getId().asString());
 
@@ -95,6 +115,28 @@ public class PolicyRequestController {
         }
     }
 
+    @GetMapping("/statistics")
+    @Operation(
+            summary = "Consultar contadores de propostas por status",
+            description = "Retorna os contadores materializados de propostas por status, categoria e canal de venda, "
+                    + "além das transições de status por hora nas últimas horas informadas."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Contadores de status",
+                    content = @Content(schema = @Schema(implementation = PolicyStatisticsResponse.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "Janela de horas inválida")
+    })
+    public ResponseEntity<PolicyStatisticsResponse> getStatistics(
+            @Parameter(description = "Quantidade de horas do histórico por hora (1 a 168)", example = "24")
+            @RequestParam(value = "hours", defaultValue = "24") int hours) {
+        log.debug("Received request for policy statistics. Hours: {}", hours);
+
+        return ResponseEntity.ok(PolicyRequestMapper.toStatisticsResponse(createOrderUseCase.getStatusStatistics(hours)));
+    }
+
     @GetMapping("/{id}")
     @Operation(
             summary = "Consultar proposta de apólice",
@@ -129,4 +171,47 @@ public class PolicyRequestController {
                     return ResponseEntity.notFound().build();
                 });
     }
+
+    @GetMapping
+    @Operation(
+            summary = "Listar propostas de um cliente",
+            description = "Lista as propostas de apólice de um cliente da mais recente para a mais antiga, "
+                    + "com paginação por cursor. Retorna apenas os dados resumidos (sem coberturas, assistências e histórico)."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Página de propostas",
+                    content = @Content(schema = @Schema(implementation = PolicyProposalPageResponse.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "Parâmetros inválidos")
+    })
+    public ResponseEntity<PolicyProposalPageResponse> listPolicies(
+            @Parameter(description = "ID do cliente", required = true, example = "adc56d77-348c-4bf0-908f-22d402ee715c")
+            @RequestParam("customer_id") String customerId,
+            @Parameter(description = "Filtra pelos status informados", example = "PENDING")
+            @RequestParam(value = "status", required = false) List<String> statuses,
+            @Parameter(description = "Cursor retornado em next_cursor pela página anterior")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "Quantidade máxima de propostas por página (1 a 100)", example = "20")
+            @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        log.info("Received request to list policies for customer: {}", customerId);
+
+        PolicyProposalPage page = createOrderUseCase.listPolicyRequestsByCustomer(
+                UUID.fromString(customerId),
+                toStatusFilter(statuses),
+                cursor != null && !cursor.isBlank() ? ProposalPageCursor.fromToken(cursor) : null,
+                limit
+        );
+
+        return ResponseEntity.ok(PolicyRequestMapper.toPageResponse(page));
+    }
+
+    private Set<PolicyStatus> toStatusFilter(List<String> statuses) {
+        Set<PolicyStatus> filter = EnumSet.noneOf(PolicyStatus.class);
+        if (statuses != null) {
+            statuses.forEach(status -> filter.add(PolicyStatus.fromString(status)));
+        }
+        return filter;
+    }
 }
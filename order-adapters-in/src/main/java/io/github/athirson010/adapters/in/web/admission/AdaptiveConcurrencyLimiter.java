@@ -0,0 +1,71 @@
+package io.github.athirson010.adapters.in.web.admission;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limite global de requisições simultâneas ajustado pela latência observada (AIMD).
+ * <p>
+ * Cada requisição concluída abaixo de {@code latencyThresholdNanos} conta como sucesso; depois de
+ * {@code limite} sucessos o limite sobe em 1 (aumento aditivo). Uma requisição acima do limiar multiplica o
+ * limite por {@code backoffRatio} (redução multiplicativa), respeitando {@code minLimit} e {@code maxLimit}.
+ * Contadores em {@link AtomicInteger}, sem locks.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final AtomicInteger limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger successesSinceIncrease = new AtomicInteger();
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                                      long latencyThresholdNanos, double backoffRatio) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit
+                || latencyThresholdNanos <= 0 || backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("Limite de concorrência inválido: initial=" + initialLimit
+                    + ", min=" + minLimit + ", max=" + maxLimit + ", backoffRatio=" + backoffRatio);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.backoffRatio = backoffRatio;
+        this.limit = new AtomicInteger(initialLimit);
+    }
+
+    /**
+     * Reserva uma vaga se houver; quem recebe {@code true} deve chamar {@link #release(long)} ao terminar.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit.get()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(long latencyNanos) {
+        inFlight.decrementAndGet();
+
+        if (latencyNanos > latencyThresholdNanos) {
+            successesSinceIncrease.set(0);
+            limit.updateAndGet(current -> Math.max(minLimit, (int) (current * backoffRatio)));
+        } else if (successesSinceIncrease.incrementAndGet() >= limit.get()) {
+            successesSinceIncrease.set(0);
+            limit.updateAndGet(current -> Math.min(maxLimit, current + 1));
+        }
+    }
+
+    public int getLimit() {
+        return limit.get();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,121 @@
+package io.github.athirson010.adapters.in.web.admission;
+
+import io.github.athirson010.adapters.in.web.exception.TooManyRequestsException;
+import io.github.athirson010.domain.enums.SalesChannel;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Controle de admissão do {@code POST /policies}: rate limit por cliente ({@link #clientKeyOf}); descarte dos
+ * canais de baixa prioridade quando a fila
+ * order-service-consumer está acima do orçamento de lag ({@link QueueBacklogMonitor}, opcional); e um limite
+ * global de concorrência adaptado à latência.
+ * Requisições recusadas lançam {@link TooManyRequestsException}.
+ */
+@Slf4j
+@Component
+@Profile("api")
+public class PolicyAdmissionControl {
+
+    static final Duration CONCURRENCY_RETRY_AFTER = Duration.ofSeconds(1);
+
+    private final TokenBucketRateLimiter rateLimiter;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final QueueBacklogMonitor backlogMonitor;
+
+    @Autowired
+    public PolicyAdmissionControl(
+            @Value("${policy.admission.rate-limit.enabled:false}") boolean rateLimitEnabled,
+            @Value("${policy.admission.rate-limit.requests-per-second:50}") double requestsPerSecond,
+            @Value("${policy.admission.rate-limit.burst:100}") int burst,
+            @Value("${policy.admission.rate-limit.max-keys:10000}") int maxKeys,
+            @Value("${policy.admission.concurrency.enabled:false}") boolean concurrencyEnabled,
+            @Value("${policy.admission.concurrency.initial-limit:64}") int initialLimit,
+            @Value("${policy.admission.concurrency.min-limit:8}") int minLimit,
+            @Value("${policy.admission.concurrency.max-limit:256}") int maxLimit,
+            @Value("${policy.admission.concurrency.latency-threshold:500ms}") Duration latencyThreshold,
+            @Value("${policy.admission.concurrency.backoff-ratio:0.9}") double backoffRatio,
+            Optional<QueueBacklogMonitor> backlogMonitor) {
+        this(rateLimitEnabled ? new TokenBucketRateLimiter(requestsPerSecond, burst, maxKeys) : null,
+                concurrencyEnabled
+                        ? new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, latencyThreshold.toNanos(), backoffRatio)
+                        : null,
+                backlogMonitor.orElse(null));
+    }
+
+    PolicyAdmissionControl(TokenBucketRateLimiter rateLimiter, AdaptiveConcurrencyLimiter concurrencyLimiter,
+                           QueueBacklogMonitor backlogMonitor) {
+        this.rateLimiter = rateLimiter;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.backlogMonitor = backlogMonitor;
+    }
+
+    /**
+     * Identidade do cliente para o rate limit, sem usar nada que o próprio cliente declare: o usuário autenticado,
+     * quando houver, ou o endereço da conexão ({@code server.forward-headers-strategy} define se proxies confiáveis
+     * podem informá-lo).
+     */
+    public static String clientKeyOf(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        return principal != null
+                ? "user:" + principal.getName()
+                : "address:" + request.getRemoteAddr();
+    }
+
+    /**
+     * Admite a requisição ou lança {@link TooManyRequestsException}. A permissão devolvida deve ser fechada ao
+     * fim do processamento para liberar a vaga e alimentar o limite adaptativo com a latência.
+     *
+     * @param clientKey identidade do cliente ({@link #clientKeyOf}); fica só no log, fora da resposta
+     */
+    public Permit admit(String clientKey, SalesChannel salesChannel) {
+        if (rateLimiter != null) {
+            long waitNanos = rateLimiter.tryAcquire(clientKey);
+            if (waitNanos > 0) {
+                log.debug("Rate limit excedido para {}", clientKey);
+                throw new TooManyRequestsException("Limite de requisições excedido", Duration.ofNanos(waitNanos));
+            }
+        }
+
+        if (backlogMonitor != null) {
+            Optional<Duration> retryAfter = backlogMonitor.retryAfterIfShed(salesChannel);
+            if (retryAfter.isPresent()) {
+                log.debug("Backlog da fila acima do orçamento. Descartando canal {}", salesChannel);
+                throw new TooManyRequestsException(
+                        "Fila de processamento sobrecarregada; canal " + salesChannel + " temporariamente suspenso",
+                        retryAfter.get());
+            }
+        }
+
+        if (concurrencyLimiter != null && !concurrencyLimiter.tryAcquire()) {
+            log.debug("Limite de concorrência atingido ({} em andamento)", concurrencyLimiter.getInFlight());
+            throw new TooManyRequestsException("Servidor no limite de requisições simultâneas", CONCURRENCY_RETRY_AFTER);
+        }
+
+        return new Permit(System.nanoTime());
+    }
+
+    public final class Permit implements AutoCloseable {
+
+        private final long startNanos;
+
+        private Permit(long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public void close() {
+            if (concurrencyLimiter != null) {
+                concurrencyLimiter.release(System.nanoTime() - startNanos);
+            }
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package io.github.athirson010.adapters.in.web.admission;
+
+import io.github.athirson010.core.port.out.OrderQueueBacklogPort;
+import io.github.athirson010.domain.enums.ProcessingLane;
+import io.github.athirson010.domain.enums.SalesChannel;
+import io.github.athirson010.domain.model.QueueBacklog;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Amostra periodicamente o backlog das filas de todas as raias da order-service-consumer ({@link ProcessingLane})
+ * e decide se a API deve descartar propostas dos canais de baixa prioridade.
+ * <p>
+ * Vale o maior lag estimado entre as raias ({@link QueueBacklog#estimatedLagSeconds()}), comparado com o orçamento
+ * {@code policy.admission.backlog.lag-budget}: acima dele o estado passa a {@link State#SHEDDING} e só volta a
+ * {@link State#NORMAL} quando o lag cai abaixo de {@code lag-budget × recovery-ratio} (histerese, para não
+ * oscilar a cada amostra). Se o broker não puder ser consultado o estado volta a {@code NORMAL}: sem leitura,
+ * nada é descartado. A falha é registrada em WARN só na primeira amostra perdida, e a recuperação em INFO.
+ * <p>
+ * Desligado por padrão; habilitar por ambiente ({@code policy.admission.backlog.enabled=true}) onde o plugin de
+ * gerenciamento do RabbitMQ estiver acessível.
+ */
+@Slf4j
+@Profile("api")
+@Component
+@ConditionalOnProperty(name = "policy.admission.backlog.enabled", havingValue = "true")
+public class QueueBacklogMonitor implements MeterBinder {
+
+    static final Duration MAX_RETRY_AFTER = Duration.ofSeconds(60);
+
+    public enum State {
+        NORMAL,
+        SHEDDING
+    }
+
+    private final OrderQueueBacklogPort backlogPort;
+    private final Duration lagBudget;
+    private final double recoveryRatio;
+    private final Duration sampleInterval;
+    private final Set<SalesChannel> lowPriorityChannels;
+
+    private volatile State state = State.NORMAL;
+    private static final QueueBacklog EMPTY = new QueueBacklog(0, 0, 0);
+
+    private volatile Map<ProcessingLane, QueueBacklog> lastBacklogs = Map.of();
+    private volatile QueueBacklog lastBacklog = EMPTY;
+    private volatile boolean sampleFailing;
+
+    @Autowired
+    public QueueBacklogMonitor(OrderQueueBacklogPort backlogPort,
+                               @Value("${policy.admission.backlog.lag-budget:30s}") Duration lagBudget,
+                               @Value("${policy.admission.backlog.recovery-ratio:0.8}") double recoveryRatio,
+                               @Value("${policy.admission.backlog.sample-interval:PT5S}") Duration sampleInterval,
+                               @Value("${policy.admission.backlog.low-priority-channels:OUTROS}") Set<SalesChannel> lowPriorityChannels) {
+        if (lagBudget.isNegative() || lagBudget.isZero() || recoveryRatio <= 0 || recoveryRatio > 1) {
+            throw new IllegalArgumentException("Backpressure inválido: lag-budget=" + lagBudget
+                    + ", recovery-ratio=" + recoveryRatio);
+        }
+        this.backlogPort = backlogPort;
+        this.lagBudget = lagBudget;
+        this.recoveryRatio = recoveryRatio;
+        this.sampleInterval = sampleInterval;
+        this.lowPriorityChannels = lowPriorityChannels.isEmpty()
+                ? EnumSet.noneOf(SalesChannel.class)
+                : EnumSet.copyOf(lowPriorityChannels);
+    }
+
+    @Scheduled(fixedDelayString = "${policy.admission.backlog.sample-interval:PT5S}")
+    public void sample() {
+        Map<ProcessingLane, QueueBacklog> backlogs;
+        try {
+            backlogs = backlogPort.sample();
+        } catch (RuntimeException e) {
+            if (!sampleFailing) {
+                log.warn("Falha ao consultar backlog das filas order-service-consumer. Admissão liberada até a próxima "
+                        + "leitura: {}", e.getMessage());
+                sampleFailing = true;
+            } else {
+                log.debug("Backlog das filas order-service-consumer ainda indisponível: {}", e.getMessage());
+            }
+            transitionTo(State.NORMAL, null);
+            return;
+        }
+        if (sampleFailing) {
+            log.info("Consulta de backlog das filas order-service-consumer restabelecida");
+            sampleFailing = false;
+        }
+
+        QueueBacklog backlog = backlogs.values().stream()
+                .max(Comparator.comparingDouble(QueueBacklog::estimatedLagSeconds))
+                .orElse(EMPTY);
+        lastBacklogs = backlogs;
+        lastBacklog = backlog;
+        double lagSeconds = backlog.estimatedLagSeconds();
+        double budgetSeconds = lagBudget.toMillis() / 1000.0;
+        boolean overBudget = state == State.SHEDDING
+                ? lagSeconds > budgetSeconds * recoveryRatio
+                : lagSeconds > budgetSeconds;
+
+        transitionTo(overBudget ? State.SHEDDING : State.NORMAL, backlogs);
+    }
+
+    /**
+     * Tempo sugerido no {@code Retry-After} se o canal deve ser descartado; vazio se deve ser admitido.
+     */
+    public Optional<Duration> retryAfterIfShed(SalesChannel salesChannel) {
+        if (state != State.SHEDDING || !lowPriorityChannels.contains(salesChannel)) {
+            return Optional.empty();
+        }
+        double excessSeconds = lastBacklog.estimatedLagSeconds() - lagBudget.toMillis() / 1000.0 * recoveryRatio;
+        if (Double.isInfinite(excessSeconds) || excessSeconds >= MAX_RETRY_AFTER.toSeconds()) {
+            return Optional.of(MAX_RETRY_AFTER);
+        }
+        Duration excess = Duration.ofMillis((long) (excessSeconds * 1000));
+        return Optional.of(excess.compareTo(sampleInterval) > 0 ? excess : sampleInterval);
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("policy.admission.backlog.state", this, monitor -> monitor.state.ordinal())
+                .description("Estado do backpressure da API: 0 = NORMAL, 1 = SHEDDING (canais de baixa prioridade descartados)")
+                .register(registry);
+        for (ProcessingLane lane : ProcessingLane.values()) {
+            Gauge.builder("policy.admission.backlog.queue.depth", this, monitor -> monitor.backlogOf(lane).depth())
+                    .description("Mensagens pendentes na fila da raia na última amostra")
+                    .tag("lane", lane.name())
+                    .register(registry);
+            Gauge.builder("policy.admission.backlog.consume.rate", this,
+                            monitor -> monitor.backlogOf(lane).consumeRatePerSecond())
+                    .description("Taxa de consumo da fila da raia (mensagens/s) na última amostra")
+                    .tag("lane", lane.name())
+                    .register(registry);
+            Gauge.builder("policy.admission.backlog.lag", this, monitor -> monitor.backlogOf(lane).estimatedLagSeconds())
+                    .description("Lag estimado da fila da raia em segundos")
+                    .tag("lane", lane.name())
+                    .baseUnit("seconds")
+                    .register(registry);
+        }
+    }
+
+    private QueueBacklog backlogOf(ProcessingLane lane) {
+        return lastBacklogs.getOrDefault(lane, EMPTY);
+    }
+
+    private void transitionTo(State newState, Map<ProcessingLane, QueueBacklog> backlogs) {
+        State previous = state;
+        state = newState;
+        if (previous == newState) {
+            return;
+        }
+        if (newState == State.SHEDDING) {
+            log.warn("Backlog acima do orçamento de {}. Descartando canais {}. Backlog={}",
+                    lagBudget, lowPriorityChannels, backlogs);
+        } else {
+            log.info("Backlog dentro do orçamento. Admissão normalizada. Backlog={}", backlogs);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package io.github.athirson010.adapters.in.web.admission;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket por chave implementado como GCRA (generic cell rate algorithm): cada chave guarda apenas o
+ * instante teórico de chegada (TAT) em um {@link AtomicLong}, atualizado por CAS, sem locks.
+ * <p>
+ * Uma requisição é aceita quando {@code max(TAT, agora) - agora <= tolerância}, onde a tolerância equivale a
+ * {@code burst - 1} intervalos de emissão; ao aceitar, o TAT avança um intervalo. Chaves cujo TAT já passou
+ * equivalem a um bucket cheio e são descartadas quando o mapa excede {@code maxKeys}.
+ */
+public class TokenBucketRateLimiter {
+
+    static final String OVERFLOW_KEY = "__overflow__";
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final int maxKeys;
+    private final LongSupplier nanoClock;
+    private final ConcurrentMap<String, AtomicLong> theoreticalArrivals = new ConcurrentHashMap<>();
+
+    public TokenBucketRateLimiter(double permitsPerSecond, int burst, int maxKeys) {
+        this(permitsPerSecond, burst, maxKeys, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(double permitsPerSecond, int burst, int maxKeys, LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0 || burst < 1 || maxKeys < 1) {
+            throw new IllegalArgumentException(
+                    "Rate limit inválido: permitsPerSecond=" + permitsPerSecond + ", burst=" + burst + ", maxKeys=" + maxKeys);
+        }
+        this.emissionIntervalNanos = Math.max(1L, Math.round(NANOS_PER_SECOND / permitsPerSecond));
+        this.burstToleranceNanos = emissionIntervalNanos * (burst - 1);
+        this.maxKeys = maxKeys;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Tenta consumir um token da chave.
+     *
+     * @return {@code 0} se a requisição foi aceita, ou quantos nanossegundos faltam até o próximo token
+     */
+    public long tryAcquire(String key) {
+        long now = nanoClock.getAsLong();
+        AtomicLong theoreticalArrival = bucket(key, now);
+
+        while (true) {
+            long current = theoreticalArrival.get();
+            long base = Math.max(current, now);
+            long allowedAt = base - burstToleranceNanos;
+            if (allowedAt > now) {
+                return allowedAt - now;
+            }
+            if (theoreticalArrival.compareAndSet(current, base + emissionIntervalNanos)) {
+                return 0L;
+            }
+        }
+    }
+
+    int trackedKeys() {
+        return theoreticalArrivals.size();
+    }
+
+    private AtomicLong bucket(String key, long now) {
+        AtomicLong existing = theoreticalArrivals.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        if (theoreticalArrivals.size() >= maxKeys) {
+            theoreticalArrivals.values().removeIf(theoreticalArrival -> theoreticalArrival.get() <= now);
+            if (theoreticalArrivals.size() >= maxKeys) {
+                // Chaves demais ativas ao mesmo tempo: as novas dividem um único bucket
+                key = OVERFLOW_KEY;
+            }
+        }
+        return theoreticalArrivals.computeIfAbsent(key, k -> new AtomicLong(Long.MIN_VALUE));
+    }
+}
@@ -1,13 +1,6 @@
 package io.github.athirson010.adapters.in.web.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
-import io.github.athirson010.adapters.in.web.validation.annotation.ValidCoverages;
-import io.github.athirson010.adapters.in.web.validation.annotation.ValidEnum;
-import io.github.athirson010.adapters.in.web.validation.annotation.ValidMoneyAmount;
-import io.github.athirson010.adapters.in.web.validation.annotation.ValidUUID;
-import io.github.athirson010.domain.enums.Category;
-import io.github.athirson010.domain.enums.PaymentMethod;
-import io.github.athirson010.domain.enums.SalesChannel;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
@@ -20,6 +13,10 @@ import lombok.NoArgsConstructor;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * As regras e mensagens de validação ficam no {@code CreatePolicyRequestParser}; as anotações de Bean Validation
+ * aqui só descrevem os campos obrigatórios na documentação OpenAPI.
+ */
 @Data
 @Builder
 @NoArgsConstructor
@@ -27,8 +24,7 @@ import java.util.Map;
 @Schema(description = "Dados para criação de uma nova proposta de apólice de seguro")
 public class CreatePolicyRequest {
 
-    @NotBlank(message = "ID do cliente é obrigatório")
-    @ValidUUID(message = "ID do cliente deve ser um UUID válido")
+    @NotBlank
     @JsonProperty("customer_id")
     @Schema(
             description = "ID do cliente em formato UUID",
@@ -37,7 +33,7 @@ public class CreatePolicyRequest {
     )
     private String customerId;
 
-    @NotBlank(message = "ID do produto é obrigatório")
+    @NotBlank
     @JsonProperty("product_id")
     @Schema(
             description = "ID do produto de seguro",
@@ -46,8 +42,7 @@ public class CreatePolicyRequest {
     )
     private String productId;
 
-    @NotBlank(message = "Categoria é obrigatória")
-    @ValidEnum(enumClass = Category.class, message = "Categoria inválida. Valores aceitos: AUTO, VIDA, RESIDENCIAL, EMPRESARIAL, OUTROS")
+    @NotBlank
     @JsonProperty("category")
     @Schema(
             description = "Categoria do seguro",
@@ -57,8 +52,7 @@ public class CreatePolicyRequest {
     )
     private String category;
 
-    @NotBlank(message = "Canal de vendas é obrigatório")
-    @ValidEnum(enumClass = SalesChannel.class, message = "Canal de vendas inválido. Valores aceitos: MOBILE, WEB, WHATSAPP, OUTROS")
+    @NotBlank
     @JsonProperty("sales_channel")
     @Schema(
             description = "Canal de vendas da solicitação",
@@ -68,8 +62,7 @@ public class CreatePolicyRequest {
     )
     private String salesChannel;
 
-    @NotBlank(message = "Forma de pagamento é obrigatória")
-    @ValidEnum(enumClass = PaymentMethod.class, message = "Forma de pagamento inválida. Valores aceitos: CREDIT_CARD, DEBIT, BOLETO, PIX")
+    @NotBlank
     @JsonProperty("payment_method")
     @Schema(
             description = "Forma de pagamento da solicitação",
@@ -79,8 +72,7 @@ public class CreatePolicyRequest {
     )
     private String paymentMethod;
 
-    @NotBlank(message = "Valor do prêmio mensal é obrigatório")
-    @ValidMoneyAmount(message = "Valor do prêmio mensal deve ser um número positivo válido")
+    @NotBlank
     @JsonProperty("total_monthly_premium_amount")
     @Schema(
             description = "Valor total do prêmio mensal (valor que o segurado paga mensalmente)",
@@ -89,8 +81,7 @@ public class CreatePolicyRequest {
     )
     private String totalMonthlyPremiumAmount;
 
-    @NotBlank(message = "Valor segurado é obrigatório")
-    @ValidMoneyAmount(message = "Valor segurado deve ser um número positivo válido")
+    @NotBlank
     @JsonProperty("insured_amount")
     @Schema(
             description = "Valor do capital segurado (valor máximo que a seguradora pagará)",
@@ -99,9 +90,8 @@ public class CreatePolicyRequest {
     )
     private String insuredAmount;
 
-    @NotNull(message = "Coberturas são obrigatórias")
-    @NotEmpty(message = "Deve haver pelo menos uma cobertura")
-    @ValidCoverages(message = "Coberturas contêm valores inválidos")
+    @NotNull
+    @NotEmpty
     @JsonProperty("coverages")
     @Schema(
             description = "Lista de coberturas da solicitação de apólice (nome da cobertura e valor)",
@@ -110,8 +100,8 @@ public class CreatePolicyRequest {
     )
     private Map<String, String> coverages;
 
-    @NotNull(message = "Assistências são obrigatórias")
-    @NotEmpty(message = "Deve haver pelo menos uma assistência")
+    @NotNull
+    @NotEmpty
     @JsonProperty("assistances")
     @Schema(
             description = "Lista de assistências incluídas na apólice",
@@ -0,0 +1,29 @@
+package io.github.athirson010.adapters.in.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Página de propostas de apólice de um cliente")
+public class PolicyProposalPageResponse {
+
+    @JsonProperty("items")
+    @Schema(description = "Propostas da página, da mais recente para a mais antiga")
+    private List<PolicyProposalSummaryResponse> items;
+
+    @JsonProperty("next_cursor")
+    @Schema(
+            description = "Cursor opaco para buscar a próxima página. Nulo quando não há mais resultados",
+            example = "MjAyMS0xMC0wMVQxNDowMDowMFp8ODk4NDZjZWUtYzZkNS00MzIwLTkyZTktMTZlMTIyZDVjNjcy"
+    )
+    private String nextCursor;
+}
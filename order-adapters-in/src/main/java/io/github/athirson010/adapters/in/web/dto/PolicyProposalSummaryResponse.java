@@ -0,0 +1,62 @@
+package io.github.athirson010.adapters.in.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Resumo de uma proposta de apólice (sem coberturas, assistências e histórico)")
+public class PolicyProposalSummaryResponse {
+
+    @JsonProperty("policy_request_id")
+    @Schema(description = "ID único da proposta de apólice", example = "89846cee-c6d5-4320-92e9-16e122d5c672")
+    private String policyRequestId;
+
+    @JsonProperty("product_id")
+    @Schema(description = "ID do produto de seguro", example = "1b2da7cc-b367-4196-8a78-9cfeec21f587")
+    private String productId;
+
+    @JsonProperty("category")
+    @Schema(description = "Categoria do seguro", example = "AUTO")
+    private String category;
+
+    @JsonProperty("sales_channel")
+    @Schema(description = "Canal de vendas da solicitação", example = "MOBILE")
+    private String salesChannel;
+
+    @JsonProperty("payment_method")
+    @Schema(description = "Forma de pagamento da solicitação", example = "CREDIT_CARD")
+    private String paymentMethod;
+
+    @JsonProperty("status")
+    @Schema(
+            description = "Status atual da proposta",
+            example = "PENDING",
+            allowableValues = {"RECEIVED", "VALIDATED", "PENDING", "APPROVED", "REJECTED", "CANCELED"}
+    )
+    private String status;
+
+    @JsonProperty("total_monthly_premium_amount")
+    @Schema(description = "Valor total do prêmio mensal", example = "75.25")
+    private String totalMonthlyPremiumAmount;
+
+    @JsonProperty("insured_amount")
+    @Schema(description = "Valor do capital segurado", example = "275000.50")
+    private String insuredAmount;
+
+    @JsonProperty("created_at")
+    @Schema(description = "Data/hora de criação da proposta", example = "2021-10-01T14:00:00Z")
+    private String createdAt;
+
+    @JsonProperty("finished_at")
+    @Schema(description = "Data/hora em que a proposta atingiu um estado final", example = "2021-10-01T15:30:00Z")
+    private String finishedAt;
+}
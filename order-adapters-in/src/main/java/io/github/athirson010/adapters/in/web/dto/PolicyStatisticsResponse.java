@@ -0,0 +1,34 @@
+package io.github.athirson010.adapters.in.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Contadores de propostas por status, categoria, canal de venda e hora")
+public class PolicyStatisticsResponse {
+
+    @JsonProperty("by_status")
+    @Schema(description = "Quantidade de propostas atualmente em cada status", example = "{\"PENDING\": 42, \"APPROVED\": 120}")
+    private Map<String, Long> byStatus;
+
+    @JsonProperty("by_category")
+    @Schema(description = "Quantidade de propostas atualmente em cada status, por categoria")
+    private Map<String, Map<String, Long>> byCategory;
+
+    @JsonProperty("by_sales_channel")
+    @Schema(description = "Quantidade de propostas atualmente em cada status, por canal de venda")
+    private Map<String, Map<String, Long>> bySalesChannel;
+
+    @JsonProperty("hourly")
+    @Schema(description = "Transições para cada status por hora (início da hora em UTC), da mais antiga para a mais recente")
+    private Map<String, Map<String, Long>> hourly;
+}
@@ -0,0 +1,22 @@
+package io.github.athirson010.adapters.in.web.exception;
+
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Erros de validação por campo encontrados pelo parser da requisição. Tratada pelo
+ * {@link GlobalExceptionHandler} no mesmo formato de {@code MethodArgumentNotValidException}.
+ */
+@Getter
+public class RequestValidationException extends RuntimeException {
+
+    private final Map<String, String> errors;
+
+    public RequestValidationException(Map<String, String> errors) {
+        super("Erro(s) de validação nos campos da requisição: " + errors);
+        this.errors = Collections.unmodifiableMap(new LinkedHashMap<>(errors));
+    }
+}
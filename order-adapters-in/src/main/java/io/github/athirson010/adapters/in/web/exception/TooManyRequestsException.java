@@ -0,0 +1,20 @@
+package io.github.athirson010.adapters.in.web.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Requisição recusada pelo controle de admissão. Tratada pelo {@link GlobalExceptionHandler} como 429 com o
+ * cabeçalho {@code Retry-After}.
+ */
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public TooManyRequestsException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
@@ -3,37 +3,32 @@ package io.github.athirson010.adapters.in.web.mapper;
 import io.github.athirson010.adapters.in.web.dto.CancelPolicyResponse;
 import io.github.athirson010.adapters.in.web.dto.CreatePolicyRequest;
 import io.github.athirson010.adapters.in.web.dto.CreatePolicyResponse;
-import io.github.athirson010.domain.enums.Category;
-import io.github.athirson010.domain.enums.PaymentMethod;
-import io.github.athirson010.domain.enums.SalesChannel;
+import io.github.athirson010.adapters.in.web.dto.PolicyProposalPageResponse;
+import io.github.athirson010.adapters.in.web.dto.PolicyProposalSummaryResponse;
+import io.github.athirson010.adapters.in.web.dto.PolicyStatisticsResponse;
+import io.github.athirson010.adapters.in.web.validation.CreatePolicyRequestParser;
+import io.github.athirson010.domain.enums.PolicyStatus;
 import io.github.athirson010.domain.model.Money;
 import io.github.athirson010.domain.model.PolicyProposal;
+import io.github.athirson010.domain.model.PolicyProposalPage;
+import io.github.athirson010.domain.model.PolicyProposalSummary;
+import io.github.athirson010.domain.model.PolicyStatusStatistics;
 
-import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.UUID;
 
 public class PolicyRequestMapper {
 
     private static final DateTimeFormatter ISO_FORMATTER = DateTimeFormatter.ISO_INSTANT;
 
+    /**
+     * Valida e converte a requisição em uma passagem. Lança {@code RequestValidationException} com os erros por campo.
+     */
     public static PolicyProposal toDomain(CreatePolicyRequest request) {
-        return PolicyProposal.create(
-                UUID.fromString(request.getCustomerId()),
-                request.getProductId(),
-                Category.fromString(request.getCategory()),
-                SalesChannel.fromString(request.getSalesChannel()),
-                PaymentMethod.fromString(request.getPaymentMethod()),
-                Money.brl(new BigDecimal(request.getTotalMonthlyPremiumAmount())),
-                Money.brl(new BigDecimal(request.getInsuredAmount())),
-                convertCoverages(request.getCoverages()),
-                request.getAssistances(),
-                Instant.now()
-        );
+        return CreatePolicyRequestParser.parse(request, Instant.now());
     }
 
     public static CreatePolicyResponse toCreateResponse(PolicyProposal policy) {
@@ -52,17 +47,63 @@ public class PolicyRequestMapper {
                 .build();
     }
 
-    private static Map<String, Money> convertCoverages(Map<String, String> coverages) {
-        Map<String, Money> result = new HashMap<>();
-        if (coverages != null) {
-            coverages.forEach((key, value) -> {
-                BigDecimal amount = new BigDecimal(value);
-                result.put(key, Money.brl(amount));
-            });
+    public static PolicyProposalPageResponse toPageResponse(PolicyProposalPage page) {
+        return PolicyProposalPageResponse.builder()
+                .items(page.items().stream()
+                        .map(PolicyRequestMapper::toSummaryResponse)
+                        .toList())
+                .nextCursor(page.hasNext() ? page.nextCursor().asToken() : null)
+                .build();
+    }
+
+    private static PolicyProposalSummaryResponse toSummaryResponse(PolicyProposalSummary summary) {
+        return PolicyProposalSummaryResponse.builder()
+                .policyRequestId(summary.id().asString())
+                .productId(summary.productId())
+                .category(summary.category().name())
+                .salesChannel(summary.salesChannel().name())
+                .paymentMethod(summary.paymentMethod().name())
+                .status(summary.status().name())
+                .totalMonthlyPremiumAmount(formatMoney(summary.totalMonthlyPremiumAmount()))
+                .insuredAmount(formatMoney(summary.insuredAmount()))
+                .createdAt(formatInstant(summary.createdAt()))
+                .finishedAt(formatInstant(summary.finishedAt()))
+                .build();
+    }
+
+    public static PolicyStatisticsResponse toStatisticsResponse(PolicyStatusStatistics statistics) {
+        Map<String, Map<String, Long>> byCategory = new LinkedHashMap<>();
+        statistics.byCategory().forEach((category, counts) -> byCategory.put(category.name(), toStatusCounts(counts)));
+
+        Map<String, Map<String, Long>> bySalesChannel = new LinkedHashMap<>();
+        statistics.bySalesChannel().forEach((channel, counts) -> bySalesChannel.put(channel.name(), toStatusCounts(counts)));
+
+        Map<String, Map<String, Long>> hourly = new LinkedHashMap<>();
+        statistics.byHour().forEach((hour, counts) -> hourly.put(formatInstant(hour), toStatusCounts(counts)));
+
+        return PolicyStatisticsResponse.builder()
+                .byStatus(toStatusCounts(statistics.byStatus()))
+                .byCategory(byCategory)
+                .bySalesChannel(bySalesChannel)
+                .hourly(hourly)
+                .build();
+    }
+
+    private static Map<String, Long> toStatusCounts(Map<PolicyStatus, Long> counts) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (PolicyStatus status : PolicyStatus.values()) {
+            result.put(status.name(), counts.getOrDefault(status, 0L));
         }
         return result;
     }
 
+    private static String formatMoney(Money money) {
+        if (money == null) {
+            return null;
+        }
+        return money.amount().toPlainString();
+    }
+
     private static String formatInstant(Instant instant) {
         if (instant == null) {
             return null;
@@ -0,0 +1,191 @@
+package io.github.athirson010.adapters.in.web.validation;
+
+import io.github.athirson010.adapters.in.web.dto.CreatePolicyRequest;
+import io.github.athirson010.adapters.in.web.exception.RequestValidationException;
+import io.github.athirson010.domain.enums.Category;
+import io.github.athirson010.domain.enums.PaymentMethod;
+import io.github.athirson010.domain.enums.SalesChannel;
+import io.github.athirson010.domain.model.Money;
+import io.github.athirson010.domain.model.PolicyProposal;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Valida e converte {@link CreatePolicyRequest} para {@link PolicyProposal} em uma única passagem:
+ * cada campo é lido uma vez e o valor convertido ({@link UUID}, {@link BigDecimal}, enums) já é o usado
+ * no domínio.
+ * <p>
+ * É a única fonte das regras e mensagens de validação do {@code POST /policies}; as anotações de
+ * {@code CreatePolicyRequest} só documentam os campos obrigatórios no OpenAPI. Cada campo recebe uma única
+ * mensagem, a da primeira regra violada, e os erros são reportados por {@link RequestValidationException} com as
+ * chaves pelo nome da propriedade.
+ */
+public final class CreatePolicyRequestParser {
+
+    private static final Map<String, Category> CATEGORIES = byName(Category.values());
+    private static final Map<String, SalesChannel> SALES_CHANNELS = byName(SalesChannel.values());
+    private static final Map<String, PaymentMethod> PAYMENT_METHODS = byName(PaymentMethod.values());
+
+    private final Map<String, String> errors = new LinkedHashMap<>();
+
+    private CreatePolicyRequestParser() {
+    }
+
+    public static PolicyProposal parse(CreatePolicyRequest request, Instant now) {
+        return new CreatePolicyRequestParser().toDomain(request, now);
+    }
+
+    private PolicyProposal toDomain(CreatePolicyRequest request, Instant now) {
+        UUID customerId = parseUuid("customerId", request.getCustomerId(),
+                "ID do cliente é obrigatório", "ID do cliente deve ser um UUID válido");
+        String productId = requireText("productId", request.getProductId(), "ID do produto é obrigatório");
+        Category category = parseEnum("category", request.getCategory(), CATEGORIES,
+                "Categoria é obrigatória",
+                "Categoria inválida. Valores aceitos: AUTO, VIDA, RESIDENCIAL, EMPRESARIAL, OUTROS");
+        SalesChannel salesChannel = parseEnum("salesChannel", request.getSalesChannel(), SALES_CHANNELS,
+                "Canal de vendas é obrigatório",
+                "Canal de vendas inválido. Valores aceitos: MOBILE, WEB, WHATSAPP, OUTROS");
+        PaymentMethod paymentMethod = parseEnum("paymentMethod", request.getPaymentMethod(), PAYMENT_METHODS,
+                "Forma de pagamento é obrigatória",
+                "Forma de pagamento inválida. Valores aceitos: CREDIT_CARD, DEBIT, BOLETO, PIX");
+        BigDecimal totalMonthlyPremiumAmount = parseAmount("totalMonthlyPremiumAmount",
+                request.getTotalMonthlyPremiumAmount(), "Valor do prêmio mensal é obrigatório");
+        BigDecimal insuredAmount = parseAmount("insuredAmount", request.getInsuredAmount(),
+                "Valor segurado é obrigatório");
+        Map<String, Money> coverages = parseCoverages(request.getCoverages());
+        List<String> assistances = requireItems("assistances", request.getAssistances(),
+                "Assistências são obrigatórias", "Deve haver pelo menos uma assistência");
+
+        if (!errors.isEmpty()) {
+            throw new RequestValidationException(errors);
+        }
+
+        return PolicyProposal.create(
+                customerId,
+                productId,
+                category,
+                salesChannel,
+                paymentMethod,
+                Money.brl(totalMonthlyPremiumAmount),
+                Money.brl(insuredAmount),
+                coverages,
+                assistances,
+                now
+        );
+    }
+
+    private String requireText(String field, String value, String blankMessage) {
+        if (value == null || value.isBlank()) {
+            errors.put(field, blankMessage);
+            return null;
+        }
+        return value;
+    }
+
+    private UUID parseUuid(String field, String value, String blankMessage, String invalidMessage) {
+        if (requireText(field, value, blankMessage) == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            errors.put(field, invalidMessage);
+            return null;
+        }
+    }
+
+    private <E extends Enum<E>> E parseEnum(String field, String value, Map<String, E> constants,
+                                            String blankMessage, String invalidMessage) {
+        if (requireText(field, value, blankMessage) == null) {
+            return null;
+        }
+        E constant = constants.get(value.toUpperCase());
+        if (constant == null) {
+            errors.put(field, invalidMessage);
+        }
+        return constant;
+    }
+
+    private BigDecimal parseAmount(String field, String value, String blankMessage) {
+        if (requireText(field, value, blankMessage) == null) {
+            return null;
+        }
+        try {
+            BigDecimal amount = new BigDecimal(value);
+            if (amount.compareTo(BigDecimal.ZERO) <= 0) {
+                errors.put(field, "Valor deve ser maior que zero");
+                return null;
+            }
+            return amount;
+        } catch (NumberFormatException e) {
+            errors.put(field, "Formato numérico inválido");
+            return null;
+        }
+    }
+
+    /**
+     * Para na primeira cobertura inválida.
+     */
+    private Map<String, Money> parseCoverages(Map<String, String> coverages) {
+        if (requireItems("coverages", coverages == null ? null : coverages.keySet(),
+                "Coberturas são obrigatórias", "Deve haver pelo menos uma cobertura") == null) {
+            return null;
+        }
+
+        Map<String, Money> result = new HashMap<>();
+        for (Map.Entry<String, String> entry : coverages.entrySet()) {
+            String coverageName = entry.getKey();
+            String coverageValue = entry.getValue();
+
+            if (coverageName == null || coverageName.isBlank()) {
+                errors.put("coverages", "Nome da cobertura não pode ser vazio");
+                return null;
+            }
+            if (coverageValue == null || coverageValue.isBlank()) {
+                errors.put("coverages", "Valor da cobertura '" + coverageName + "' não pode ser vazio");
+                return null;
+            }
+
+            BigDecimal amount;
+            try {
+                amount = new BigDecimal(coverageValue);
+            } catch (NumberFormatException e) {
+                errors.put("coverages", "Valor da cobertura '" + coverageName + "' não é um número válido");
+                return null;
+            }
+            if (amount.compareTo(BigDecimal.ZERO) <= 0) {
+                errors.put("coverages", "Valor da cobertura '" + coverageName + "' deve ser maior que zero");
+                return null;
+            }
+            result.put(coverageName, Money.brl(amount));
+        }
+        return result;
+    }
+
+    private <C extends Collection<?>> C requireItems(String field, C items,
+                                                               String nullMessage, String emptyMessage) {
+        if (items == null) {
+            errors.put(field, nullMessage);
+            return null;
+        }
+        if (items.isEmpty()) {
+            errors.put(field, emptyMessage);
+            return null;
+        }
+        return items;
+    }
+
+    private static <E extends Enum<E>> Map<String, E> byName(E[] constants) {
+        return Arrays.stream(constants).collect(Collectors.toUnmodifiableMap(Enum::name, Function.identity()));
+    }
+}
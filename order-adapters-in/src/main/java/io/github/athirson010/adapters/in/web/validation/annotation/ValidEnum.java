@@ -1,21 +0,0 @@
-package io.github.athirson010.adapters.in.web.validation.annotation;
-
-import io.github.athirson010.adapters.in.web.validation.validator.EnumValidator;
-import jakarta.validation.Constraint;
-import jakarta.validation.Payload;
-
-import java.lang.annotation.*;
-
-@Target({ElementType.FIELD, ElementType.PARAMETER})
-@Retention(RetentionPolicy.RUNTIME)
-@Constraint(validatedBy = EnumValidator.class)
-@Documented
-public @interface ValidEnum {
-    String message() default "Valor inválido para o campo";
-
-    Class<? extends Enum<?>> enumClass();
-
-    Class<?>[] groups() default {};
-
-    Class<? extends Payload>[] payload() default {};
-}
@@ -1,32 +0,0 @@
-package io.github.athirson010.adapters.in.web.validation.validator;
-
-import io.github.athirson010.adapters.in.web.validation.annotation.ValidEnum;
-import jakarta.validation.ConstraintValidator;
-import jakarta.validation.ConstraintValidatorContext;
-
-import java.util.Arrays;
-import java.util.Set;
-import java.util.stream.Collectors;
-
-public class EnumValidator implements ConstraintValidator<ValidEnum, String> {
-
-    private Set<String> acceptableValues;
-
-    @Override
-    public void initialize(ValidEnum constraintAnnotation) {
-        Class<? extends Enum<?>> enumClass = constraintAnnotation.enumClass();
-        acceptableValues = Arrays.stream(enumClass.getEnumConstants())
-                .map(Enum::name)
-                .collect(Collectors.toSet());
-    }
-
-    @Override
-    public boolean isValid(String value, ConstraintValidatorContext context) {
-        if (value == null || value.isBlank()) {
-            return false;
-        }
-
-        // Aceita tanto maiúsculo quanto minúsculo
-        return acceptableValues.contains(value.toUpperCase());
-    }
-}
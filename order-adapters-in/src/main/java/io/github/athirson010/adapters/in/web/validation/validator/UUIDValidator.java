@@ -1,29 +0,0 @@
-package io.github.athirson010.adapters.in.web.validation.validator;
-
-import io.github.athirson010.adapters.in.web.validation.annotation.ValidUUID;
-import jakarta.validation.ConstraintValidator;
-import jakarta.validation.ConstraintValidatorContext;
-
-import java.util.UUID;
-
-public class UUIDValidator implements ConstraintValidator<ValidUUID, String> {
-
-    @Override
-    public void initialize(ValidUUID constraintAnnotation) {
-        ConstraintValidator.super.initialize(constraintAnnotation);
-    }
-
-    @Override
-    public boolean isValid(String value, ConstraintValidatorContext context) {
-        if (value == null || value.isBlank()) {
-            return false;
-        }
-
-        try {
-            UUID.fromString(value);
-            return true;
-        } catch (IllegalArgumentException e) {
-            return false;
-        }
-    }
-}
@@ -0,0 +1,88 @@
+package io.github.athirson010.adapters.in.messaging.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.github.athirson010.domain.enums.Category;
+import io.github.athirson010.domain.enums.PaymentMethod;
+import io.github.athirson010.domain.enums.PolicyStatus;
+import io.github.athirson010.domain.enums.SalesChannel;
+import io.github.athirson010.domain.model.Money;
+import io.github.athirson010.domain.model.PolicyProposal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PolicyProposalJsonDeserializer - Testes Unitários")
+class PolicyProposalJsonDeserializerTest {
+
+    private static final Instant T0 = Instant.parse("2024-01-10T10:00:00.123456Z");
+
+    private final ObjectMapper mapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .registerModule(new SimpleModule().addDeserializer(PolicyProposal.class, new PolicyProposalJsonDeserializer()));
+
+    @Test
+    @DisplayName("Deve ler mensagem gerada pela serialização por bean")
+    void deveLerMensagemSerializadaPorBean() throws Exception {
+        // Given
+        PolicyProposal original = PolicyProposal.create(
+                UUID.randomUUID(), "PROD-AUTO-2024", Category.AUTO, SalesChannel.MOBILE, PaymentMethod.PIX,
+                Money.brl(new BigDecimal("350.00")), Money.brl(new BigDecimal("200000.00")),
+                Map.of("COLISAO", Money.brl(new BigDecimal("200000.00"))), List.of("GUINCHO_24H"), T0);
+        original.validate(T0.plusSeconds(1));
+        original.markAsPending(T0.plusSeconds(2));
+        original.processPaymentResponse(true, null, T0.plusSeconds(3));
+        byte[] body = new ObjectMapper().registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .writeValueAsBytes(original);
+
+        // When
+        PolicyProposal read = mapper.readValue(body, PolicyProposal.class);
+
+        // Then
+        assertThat(read).usingRecursiveComparison().isEqualTo(original);
+        assertThat(read.isPaymentConfirmed()).isTrue();
+        assertThat(read.getStatus()).isEqualTo(PolicyStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("Deve ignorar campos desconhecidos e aceitar datas numéricas")
+    void deveIgnorarCamposDesconhecidosEAceitarDatasNumericas() throws Exception {
+        // Given
+        String id = UUID.randomUUID().toString();
+        String json = """
+                {"id":"%s","customerId":"%s","category":"VIDA","salesChannel":"WEB","paymentMethod":"BOLETO",
+                 "status":"CANCELED","createdAt":1704880800.500000000,"extra":{"nested":[1,2]},
+                 "coverages":{},"assistances":[],"history":[{"status":"CANCELED","timestamp":"2024-01-10T10:00:00Z","reason":null}]}
+                """.formatted(id, UUID.randomUUID());
+
+        // When
+        PolicyProposal read = mapper.readValue(json.getBytes(StandardCharsets.UTF_8), PolicyProposal.class);
+
+        // Then
+        assertThat(read.getId().asString()).isEqualTo(id);
+        assertThat(read.getStatus()).isEqualTo(PolicyStatus.CANCELED);
+        assertThat(read.getCreatedAt()).isEqualTo(Instant.ofEpochSecond(1704880800L, 500_000_000));
+        assertThat(read.getHistory()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar mensagem que não seja um objeto JSON")
+    void deveRejeitarMensagemQueNaoSejaObjeto() {
+        assertThatThrownBy(() -> mapper.readValue("[1,2]".getBytes(StandardCharsets.UTF_8), PolicyProposal.class))
+                .isInstanceOf(MismatchedInputException.class);
+    }
+}
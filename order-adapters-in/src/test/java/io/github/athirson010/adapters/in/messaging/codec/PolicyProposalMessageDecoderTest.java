@@ -0,0 +1,121 @@
+package io.github.athirson010.adapters.in.messaging.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.github.athirson010.domain.enums.Category;
+import io.github.athirson010.domain.enums.PolicyStatus;
+import io.github.athirson010.domain.enums.SalesChannel;
+import io.github.athirson010.domain.model.PolicyProposal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PolicyProposalMessageDecoder - Testes Unitários")
+class PolicyProposalMessageDecoderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .registerModule(new SimpleModule().addDeserializer(PolicyProposal.class, new PolicyProposalJsonDeserializer()));
+
+    private final PolicyProposalMessageDecoder decoder = new PolicyProposalMessageDecoder(objectMapper);
+
+    @Test
+    @DisplayName("Deve ler JSON de mensagens antigas publicadas como text/plain")
+    void deveLerJsonDeMensagensAntigas() throws Exception {
+        // Given
+        String id = UUID.randomUUID().toString();
+        String json = """
+                {"id":{"value":"%s"},"customerId":"%s","status":"RECEIVED","createdAt":"2024-01-10T10:00:00Z",
+                 "paymentConfirmed":false,"coverages":{},"assistances":[],"history":[]}
+                """.formatted(id, UUID.randomUUID());
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_TEXT_PLAIN);
+
+        // When
+        PolicyProposal proposal = decoder.decode(new Message(json.getBytes(StandardCharsets.UTF_8), properties));
+
+        // Then
+        assertThat(proposal.getId().asString()).isEqualTo(id);
+        assertThat(proposal.getStatus()).isEqualTo(PolicyStatus.RECEIVED);
+    }
+
+    @Test
+    @DisplayName("Deve ler Smile compacto pelo content-type versionado")
+    void deveLerSmileCompacto() throws Exception {
+        // Given
+        String id = UUID.randomUUID().toString();
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("id", id);
+        body.put("customerId", UUID.randomUUID().toString());
+        body.put("status", "RECEIVED");
+        body.put("createdAt", new BigDecimal("1704880800.123456000"));
+        body.put("totalMonthlyPremiumAmount", Map.of("amount", new BigDecimal("350.00"), "currency", "BRL"));
+        body.put("coverages", Map.of("COLISAO", Map.of("amount", new BigDecimal("200000.00"), "currency", "BRL")));
+        body.put("assistances", List.of("GUINCHO_24H"));
+        body.put("history", List.of(Map.of("status", "RECEIVED", "timestamp", new BigDecimal("1704880800.123456000"))));
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(PolicyProposalMessageDecoder.SMILE_V1_CONTENT_TYPE);
+        byte[] smile = new ObjectMapper(new SmileFactory()).writeValueAsBytes(body);
+
+        // When
+        PolicyProposal proposal = decoder.decode(new Message(smile, properties));
+
+        // Then
+        assertThat(proposal.getId().asString()).isEqualTo(id);
+        assertThat(proposal.getCreatedAt()).isEqualTo(Instant.parse("2024-01-10T10:00:00.123456Z"));
+        assertThat(proposal.getTotalMonthlyPremiumAmount().amount()).isEqualByComparingTo("350.00");
+        assertThat(proposal.getCoverages()).containsKey("COLISAO");
+        assertThat(proposal.getHistory()).hasSize(1);
+        assertThat(proposal.isPaymentConfirmed()).isFalse();
+        assertThat(proposal.getFinishedAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve ler referência de claim-check")
+    void deveLerReferenciaDeClaimCheck() throws Exception {
+        // Given
+        String id = UUID.randomUUID().toString();
+        String json = "{\"id\":\"%s\",\"status\":\"CANCELED\",\"category\":\"VIDA\",\"salesChannel\":\"WEB\"}".formatted(id);
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(PolicyProposalMessageDecoder.CLAIM_CHECK_V1_CONTENT_TYPE);
+        Message message = new Message(json.getBytes(StandardCharsets.UTF_8), properties);
+
+        // When
+        ClaimCheckReference reference = decoder.decodeClaimCheck(message);
+
+        // Then
+        assertThat(decoder.isClaimCheck(message)).isTrue();
+        assertThat(reference.id().asString()).isEqualTo(id);
+        assertThat(reference.status()).isEqualTo(PolicyStatus.CANCELED);
+        assertThat(reference.category()).isEqualTo(Category.VIDA);
+        assertThat(reference.salesChannel()).isEqualTo(SalesChannel.WEB);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar versão de formato desconhecida")
+    void deveRejeitarVersaoDesconhecida() {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType("application/vnd.policy-proposal.v2+smile");
+
+        assertThatThrownBy(() -> decoder.decode(new Message(new byte[]{1, 2, 3}, properties)))
+                .isInstanceOf(MessageConversionException.class)
+                .hasMessageContaining("v2+smile");
+    }
+}
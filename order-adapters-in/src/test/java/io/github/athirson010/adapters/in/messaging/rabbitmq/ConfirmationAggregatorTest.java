@@ -0,0 +1,285 @@
+package io.github.athirson010.adapters.in.messaging.rabbitmq;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.github.athirson010.adapters.in.messaging.rabbitmq.PolicyLifecycleMetrics.Response;
+import io.github.athirson010.core.port.out.ConfirmationChangelogPort;
+import io.github.athirson010.core.port.out.OrderRepository;
+import io.github.athirson010.domain.enums.Category;
+import io.github.athirson010.domain.enums.PaymentMethod;
+import io.github.athirson010.domain.enums.PolicyStatus;
+import io.github.athirson010.domain.enums.SalesChannel;
+import io.github.athirson010.domain.exception.InvalidTransitionException;
+import io.github.athirson010.domain.model.Money;
+import io.github.athirson010.domain.model.PolicyProposal;
+import io.github.athirson010.domain.model.PolicyProposalId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConfirmationAggregator - Testes Unitários")
+class ConfirmationAggregatorTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-10T10:00:00Z");
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private PolicyLifecycleMetrics lifecycleMetrics;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final InMemoryChangelog changelog = new InMemoryChangelog();
+    private final List<ConfirmationAggregator> aggregators = new ArrayList<>();
+
+    private PolicyProposalId policyId;
+
+    @BeforeEach
+    void setUp() {
+        policyId = PolicyProposalId.from(UUID.randomUUID().toString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        aggregators.forEach(ConfirmationAggregator::destroy);
+    }
+
+    @Test
+    @DisplayName("Deve ler a proposta uma vez e gravar só a decisão final quando as duas respostas forem aprovadas")
+    void deveGravarSoADecisaoFinal() throws Exception {
+        // Given
+        ConfirmationAggregator aggregator = aggregator(Duration.ofMinutes(15), Clock.fixed(NOW, ZoneOffset.UTC));
+        when(orderRepository.findById(policyId)).thenAnswer(invocation -> Optional.of(pendingProposal()));
+
+        // When
+        PolicyProposal afterPayment = aggregator.aggregate(Response.PAYMENT, policyId, true, null);
+        PolicyProposal afterSubscription = aggregator.aggregate(Response.SUBSCRIPTION, policyId, true, null);
+
+        // Then
+        assertThat(afterPayment.getStatus()).isEqualTo(PolicyStatus.PENDING);
+        assertThat(afterSubscription.getStatus()).isEqualTo(PolicyStatus.APPROVED);
+        verify(orderRepository, times(1)).findById(policyId);
+        ArgumentCaptor<PolicyProposal> saved = ArgumentCaptor.forClass(PolicyProposal.class);
+        verify(orderRepository, times(1)).save(saved.capture());
+        assertThat(saved.getValue().getStatus()).isEqualTo(PolicyStatus.APPROVED);
+        assertThat(saved.getValue().isPaymentConfirmed()).isTrue();
+        assertThat(aggregator.pendingCount()).isZero();
+        assertThat(meterRegistry.get(ConfirmationAggregator.LOOKUPS_METRIC).tag("source", "MEMORY").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get(ConfirmationAggregator.WRITES_METRIC).tag("outcome", "DEFERRED").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve gravar a rejeição imediatamente e a resposta que chega depois no histórico")
+    void deveGravarRejeicaoEHistoricoPosterior() throws Exception {
+        // Given
+        ConfirmationAggregator aggregator = aggregator(Duration.ofMinutes(15), Clock.fixed(NOW, ZoneOffset.UTC));
+        when(orderRepository.findById(policyId)).thenAnswer(invocation -> Optional.of(pendingProposal()));
+
+        // When
+        aggregator.aggregate(Response.PAYMENT, policyId, false, "Saldo insuficiente");
+        int pendingAfterRejection = aggregator.pendingCount();
+        PolicyProposal result = aggregator.aggregate(Response.SUBSCRIPTION, policyId, true, null);
+
+        // Then
+        assertThat(pendingAfterRejection).isEqualTo(1);
+        assertThat(result.getStatus()).isEqualTo(PolicyStatus.REJECTED);
+        assertThat(result.getHistory()).last()
+                .satisfies(entry -> assertThat(entry.reason()).isEqualTo("Subscrição aprovada (após rejeição por pagamento)"));
+        verify(orderRepository, times(1)).findById(policyId);
+        verify(orderRepository, times(2)).save(any(PolicyProposal.class));
+        assertThat(aggregator.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve recuperar a primeira aprovação pelo changelog depois de uma queda")
+    void deveRecuperarPrimeiraAprovacaoPeloChangelog() throws Exception {
+        // Given
+        when(orderRepository.findById(policyId)).thenAnswer(invocation -> Optional.of(pendingProposal()));
+        aggregator(Duration.ofMinutes(15), Clock.fixed(NOW, ZoneOffset.UTC))
+                .aggregate(Response.SUBSCRIPTION, policyId, true, null);
+        verify(orderRepository, never()).save(any(PolicyProposal.class));
+
+        // When
+        ConfirmationAggregator restarted = aggregator(Duration.ofMinutes(15), Clock.fixed(NOW, ZoneOffset.UTC));
+        PolicyProposal result = restarted.aggregate(Response.PAYMENT, policyId, true, null);
+
+        // Then
+        assertThat(result.getStatus()).isEqualTo(PolicyStatus.APPROVED);
+        verify(orderRepository, times(1)).findById(policyId);
+        assertThat(changelog.compactions).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve descartar o estado em memória e reaplicar a resposta quando a proposta mudou no repositório")
+    void deveReaplicarQuandoPropostaMudouNoRepositorio() throws Exception {
+        // Given
+        ConfirmationAggregator aggregator = aggregator(Duration.ofMinutes(15), Clock.fixed(NOW, ZoneOffset.UTC));
+        when(orderRepository.findById(policyId))
+                .thenReturn(Optional.of(pendingProposal()))
+                .thenAnswer(invocation -> {
+                    PolicyProposal canceled = pendingProposal();
+                    canceled.cancel("Cliente desistiu", NOW);
+                    return Optional.of(canceled);
+                });
+        aggregator.aggregate(Response.PAYMENT, policyId, true, null);
+        when(orderRepository.save(any(PolicyProposal.class)))
+                .thenThrow(new OptimisticLockingFailureException("Proposta já está em CANCELED"));
+
+        // When / Then
+        assertThatThrownBy(() -> aggregator.aggregate(Response.SUBSCRIPTION, policyId, true, null))
+                .isInstanceOf(InvalidTransitionException.class);
+        verify(orderRepository, times(2)).findById(policyId);
+        assertThat(aggregator.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve gravar as respostas pendentes ao remover propostas sem respostas além do tempo limite")
+    void deveGravarRespostasPendentesAoRemoverPorInatividade() throws Exception {
+        // Given
+        Clock clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(NOW, NOW.plus(Duration.ofMinutes(20)));
+        ConfirmationAggregator aggregator = aggregator(Duration.ofMinutes(15), clock);
+        when(orderRepository.findById(policyId)).thenAnswer(invocation -> Optional.of(pendingProposal()));
+        aggregator.aggregate(Response.PAYMENT, policyId, true, null);
+
+        // When
+        aggregator.sweep();
+
+        // Then
+        ArgumentCaptor<PolicyProposal> saved = ArgumentCaptor.forClass(PolicyProposal.class);
+        verify(orderRepository).save(saved.capture());
+        assertThat(saved.getValue().getStatus()).isEqualTo(PolicyStatus.PENDING);
+        assertThat(saved.getValue().isPaymentResponseReceived()).isTrue();
+        assertThat(aggregator.pendingCount()).isZero();
+        assertThat(changelog.live(policyId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve gravar toda resposta quando não há changelog para guardar a primeira aprovação")
+    void deveGravarTodaRespostaSemChangelog() throws Exception {
+        // Given
+        ConfirmationAggregator aggregator = aggregator(null, Duration.ofMinutes(15), Clock.fixed(NOW, ZoneOffset.UTC));
+        when(orderRepository.findById(policyId)).thenAnswer(invocation -> Optional.of(pendingProposal()));
+
+        // When
+        aggregator.aggregate(Response.PAYMENT, policyId, true, null);
+
+        // Then
+        ArgumentCaptor<PolicyProposal> saved = ArgumentCaptor.forClass(PolicyProposal.class);
+        verify(orderRepository).save(saved.capture());
+        assertThat(saved.getValue().getStatus()).isEqualTo(PolicyStatus.PENDING);
+        assertThat(saved.getValue().isPaymentConfirmed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve recusar a inicialização quando outra instância já consome as filas de confirmação")
+    void deveRecusarInicializacaoComOutroConsumer() {
+        // Given
+        AmqpAdmin admin = mock(AmqpAdmin.class);
+        when(admin.getQueueInfo("payment")).thenReturn(new QueueInformation("payment", 0, 0));
+        when(admin.getQueueInfo("subscription")).thenReturn(new QueueInformation("subscription", 12, 1));
+
+        // When / Then
+        assertThatThrownBy(() -> ConfirmationAggregator.requireNoOtherConsumers(admin, "payment", "subscription"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("subscription");
+    }
+
+    private ConfirmationAggregator aggregator(Duration idleTimeout, Clock clock) {
+        return aggregator(changelog, idleTimeout, clock);
+    }
+
+    private ConfirmationAggregator aggregator(ConfirmationChangelogPort changelog, Duration idleTimeout, Clock clock) {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        ConfirmationAggregator aggregator = new ConfirmationAggregator(objectMapper, orderRepository, changelog,
+                lifecycleMetrics, new ConsumerStepMetrics(meterRegistry), meterRegistry, 4, idleTimeout, clock);
+        aggregators.add(aggregator);
+        return aggregator;
+    }
+
+    private PolicyProposal pendingProposal() {
+        PolicyProposal proposal = PolicyProposal.builder()
+                .id(policyId)
+                .customerId(UUID.randomUUID())
+                .productId("PROD-AUTO-2024")
+                .category(Category.AUTO)
+                .salesChannel(SalesChannel.MOBILE)
+                .paymentMethod(PaymentMethod.CREDIT_CARD)
+                .totalMonthlyPremiumAmount(Money.brl(BigDecimal.valueOf(350.00)))
+                .insuredAmount(Money.brl(BigDecimal.valueOf(200000.00)))
+                .coverages(Map.of("COLISAO", Money.brl(BigDecimal.valueOf(200000.00))))
+                .assistances(List.of("GUINCHO_24H"))
+                .status(PolicyStatus.VALIDATED)
+                .createdAt(NOW)
+                .build();
+        proposal.markAsPending(NOW);
+        return proposal;
+    }
+
+    /**
+     * Changelog em memória: sobrevive à troca do agregador dentro do teste, como o journal sobrevive à queda.
+     */
+    private static final class InMemoryChangelog implements ConfirmationChangelogPort {
+
+        private final Map<Integer, List<PolicyProposal>> records = new HashMap<>();
+        private int compactions;
+
+        @Override
+        public synchronized long replay(int partition, Consumer<PolicyProposal> sink) {
+            List<PolicyProposal> partitionRecords = records.getOrDefault(partition, List.of());
+            partitionRecords.forEach(sink);
+            return partitionRecords.size();
+        }
+
+        @Override
+        public synchronized void append(int partition, PolicyProposal proposal) {
+            records.computeIfAbsent(partition, key -> new ArrayList<>()).add(proposal);
+        }
+
+        @Override
+        public synchronized void compact(int partition, Collection<PolicyProposal> proposals) {
+            records.put(partition, new ArrayList<>(proposals));
+            compactions++;
+        }
+
+        private synchronized List<PolicyProposal> live(PolicyProposalId id) {
+            Map<PolicyProposalId, PolicyProposal> last = new HashMap<>();
+            records.values().forEach(partitionRecords -> partitionRecords.forEach(record -> last.put(record.getId(), record)));
+            return Optional.ofNullable(last.get(id))
+                    .filter(record -> !(record.isPaymentResponseReceived() && record.isSubscriptionResponseReceived()))
+                    .map(List::of)
+                    .orElse(List.of());
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package io.github.athirson010.adapters.in.messaging.rabbitmq;
+
+import io.github.athirson010.adapters.in.messaging.rabbitmq.ConsumerStepMetrics.Consumer;
+import io.github.athirson010.adapters.in.messaging.rabbitmq.ConsumerStepMetrics.Step;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ConsumerStepMetrics - Testes Unitários")
+class ConsumerStepMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ConsumerStepMetrics metrics = new ConsumerStepMetrics(registry);
+
+    @Test
+    @DisplayName("Deve medir a etapa e devolver o resultado")
+    void deveMedirEtapaComSucesso() {
+        String result = metrics.time(Consumer.ORDER, Step.FRAUD_ANALYSIS, () -> "REGULAR");
+        metrics.time(Consumer.ORDER, Step.FRAUD_ANALYSIS, () -> "REGULAR");
+
+        assertThat(result).isEqualTo("REGULAR");
+        assertThat(registry.get(ConsumerStepMetrics.STEP_METRIC)
+                .tag("consumer", "ORDER").tag("step", "FRAUD_ANALYSIS").tag("outcome", "SUCCESS")
+                .timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve registrar a etapa com outcome ERROR e relançar a exceção")
+    void deveRegistrarErroERelancar() {
+        assertThatThrownBy(() -> metrics.time(Consumer.PAYMENT, Step.DESERIALIZE, () -> {
+            throw new IOException("JSON inválido");
+        })).isInstanceOf(IOException.class);
+
+        assertThat(registry.get(ConsumerStepMetrics.STEP_METRIC)
+                .tag("consumer", "PAYMENT").tag("step", "DESERIALIZE").tag("outcome", "ERROR")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve contar mensagens por consumer e outcome")
+    void deveContarMensagens() {
+        metrics.countMessage(Consumer.SUBSCRIPTION, true);
+        metrics.countMessage(Consumer.SUBSCRIPTION, true);
+        metrics.countMessage(Consumer.SUBSCRIPTION, false);
+
+        assertThat(registry.get(ConsumerStepMetrics.MESSAGES_METRIC)
+                .tag("consumer", "SUBSCRIPTION").tag("outcome", "SUCCESS").counter().count()).isEqualTo(2);
+        assertThat(registry.get(ConsumerStepMetrics.MESSAGES_METRIC)
+                .tag("consumer", "SUBSCRIPTION").tag("outcome", "ERROR").counter().count()).isEqualTo(1);
+    }
+}
@@ -1,33 +1,52 @@
 package io.github.athirson010.adapters.in.messaging.rabbitmq;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.athirson010.adapters.in.messaging.codec.ClaimCheckReference;
+import io.github.athirson010.adapters.in.messaging.codec.PolicyProposalMessageDecoder;
+import io.github.athirson010.core.port.out.ClaimCheckCachePort;
 import io.github.athirson010.core.port.out.FraudCheckPort;
 import io.github.athirson010.core.port.out.OrderEventPort;
 import io.github.athirson010.core.port.out.OrderRepository;
+import io.github.athirson010.core.service.PendingExpiryService;
 import io.github.athirson010.core.service.PolicyValidationService;
 import io.github.athirson010.domain.enums.Category;
 import io.github.athirson010.domain.enums.PaymentMethod;
+import io.github.athirson010.domain.enums.PolicyStatus;
+import io.github.athirson010.domain.enums.ProcessingLane;
 import io.github.athirson010.domain.enums.RiskClassification;
 import io.github.athirson010.domain.enums.SalesChannel;
 import io.github.athirson010.domain.model.FraudAnalysisResult;
 import io.github.athirson010.domain.model.Money;
 import io.github.athirson010.domain.model.PolicyProposal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.MDC;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.dao.OptimisticLockingFailureException;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,7 +54,7 @@ import static org.mockito.Mockito.*;
 class OrderQueueConsumerTest {
 
     @Mock
-    private ObjectMapper objectMapper;
+    private PolicyProposalMessageDecoder messageDecoder;
 
     @Mock
     private FraudCheckPort fraudCheckPort;
@@ -49,11 +68,26 @@ class OrderQueueConsumerTest {
     @Mock
     private OrderEventPort orderEventPort;
 
+    @Mock
+    private ClaimCheckCachePort claimCheckCache;
+
+    @Mock
+    private ProcessingLaneMetrics laneMetrics;
+
+    @Mock
+    private PolicyLifecycleMetrics lifecycleMetrics;
+
+    @Mock
+    private PendingExpiryService pendingExpiryService;
+
+    @Spy
+    private ConsumerStepMetrics stepMetrics = new ConsumerStepMetrics(new SimpleMeterRegistry());
+
     @InjectMocks
     private OrderQueueConsumer orderQueueConsumer;
 
     private PolicyProposal policyProposal;
-    private String messageBody;
+    private Message message;
 
     @BeforeEach
     void setUp() throws Exception {
@@ -70,7 +104,7 @@ class OrderQueueConsumerTest {
                 java.time.Instant.now()
         );
 
-        messageBody = "{\"id\":\"123\"}";
+        message = new Message("{\"id\":\"123\"}".getBytes(StandardCharsets.UTF_8), new MessageProperties());
     }
 
     @Test
@@ -83,21 +117,79 @@ class OrderQueueConsumerTest {
                 .occurrences(Collections.emptyList())
                 .build();
 
-        when(objectMapper.readValue(messageBody, PolicyProposal.class)).thenReturn(policyProposal);
+        when(messageDecoder.decode(message)).thenReturn(policyProposal);
         when(fraudCheckPort.analyzeFraud(any(PolicyProposal.class))).thenReturn(fraudResult);
         when(policyValidationService.validatePolicy(any(PolicyProposal.class), any(RiskClassification.class)))
                 .thenReturn(true);
+        when(orderEventPort.sendOrderApprovedEvent(any(PolicyProposal.class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
 
         // When
-        orderQueueConsumer.consumeMessage(messageBody);
+        orderQueueConsumer.consumeMessage(message);
 
         // Then
-        verify(objectMapper, times(1)).readValue(messageBody, PolicyProposal.class);
+        verify(messageDecoder, times(1)).decode(message);
         verify(fraudCheckPort, times(1)).analyzeFraud(policyProposal);
         verify(policyValidationService, times(1))
                 .validatePolicy(policyProposal, RiskClassification.REGULAR);
         verify(orderEventPort, times(1)).sendOrderApprovedEvent(any(PolicyProposal.class));
         verify(orderRepository, times(1)).save(any(PolicyProposal.class));
+        verify(orderRepository, timeout(1000)).markPublished(eq(policyProposal.getId()), any(Instant.class));
+        verify(pendingExpiryService).register(policyProposal);
+        verify(lifecycleMetrics).recordTransition(PolicyStatus.RECEIVED, policyProposal, null);
+        verify(stepMetrics).countMessage(ConsumerStepMetrics.Consumer.ORDER, true);
+    }
+
+    @Test
+    @DisplayName("Deve descartar a mensagem quando a proposta gravada já saiu de RECEIVED")
+    void shouldSkipInclusionWhenStoredProposalWasAlreadyProcessed() throws Exception {
+        // Given
+        PolicyProposal stored = policyProposal.toBuilder()
+                .history(new ArrayList<>(policyProposal.getHistory()))
+                .build();
+        stored.validate(java.time.Instant.now());
+        stored.markAsPending(java.time.Instant.now());
+        when(messageDecoder.decode(message)).thenReturn(policyProposal);
+        when(orderRepository.findById(policyProposal.getId())).thenReturn(Optional.of(stored));
+
+        // When
+        orderQueueConsumer.consumeMessage(message);
+
+        // Then
+        verify(fraudCheckPort, never()).analyzeFraud(any(PolicyProposal.class));
+        verify(orderRepository, never()).save(any(PolicyProposal.class));
+        verify(orderEventPort, never()).sendOrderApprovedEvent(any(PolicyProposal.class));
+        verify(stepMetrics).countMessage(ConsumerStepMetrics.Consumer.ORDER, true);
+    }
+
+    @Test
+    @DisplayName("Deve processar a cópia gravada da proposta e descartar a mensagem quando outra cópia gravou antes")
+    void shouldProcessStoredCopyAndSkipWhenConcurrentCopyWins() throws Exception {
+        // Given
+        PolicyProposal stored = policyProposal.toBuilder()
+                .history(new ArrayList<>(policyProposal.getHistory()))
+                .build();
+        stored.assignVersion(1);
+        FraudAnalysisResult fraudResult = FraudAnalysisResult.builder()
+                .orderId(policyProposal.getId().value())
+                .classification(RiskClassification.REGULAR)
+                .occurrences(Collections.emptyList())
+                .build();
+        when(messageDecoder.decode(message)).thenReturn(policyProposal);
+        when(orderRepository.findById(policyProposal.getId())).thenReturn(Optional.of(stored));
+        when(fraudCheckPort.analyzeFraud(stored)).thenReturn(fraudResult);
+        when(policyValidationService.validatePolicy(stored, RiskClassification.REGULAR)).thenReturn(true);
+        when(orderRepository.save(stored))
+                .thenThrow(new OptimisticLockingFailureException("Proposta mudou desde a versão 1"));
+
+        // When
+        orderQueueConsumer.consumeMessage(message);
+
+        // Then
+        verify(orderRepository).save(stored);
+        verify(orderEventPort, never()).sendOrderApprovedEvent(any(PolicyProposal.class));
+        verify(pendingExpiryService, never()).register(any(PolicyProposal.class));
+        verify(lifecycleMetrics, never()).recordTransition(any(), any(), any());
     }
 
     @Test
@@ -105,13 +197,13 @@ class OrderQueueConsumerTest {
     void shouldProcessCancellationWhenStatusIsCanceled() throws Exception {
         // Given
         policyProposal.cancel("Cliente solicitou", java.time.Instant.now());
-        when(objectMapper.readValue(messageBody, PolicyProposal.class)).thenReturn(policyProposal);
+        when(messageDecoder.decode(message)).thenReturn(policyProposal);
 
         // When
-        orderQueueConsumer.consumeMessage(messageBody);
+        orderQueueConsumer.consumeMessage(message);
 
         // Then
-        verify(objectMapper, times(1)).readValue(messageBody, PolicyProposal.class);
+        verify(messageDecoder, times(1)).decode(message);
         verify(fraudCheckPort, never()).analyzeFraud(any(PolicyProposal.class));
         verify(policyValidationService, never())
                 .validatePolicy(any(PolicyProposal.class), any(RiskClassification.class));
@@ -119,6 +211,28 @@ class OrderQueueConsumerTest {
         verify(orderRepository, never()).save(any(PolicyProposal.class));
     }
 
+    @Test
+    @DisplayName("Deve limpar do MDC os campos do resumo da mensagem, preservando os do tracing")
+    void shouldClearSummaryMdcAfterMessage() throws Exception {
+        // Given
+        policyProposal.cancel("Cliente solicitou", java.time.Instant.now());
+        when(messageDecoder.decode(message)).thenReturn(policyProposal);
+        MDC.put("traceId", "trace-1");
+
+        try {
+            // When
+            orderQueueConsumer.consumeMessage(message);
+
+            // Then
+            assertThat(MDC.get(OrderQueueConsumer.MDC_POLICY_ID)).isNull();
+            assertThat(MDC.get(OrderQueueConsumer.MDC_LANE)).isNull();
+            assertThat(MDC.get(OrderQueueConsumer.MDC_OUTCOME)).isNull();
+            assertThat(MDC.get("traceId")).isEqualTo("trace-1");
+        } finally {
+            MDC.remove("traceId");
+        }
+    }
+
     @Test
     @DisplayName("Deve rejeitar apólice quando validação falhar")
     void shouldRejectPolicyWhenValidationFails() throws Exception {
@@ -129,16 +243,16 @@ class OrderQueueConsumerTest {
                 .occurrences(Collections.emptyList())
                 .build();
 
-        when(objectMapper.readValue(messageBody, PolicyProposal.class)).thenReturn(policyProposal);
+        when(messageDecoder.decode(message)).thenReturn(policyProposal);
         when(fraudCheckPort.analyzeFraud(any(PolicyProposal.class))).thenReturn(fraudResult);
         when(policyValidationService.validatePolicy(any(PolicyProposal.class), any(RiskClassification.class)))
                 .thenReturn(false);
 
         // When
-        orderQueueConsumer.consumeMessage(messageBody);
+        orderQueueConsumer.consumeMessage(message);
 
         // Then
-        verify(objectMapper, times(1)).readValue(messageBody, PolicyProposal.class);
+        verify(messageDecoder, times(1)).decode(message);
         verify(fraudCheckPort, times(1)).analyzeFraud(policyProposal);
         verify(policyValidationService, times(1))
                 .validatePolicy(policyProposal, RiskClassification.HIGH_RISK);
@@ -150,15 +264,15 @@ class OrderQueueConsumerTest {
     @DisplayName("Deve lançar exceção quando desserialização falhar")
     void shouldThrowExceptionWhenDeserializationFails() throws Exception {
         // Given
-        when(objectMapper.readValue(messageBody, PolicyProposal.class))
+        when(messageDecoder.decode(message))
                 .thenThrow(new RuntimeException("Erro de desserialização"));
 
         // When/Then
-        assertThatThrownBy(() -> orderQueueConsumer.consumeMessage(messageBody))
+        assertThatThrownBy(() -> orderQueueConsumer.consumeMessage(message))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("Falha ao processar mensagem");
 
-        verify(objectMapper, times(1)).readValue(messageBody, PolicyProposal.class);
+        verify(messageDecoder, times(1)).decode(message);
         verify(fraudCheckPort, never()).analyzeFraud(any(PolicyProposal.class));
         verify(orderEventPort, never()).sendOrderApprovedEvent(any(PolicyProposal.class));
         verify(orderEventPort, never()).sendOrderCancelledEvent(any(PolicyProposal.class));
@@ -170,13 +284,13 @@ class OrderQueueConsumerTest {
         // Given
         policyProposal.validate(java.time.Instant.now());
         policyProposal.reject("Motivo de rejeição", java.time.Instant.now());
-        when(objectMapper.readValue(messageBody, PolicyProposal.class)).thenReturn(policyProposal);
+        when(messageDecoder.decode(message)).thenReturn(policyProposal);
 
         // When
-        orderQueueConsumer.consumeMessage(messageBody);
+        orderQueueConsumer.consumeMessage(message);
 
         // Then
-        verify(objectMapper, times(1)).readValue(messageBody, PolicyProposal.class);
+        verify(messageDecoder, times(1)).decode(message);
         verify(fraudCheckPort, never()).analyzeFraud(any(PolicyProposal.class));
         verify(policyValidationService, never())
                 .validatePolicy(any(PolicyProposal.class), any(RiskClassification.class));
@@ -194,17 +308,141 @@ class OrderQueueConsumerTest {
                 .occurrences(Collections.emptyList())
                 .build();
 
-        when(objectMapper.readValue(messageBody, PolicyProposal.class)).thenReturn(policyProposal);
+        when(messageDecoder.decode(message)).thenReturn(policyProposal);
         when(fraudCheckPort.analyzeFraud(any(PolicyProposal.class))).thenReturn(fraudResult);
         when(policyValidationService.validatePolicy(any(PolicyProposal.class), any(RiskClassification.class)))
                 .thenReturn(true);
+        when(orderEventPort.sendOrderApprovedEvent(any(PolicyProposal.class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
 
         // When
-        orderQueueConsumer.consumeMessage(messageBody);
+        orderQueueConsumer.consumeMessage(message);
 
         // Then
         verify(fraudCheckPort, times(1)).analyzeFraud(policyProposal);
         verify(orderEventPort, times(1)).sendOrderApprovedEvent(any(PolicyProposal.class));
         verify(orderRepository, times(1)).save(any(PolicyProposal.class));
     }
+
+    @Test
+    @DisplayName("Deve carregar proposta do cache local quando mensagem for claim-check")
+    void shouldLoadProposalFromCacheWhenClaimCheck() throws Exception {
+        // Given
+        ClaimCheckReference reference = new ClaimCheckReference(
+                policyProposal.getId(), PolicyStatus.RECEIVED, Category.AUTO, SalesChannel.MOBILE);
+        FraudAnalysisResult fraudResult = FraudAnalysisResult.builder()
+                .orderId(policyProposal.getId().value())
+                .classification(RiskClassification.REGULAR)
+                .occurrences(Collections.emptyList())
+                .build();
+
+        when(messageDecoder.isClaimCheck(message)).thenReturn(true);
+        when(messageDecoder.decodeClaimCheck(message)).thenReturn(reference);
+        when(claimCheckCache.take(policyProposal.getId())).thenReturn(Optional.of(policyProposal));
+        when(orderRepository.findById(policyProposal.getId())).thenReturn(Optional.of(policyProposal));
+        when(fraudCheckPort.analyzeFraud(any(PolicyProposal.class))).thenReturn(fraudResult);
+        when(policyValidationService.validatePolicy(any(PolicyProposal.class), any(RiskClassification.class)))
+                .thenReturn(true);
+        when(orderEventPort.sendOrderApprovedEvent(any(PolicyProposal.class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        orderQueueConsumer.consumeMessage(message);
+
+        // Then
+        verify(messageDecoder, never()).decode(message);
+        verify(orderRepository, times(1)).findById(policyProposal.getId());
+        verify(fraudCheckPort, times(1)).analyzeFraud(policyProposal);
+        verify(orderRepository, times(1)).save(policyProposal);
+    }
+
+    @Test
+    @DisplayName("Deve ler a proposta do claim-check uma única vez quando não estiver no cache local")
+    void shouldReadClaimCheckProposalOnceWhenCacheMisses() throws Exception {
+        // Given
+        ClaimCheckReference reference = new ClaimCheckReference(
+                policyProposal.getId(), PolicyStatus.RECEIVED, Category.AUTO, SalesChannel.MOBILE);
+        FraudAnalysisResult fraudResult = FraudAnalysisResult.builder()
+                .orderId(policyProposal.getId().value())
+                .classification(RiskClassification.REGULAR)
+                .occurrences(Collections.emptyList())
+                .build();
+
+        when(messageDecoder.isClaimCheck(message)).thenReturn(true);
+        when(messageDecoder.decodeClaimCheck(message)).thenReturn(reference);
+        when(claimCheckCache.take(policyProposal.getId())).thenReturn(Optional.empty());
+        when(orderRepository.findById(policyProposal.getId())).thenReturn(Optional.of(policyProposal));
+        when(fraudCheckPort.analyzeFraud(policyProposal)).thenReturn(fraudResult);
+        when(policyValidationService.validatePolicy(any(PolicyProposal.class), any(RiskClassification.class)))
+                .thenReturn(true);
+        when(orderEventPort.sendOrderApprovedEvent(any(PolicyProposal.class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        orderQueueConsumer.consumeMessage(message);
+
+        // Then
+        verify(orderRepository, times(1)).findById(policyProposal.getId());
+        verify(fraudCheckPort, times(1)).analyzeFraud(policyProposal);
+        verify(orderRepository, times(1)).save(policyProposal);
+    }
+
+    @Test
+    @DisplayName("Deve ignorar claim-check quando status da proposta no MongoDB mudou")
+    void shouldSkipClaimCheckWhenStoredStatusChanged() throws Exception {
+        // Given
+        ClaimCheckReference reference = new ClaimCheckReference(
+                policyProposal.getId(), PolicyStatus.RECEIVED, Category.AUTO, SalesChannel.MOBILE);
+        policyProposal.cancel("Cliente solicitou", java.time.Instant.now());
+
+        when(messageDecoder.isClaimCheck(message)).thenReturn(true);
+        when(messageDecoder.decodeClaimCheck(message)).thenReturn(reference);
+        when(claimCheckCache.take(policyProposal.getId())).thenReturn(Optional.empty());
+        when(orderRepository.findById(policyProposal.getId())).thenReturn(Optional.of(policyProposal));
+
+        // When
+        orderQueueConsumer.consumeMessage(message);
+
+        // Then
+        verify(fraudCheckPort, never()).analyzeFraud(any(PolicyProposal.class));
+        verify(orderEventPort, never()).sendOrderCancelledEvent(any(PolicyProposal.class));
+        verify(orderRepository, never()).save(any(PolicyProposal.class));
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando proposta do claim-check não existir")
+    void shouldThrowWhenClaimCheckProposalNotFound() throws Exception {
+        // Given
+        ClaimCheckReference reference = new ClaimCheckReference(
+                policyProposal.getId(), PolicyStatus.RECEIVED, Category.AUTO, SalesChannel.MOBILE);
+
+        when(messageDecoder.isClaimCheck(message)).thenReturn(true);
+        when(messageDecoder.decodeClaimCheck(message)).thenReturn(reference);
+        when(claimCheckCache.take(policyProposal.getId())).thenReturn(Optional.empty());
+        when(orderRepository.findById(policyProposal.getId())).thenReturn(Optional.empty());
+
+        // When/Then
+        assertThatThrownBy(() -> orderQueueConsumer.consumeMessage(message))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("Falha ao processar mensagem");
+
+        verify(fraudCheckPort, never()).analyzeFraud(any(PolicyProposal.class));
+    }
+
+    @Test
+    @DisplayName("Deve processar mensagem da raia prioritária e registrar latência na raia")
+    void shouldProcessPriorityLaneAndRecordLaneMetrics() throws Exception {
+        // Given
+        policyProposal.cancel("Cliente solicitou", java.time.Instant.now());
+        when(messageDecoder.isClaimCheck(message)).thenReturn(false);
+        when(messageDecoder.decode(message)).thenReturn(policyProposal);
+
+        // When
+        orderQueueConsumer.consumePriorityMessage(message);
+
+        // Then
+        verify(orderEventPort).sendOrderCancelledEvent(policyProposal);
+        verify(laneMetrics).recordQueueWait(ProcessingLane.PRIORITY, message);
+        verify(laneMetrics).recordProcessing(eq(ProcessingLane.PRIORITY), anyLong());
+    }
 }
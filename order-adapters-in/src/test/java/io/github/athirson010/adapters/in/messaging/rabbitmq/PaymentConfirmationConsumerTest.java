@@ -11,6 +11,7 @@ import io.github.athirson010.domain.enums.SalesChannel;
 import io.github.athirson010.domain.model.Money;
 import io.github.athirson010.domain.model.PolicyProposal;
 import io.github.athirson010.domain.model.PolicyProposalId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,6 +19,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
@@ -43,6 +45,12 @@ class PaymentConfirmationConsumerTest {
     @Mock
     private OrderRepository orderRepository;
 
+    @Mock
+    private PolicyLifecycleMetrics lifecycleMetrics;
+
+    @Spy
+    private ConsumerStepMetrics stepMetrics = new ConsumerStepMetrics(new SimpleMeterRegistry());
+
     @InjectMocks
     private PaymentConfirmationConsumer consumer;
 
@@ -107,6 +115,7 @@ class PaymentConfirmationConsumerTest {
         assertThat(savedProposal.isPaymentResponseReceived()).isTrue();
         assertThat(savedProposal.isPaymentConfirmed()).isTrue();
         assertThat(savedProposal.getFinishedAt()).isNotNull();
+        verify(lifecycleMetrics).recordTransition(PolicyStatus.PENDING, savedProposal, PolicyLifecycleMetrics.Response.PAYMENT);
     }
 
     @Test
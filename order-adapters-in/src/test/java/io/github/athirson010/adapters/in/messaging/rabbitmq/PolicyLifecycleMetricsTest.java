@@ -0,0 +1,129 @@
+package io.github.athirson010.adapters.in.messaging.rabbitmq;
+
+import io.github.athirson010.domain.enums.Category;
+import io.github.athirson010.domain.enums.PaymentMethod;
+import io.github.athirson010.domain.enums.PolicyStatus;
+import io.github.athirson010.domain.enums.SalesChannel;
+import io.github.athirson010.domain.model.Money;
+import io.github.athirson010.domain.model.PolicyProposal;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PolicyLifecycleMetrics - Testes Unitários")
+class PolicyLifecycleMetricsTest {
+
+    private static final Instant T0 = Instant.parse("2026-01-10T10:00:00Z");
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final PolicyLifecycleMetrics metrics = new PolicyLifecycleMetrics(registry,
+            List.of(Duration.ofSeconds(1), Duration.ofMinutes(1), Duration.ofHours(1)));
+
+    @Test
+    @DisplayName("Deve registrar RECEIVED→VALIDATED e VALIDATED→PENDING com categoria e canal")
+    void deveRegistrarEtapasDeValidacao() {
+        // Given
+        PolicyProposal proposal = newProposal();
+        proposal.validate(T0.plusMillis(300));
+        proposal.markAsPending(T0.plusMillis(500));
+
+        // When
+        metrics.recordTransition(PolicyStatus.RECEIVED, proposal, null);
+
+        // Then
+        Timer validated = stage("RECEIVED_TO_VALIDATED");
+        assertThat(validated.getId().getTag("category")).isEqualTo("AUTO");
+        assertThat(validated.getId().getTag("sales_channel")).isEqualTo("MOBILE");
+        assertThat(validated.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(300);
+        assertThat(stage("VALIDATED_TO_PENDING").totalTime(TimeUnit.MILLISECONDS)).isEqualTo(200);
+        assertThat(registry.find(PolicyLifecycleMetrics.METRIC_NAME).tag("stage", "PENDING_TO_FINAL").timer()).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve registrar VALIDATED→final quando a proposta é rejeitada pelas regras")
+    void deveRegistrarRejeicaoPorRegras() {
+        PolicyProposal proposal = newProposal();
+        proposal.validate(T0.plusMillis(100));
+        proposal.reject("Regra", T0.plusMillis(400));
+
+        metrics.recordTransition(PolicyStatus.RECEIVED, proposal, null);
+
+        Timer rejected = stage("VALIDATED_TO_FINAL");
+        assertThat(rejected.getId().getTag("outcome")).isEqualTo("REJECTED");
+        assertThat(rejected.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(300);
+        assertThat(registry.find(PolicyLifecycleMetrics.METRIC_NAME).tag("stage", "VALIDATED_TO_PENDING").timer()).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve registrar PENDING→final separado pela confirmação que chegou primeiro, com buckets de SLO")
+    void deveRegistrarPendenteAteFinalPorOrdemDeChegada() {
+        // Given: subscrição chega antes do pagamento
+        PolicyProposal proposal = pendingProposal();
+        proposal.processSubscriptionResponse(true, null, T0.plusSeconds(10));
+        metrics.recordTransition(PolicyStatus.PENDING, proposal, PolicyLifecycleMetrics.Response.SUBSCRIPTION);
+
+        // When
+        proposal.processPaymentResponse(true, null, T0.plusSeconds(90));
+        metrics.recordTransition(PolicyStatus.PENDING, proposal, PolicyLifecycleMetrics.Response.PAYMENT);
+
+        // Then
+        Timer timer = registry.get(PolicyLifecycleMetrics.METRIC_NAME)
+                .tag("stage", "PENDING_TO_FINAL")
+                .tag("outcome", "APPROVED")
+                .tag("first_response", "SUBSCRIPTION")
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.totalTime(TimeUnit.SECONDS)).isEqualTo(89);
+        CountAtBucket[] buckets = timer.takeSnapshot().histogramCounts();
+        assertThat(buckets).extracting(CountAtBucket::count).containsExactly(0.0, 0.0, 1.0);
+    }
+
+    @Test
+    @DisplayName("Deve atribuir a primeira resposta à própria confirmação em rejeição imediata")
+    void deveAtribuirPrimeiraRespostaNaRejeicaoImediata() {
+        PolicyProposal proposal = pendingProposal();
+        proposal.processPaymentResponse(false, "Saldo insuficiente", T0.plusSeconds(5));
+
+        metrics.recordTransition(PolicyStatus.PENDING, proposal, PolicyLifecycleMetrics.Response.PAYMENT);
+
+        assertThat(stage("PENDING_TO_FINAL").getId().getTag("first_response")).isEqualTo("PAYMENT");
+        assertThat(stage("PENDING_TO_FINAL").getId().getTag("outcome")).isEqualTo("REJECTED");
+    }
+
+    private Timer stage(String stage) {
+        return registry.get(PolicyLifecycleMetrics.METRIC_NAME).tag("stage", stage).timer();
+    }
+
+    private PolicyProposal pendingProposal() {
+        PolicyProposal proposal = newProposal();
+        proposal.validate(T0);
+        proposal.markAsPending(T0.plusSeconds(1));
+        return proposal;
+    }
+
+    private static PolicyProposal newProposal() {
+        return PolicyProposal.create(
+                UUID.randomUUID(),
+                "PROD-AUTO-2024",
+                Category.AUTO,
+                SalesChannel.MOBILE,
+                PaymentMethod.CREDIT_CARD,
+                Money.brl(BigDecimal.valueOf(350.00)),
+                Money.brl(BigDecimal.valueOf(200000.00)),
+                Map.of("COLISAO", Money.brl(BigDecimal.valueOf(200000.00))),
+                List.of("GUINCHO_24H"),
+                T0);
+    }
+}
@@ -0,0 +1,53 @@
+package io.github.athirson010.adapters.in.messaging.rabbitmq;
+
+import io.github.athirson010.domain.enums.ProcessingLane;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ProcessingLaneMetrics - Testes Unitários")
+class ProcessingLaneMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ProcessingLaneMetrics metrics = new ProcessingLaneMetrics(registry);
+
+    @Test
+    @DisplayName("Deve registrar espera na fila pelo cabeçalho de publicação, separado por raia")
+    void deveRegistrarEsperaPorRaia() {
+        // Given
+        MessageProperties properties = new MessageProperties();
+        properties.setHeader(ProcessingLaneMetrics.PUBLISHED_AT_HEADER, System.currentTimeMillis() - 2_000);
+
+        // When
+        metrics.recordQueueWait(ProcessingLane.BULK, new Message(new byte[0], properties));
+
+        // Then
+        assertThat(registry.get("policy.lane.queue.wait").tag("lane", "BULK").timer().count()).isEqualTo(1);
+        assertThat(registry.get("policy.lane.queue.wait").tag("lane", "BULK").timer().totalTime(TimeUnit.MILLISECONDS))
+                .isGreaterThanOrEqualTo(2_000);
+        assertThat(registry.get("policy.lane.queue.wait").tag("lane", "PRIORITY").timer().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve ignorar mensagens publicadas sem o cabeçalho")
+    void deveIgnorarMensagemSemCabecalho() {
+        metrics.recordQueueWait(ProcessingLane.STANDARD, new Message(new byte[0], new MessageProperties()));
+
+        assertThat(registry.get("policy.lane.queue.wait").tag("lane", "STANDARD").timer().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve registrar tempo de processamento por raia")
+    void deveRegistrarProcessamentoPorRaia() {
+        metrics.recordProcessing(ProcessingLane.PRIORITY, TimeUnit.MILLISECONDS.toNanos(150));
+
+        assertThat(registry.get("policy.lane.processing").tag("lane", "PRIORITY").timer().totalTime(TimeUnit.MILLISECONDS))
+                .isEqualTo(150);
+    }
+}
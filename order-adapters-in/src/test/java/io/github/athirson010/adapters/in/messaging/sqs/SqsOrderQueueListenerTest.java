@@ -0,0 +1,65 @@
+package io.github.athirson010.adapters.in.messaging.sqs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SqsOrderQueueListener - Testes Unitários")
+class SqsOrderQueueListenerTest {
+
+    private static final String SMILE_V1_CONTENT_TYPE = "application/vnd.policy-proposal.v1+smile";
+
+    @Test
+    @DisplayName("Deve decodificar o corpo Base64 e levar content-type e instante da publicação para a mensagem do consumer")
+    void deveConverterMensagemBinaria() {
+        // Given
+        byte[] smile = {0x3a, 0x29, 0x0a, 0x05};
+        Message message = Message.builder()
+                .messageId("m-1")
+                .body(Base64.getEncoder().encodeToString(smile))
+                .messageAttributes(Map.of(
+                        SqsOrderQueueListener.CONTENT_TYPE_ATTRIBUTE, string(SMILE_V1_CONTENT_TYPE),
+                        SqsOrderQueueListener.CONTENT_ENCODING_ATTRIBUTE, string(SqsOrderQueueListener.BASE64),
+                        SqsOrderQueueListener.PUBLISHED_AT_ATTRIBUTE, MessageAttributeValue.builder()
+                                .dataType("Number")
+                                .stringValue("1704880800000")
+                                .build()))
+                .build();
+
+        // When
+        org.springframework.amqp.core.Message converted = SqsOrderQueueListener.toAmqpMessage(message);
+
+        // Then
+        assertThat(converted.getBody()).isEqualTo(smile);
+        assertThat(converted.getMessageProperties().getContentType()).isEqualTo(SMILE_V1_CONTENT_TYPE);
+        assertThat(converted.getMessageProperties().getMessageId()).isEqualTo("m-1");
+        assertThat((Object) converted.getMessageProperties().getHeader(SqsOrderQueueListener.PUBLISHED_AT_ATTRIBUTE))
+                .isEqualTo(1704880800000L);
+    }
+
+    @Test
+    @DisplayName("Deve manter o corpo JSON como texto quando a mensagem não tem atributos")
+    void deveConverterMensagemJsonSemAtributos() {
+        // Given
+        Message message = Message.builder().messageId("m-2").body("{\"id\":\"1\"}").build();
+
+        // When
+        org.springframework.amqp.core.Message converted = SqsOrderQueueListener.toAmqpMessage(message);
+
+        // Then
+        assertThat(new String(converted.getBody(), StandardCharsets.UTF_8)).isEqualTo("{\"id\":\"1\"}");
+        assertThat((Object) converted.getMessageProperties().getHeader(SqsOrderQueueListener.PUBLISHED_AT_ATTRIBUTE))
+                .isNull();
+    }
+
+    private static MessageAttributeValue string(String value) {
+        return MessageAttributeValue.builder().dataType("String").stringValue(value).build();
+    }
+}
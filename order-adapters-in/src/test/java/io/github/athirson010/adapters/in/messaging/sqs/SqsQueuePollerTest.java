@@ -0,0 +1,138 @@
+package io.github.athirson010.adapters.in.messaging.sqs;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.GetQueueUrlRequest;
+import software.amazon.awssdk.services.sqs.model.GetQueueUrlResponse;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SqsQueuePoller - Testes Unitários")
+class SqsQueuePollerTest {
+
+    private static final String QUEUE = "order-payment-confirmation";
+    private static final String QUEUE_URL = "http://localhost:9324/000000000000/" + QUEUE;
+
+    @Mock
+    private SqsAsyncClient sqsClient;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<String> handled = new ArrayList<>();
+
+    @Test
+    @DisplayName("Deve receber até 10 mensagens com long polling e remover as processadas num único DeleteMessageBatch")
+    void deveReceberComLongPollingERemoverEmLote() {
+        // Given
+        List<Message> messages = IntStream.range(0, 10).mapToObj(i -> message("m-" + i, "{\"n\":" + i + "}")).toList();
+        when(sqsClient.receiveMessage(any(ReceiveMessageRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(ReceiveMessageResponse.builder().messages(messages).build()));
+        when(sqsClient.deleteMessageBatch(any(DeleteMessageBatchRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(DeleteMessageBatchResponse.builder().build()));
+        SqsQueuePoller poller = poller(message -> handled.add(message.body()));
+
+        // When
+        int processed = poller.poll();
+
+        // Then
+        assertThat(processed).isEqualTo(10);
+        assertThat(handled).hasSize(10);
+        ArgumentCaptor<ReceiveMessageRequest> receive = ArgumentCaptor.forClass(ReceiveMessageRequest.class);
+        verify(sqsClient).receiveMessage(receive.capture());
+        assertThat(receive.getValue().queueUrl()).isEqualTo(QUEUE_URL);
+        assertThat(receive.getValue().maxNumberOfMessages()).isEqualTo(10);
+        assertThat(receive.getValue().waitTimeSeconds()).isEqualTo(20);
+        ArgumentCaptor<DeleteMessageBatchRequest> delete = ArgumentCaptor.forClass(DeleteMessageBatchRequest.class);
+        verify(sqsClient).deleteMessageBatch(delete.capture());
+        assertThat(delete.getValue().entries()).extracting(DeleteMessageBatchRequestEntry::receiptHandle)
+                .containsExactlyElementsOf(messages.stream().map(Message::receiptHandle).toList());
+        assertThat(meterRegistry.get(SqsQueuePoller.REQUESTS_METRIC).tag("operation", "DeleteMessageBatch")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve manter na fila as mensagens cujo processamento falhou")
+    void deveManterNaFilaMensagensComFalha() {
+        // Given
+        when(sqsClient.receiveMessage(any(ReceiveMessageRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(ReceiveMessageResponse.builder()
+                        .messages(message("ok", "{}"), message("erro", "invalido"))
+                        .build()));
+        when(sqsClient.deleteMessageBatch(any(DeleteMessageBatchRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(DeleteMessageBatchResponse.builder().build()));
+        SqsQueuePoller poller = poller(message -> {
+            if (message.body().equals("invalido")) {
+                throw new RuntimeException("Falha ao processar mensagem de confirmação de pagamento");
+            }
+        });
+
+        // When
+        int processed = poller.poll();
+
+        // Then
+        assertThat(processed).isEqualTo(1);
+        ArgumentCaptor<DeleteMessageBatchRequest> delete = ArgumentCaptor.forClass(DeleteMessageBatchRequest.class);
+        verify(sqsClient).deleteMessageBatch(delete.capture());
+        assertThat(delete.getValue().entries()).extracting(DeleteMessageBatchRequestEntry::receiptHandle)
+                .containsExactly("rh-ok");
+        assertThat(meterRegistry.get(SqsQueuePoller.MESSAGES_METRIC).tag("outcome", "FAILED").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Não deve chamar DeleteMessageBatch quando o long polling volta vazio")
+    void naoDeveRemoverQuandoNaoRecebeMensagens() {
+        // Given
+        when(sqsClient.receiveMessage(any(ReceiveMessageRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(ReceiveMessageResponse.builder().build()));
+
+        // When
+        int processed = poller(message -> handled.add(message.body())).poll();
+
+        // Then
+        assertThat(processed).isZero();
+        verify(sqsClient, never()).deleteMessageBatch(any(DeleteMessageBatchRequest.class));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar long polling acima de 20 segundos")
+    void deveRejeitarLongPollingAcimaDoLimite() {
+        assertThatThrownBy(() -> new SqsQueuePoller(sqsClient, QUEUE, Duration.ofSeconds(30), message -> {
+        }, meterRegistry, Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private SqsQueuePoller poller(Consumer<Message> handler) {
+        when(sqsClient.getQueueUrl(any(GetQueueUrlRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(GetQueueUrlResponse.builder().queueUrl(QUEUE_URL).build()));
+        return new SqsQueuePoller(sqsClient, QUEUE, Duration.ofSeconds(20), handler, meterRegistry, Duration.ofSeconds(1));
+    }
+
+    private static Message message(String id, String body) {
+        return Message.builder().messageId(id).receiptHandle("rh-" + id).body(body).build();
+    }
+}
@@ -1,13 +1,23 @@
 package io.github.athirson010.adapters.in.web;
 
+import io.github.athirson010.adapters.in.web.admission.PolicyAdmissionControl;
+import io.github.athirson010.adapters.in.web.exception.RequestValidationException;
+import io.github.athirson010.adapters.in.web.exception.TooManyRequestsException;
 import io.github.athirson010.adapters.in.web.dto.CancelPolicyRequest;
 import io.github.athirson010.adapters.in.web.dto.CreatePolicyRequest;
+import io.github.athirson010.adapters.in.web.dto.PolicyProposalPageResponse;
+import io.github.athirson010.adapters.in.web.dto.PolicyStatisticsResponse;
 import io.github.athirson010.core.port.in.CreateOrderUseCase;
 import io.github.athirson010.domain.enums.Category;
 import io.github.athirson010.domain.enums.PaymentMethod;
+import io.github.athirson010.domain.enums.PolicyStatus;
 import io.github.athirson010.domain.model.Money;
 import io.github.athirson010.domain.model.PolicyProposal;
 import io.github.athirson010.domain.model.PolicyProposalId;
+import io.github.athirson010.domain.model.PolicyProposalPage;
+import io.github.athirson010.domain.model.PolicyProposalSummary;
+import io.github.athirson010.domain.model.PolicyStatusStatistics;
+import io.github.athirson010.domain.model.ProposalPageCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,15 +27,21 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -36,6 +52,9 @@ class PolicyRequestControllerTest {
     @Mock
     private CreateOrderUseCase createOrderUseCase;
 
+    @Mock
+    private PolicyAdmissionControl admissionControl;
+
     @InjectMocks
     private PolicyRequestController policyRequestController;
 
@@ -81,7 +100,7 @@ class PolicyRequestControllerTest {
                 .thenReturn(policyProposal);
 
         // When
-        ResponseEntity<?> response = policyRequestController.createPolicy(createRequest);
+        ResponseEntity<?> response = policyRequestController.createPolicy(createRequest, new MockHttpServletRequest());
 
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
@@ -90,6 +109,35 @@ class PolicyRequestControllerTest {
         verify(createOrderUseCase, times(1)).createPolicyRequest(any(PolicyProposal.class));
     }
 
+    @Test
+    @DisplayName("Deve rejeitar requisição inválida sem chamar o caso de uso")
+    void shouldRejectInvalidRequestWithoutCallingUseCase() {
+        // Given
+        createRequest.setCustomerId("invalido");
+
+        // When & Then
+        assertThatThrownBy(() -> policyRequestController.createPolicy(createRequest, new MockHttpServletRequest()))
+                .isInstanceOf(RequestValidationException.class);
+
+        verify(createOrderUseCase, never()).createPolicyRequest(any(PolicyProposal.class));
+    }
+
+    @Test
+    @DisplayName("Deve recusar criação quando o controle de admissão rejeita a requisição")
+    void shouldNotCallUseCaseWhenAdmissionIsRejected() {
+        // Given
+        MockHttpServletRequest httpRequest = new MockHttpServletRequest();
+        httpRequest.setRemoteAddr("10.0.0.7");
+        when(admissionControl.admit("address:10.0.0.7", io.github.athirson010.domain.enums.SalesChannel.MOBILE))
+                .thenThrow(new TooManyRequestsException("Limite de requisições excedido", Duration.ofSeconds(2)));
+
+        // When & Then
+        assertThatThrownBy(() -> policyRequestController.createPolicy(createRequest, httpRequest))
+                .isInstanceOf(TooManyRequestsException.class);
+
+        verify(createOrderUseCase, never()).createPolicyRequest(any(PolicyProposal.class));
+    }
+
     @Test
     @DisplayName("Deve cancelar proposta com sucesso")
     void shouldCancelPolicySuccessfully() {
@@ -173,4 +221,96 @@ class PolicyRequestControllerTest {
 
         verify(createOrderUseCase, times(1)).findPolicyRequestById(any(PolicyProposalId.class));
     }
+
+    @Test
+    @DisplayName("Deve listar propostas do cliente com cursor da próxima página")
+    void shouldListCustomerPoliciesWithNextCursor() {
+        // Given
+        UUID customerId = UUID.randomUUID();
+        PolicyProposalSummary summary = new PolicyProposalSummary(
+                policyId,
+                customerId,
+                "PROD-AUTO-2024",
+                Category.AUTO,
+                io.github.athirson010.domain.enums.SalesChannel.MOBILE,
+                PaymentMethod.CREDIT_CARD,
+                PolicyStatus.PENDING,
+                Money.brl(new BigDecimal("350.00")),
+                Money.brl(new BigDecimal("200000.00")),
+                java.time.Instant.parse("2024-01-10T10:00:00Z"),
+                null
+        );
+        ProposalPageCursor nextCursor = ProposalPageCursor.of(summary);
+        when(createOrderUseCase.listPolicyRequestsByCustomer(customerId, Set.of(PolicyStatus.PENDING), null, 1))
+                .thenReturn(new PolicyProposalPage(List.of(summary), nextCursor));
+
+        // When
+        ResponseEntity<PolicyProposalPageResponse> response = policyRequestController.listPolicies(
+                customerId.toString(), List.of("PENDING"), null, 1);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getItems()).hasSize(1);
+        assertThat(response.getBody().getItems().get(0).getPolicyRequestId()).isEqualTo(policyId.asString());
+        assertThat(response.getBody().getItems().get(0).getTotalMonthlyPremiumAmount()).isEqualTo("350.00");
+        assertThat(response.getBody().getNextCursor()).isEqualTo(nextCursor.asToken());
+    }
+
+    @Test
+    @DisplayName("Deve repassar cursor decodificado ao listar a próxima página")
+    void shouldDecodeCursorWhenListingNextPage() {
+        // Given
+        UUID customerId = UUID.randomUUID();
+        ProposalPageCursor cursor = new ProposalPageCursor(java.time.Instant.parse("2024-01-10T10:00:00Z"), policyId);
+        when(createOrderUseCase.listPolicyRequestsByCustomer(eq(customerId), eq(Set.of()), eq(cursor), eq(20)))
+                .thenReturn(PolicyProposalPage.empty());
+
+        // When
+        ResponseEntity<PolicyProposalPageResponse> response = policyRequestController.listPolicies(
+                customerId.toString(), null, cursor.asToken(), 20);
+
+        // Then
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getItems()).isEmpty();
+        assertThat(response.getBody().getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar cursor inválido ao listar propostas")
+    void shouldRejectInvalidCursor() {
+        // When/Then
+        assertThatThrownBy(() -> policyRequestController.listPolicies(
+                UUID.randomUUID().toString(), null, "cursor-invalido", 20))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verify(createOrderUseCase, never()).listPolicyRequestsByCustomer(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Deve retornar contadores de status com zero para status sem propostas")
+    void shouldReturnStatusStatistics() {
+        // Given
+        java.time.Instant hour = java.time.Instant.parse("2024-01-10T10:00:00Z");
+        TreeMap<java.time.Instant, Map<PolicyStatus, Long>> byHour = new TreeMap<>();
+        byHour.put(hour, Map.of(PolicyStatus.RECEIVED, 7L));
+        when(createOrderUseCase.getStatusStatistics(24)).thenReturn(new PolicyStatusStatistics(
+                Map.of(PolicyStatus.PENDING, 5L),
+                Map.of(Category.AUTO, Map.of(PolicyStatus.PENDING, 5L)),
+                Map.of(),
+                byHour));
+
+        // When
+        ResponseEntity<PolicyStatisticsResponse> response = policyRequestController.getStatistics(24);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getByStatus())
+                .containsEntry("PENDING", 5L)
+                .containsEntry("APPROVED", 0L)
+                .hasSize(PolicyStatus.values().length);
+        assertThat(response.getBody().getByCategory().get("AUTO")).containsEntry("PENDING", 5L);
+        assertThat(response.getBody().getHourly().get("2024-01-10T10:00:00Z")).containsEntry("RECEIVED", 7L);
+    }
 }
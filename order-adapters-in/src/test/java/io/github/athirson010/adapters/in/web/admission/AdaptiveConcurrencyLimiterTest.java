@@ -0,0 +1,64 @@
+package io.github.athirson010.adapters.in.web.admission;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AdaptiveConcurrencyLimiter - Testes Unitários")
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long THRESHOLD = 100_000_000L;
+
+    @Test
+    @DisplayName("Deve recusar acima do limite e liberar vaga ao concluir")
+    void deveRecusarAcimaDoLimite() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, THRESHOLD, 0.5);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+
+        limiter.release(THRESHOLD / 2);
+
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve aumentar o limite em 1 após uma janela de respostas rápidas")
+    void deveAumentarLimiteAditivamente() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 1, 10, THRESHOLD, 0.5);
+
+        for (int i = 0; i < 4; i++) {
+            limiter.tryAcquire();
+            limiter.release(THRESHOLD);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Deve reduzir o limite multiplicativamente com resposta lenta, sem passar do mínimo")
+    void deveReduzirLimiteMultiplicativamente() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 3, 10, THRESHOLD, 0.5);
+
+        limiter.tryAcquire();
+        limiter.release(THRESHOLD + 1);
+        assertThat(limiter.getLimit()).isEqualTo(4);
+
+        limiter.tryAcquire();
+        limiter.release(THRESHOLD + 1);
+        assertThat(limiter.getLimit()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar configuração inconsistente")
+    void deveRejeitarConfiguracaoInconsistente() {
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimiter(20, 1, 10, THRESHOLD, 0.5))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimiter(5, 1, 10, THRESHOLD, 1.0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
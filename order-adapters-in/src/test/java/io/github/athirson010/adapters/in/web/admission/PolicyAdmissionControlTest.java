@@ -0,0 +1,84 @@
+package io.github.athirson010.adapters.in.web.admission;
+
+import io.github.athirson010.adapters.in.web.exception.TooManyRequestsException;
+import io.github.athirson010.domain.enums.SalesChannel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("PolicyAdmissionControl - Testes Unitários")
+class PolicyAdmissionControlTest {
+
+    private static final String CLIENT = "address:10.0.0.7";
+
+    @Test
+    @DisplayName("Deve limitar pela identidade do cliente sem expor a chave na resposta")
+    void deveLimitarPorCliente() {
+        PolicyAdmissionControl admission = new PolicyAdmissionControl(
+                new TokenBucketRateLimiter(1, 1, 100), null, null);
+
+        admission.admit("address:10.0.0.7", SalesChannel.WEB).close();
+        admission.admit("user:parceiro-1", SalesChannel.WEB).close();
+
+        assertThatThrownBy(() -> admission.admit("address:10.0.0.7", SalesChannel.MOBILE))
+                .isInstanceOf(TooManyRequestsException.class)
+                .hasMessage("Limite de requisições excedido")
+                .satisfies(e -> assertThat(((TooManyRequestsException) e).getRetryAfter()).isPositive());
+        assertThatThrownBy(() -> admission.admit("user:parceiro-1", SalesChannel.WEB))
+                .isInstanceOf(TooManyRequestsException.class)
+                .hasMessageNotContaining("parceiro-1");
+    }
+
+    @Test
+    @DisplayName("Deve identificar o cliente pelo usuário autenticado ou pelo endereço da conexão, ignorando cabeçalhos")
+    void deveIdentificarClienteSemCabecalhoDeclarado() {
+        MockHttpServletRequest anonymous = new MockHttpServletRequest();
+        anonymous.setRemoteAddr("10.0.0.7");
+        anonymous.addHeader("X-Client-Id", "parceiro-1");
+        MockHttpServletRequest authenticated = new MockHttpServletRequest();
+        authenticated.setUserPrincipal(() -> "parceiro-1");
+
+        assertThat(PolicyAdmissionControl.clientKeyOf(anonymous)).isEqualTo("address:10.0.0.7");
+        assertThat(PolicyAdmissionControl.clientKeyOf(authenticated)).isEqualTo("user:parceiro-1");
+    }
+
+    @Test
+    @DisplayName("Deve recusar acima do limite de concorrência e liberar a vaga ao fechar a permissão")
+    void deveLiberarVagaAoFecharPermissao() {
+        AdaptiveConcurrencyLimiter concurrency = new AdaptiveConcurrencyLimiter(1, 1, 1, 1_000_000_000L, 0.5);
+        PolicyAdmissionControl admission = new PolicyAdmissionControl(null, concurrency, null);
+
+        PolicyAdmissionControl.Permit permit = admission.admit(CLIENT, SalesChannel.WEB);
+        assertThatThrownBy(() -> admission.admit(CLIENT, SalesChannel.WEB))
+                .isInstanceOf(TooManyRequestsException.class)
+                .satisfies(e -> assertThat(((TooManyRequestsException) e).getRetryAfter())
+                        .isEqualTo(PolicyAdmissionControl.CONCURRENCY_RETRY_AFTER));
+
+        permit.close();
+
+        assertThat(concurrency.getInFlight()).isZero();
+        admission.admit(CLIENT, SalesChannel.WEB).close();
+    }
+
+    @Test
+    @DisplayName("Deve descartar canal de baixa prioridade com o Retry-After do monitor de backlog")
+    void deveDescartarCanalQuandoBacklogAcimaDoOrcamento() {
+        QueueBacklogMonitor monitor = mock(QueueBacklogMonitor.class);
+        when(monitor.retryAfterIfShed(SalesChannel.OUTROS)).thenReturn(Optional.of(Duration.ofSeconds(12)));
+        PolicyAdmissionControl admission = new PolicyAdmissionControl(null, null, monitor);
+
+        admission.admit(CLIENT, SalesChannel.MOBILE).close();
+        assertThatThrownBy(() -> admission.admit(CLIENT, SalesChannel.OUTROS))
+                .isInstanceOf(TooManyRequestsException.class)
+                .satisfies(e -> assertThat(((TooManyRequestsException) e).getRetryAfter())
+                        .isEqualTo(Duration.ofSeconds(12)));
+    }
+}
@@ -0,0 +1,129 @@
+package io.github.athirson010.adapters.in.web.admission;
+
+import io.github.athirson010.core.port.out.OrderQueueBacklogPort;
+import io.github.athirson010.domain.enums.ProcessingLane;
+import io.github.athirson010.domain.enums.SalesChannel;
+import io.github.athirson010.domain.model.QueueBacklog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QueueBacklogMonitor - Testes Unitários")
+class QueueBacklogMonitorTest {
+
+    @Mock
+    private OrderQueueBacklogPort backlogPort;
+
+    private QueueBacklogMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        // Orçamento de 30s, volta ao normal abaixo de 24s
+        monitor = new QueueBacklogMonitor(backlogPort, Duration.ofSeconds(30), 0.8, Duration.ofSeconds(5),
+                Set.of(SalesChannel.OUTROS));
+    }
+
+    @Test
+    @DisplayName("Deve descartar apenas canais de baixa prioridade quando o lag passa do orçamento")
+    void deveDescartarCanaisDeBaixaPrioridade() {
+        // Given: 4000 mensagens a 100/s = 40s de lag
+        when(backlogPort.sample()).thenReturn(standard(4000, 2, 100));
+
+        // When
+        monitor.sample();
+
+        // Then
+        assertThat(monitor.getState()).isEqualTo(QueueBacklogMonitor.State.SHEDDING);
+        assertThat(monitor.retryAfterIfShed(SalesChannel.OUTROS)).contains(Duration.ofSeconds(16));
+        assertThat(monitor.retryAfterIfShed(SalesChannel.MOBILE)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve descartar pelo maior lag entre as raias, inclusive a BULK")
+    void deveDescartarPeloLagDaRaiaBulk() {
+        // Given: STANDARD em dia e BULK com 40s de lag
+        when(backlogPort.sample()).thenReturn(Map.of(
+                ProcessingLane.STANDARD, new QueueBacklog(10, 2, 100),
+                ProcessingLane.BULK, new QueueBacklog(4000, 1, 100)));
+
+        // When
+        monitor.sample();
+
+        // Then
+        assertThat(monitor.getState()).isEqualTo(QueueBacklogMonitor.State.SHEDDING);
+        assertThat(monitor.retryAfterIfShed(SalesChannel.OUTROS)).contains(Duration.ofSeconds(16));
+    }
+
+    @Test
+    @DisplayName("Deve manter o descarte até o lag cair abaixo da histerese")
+    void deveAplicarHisterese() {
+        when(backlogPort.sample()).thenReturn(
+                standard(4000, 2, 100),
+                standard(2800, 2, 100),
+                standard(2000, 2, 100));
+
+        monitor.sample();
+        monitor.sample();
+        assertThat(monitor.getState()).isEqualTo(QueueBacklogMonitor.State.SHEDDING);
+        assertThat(monitor.retryAfterIfShed(SalesChannel.OUTROS)).contains(Duration.ofSeconds(5));
+
+        monitor.sample();
+        assertThat(monitor.getState()).isEqualTo(QueueBacklogMonitor.State.NORMAL);
+        assertThat(monitor.retryAfterIfShed(SalesChannel.OUTROS)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve considerar fila sem consumo como lag infinito")
+    void deveTratarFilaSemConsumo() {
+        when(backlogPort.sample()).thenReturn(standard(10, 0, 0));
+
+        monitor.sample();
+
+        assertThat(monitor.retryAfterIfShed(SalesChannel.OUTROS)).contains(QueueBacklogMonitor.MAX_RETRY_AFTER);
+    }
+
+    @Test
+    @DisplayName("Deve liberar admissão quando o broker não responde")
+    void deveLiberarAdmissaoEmFalha() {
+        when(backlogPort.sample())
+                .thenReturn(standard(4000, 2, 100))
+                .thenThrow(new IllegalStateException("API de gerenciamento indisponível"));
+
+        monitor.sample();
+        monitor.sample();
+
+        assertThat(monitor.getState()).isEqualTo(QueueBacklogMonitor.State.NORMAL);
+    }
+
+    @Test
+    @DisplayName("Deve expor o estado de admissão como gauge")
+    void deveExporEstadoComoGauge() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        monitor.bindTo(registry);
+        when(backlogPort.sample()).thenReturn(standard(4000, 2, 100));
+
+        monitor.sample();
+
+        assertThat(registry.get("policy.admission.backlog.state").gauge().value()).isEqualTo(1.0);
+        assertThat(registry.get("policy.admission.backlog.queue.depth").tag("lane", "STANDARD").gauge().value())
+                .isEqualTo(4000.0);
+        assertThat(registry.get("policy.admission.backlog.lag").tag("lane", "STANDARD").gauge().value()).isEqualTo(40.0);
+        assertThat(registry.get("policy.admission.backlog.lag").tag("lane", "BULK").gauge().value()).isZero();
+    }
+
+    private static Map<ProcessingLane, QueueBacklog> standard(long depth, int consumers, double consumeRate) {
+        return Map.of(ProcessingLane.STANDARD, new QueueBacklog(depth, consumers, consumeRate));
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.athirson010.adapters.in.web.admission;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TokenBucketRateLimiter - Testes Unitários")
+class TokenBucketRateLimiterTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private final AtomicLong clock = new AtomicLong(5 * SECOND);
+
+    @Test
+    @DisplayName("Deve aceitar o burst e recusar a próxima requisição informando a espera")
+    void deveAceitarBurstERecusarExcedente() {
+        // Given: 10 req/s, burst 3
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 3, 100, clock::get);
+
+        // When & Then
+        assertThat(limiter.tryAcquire("parceiro")).isZero();
+        assertThat(limiter.tryAcquire("parceiro")).isZero();
+        assertThat(limiter.tryAcquire("parceiro")).isZero();
+        assertThat(limiter.tryAcquire("parceiro")).isEqualTo(SECOND / 10);
+    }
+
+    @Test
+    @DisplayName("Deve repor tokens com o passar do tempo")
+    void deveReporTokensComOTempo() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 1, 100, clock::get);
+        assertThat(limiter.tryAcquire("parceiro")).isZero();
+        assertThat(limiter.tryAcquire("parceiro")).isPositive();
+
+        clock.addAndGet(SECOND / 10);
+
+        assertThat(limiter.tryAcquire("parceiro")).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve manter buckets independentes por chave")
+    void deveManterBucketsIndependentes() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 1, 100, clock::get);
+
+        assertThat(limiter.tryAcquire("user:parceiro-1")).isZero();
+        assertThat(limiter.tryAcquire("user:parceiro-1")).isPositive();
+        assertThat(limiter.tryAcquire("address:10.0.0.7")).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve descartar chaves ociosas e usar bucket compartilhado quando todas estão ativas")
+    void deveLimitarQuantidadeDeChaves() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 1, 2, clock::get);
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("b");
+
+        // Todas ativas: a nova chave cai no bucket compartilhado
+        assertThat(limiter.tryAcquire("c")).isZero();
+        assertThat(limiter.tryAcquire("d")).isPositive();
+
+        // Depois de ociosas, as chaves antigas são descartadas
+        clock.addAndGet(2 * SECOND);
+        assertThat(limiter.tryAcquire("e")).isZero();
+        assertThat(limiter.trackedKeys()).isEqualTo(1);
+    }
+}
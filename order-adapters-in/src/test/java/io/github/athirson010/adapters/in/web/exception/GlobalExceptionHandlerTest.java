@@ -6,6 +6,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.core.MethodParameter;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BeanPropertyBindingResult;
@@ -13,6 +15,8 @@ import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -102,6 +106,54 @@ class GlobalExceptionHandlerTest {
                 .containsEntry("fieldName", "Campo obrigatório");
     }
 
+    @Test
+    @DisplayName("Deve retornar 400 com erros por campo ao tratar RequestValidationException")
+    void shouldReturn400ForRequestValidationException() {
+        RequestValidationException exception =
+                new RequestValidationException(Map.of("customerId", "ID do cliente é obrigatório"));
+
+        ResponseEntity<ErrorResponse> response =
+                globalExceptionHandler.handleRequestValidationException(exception);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getError()).isEqualTo("Validation Error");
+        assertThat(response.getBody().getMessage()).isEqualTo("Erro(s) de validação nos campos da requisição");
+        assertThat(response.getBody().getErrors())
+                .containsEntry("customerId", "ID do cliente é obrigatório");
+    }
+
+    @Test
+    @DisplayName("Deve retornar 429 com Retry-After arredondado para cima ao tratar TooManyRequestsException")
+    void shouldReturn429WithRetryAfter() {
+        TooManyRequestsException exception =
+                new TooManyRequestsException("Limite de requisições excedido", Duration.ofMillis(1200));
+
+        ResponseEntity<ErrorResponse> response = globalExceptionHandler.handleTooManyRequestsException(exception);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getStatus()).isEqualTo(429);
+        assertThat(response.getBody().getMessage()).isEqualTo("Limite de requisições excedido");
+    }
+
+    @Test
+    @DisplayName("Deve retornar 409 ao tratar conflito de versão na gravação da proposta")
+    void shouldReturn409ForOptimisticLockingFailure() {
+        OptimisticLockingFailureException exception =
+                new OptimisticLockingFailureException("Proposta test-id mudou desde a versão 2");
+
+        ResponseEntity<ErrorResponse> response =
+                globalExceptionHandler.handleOptimisticLockingFailureException(exception);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getStatus()).isEqualTo(409);
+        assertThat(response.getBody().getError()).isEqualTo("Conflict");
+        assertThat(response.getBody().getMessage()).contains("alterada por outra operação");
+    }
+
     @Test
     @DisplayName("Deve retornar 500 ao tratar Exception genérica")
     void shouldReturn500ForGenericException() {
@@ -0,0 +1,122 @@
+package io.github.athirson010.adapters.in.web.validation;
+
+import io.github.athirson010.adapters.in.web.dto.CreatePolicyRequest;
+import io.github.athirson010.adapters.in.web.exception.RequestValidationException;
+import io.github.athirson010.domain.enums.Category;
+import io.github.athirson010.domain.enums.PaymentMethod;
+import io.github.athirson010.domain.enums.PolicyStatus;
+import io.github.athirson010.domain.enums.SalesChannel;
+import io.github.athirson010.domain.model.PolicyProposal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+@DisplayName("CreatePolicyRequestParser - Testes Unitários")
+class CreatePolicyRequestParserTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-10T10:00:00Z");
+    private static final String CUSTOMER_ID = "adc56d77-348c-4bf0-908f-22d402ee715c";
+
+    @Test
+    @DisplayName("Deve converter requisição válida para o domínio")
+    void deveConverterRequisicaoValida() {
+        // When
+        PolicyProposal proposal = CreatePolicyRequestParser.parse(validRequest().build(), NOW);
+
+        // Then
+        assertThat(proposal.getCustomerId().toString()).isEqualTo(CUSTOMER_ID);
+        assertThat(proposal.getCategory()).isEqualTo(Category.AUTO);
+        assertThat(proposal.getSalesChannel()).isEqualTo(SalesChannel.MOBILE);
+        assertThat(proposal.getPaymentMethod()).isEqualTo(PaymentMethod.CREDIT_CARD);
+        assertThat(proposal.getTotalMonthlyPremiumAmount().amount()).isEqualByComparingTo("75.25");
+        assertThat(proposal.getInsuredAmount().amount()).isEqualByComparingTo("275000.50");
+        assertThat(proposal.getCoverages().get("Roubo").amount()).isEqualByComparingTo("100000.25");
+        assertThat(proposal.getAssistances()).containsExactly("Chaveiro 24h");
+        assertThat(proposal.getStatus()).isEqualTo(PolicyStatus.RECEIVED);
+        assertThat(proposal.getCreatedAt()).isEqualTo(NOW);
+    }
+
+    @Test
+    @DisplayName("Deve aceitar enums em minúsculas")
+    void deveAceitarEnumsEmMinusculas() {
+        PolicyProposal proposal = CreatePolicyRequestParser.parse(
+                validRequest().category("vida").salesChannel("web").paymentMethod("pix").build(), NOW);
+
+        assertThat(proposal.getCategory()).isEqualTo(Category.VIDA);
+        assertThat(proposal.getSalesChannel()).isEqualTo(SalesChannel.WEB);
+        assertThat(proposal.getPaymentMethod()).isEqualTo(PaymentMethod.PIX);
+    }
+
+    @Test
+    @DisplayName("Deve reportar todos os campos inválidos com as mensagens das anotações")
+    void deveReportarTodosOsCamposInvalidos() {
+        // Given
+        CreatePolicyRequest request = CreatePolicyRequest.builder()
+                .customerId("nao-e-uuid")
+                .productId(" ")
+                .category("MOTO")
+                .salesChannel(null)
+                .paymentMethod("CHEQUE")
+                .totalMonthlyPremiumAmount("abc")
+                .insuredAmount("-10")
+                .coverages(Map.of())
+                .assistances(null)
+                .build();
+
+        // When
+        RequestValidationException exception = catchThrowableOfType(
+                () -> CreatePolicyRequestParser.parse(request, NOW), RequestValidationException.class);
+
+        // Then
+        assertThat(exception.getErrors()).containsExactly(
+                Map.entry("customerId", "ID do cliente deve ser um UUID válido"),
+                Map.entry("productId", "ID do produto é obrigatório"),
+                Map.entry("category", "Categoria inválida. Valores aceitos: AUTO, VIDA, RESIDENCIAL, EMPRESARIAL, OUTROS"),
+                Map.entry("salesChannel", "Canal de vendas é obrigatório"),
+                Map.entry("paymentMethod", "Forma de pagamento inválida. Valores aceitos: CREDIT_CARD, DEBIT, BOLETO, PIX"),
+                Map.entry("totalMonthlyPremiumAmount", "Formato numérico inválido"),
+                Map.entry("insuredAmount", "Valor deve ser maior que zero"),
+                Map.entry("coverages", "Deve haver pelo menos uma cobertura"),
+                Map.entry("assistances", "Assistências são obrigatórias")
+        );
+    }
+
+    @Test
+    @DisplayName("Deve reportar a primeira cobertura inválida")
+    void deveReportarPrimeiraCoberturaInvalida() {
+        // Given
+        Map<String, String> coverages = new LinkedHashMap<>();
+        coverages.put("Roubo", "100000.25");
+        coverages.put("Colisão", "0");
+        coverages.put("Incêndio", "x");
+
+        // When
+        RequestValidationException exception = catchThrowableOfType(
+                () -> CreatePolicyRequestParser.parse(validRequest().coverages(coverages).build(), NOW),
+                RequestValidationException.class);
+
+        // Then
+        assertThat(exception.getErrors())
+                .containsOnly(Map.entry("coverages", "Valor da cobertura 'Colisão' deve ser maior que zero"));
+    }
+
+    private CreatePolicyRequest.CreatePolicyRequestBuilder validRequest() {
+        return CreatePolicyRequest.builder()
+                .customerId(CUSTOMER_ID)
+                .productId("1b2da7cc-b367-4196-8a78-9cfeec21f587")
+                .category("AUTO")
+                .salesChannel("MOBILE")
+                .paymentMethod("CREDIT_CARD")
+                .totalMonthlyPremiumAmount("75.25")
+                .insuredAmount("275000.50")
+                .coverages(Map.of("Roubo", "100000.25"))
+                .assistances(List.of("Chaveiro 24h"));
+    }
+}
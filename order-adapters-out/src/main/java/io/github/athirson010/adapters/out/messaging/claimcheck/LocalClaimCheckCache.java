@@ -0,0 +1,100 @@
+package io.github.athirson010.adapters.out.messaging.claimcheck;
+
+import io.github.athirson010.core.port.out.ClaimCheckCachePort;
+import io.github.athirson010.domain.model.PolicyProposal;
+import io.github.athirson010.domain.model.PolicyProposalId;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache em memória, limitado por quantidade e por tempo, das propostas enviadas por claim-check.
+ * <p>
+ * Guarda uma cópia da proposta: o consumer altera a instância recebida e a API continua usando a
+ * própria. Quando o cache está cheio e não há entradas expiradas, a proposta não é guardada e o
+ * consumer lê do MongoDB.
+ */
+@Slf4j
+@Component
+public class LocalClaimCheckCache implements ClaimCheckCachePort {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Duration ttl;
+    private final int maxEntries;
+
+    public LocalClaimCheckCache(
+            @Value("${rabbitmq.claim-check.local-cache.ttl:30s}") Duration ttl,
+            @Value("${rabbitmq.claim-check.local-cache.max-entries:1000}") int maxEntries) {
+        this.ttl = ttl;
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public void put(PolicyProposal policyProposal) {
+        if (maxEntries <= 0) {
+            return;
+        }
+
+        Instant now = Instant.now();
+        if (entries.size() >= maxEntries) {
+            entries.values().removeIf(entry -> entry.isExpired(now));
+            if (entries.size() >= maxEntries) {
+                log.debug("Cache de claim-check cheio. PolicyId={} será lida do MongoDB", policyProposal.getId().asString());
+                return;
+            }
+        }
+
+        entries.put(policyProposal.getId().asString(), new Entry(copyOf(policyProposal), now.plus(ttl)));
+    }
+
+    @Override
+    public Optional<PolicyProposal> take(PolicyProposalId id) {
+        Entry entry = entries.remove(id.asString());
+        if (entry == null || entry.isExpired(Instant.now())) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.proposal());
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private static PolicyProposal copyOf(PolicyProposal source) {
+        return PolicyProposal.builder()
+                .id(source.getId())
+                .customerId(source.getCustomerId())
+                .productId(source.getProductId())
+                .category(source.getCategory())
+                .salesChannel(source.getSalesChannel())
+                .paymentMethod(source.getPaymentMethod())
+                .totalMonthlyPremiumAmount(source.getTotalMonthlyPremiumAmount())
+                .insuredAmount(source.getInsuredAmount())
+                .coverages(new LinkedHashMap<>(source.getCoverages()))
+                .assistances(new ArrayList<>(source.getAssistances()))
+                .status(source.getStatus())
+                .createdAt(source.getCreatedAt())
+                .finishedAt(source.getFinishedAt())
+                .confirmationFlags(source.getConfirmationFlags())
+                .paymentRejectionReason(source.getPaymentRejectionReason())
+                .subscriptionRejectionReason(source.getSubscriptionRejectionReason())
+                .history(new ArrayList<>(source.getHistory()))
+                .version(source.getVersion())
+                .build();
+    }
+
+    private record Entry(PolicyProposal proposal, Instant expiresAt) {
+
+        boolean isExpired(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package io.github.athirson010.adapters.out.messaging.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.github.athirson010.domain.model.HistoryEntry;
+import io.github.athirson010.domain.model.Money;
+import io.github.athirson010.domain.model.PolicyProposal;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serializa {@link PolicyProposal} campo a campo com o {@link JsonGenerator}, sem introspecção
+ * de getters. Produz o mesmo JSON da serialização por bean (mesmos nomes de campos, {@code id}
+ * como {@code {"value": ...}}, datas ISO-8601 e nulos incluídos), então consumidores existentes
+ * continuam lendo as mensagens sem alteração.
+ * <p>
+ * No modo compacto (formato binário da fila order-service-consumer) omite nulos, flags
+ * {@code false} e versão 0, escreve o {@code id} como texto e as datas como segundos.nanos numéricos.
+ * O {@code PolicyProposalJsonDeserializer} lê as duas formas.
+ */
+public class PolicyProposalJsonSerializer extends StdSerializer<PolicyProposal> {
+
+    private final boolean compact;
+
+    public PolicyProposalJsonSerializer() {
+        this(false);
+    }
+
+    public PolicyProposalJsonSerializer(boolean compact) {
+        super(PolicyProposal.class);
+        this.compact = compact;
+    }
+
+    @Override
+    public void serialize(PolicyProposal proposal, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject();
+
+        writeId(gen, proposal);
+        writeString(gen, "customerId", proposal.getCustomerId() != null ? proposal.getCustomerId().toString() : null);
+        writeString(gen, "productId", proposal.getProductId());
+        writeString(gen, "category", proposal.getCategory() != null ? proposal.getCategory().name() : null);
+        writeString(gen, "salesChannel", proposal.getSalesChannel() != null ? proposal.getSalesChannel().name() : null);
+        writeString(gen, "paymentMethod", proposal.getPaymentMethod() != null ? proposal.getPaymentMethod().name() : null);
+        writeMoney(gen, "totalMonthlyPremiumAmount", proposal.getTotalMonthlyPremiumAmount());
+        writeMoney(gen, "insuredAmount", proposal.getInsuredAmount());
+        writeCoverages(gen, proposal.getCoverages());
+        writeAssistances(gen, proposal.getAssistances());
+        writeString(gen, "status", proposal.getStatus() != null ? proposal.getStatus().name() : null);
+        writeInstant(gen, "createdAt", proposal.getCreatedAt());
+        writeInstant(gen, "finishedAt", proposal.getFinishedAt());
+        writeFlag(gen, "paymentConfirmed", proposal.isPaymentConfirmed());
+        writeFlag(gen, "subscriptionConfirmed", proposal.isSubscriptionConfirmed());
+        writeFlag(gen, "paymentResponseReceived", proposal.isPaymentResponseReceived());
+        writeFlag(gen, "subscriptionResponseReceived", proposal.isSubscriptionResponseReceived());
+        if (!compact) {
+            // Máscara equivalente às quatro flags, mantida por paridade com a serialização por bean
+            gen.writeNumberField("confirmationFlags", proposal.getConfirmationFlags());
+        }
+        writeString(gen, "paymentRejectionReason", proposal.getPaymentRejectionReason());
+        writeString(gen, "subscriptionRejectionReason", proposal.getSubscriptionRejectionReason());
+        writeHistory(gen, proposal.getHistory());
+        if (!compact || proposal.getVersion() != 0) {
+            // Versão gravada no repositório: o consumer grava a partir dela
+            gen.writeNumberField("version", proposal.getVersion());
+        }
+
+        gen.writeEndObject();
+    }
+
+    private void writeId(JsonGenerator gen, PolicyProposal proposal) throws IOException {
+        if (proposal.getId() == null) {
+            writeNull(gen, "id");
+        } else if (compact) {
+            gen.writeStringField("id", proposal.getId().asString());
+        } else {
+            gen.writeFieldName("id");
+            gen.writeStartObject();
+            gen.writeStringField("value", proposal.getId().asString());
+            gen.writeEndObject();
+        }
+    }
+
+    private void writeMoney(JsonGenerator gen, String field, Money money) throws IOException {
+        if (money == null) {
+            writeNull(gen, field);
+            return;
+        }
+        gen.writeFieldName(field);
+        gen.writeStartObject();
+        gen.writeNumberField("amount", money.amount());
+        gen.writeStringField("currency", money.currency());
+        gen.writeEndObject();
+    }
+
+    private void writeCoverages(JsonGenerator gen, Map<String, Money> coverages) throws IOException {
+        gen.writeFieldName("coverages");
+        gen.writeStartObject();
+        for (Map.Entry<String, Money> coverage : coverages.entrySet()) {
+            writeMoney(gen, coverage.getKey(), coverage.getValue());
+        }
+        gen.writeEndObject();
+    }
+
+    private void writeAssistances(JsonGenerator gen, List<String> assistances) throws IOException {
+        gen.writeFieldName("assistances");
+        gen.writeStartArray();
+        for (String assistance : assistances) {
+            gen.writeString(assistance);
+        }
+        gen.writeEndArray();
+    }
+
+    private void writeHistory(JsonGenerator gen, List<HistoryEntry> history) throws IOException {
+        gen.writeFieldName("history");
+        gen.writeStartArray();
+        for (int index = 0; index < history.size(); index++) {
+            HistoryEntry entry = history.get(index);
+            gen.writeStartObject();
+            writeString(gen, "status", entry.status() != null ? entry.status().name() : null);
+            writeInstant(gen, "timestamp", entry.timestamp());
+            writeString(gen, "reason", entry.reason());
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+    }
+
+    private void writeInstant(JsonGenerator gen, String field, Instant instant) throws IOException {
+        if (instant == null) {
+            writeNull(gen, field);
+        } else if (compact) {
+            gen.writeNumberField(field, BigDecimal.valueOf(instant.getEpochSecond()).add(BigDecimal.valueOf(instant.getNano(), 9)));
+        } else {
+            gen.writeStringField(field, instant.toString());
+        }
+    }
+
+    private void writeString(JsonGenerator gen, String field, String value) throws IOException {
+        if (value == null) {
+            writeNull(gen, field);
+        } else {
+            gen.writeStringField(field, value);
+        }
+    }
+
+    private void writeFlag(JsonGenerator gen, String field, boolean value) throws IOException {
+        if (value || !compact) {
+            gen.writeBooleanField(field, value);
+        }
+    }
+
+    private void writeNull(JsonGenerator gen, String field) throws IOException {
+        if (!compact) {
+            gen.writeNullField(field);
+        }
+    }
+}
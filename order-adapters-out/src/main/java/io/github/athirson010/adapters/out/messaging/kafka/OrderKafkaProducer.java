@@ -4,6 +4,8 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.athirson010.core.port.out.OrderEventPort;
 import io.github.athirson010.domain.model.PolicyProposal;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -11,29 +13,39 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+
 @Slf4j
 @Profile("order-consumer")
 @Component
 @RequiredArgsConstructor
 public class OrderKafkaProducer implements OrderEventPort {
 
+    static final String SEND_METRIC = "policy.kafka.send";
+
     private final KafkaTemplate<String, String> kafkaTemplate;
     private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
 
     @Value("${kafka.topic.order}")
     private String orderTopic;
 
+    @Value("${kafka.topic.order.key-strategy:PROPOSAL}")
+    private OrderTopicKeyStrategy keyStrategy;
+
     @Override
-    public void sendOrderApprovedEvent(PolicyProposal policyProposal) {
+    public CompletableFuture<Void> sendOrderApprovedEvent(PolicyProposal policyProposal) {
         try {
             log.info("Enviando evento de apólice aprovada para Kafka. ID: {}",
                     policyProposal.getId().asString());
 
             String message = objectMapper.writeValueAsString(policyProposal);
-            String key = policyProposal.getId().asString();
+            String key = key(policyProposal);
 
-            kafkaTemplate.send(orderTopic, key, message)
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return kafkaTemplate.send(orderTopic, key, message)
                     .whenComplete((result, ex) -> {
+                        recordSend(sample, "APPROVED", ex);
                         if (ex == null) {
                             log.info("Evento de apólice aprovada enviado com sucesso para tópico: {}. ID: {}, Partition: {}, Offset: {}",
                                     orderTopic,
@@ -44,7 +56,8 @@ public class OrderKafkaProducer implements OrderEventPort {
                             log.error("Erro ao enviar evento de apólice aprovada para Kafka. ID: {}",
                                     policyProposal.getId().asString(), ex);
                         }
-                    });
+                    })
+                    .thenApply(result -> null);
 
         } catch (JsonProcessingException e) {
             log.error("Erro ao serializar proposta de apólice para JSON. ID: {}",
@@ -61,10 +74,12 @@ public class OrderKafkaProducer implements OrderEventPort {
                     policyProposal.getStatus());
 
             String message = objectMapper.writeValueAsString(policyProposal);
-            String key = policyProposal.getId().asString();
+            String key = key(policyProposal);
 
+            Timer.Sample sample = Timer.start(meterRegistry);
             kafkaTemplate.send(orderTopic, key, message)
                     .whenComplete((result, ex) -> {
+                        recordSend(sample, "CANCELED", ex);
                         if (ex == null) {
                             log.info("Evento de cancelamento enviado com sucesso para tópico: {}. ID: {}, Partition: {}, Offset: {}",
                                     orderTopic,
@@ -84,4 +99,26 @@ public class OrderKafkaProducer implements OrderEventPort {
             throw new RuntimeException("Falha ao serializar proposta de apólice cancelada para JSON", e);
         }
     }
+
+    /**
+     * Chave do registro conforme {@code kafka.topic.order.key-strategy}, que define a partição do evento.
+     */
+    private String key(PolicyProposal policyProposal) {
+        return keyStrategy.key(
+                policyProposal.getId().asString(),
+                policyProposal.getCustomerId() == null ? null : policyProposal.getCustomerId().toString(),
+                policyProposal.getCategory() == null ? null : policyProposal.getCategory().name());
+    }
+
+    /**
+     * Tempo entre o envio e a confirmação do broker, em {@code policy.kafka.send} (tags {@code event} e
+     * {@code outcome}).
+     */
+    private void recordSend(Timer.Sample sample, String event, Throwable ex) {
+        sample.stop(Timer.builder(SEND_METRIC)
+                .description("Tempo até a confirmação do envio do evento ao Kafka")
+                .tag("event", event)
+                .tag("outcome", ex == null ? "SUCCESS" : "ERROR")
+                .register(meterRegistry));
+    }
 }
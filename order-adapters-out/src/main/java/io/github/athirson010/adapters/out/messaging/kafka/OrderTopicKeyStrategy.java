@@ -0,0 +1,28 @@
+package io.github.athirson010.adapters.out.messaging.kafka;
+
+/**
+ * Chave dos registros do {@code order-topic} ({@code kafka.topic.order.key-strategy}). A chave define a partição,
+ * e portanto quais eventos um consumidor recebe juntos e em ordem.
+ * <p>
+ * Cliente e categoria não mudam ao longo da vida da proposta, então todas as estratégias com chave mantêm a ordem dos
+ * eventos de cada proposta. {@link #NONE} publica sem chave: o {@link StickyKeyPartitioner} enche um lote por vez
+ * (lotes maiores), mas eventos da mesma proposta podem cair em partições diferentes.
+ */
+public enum OrderTopicKeyStrategy {
+    PROPOSAL,
+    CUSTOMER,
+    CATEGORY,
+    NONE;
+
+    /**
+     * @return a chave do registro; sem cliente ou categoria, usa o ID da proposta
+     */
+    public String key(String policyId, String customerId, String category) {
+        return switch (this) {
+            case PROPOSAL -> policyId;
+            case CUSTOMER -> customerId != null ? customerId : policyId;
+            case CATEGORY -> category != null ? category : policyId;
+            case NONE -> null;
+        };
+    }
+}
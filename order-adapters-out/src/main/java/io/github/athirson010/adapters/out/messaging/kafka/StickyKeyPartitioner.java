@@ -0,0 +1,134 @@
+package io.github.athirson010.adapters.out.messaging.kafka;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.apache.kafka.clients.producer.Partitioner;
+import org.apache.kafka.common.Cluster;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.utils.Utils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Particionador do producer ({@code kafka.producer.sticky-partitioner=true}).
+ * <p>
+ * Registros com chave vão para {@code murmur2(chave) % partições}, a mesma conta do particionador padrão: a partição
+ * de uma chave não muda ao trocar de particionador e os consumidores podem prevê-la. Registros sem chave ficam na
+ * mesma partição (entre as disponíveis) até o producer fechar o lote e abrir outro ({@link #onNewBatch}), em vez de
+ * se espalharem em lotes pequenos.
+ * <p>
+ * Métricas por tópico: {@code policy.kafka.partition.records} (tag {@code partition}) e
+ * {@code policy.kafka.partition.skew}, a razão entre a partição mais carregada e a média (1.0 = distribuição
+ * uniforme). O {@code MeterRegistry} vem da configuração do producer em {@link #METER_REGISTRY_CONFIG}.
+ */
+public class StickyKeyPartitioner implements Partitioner {
+
+    public static final String METER_REGISTRY_CONFIG = "policy.partitioner.meter-registry";
+    static final String RECORDS_METRIC = "policy.kafka.partition.records";
+    static final String SKEW_METRIC = "policy.kafka.partition.skew";
+
+    private final Map<String, Integer> stickyPartitions = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLongArray> counts = new ConcurrentHashMap<>();
+    private MeterRegistry meterRegistry = Metrics.globalRegistry;
+
+    @Override
+    public void configure(Map<String, ?> configs) {
+        if (configs.get(METER_REGISTRY_CONFIG) instanceof MeterRegistry registry) {
+            meterRegistry = registry;
+        }
+    }
+
+    @Override
+    public int partition(String topic, Object key, byte[] keyBytes, Object value, byte[] valueBytes, Cluster cluster) {
+        int numPartitions = cluster.partitionCountForTopic(topic);
+        int partition = keyBytes == null
+                ? stickyPartitions.computeIfAbsent(topic, t -> choose(t, cluster, -1))
+                : Utils.toPositive(Utils.murmur2(keyBytes)) % numPartitions;
+        count(topic, numPartitions, partition, 1);
+        return partition;
+    }
+
+    /**
+     * O producer vai abrir um lote novo em {@code prevPartition} e chamar {@link #partition} de novo para o mesmo
+     * registro: a contagem anterior é desfeita e registros sem chave passam para outra partição.
+     */
+    @Override
+    @SuppressWarnings("deprecation")
+    public void onNewBatch(String topic, Cluster cluster, int prevPartition) {
+        count(topic, cluster.partitionCountForTopic(topic), prevPartition, -1);
+        stickyPartitions.computeIfPresent(topic,
+                (t, current) -> current == prevPartition ? choose(t, cluster, prevPartition) : current);
+    }
+
+    private static int choose(String topic, Cluster cluster, int previous) {
+        List<PartitionInfo> available = cluster.availablePartitionsForTopic(topic);
+        List<PartitionInfo> candidates = available.isEmpty() ? cluster.partitionsForTopic(topic) : available;
+        if (candidates.size() == 1) {
+            return candidates.get(0).partition();
+        }
+        int partition;
+        do {
+            partition = candidates.get(ThreadLocalRandom.current().nextInt(candidates.size())).partition();
+        } while (partition == previous);
+        return partition;
+    }
+
+    private void count(String topic, int numPartitions, int partition, int delta) {
+        AtomicLongArray topicCounts = counts.compute(topic, (t, current) -> {
+            if (current != null && current.length() >= numPartitions) {
+                return current;
+            }
+            int known = current == null ? 0 : current.length();
+            AtomicLongArray resized = new AtomicLongArray(numPartitions);
+            for (int i = 0; i < known; i++) {
+                resized.set(i, current.get(i));
+            }
+            if (current == null) {
+                Gauge.builder(SKEW_METRIC, () -> skew(t))
+                        .description("Razão entre a partição mais carregada e a média de registros por partição")
+                        .tag("topic", t)
+                        .register(meterRegistry);
+            }
+            for (int i = known; i < numPartitions; i++) {
+                int index = i;
+                Gauge.builder(RECORDS_METRIC, () -> counts.get(t).get(index))
+                        .description("Registros atribuídos a cada partição pelo producer")
+                        .tag("topic", t)
+                        .tag("partition", String.valueOf(index))
+                        .register(meterRegistry);
+            }
+            return resized;
+        });
+        if (partition >= 0 && partition < topicCounts.length()) {
+            topicCounts.addAndGet(partition, delta);
+        }
+    }
+
+    /**
+     * @return partição mais carregada / média por partição, ou 0 antes do primeiro registro
+     */
+    double skew(String topic) {
+        AtomicLongArray topicCounts = counts.get(topic);
+        if (topicCounts == null) {
+            return 0;
+        }
+        long total = 0;
+        long max = 0;
+        for (int i = 0; i < topicCounts.length(); i++) {
+            long count = topicCounts.get(i);
+            total += count;
+            max = Math.max(max, count);
+        }
+        return total <= 0 ? 0 : max / ((double) total / topicCounts.length());
+    }
+
+    @Override
+    public void close() {
+        stickyPartitions.clear();
+    }
+}
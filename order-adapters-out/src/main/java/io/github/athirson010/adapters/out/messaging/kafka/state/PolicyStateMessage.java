@@ -0,0 +1,14 @@
+package io.github.athirson010.adapters.out.messaging.kafka.state;
+
+import java.time.Instant;
+
+/**
+ * Valor do tópico compactado de estado ({@code kafka.topic.order-state}), com chave {@code policyId}.
+ * Um valor nulo (tombstone) indica que a proposta saiu da coleção quente.
+ */
+public record PolicyStateMessage(String policyId,
+                                 String customerId,
+                                 String category,
+                                 String status,
+                                 Instant changedAt) {
+}
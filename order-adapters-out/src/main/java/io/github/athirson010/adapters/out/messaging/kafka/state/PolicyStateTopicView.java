@@ -0,0 +1,203 @@
+package io.github.athirson010.adapters.out.messaging.kafka.state;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.athirson010.core.port.out.PolicyStateView;
+import io.github.athirson010.domain.enums.Category;
+import io.github.athirson010.domain.enums.PolicyStatus;
+import io.github.athirson010.domain.model.PolicyLatestState;
+import io.github.athirson010.domain.model.PolicyProposalId;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@link PolicyStateView} montada a partir do tópico compactado de estado ({@code kafka.topic.order-state}), para os
+ * serviços consumidores (pagamentos, subscrição) conhecerem o status atual das propostas na inicialização.
+ * <p>
+ * Lê todas as partições por {@code assign}, sem grupo de consumo nem commit de offsets: a cada inicialização o tópico
+ * é relido do início, o que a compactação mantém pequeno (um registro por proposta). A visão fica pronta quando a
+ * leitura alcança os offsets finais observados no início; depois segue aplicando as novas publicações. Tombstones
+ * removem a proposta; valores que não podem ser lidos são ignorados.
+ * <p>
+ * Uso: {@code new PolicyStateTopicView(new KafkaConsumer<>(PolicyStateTopicView.consumerConfig(servers)), topic,
+ * objectMapper)}, {@link #start()} e {@link #awaitReady(Duration)}. O {@code ObjectMapper} precisa do
+ * {@code JavaTimeModule}. O consumidor passa a pertencer à visão e é fechado por {@link #close()}.
+ */
+@Slf4j
+public class PolicyStateTopicView implements PolicyStateView, AutoCloseable {
+
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(500);
+
+    private final Consumer<String, String> consumer;
+    private final String topic;
+    private final ObjectMapper objectMapper;
+    private final Map<PolicyProposalId, PolicyLatestState> states = new ConcurrentHashMap<>();
+    private final CountDownLatch ready = new CountDownLatch(1);
+    private final ExecutorService executor;
+    private final AtomicBoolean started = new AtomicBoolean();
+    private volatile boolean running;
+
+    public PolicyStateTopicView(Consumer<String, String> consumer, String topic, ObjectMapper objectMapper) {
+        this.consumer = consumer;
+        this.topic = topic;
+        this.objectMapper = objectMapper;
+        this.executor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("policy-state-view-"));
+    }
+
+    /**
+     * Configuração do consumidor para a leitura completa do tópico: sem grupo, sem commit e com lotes grandes.
+     */
+    public static Map<String, Object> consumerConfig(String bootstrapServers) {
+        Map<String, Object> config = new HashMap<>();
+        config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 5000);
+        config.put(ConsumerConfig.MAX_PARTITION_FETCH_BYTES_CONFIG, 4 * 1024 * 1024);
+        return config;
+    }
+
+    /**
+     * Lê o tópico do início em uma thread própria e continua acompanhando as publicações até {@link #close()}.
+     */
+    public void start() {
+        if (!started.compareAndSet(false, true)) {
+            throw new IllegalStateException("Visão do tópico de estado já iniciada");
+        }
+        running = true;
+        executor.execute(() -> {
+            try {
+                bootstrap();
+                while (running) {
+                    poll();
+                }
+            } catch (WakeupException e) {
+                if (running) {
+                    throw e;
+                }
+            } catch (RuntimeException e) {
+                log.error("Falha ao ler o tópico de estado {}. A visão deixa de ser atualizada: {}",
+                        topic, e.getMessage(), e);
+            } finally {
+                consumer.close();
+            }
+        });
+    }
+
+    /**
+     * @return {@code true} se a visão ficou pronta dentro do prazo
+     */
+    public boolean awaitReady(Duration timeout) throws InterruptedException {
+        return ready.await(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Atribui todas as partições, volta ao início e lê até os offsets finais do momento da chamada.
+     */
+    void bootstrap() {
+        List<TopicPartition> partitions = consumer.partitionsFor(topic).stream()
+                .map(info -> new TopicPartition(info.topic(), info.partition()))
+                .toList();
+        consumer.assign(partitions);
+        consumer.seekToBeginning(partitions);
+        Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+
+        long startedNanos = System.nanoTime();
+        int records = 0;
+        while (!caughtUp(endOffsets)) {
+            records += poll();
+        }
+        ready.countDown();
+        log.info("Visão do tópico de estado {} pronta: {} proposta(s) a partir de {} registro(s) em {} ms",
+                topic, states.size(), records, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos));
+    }
+
+    int poll() {
+        int count = 0;
+        for (ConsumerRecord<String, String> record : consumer.poll(POLL_TIMEOUT)) {
+            apply(record);
+            count++;
+        }
+        return count;
+    }
+
+    private boolean caughtUp(Map<TopicPartition, Long> endOffsets) {
+        return endOffsets.entrySet().stream()
+                .allMatch(end -> consumer.position(end.getKey()) >= end.getValue());
+    }
+
+    private void apply(ConsumerRecord<String, String> record) {
+        if (record.key() == null) {
+            return;
+        }
+        try {
+            PolicyProposalId id = PolicyProposalId.from(record.key());
+            if (record.value() == null) {
+                states.remove(id);
+                return;
+            }
+            PolicyStateMessage message = objectMapper.readValue(record.value(), PolicyStateMessage.class);
+            if (message.status() == null) {
+                throw new IllegalArgumentException("registro sem status");
+            }
+            states.put(id, new PolicyLatestState(
+                    id,
+                    message.customerId() == null ? null : UUID.fromString(message.customerId()),
+                    message.category() == null ? null : Category.valueOf(message.category()),
+                    PolicyStatus.valueOf(message.status()),
+                    message.changedAt()));
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            log.warn("Registro ignorado no tópico de estado {}. Partition: {}, Offset: {}: {}",
+                    topic, record.partition(), record.offset(), e.getMessage());
+        }
+    }
+
+    @Override
+    public Optional<PolicyLatestState> find(PolicyProposalId id) {
+        return Optional.ofNullable(states.get(id));
+    }
+
+    @Override
+    public int size() {
+        return states.size();
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready.getCount() == 0;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        if (!started.get()) {
+            consumer.close();
+        } else {
+            consumer.wakeup();
+        }
+        executor.shutdown();
+        if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -1,30 +1,45 @@
 package io.github.athirson010.adapters.out.messaging.rabbitmq;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.athirson010.core.port.out.ClaimCheckCachePort;
 import io.github.athirson010.core.port.out.FraudQueuePort;
+import io.github.athirson010.domain.enums.ProcessingLane;
 import io.github.athirson010.domain.model.PolicyProposal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.MessageConversionException;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
 
 @Slf4j
-@Profile("api")
+@Profile("api & !sqs")
 @Component
 @RequiredArgsConstructor
 public class FraudQueueAdapter implements FraudQueuePort {
 
+    /**
+     * Instante da publicação em epoch millis, para o consumer medir o tempo de espera por raia. O timestamp
+     * nativo do AMQP tem resolução de segundos. Mesmo nome em {@code ProcessingLaneMetrics} (adapters-in).
+     */
+    static final String PUBLISHED_AT_HEADER = "x-published-at";
+
     private final RabbitTemplate rabbitTemplate;
-    private final ObjectMapper objectMapper;
+    private final PolicyProposalMessageConverter messageConverter;
+    private final ClaimCheckCachePort claimCheckCache;
+    private final ProcessingLaneRouter laneRouter;
 
     @Value("${rabbitmq.exchanges.order-integration}")
     private String exchange;
 
-    @Value("${rabbitmq.routing-keys.order}")
-    private String routingKey;
+    /**
+     * Mensagens maiores que o limite seguem por claim-check. {@code 0B} desabilita.
+     */
+    @Value("${rabbitmq.claim-check.threshold:0B}")
+    private DataSize claimCheckThreshold;
 
     @Override
     public void sendToFraudQueue(PolicyProposal policyProposal) {
@@ -33,15 +48,27 @@ public class FraudQueueAdapter implements FraudQueuePort {
                     policyProposal.getId().asString(),
                     policyProposal.getStatus());
 
-            String message = objectMapper.writeValueAsString(policyProposal);
+            Message message = messageConverter.toMessage(policyProposal, new MessageProperties());
+
+            if (exceedsClaimCheckThreshold(message)) {
+                log.info("Mensagem com {} bytes acima do limite de claim-check. Enviando referência. PolicyId={}",
+                        message.getBody().length,
+                        policyProposal.getId().asString());
+                claimCheckCache.put(policyProposal);
+                message = messageConverter.toClaimCheckMessage(policyProposal, new MessageProperties());
+            }
+
+            ProcessingLane lane = laneRouter.laneOf(policyProposal);
+            message.getMessageProperties().setHeader(PUBLISHED_AT_HEADER, System.currentTimeMillis());
 
-            rabbitTemplate.convertAndSend(exchange, routingKey, message);
+            rabbitTemplate.send(exchange, laneRouter.routingKey(lane), message);
 
-            log.info("Proposta enviada para order-service-consumer com sucesso. PolicyId={}, Status={}",
+            log.info("Proposta enviada para order-service-consumer com sucesso. PolicyId={}, Status={}, Raia={}",
                     policyProposal.getId().asString(),
-                    policyProposal.getStatus());
+                    policyProposal.getStatus(),
+                    lane);
 
-        } catch (JsonProcessingException e) {
+        } catch (MessageConversionException e) {
             log.error("Erro ao serializar PolicyProposal. PolicyId={}",
                     policyProposal.getId().asString(), e);
             throw new RuntimeException("Falha ao serializar PolicyProposal", e);
@@ -51,4 +78,10 @@ public class FraudQueueAdapter implements FraudQueuePort {
             throw new RuntimeException("Falha ao enviar mensagem para fila order-service-consumer", e);
         }
     }
+
+    private boolean exceedsClaimCheckThreshold(Message message) {
+        return claimCheckThreshold != null
+                && claimCheckThreshold.toBytes() > 0
+                && message.getBody().length > claimCheckThreshold.toBytes();
+    }
 }
@@ -0,0 +1,142 @@
+package io.github.athirson010.adapters.out.messaging.rabbitmq;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import io.github.athirson010.adapters.out.messaging.codec.PolicyProposalJsonSerializer;
+import io.github.athirson010.domain.model.PolicyProposal;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * Converte {@link PolicyProposal} diretamente para o corpo em bytes da mensagem AMQP.
+ * <p>
+ * Usa {@link ObjectMapper#writeValueAsBytes}, que escreve nos buffers reciclados do Jackson sem
+ * criar a {@code String} intermediária, com o serializador de {@code PolicyProposal} registrado
+ * no {@code ObjectMapper} da aplicação.
+ * <p>
+ * O formato é escolhido por {@code rabbitmq.wire-format.order-consumer}:
+ * <ul>
+ *     <li>{@code json}: JSON completo, igual à serialização por bean</li>
+ *     <li>{@code smile}: Smile binário com o serializador compacto, identificado pelo
+ *     {@code content-type} {@value #SMILE_V1_CONTENT_TYPE}</li>
+ * </ul>
+ * O {@code PolicyProposalMessageDecoder} do consumer escolhe o formato pelo {@code content-type},
+ * então mensagens JSON continuam sendo lidas durante a troca.
+ * <p>
+ * {@link #toClaimCheckMessage} gera a referência do claim-check ({@value #CLAIM_CHECK_V1_CONTENT_TYPE}):
+ * apenas o id e os campos usados no roteamento do consumer.
+ */
+@Component
+public class PolicyProposalMessageConverter implements MessageConverter {
+
+    /**
+     * Mesmo valor de {@code PolicyProposalMessageDecoder.SMILE_V1_CONTENT_TYPE}. Uma mudança
+     * incompatível no conteúdo compacto deve gerar uma nova versão.
+     */
+    public static final String SMILE_V1_CONTENT_TYPE = "application/vnd.policy-proposal.v1+smile";
+
+    /**
+     * Mesmo valor de {@code PolicyProposalMessageDecoder.CLAIM_CHECK_V1_CONTENT_TYPE}.
+     */
+    public static final String CLAIM_CHECK_V1_CONTENT_TYPE = "application/vnd.policy-proposal.claim-check.v1+json";
+
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper smileMapper;
+    private final WireFormat wireFormat;
+
+    public PolicyProposalMessageConverter(
+            ObjectMapper objectMapper,
+            @Value("${rabbitmq.wire-format.order-consumer:json}") String wireFormat) {
+        this.jsonMapper = objectMapper;
+        this.smileMapper = objectMapper
+                .copyWith(SmileFactory.builder()
+                        .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                        .build())
+                .registerModule(new SimpleModule("PolicyProposalSmileV1")
+                        .addSerializer(PolicyProposal.class, new PolicyProposalJsonSerializer(true)));
+        this.wireFormat = WireFormat.from(wireFormat);
+    }
+
+    @Override
+    public Message toMessage(Object object, MessageProperties messageProperties) {
+        if (!(object instanceof PolicyProposal policyProposal)) {
+            throw new MessageConversionException("Unsupported payload type: "
+                    + (object != null ? object.getClass().getName() : "null"));
+        }
+
+        byte[] body;
+        try {
+            body = (wireFormat == WireFormat.SMILE ? smileMapper : jsonMapper).writeValueAsBytes(policyProposal);
+        } catch (IOException e) {
+            throw new MessageConversionException("Failed to serialize PolicyProposal", e);
+        }
+
+        if (wireFormat == WireFormat.SMILE) {
+            messageProperties.setContentType(SMILE_V1_CONTENT_TYPE);
+        } else {
+            messageProperties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+            messageProperties.setContentEncoding(StandardCharsets.UTF_8.name());
+        }
+        messageProperties.setContentLength(body.length);
+        return new Message(body, messageProperties);
+    }
+
+    /**
+     * Referência da proposta já persistida: o consumer carrega o restante do MongoDB ou do cache local.
+     */
+    public Message toClaimCheckMessage(PolicyProposal policyProposal, MessageProperties messageProperties) {
+        ObjectNode reference = jsonMapper.createObjectNode()
+                .put("id", policyProposal.getId().asString())
+                .put("status", policyProposal.getStatus().name())
+                .put("category", policyProposal.getCategory() != null ? policyProposal.getCategory().name() : null)
+                .put("salesChannel", policyProposal.getSalesChannel() != null ? policyProposal.getSalesChannel().name() : null);
+
+        byte[] body;
+        try {
+            body = jsonMapper.writeValueAsBytes(reference);
+        } catch (IOException e) {
+            throw new MessageConversionException("Failed to serialize PolicyProposal claim-check", e);
+        }
+
+        messageProperties.setContentType(CLAIM_CHECK_V1_CONTENT_TYPE);
+        messageProperties.setContentEncoding(StandardCharsets.UTF_8.name());
+        messageProperties.setContentLength(body.length);
+        return new Message(body, messageProperties);
+    }
+
+    @Override
+    public PolicyProposal fromMessage(Message message) {
+        ObjectMapper reader = SMILE_V1_CONTENT_TYPE.equals(message.getMessageProperties().getContentType())
+                ? smileMapper
+                : jsonMapper;
+        try {
+            return reader.readValue(message.getBody(), PolicyProposal.class);
+        } catch (IOException e) {
+            throw new MessageConversionException("Failed to deserialize PolicyProposal", e);
+        }
+    }
+
+    enum WireFormat {
+        JSON, SMILE;
+
+        static WireFormat from(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(
+                        "rabbitmq.wire-format.order-consumer inválido: " + value + " (use json ou smile)", e);
+            }
+        }
+    }
+}
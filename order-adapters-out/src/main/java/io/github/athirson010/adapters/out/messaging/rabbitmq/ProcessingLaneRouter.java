@@ -0,0 +1,94 @@
+package io.github.athirson010.adapters.out.messaging.rabbitmq;
+
+import io.github.athirson010.domain.enums.Category;
+import io.github.athirson010.domain.enums.ProcessingLane;
+import io.github.athirson010.domain.enums.SalesChannel;
+import io.github.athirson010.domain.model.PolicyProposal;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Escolhe a raia de processamento da proposta e a routing key correspondente.
+ * <p>
+ * {@link ProcessingLane#PRIORITY} vale para categoria ou canal configurados como prioritários, ou capital
+ * segurado a partir de {@code rabbitmq.lanes.priority.min-insured-amount}; senão, categoria ou canal de
+ * {@code rabbitmq.lanes.bulk.*} vão para {@link ProcessingLane#BULK}; o resto segue na
+ * {@link ProcessingLane#STANDARD}, a fila order-service-consumer original. A raia depende só de dados que não
+ * mudam na proposta, então criação e cancelamento da mesma proposta caem na mesma fila e mantêm a ordem.
+ */
+@Profile("api")
+@Component
+public class ProcessingLaneRouter {
+
+    private final boolean enabled;
+    private final Set<Category> priorityCategories;
+    private final Set<SalesChannel> prioritySalesChannels;
+    private final BigDecimal priorityMinInsuredAmount;
+    private final Set<Category> bulkCategories;
+    private final Set<SalesChannel> bulkSalesChannels;
+    private final String priorityRoutingKey;
+    private final String standardRoutingKey;
+    private final String bulkRoutingKey;
+
+    @Autowired
+    public ProcessingLaneRouter(
+            @Value("${rabbitmq.lanes.enabled:false}") boolean enabled,
+            @Value("${rabbitmq.lanes.priority.categories:EMPRESARIAL,VIDA}") Set<Category> priorityCategories,
+            @Value("${rabbitmq.lanes.priority.sales-channels:}") Set<SalesChannel> prioritySalesChannels,
+            @Value("${rabbitmq.lanes.priority.min-insured-amount:1000000}") BigDecimal priorityMinInsuredAmount,
+            @Value("${rabbitmq.lanes.bulk.categories:OUTROS}") Set<Category> bulkCategories,
+            @Value("${rabbitmq.lanes.bulk.sales-channels:}") Set<SalesChannel> bulkSalesChannels,
+            @Value("${rabbitmq.routing-keys.order-priority}") String priorityRoutingKey,
+            @Value("${rabbitmq.routing-keys.order}") String standardRoutingKey,
+            @Value("${rabbitmq.routing-keys.order-bulk}") String bulkRoutingKey) {
+        this.enabled = enabled;
+        this.priorityCategories = copyOf(priorityCategories, Category.class);
+        this.prioritySalesChannels = copyOf(prioritySalesChannels, SalesChannel.class);
+        this.priorityMinInsuredAmount = priorityMinInsuredAmount;
+        this.bulkCategories = copyOf(bulkCategories, Category.class);
+        this.bulkSalesChannels = copyOf(bulkSalesChannels, SalesChannel.class);
+        this.priorityRoutingKey = priorityRoutingKey;
+        this.standardRoutingKey = standardRoutingKey;
+        this.bulkRoutingKey = bulkRoutingKey;
+    }
+
+    public ProcessingLane laneOf(PolicyProposal policyProposal) {
+        if (!enabled) {
+            return ProcessingLane.STANDARD;
+        }
+        if (priorityCategories.contains(policyProposal.getCategory())
+                || prioritySalesChannels.contains(policyProposal.getSalesChannel())
+                || isAtLeastPriorityAmount(policyProposal)) {
+            return ProcessingLane.PRIORITY;
+        }
+        if (bulkCategories.contains(policyProposal.getCategory())
+                || bulkSalesChannels.contains(policyProposal.getSalesChannel())) {
+            return ProcessingLane.BULK;
+        }
+        return ProcessingLane.STANDARD;
+    }
+
+    public String routingKey(ProcessingLane lane) {
+        return switch (lane) {
+            case PRIORITY -> priorityRoutingKey;
+            case STANDARD -> standardRoutingKey;
+            case BULK -> bulkRoutingKey;
+        };
+    }
+
+    private boolean isAtLeastPriorityAmount(PolicyProposal policyProposal) {
+        return priorityMinInsuredAmount != null
+                && policyProposal.getInsuredAmount() != null
+                && policyProposal.getInsuredAmount().amount().compareTo(priorityMinInsuredAmount) >= 0;
+    }
+
+    private static <E extends Enum<E>> Set<E> copyOf(Set<E> values, Class<E> type) {
+        return values == null || values.isEmpty() ? EnumSet.noneOf(type) : EnumSet.copyOf(values);
+    }
+}
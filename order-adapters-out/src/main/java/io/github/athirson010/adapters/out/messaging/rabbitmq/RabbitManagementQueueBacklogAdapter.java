@@ -0,0 +1,137 @@
+package io.github.athirson010.adapters.out.messaging.rabbitmq;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.athirson010.core.port.out.OrderQueueBacklogPort;
+import io.github.athirson010.domain.enums.ProcessingLane;
+import io.github.athirson010.domain.model.QueueBacklog;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Lê o backlog das filas das raias da order-service-consumer ({@link ProcessingLane}) pela API HTTP de
+ * gerenciamento do RabbitMQ ({@code GET /api/queues/{vhost}/{fila}}). Diferente de um {@code queueDeclarePassive},
+ * que só informa quantidade de mensagens e consumers, a API de gerenciamento traz também a taxa de consumo. Uma
+ * fila ainda não declarada (404, ex.: raias desligadas) fica fora da amostra.
+ * <p>
+ * Depende do plugin {@code rabbitmq_management}; só é criado com {@code policy.admission.backlog.enabled=true}.
+ * As credenciais vêm de {@code rabbitmq.management.username/password} ou, sem elas, das do
+ * {@code spring.rabbitmq}, sem usuário padrão.
+ */
+@Profile("api")
+@Component
+@ConditionalOnProperty(name = "policy.admission.backlog.enabled", havingValue = "true")
+public class RabbitManagementQueueBacklogAdapter implements OrderQueueBacklogPort {
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final Map<ProcessingLane, URI> queueUris;
+    private final String authorization;
+    private final Duration timeout;
+
+    @Autowired
+    public RabbitManagementQueueBacklogAdapter(ObjectMapper objectMapper,
+                                               @Value("${rabbitmq.management.url:http://localhost:15672}") String managementUrl,
+                                               @Value("${rabbitmq.management.username:${spring.rabbitmq.username}}") String username,
+                                               @Value("${rabbitmq.management.password:${spring.rabbitmq.password}}") String password,
+                                               @Value("${spring.rabbitmq.virtual-host:/}") String virtualHost,
+                                               @Value("${rabbitmq.queues.order-consumer-priority}") String priorityQueue,
+                                               @Value("${rabbitmq.queues.order-consumer}") String standardQueue,
+                                               @Value("${rabbitmq.queues.order-consumer-bulk}") String bulkQueue,
+                                               @Value("${rabbitmq.management.timeout:2s}") Duration timeout) {
+        this(HttpClient.newBuilder().connectTimeout(timeout).build(), objectMapper, managementUrl, username, password,
+                virtualHost, Map.of(
+                        ProcessingLane.PRIORITY, priorityQueue,
+                        ProcessingLane.STANDARD, standardQueue,
+                        ProcessingLane.BULK, bulkQueue),
+                timeout);
+    }
+
+    RabbitManagementQueueBacklogAdapter(HttpClient httpClient, ObjectMapper objectMapper, String managementUrl,
+                                        String username, String password, String virtualHost,
+                                        Map<ProcessingLane, String> queues, Duration timeout) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        String queuesUrl = managementUrl.replaceAll("/+$", "") + "/api/queues/" + encode(virtualHost) + "/";
+        this.queueUris = new EnumMap<>(ProcessingLane.class);
+        queues.forEach((lane, queue) -> queueUris.put(lane, URI.create(queuesUrl + encode(queue))));
+        this.authorization = "Basic " + Base64.getEncoder()
+                .encodeToString((username + ":" + password).getBytes(StandardCharsets.UTF_8));
+        this.timeout = timeout;
+    }
+
+    @Override
+    public Map<ProcessingLane, QueueBacklog> sample() {
+        Map<ProcessingLane, QueueBacklog> backlogs = new EnumMap<>(ProcessingLane.class);
+        queueUris.forEach((lane, queueUri) -> {
+            QueueBacklog backlog = sample(queueUri);
+            if (backlog != null) {
+                backlogs.put(lane, backlog);
+            }
+        });
+        return backlogs;
+    }
+
+    /**
+     * @return {@code null} quando a fila não existe
+     */
+    private QueueBacklog sample(URI queueUri) {
+        HttpRequest request = HttpRequest.newBuilder(queueUri)
+                .timeout(timeout)
+                .header("Authorization", authorization)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+
+        try {
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() == 404) {
+                return null;
+            }
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("API de gerenciamento do RabbitMQ respondeu "
+                        + response.statusCode() + " para " + queueUri);
+            }
+            return parse(objectMapper.readTree(response.body()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao consultar backlog da fila em " + queueUri, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Consulta de backlog da fila interrompida", e);
+        }
+    }
+
+    private QueueBacklog parse(JsonNode queue) {
+        JsonNode stats = queue.path("message_stats");
+        // Com ack manual a taxa de ack é o consumo efetivo; com auto-ack só existe a de entrega
+        double consumeRate = stats.path("ack_details").path("rate").asDouble(0);
+        if (consumeRate <= 0) {
+            consumeRate = stats.path("deliver_get_details").path("rate").asDouble(0);
+        }
+        return new QueueBacklog(
+                Math.max(0, queue.path("messages").asLong(0)),
+                Math.max(0, queue.path("consumers").asInt(0)),
+                Math.max(0, consumeRate)
+        );
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+}
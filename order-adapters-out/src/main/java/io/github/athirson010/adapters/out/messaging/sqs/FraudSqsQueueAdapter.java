@@ -0,0 +1,185 @@
+package io.github.athirson010.adapters.out.messaging.sqs;
+
+import io.github.athirson010.adapters.out.messaging.rabbitmq.PolicyProposalMessageConverter;
+import io.github.athirson010.adapters.out.messaging.rabbitmq.ProcessingLaneRouter;
+import io.github.athirson010.core.port.out.ClaimCheckCachePort;
+import io.github.athirson010.core.port.out.FraudQueuePort;
+import io.github.athirson010.domain.enums.ProcessingLane;
+import io.github.athirson010.domain.model.PolicyProposal;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * {@link FraudQueuePort} sobre SQS (profile {@code sqs}): publica na fila SQS da raia da proposta, com envios
+ * agrupados em {@code SendMessageBatch} pelo {@link SqsBatchSender}.
+ * <p>
+ * O corpo é o mesmo da fila RabbitMQ ({@link PolicyProposalMessageConverter}). Como o SQS só aceita texto, o formato
+ * Smile vai em Base64 ({@value #CONTENT_ENCODING_ATTRIBUTE} = {@value #BASE64}); o {@code content-type} e o instante
+ * da publicação vão em atributos da mensagem. Corpos acima do limite de claim-check, ou mensagens acima do limite
+ * do SQS ({@value #MAX_MESSAGE_BYTES} bytes somando corpo e atributos), seguem por claim-check.
+ */
+@Slf4j
+@Profile("api & sqs")
+@Component
+public class FraudSqsQueueAdapter implements FraudQueuePort, DisposableBean {
+
+    /**
+     * Mesmos nomes em {@code SqsOrderQueueListener} (adapters-in).
+     */
+    static final String CONTENT_TYPE_ATTRIBUTE = "contentType";
+    static final String CONTENT_ENCODING_ATTRIBUTE = "contentEncoding";
+    static final String PUBLISHED_AT_ATTRIBUTE = "x-published-at";
+    static final String BASE64 = "base64";
+    static final int MAX_MESSAGE_BYTES = 256 * 1024;
+
+    private final PolicyProposalMessageConverter messageConverter;
+    private final ClaimCheckCachePort claimCheckCache;
+    private final ProcessingLaneRouter laneRouter;
+    private final SqsBatchSender sender;
+    private final Map<ProcessingLane, String> queues = new EnumMap<>(ProcessingLane.class);
+    private final DataSize claimCheckThreshold;
+    private final Duration sendTimeout;
+
+    @Autowired
+    public FraudSqsQueueAdapter(SqsAsyncClient sqsClient,
+                                MeterRegistry meterRegistry,
+                                PolicyProposalMessageConverter messageConverter,
+                                ClaimCheckCachePort claimCheckCache,
+                                ProcessingLaneRouter laneRouter,
+                                @Value("${sqs.queues.order-consumer}") String standardQueue,
+                                @Value("${sqs.queues.order-consumer-priority}") String priorityQueue,
+                                @Value("${sqs.queues.order-consumer-bulk}") String bulkQueue,
+                                @Value("${rabbitmq.claim-check.threshold:0B}") DataSize claimCheckThreshold,
+                                @Value("${sqs.producer.max-batch-delay:10ms}") Duration maxBatchDelay,
+                                @Value("${sqs.producer.send-timeout:5s}") Duration sendTimeout) {
+        this(messageConverter, claimCheckCache, laneRouter, new SqsBatchSender(sqsClient, meterRegistry, maxBatchDelay),
+                standardQueue, priorityQueue, bulkQueue, claimCheckThreshold, sendTimeout);
+    }
+
+    FraudSqsQueueAdapter(PolicyProposalMessageConverter messageConverter,
+                         ClaimCheckCachePort claimCheckCache,
+                         ProcessingLaneRouter laneRouter,
+                         SqsBatchSender sender,
+                         String standardQueue,
+                         String priorityQueue,
+                         String bulkQueue,
+                         DataSize claimCheckThreshold,
+                         Duration sendTimeout) {
+        this.messageConverter = messageConverter;
+        this.claimCheckCache = claimCheckCache;
+        this.laneRouter = laneRouter;
+        this.sender = sender;
+        this.queues.put(ProcessingLane.STANDARD, standardQueue);
+        this.queues.put(ProcessingLane.PRIORITY, priorityQueue);
+        this.queues.put(ProcessingLane.BULK, bulkQueue);
+        this.claimCheckThreshold = claimCheckThreshold;
+        this.sendTimeout = sendTimeout;
+    }
+
+    @Override
+    public void sendToFraudQueue(PolicyProposal policyProposal) {
+        try {
+            log.debug("Enviando proposta de apólice para a fila SQS order-service-consumer. PolicyId={}, Status={}",
+                    policyProposal.getId().asString(),
+                    policyProposal.getStatus());
+
+            Message message = messageConverter.toMessage(policyProposal, new MessageProperties());
+            String body = body(message);
+            Map<String, MessageAttributeValue> attributes = attributes(message);
+
+            if (exceedsClaimCheckThreshold(message, body, attributes)) {
+                log.info("Mensagem com {} bytes acima do limite de claim-check. Enviando referência. PolicyId={}",
+                        message.getBody().length,
+                        policyProposal.getId().asString());
+                claimCheckCache.put(policyProposal);
+                message = messageConverter.toClaimCheckMessage(policyProposal, new MessageProperties());
+                body = body(message);
+                attributes = attributes(message);
+            }
+
+            ProcessingLane lane = laneRouter.laneOf(policyProposal);
+            sender.send(queues.get(lane), body, attributes)
+                    .get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+
+            log.info("Proposta enviada para order-service-consumer (SQS) com sucesso. PolicyId={}, Status={}, Raia={}",
+                    policyProposal.getId().asString(),
+                    policyProposal.getStatus(),
+                    lane);
+
+        } catch (MessageConversionException e) {
+            log.error("Erro ao serializar PolicyProposal. PolicyId={}",
+                    policyProposal.getId().asString(), e);
+            throw new RuntimeException("Falha ao serializar PolicyProposal", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Envio para fila order-service-consumer interrompido", e);
+        } catch (ExecutionException | TimeoutException e) {
+            log.error("Erro ao publicar mensagem no SQS. PolicyId={}",
+                    policyProposal.getId().asString(), e);
+            throw new RuntimeException("Falha ao enviar mensagem para fila order-service-consumer",
+                    e instanceof ExecutionException ? e.getCause() : e);
+        }
+    }
+
+    private static String body(Message message) {
+        return isBinary(message)
+                ? Base64.getEncoder().encodeToString(message.getBody())
+                : new String(message.getBody(), StandardCharsets.UTF_8);
+    }
+
+    private static boolean isBinary(Message message) {
+        return PolicyProposalMessageConverter.SMILE_V1_CONTENT_TYPE.equals(
+                message.getMessageProperties().getContentType());
+    }
+
+    private static Map<String, MessageAttributeValue> attributes(Message message) {
+        Map<String, MessageAttributeValue> attributes = new HashMap<>();
+        attributes.put(CONTENT_TYPE_ATTRIBUTE, string(message.getMessageProperties().getContentType()));
+        if (isBinary(message)) {
+            attributes.put(CONTENT_ENCODING_ATTRIBUTE, string(BASE64));
+        }
+        attributes.put(PUBLISHED_AT_ATTRIBUTE, MessageAttributeValue.builder()
+                .dataType("Number")
+                .stringValue(Long.toString(System.currentTimeMillis()))
+                .build());
+        return attributes;
+    }
+
+    private static MessageAttributeValue string(String value) {
+        return MessageAttributeValue.builder().dataType("String").stringValue(value).build();
+    }
+
+    private boolean exceedsClaimCheckThreshold(Message message, String body,
+                                               Map<String, MessageAttributeValue> attributes) {
+        boolean overThreshold = claimCheckThreshold != null
+                && claimCheckThreshold.toBytes() > 0
+                && message.getBody().length > claimCheckThreshold.toBytes();
+        return overThreshold || SqsBatchSender.messageBytes(body, attributes) > MAX_MESSAGE_BYTES;
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        sender.close();
+    }
+}
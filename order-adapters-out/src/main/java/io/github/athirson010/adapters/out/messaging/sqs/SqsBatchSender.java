@@ -0,0 +1,239 @@
+package io.github.athirson010.adapters.out.messaging.sqs;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.GetQueueUrlRequest;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Agrupa envios individuais em {@code SendMessageBatch} de até {@value #MAX_BATCH} mensagens por fila, sem passar de
+ * {@value #MAX_BATCH_BYTES} bytes somados por lote (corpo e atributos, como o SQS conta; acima disso o lote inteiro
+ * seria recusado com {@code BatchRequestTooLong}).
+ * <p>
+ * Cada {@link #send} entra numa fila local; uma thread espera a primeira mensagem, junta as que chegarem em até
+ * {@code maxBatchDelay} (ou até completar um lote) e envia um lote por fila de destino. O future de cada mensagem é
+ * completado com o resultado da sua entrada no lote, então quem chama continua recebendo a falha do seu envio.
+ * <p>
+ * Métrica: {@code policy.sqs.requests} (tags {@code queue} e {@code operation}), para comparar o número de
+ * chamadas com o de mensagens.
+ */
+@Slf4j
+public class SqsBatchSender implements AutoCloseable {
+
+    static final int MAX_BATCH = 10;
+    static final int MAX_BATCH_BYTES = 256 * 1024;
+    static final String REQUESTS_METRIC = "policy.sqs.requests";
+
+    /**
+     * Mensagens drenadas por ciclo: um lote cheio para cada fila de raia.
+     */
+    private static final int MAX_DRAIN = MAX_BATCH * 3;
+
+    private final SqsAsyncClient sqsClient;
+    private final MeterRegistry meterRegistry;
+    private final Duration maxBatchDelay;
+    private final BlockingQueue<Pending> pending = new LinkedBlockingQueue<>();
+    private final Map<String, String> queueUrls = new ConcurrentHashMap<>();
+    private final ExecutorService executor;
+    private volatile boolean running = true;
+
+    public SqsBatchSender(SqsAsyncClient sqsClient, MeterRegistry meterRegistry, Duration maxBatchDelay) {
+        this.sqsClient = sqsClient;
+        this.meterRegistry = meterRegistry;
+        this.maxBatchDelay = maxBatchDelay;
+        this.executor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("sqs-batch-sender-"));
+        this.executor.execute(this::loop);
+    }
+
+    /**
+     * @return completado quando o SQS confirma a mensagem, ou com a falha da sua entrada no lote
+     */
+    public CompletableFuture<Void> send(String queueName, String body, Map<String, MessageAttributeValue> attributes) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        if (!running) {
+            result.completeExceptionally(new IllegalStateException("SqsBatchSender encerrado"));
+            return result;
+        }
+        pending.add(new Pending(queueName, body, attributes, messageBytes(body, attributes), result));
+        return result;
+    }
+
+    /**
+     * Tamanho da mensagem como o SQS conta nos limites: corpo e, por atributo, nome, tipo e valor.
+     */
+    static int messageBytes(String body, Map<String, MessageAttributeValue> attributes) {
+        int bytes = utf8Length(body);
+        for (Map.Entry<String, MessageAttributeValue> attribute : attributes.entrySet()) {
+            MessageAttributeValue value = attribute.getValue();
+            bytes += utf8Length(attribute.getKey()) + utf8Length(value.dataType()) + utf8Length(value.stringValue());
+            if (value.binaryValue() != null) {
+                bytes += value.binaryValue().asByteArrayUnsafe().length;
+            }
+        }
+        return bytes;
+    }
+
+    private static int utf8Length(String value) {
+        return value == null ? 0 : value.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private void loop() {
+        while (running || !pending.isEmpty()) {
+            try {
+                List<Pending> batch = collect();
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Falha no envio em lote para o SQS", e);
+            }
+        }
+    }
+
+    /**
+     * Espera a primeira mensagem e junta as seguintes até completar um lote ou passar {@code maxBatchDelay}.
+     */
+    List<Pending> collect() throws InterruptedException {
+        List<Pending> batch = new ArrayList<>();
+        Pending first = pending.poll(200, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return batch;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + maxBatchDelay.toNanos();
+        while (batch.size() < MAX_BATCH) {
+            pending.drainTo(batch, MAX_DRAIN - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= MAX_BATCH || remaining <= 0) {
+                break;
+            }
+            Pending next = pending.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void flush(List<Pending> batch) {
+        Map<String, List<Pending>> byQueue = new LinkedHashMap<>();
+        for (Pending message : batch) {
+            byQueue.computeIfAbsent(message.queueName(), q -> new ArrayList<>()).add(message);
+        }
+        byQueue.forEach((queueName, messages) -> {
+            int from = 0;
+            int bytes = 0;
+            for (int i = 0; i < messages.size(); i++) {
+                int size = messages.get(i).bytes();
+                if (i > from && (i - from == MAX_BATCH || bytes + size > MAX_BATCH_BYTES)) {
+                    sendBatch(queueName, messages.subList(from, i));
+                    from = i;
+                    bytes = 0;
+                }
+                bytes += size;
+            }
+            sendBatch(queueName, messages.subList(from, messages.size()));
+        });
+    }
+
+    private void sendBatch(String queueName, List<Pending> messages) {
+        List<SendMessageBatchRequestEntry> entries = new ArrayList<>(messages.size());
+        for (int i = 0; i < messages.size(); i++) {
+            entries.add(SendMessageBatchRequestEntry.builder()
+                    .id(Integer.toString(i))
+                    .messageBody(messages.get(i).body())
+                    .messageAttributes(messages.get(i).attributes())
+                    .build());
+        }
+        String queueUrl;
+        try {
+            queueUrl = queueUrl(queueName);
+        } catch (RuntimeException e) {
+            messages.forEach(message -> message.result().completeExceptionally(e));
+            return;
+        }
+        countRequest(queueName, "SendMessageBatch");
+        sqsClient.sendMessageBatch(SendMessageBatchRequest.builder().queueUrl(queueUrl).entries(entries).build())
+                .whenComplete((response, ex) -> complete(queueName, messages, response, ex));
+    }
+
+    private void complete(String queueName, List<Pending> messages, SendMessageBatchResponse response, Throwable ex) {
+        if (ex != null) {
+            log.error("Falha no SendMessageBatch da fila {} com {} mensagem(ns)", queueName, messages.size(), ex);
+            messages.forEach(message -> message.result().completeExceptionally(ex));
+            return;
+        }
+        for (SendMessageBatchResultEntry entry : response.successful()) {
+            messages.get(Integer.parseInt(entry.id())).result().complete(null);
+        }
+        for (BatchResultErrorEntry entry : response.failed()) {
+            messages.get(Integer.parseInt(entry.id())).result().completeExceptionally(new IllegalStateException(
+                    String.format("SQS recusou a mensagem na fila %s: %s %s", queueName, entry.code(), entry.message())));
+        }
+    }
+
+    /**
+     * URL da fila, consultada uma vez por nome.
+     */
+    private String queueUrl(String queueName) {
+        return queueUrls.computeIfAbsent(queueName, name -> {
+            countRequest(name, "GetQueueUrl");
+            return sqsClient.getQueueUrl(GetQueueUrlRequest.builder().queueName(name).build()).join().queueUrl();
+        });
+    }
+
+    private void countRequest(String queueName, String operation) {
+        Counter.builder(REQUESTS_METRIC)
+                .description("Chamadas à API do SQS")
+                .tag("queue", queueName)
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Envia o que já está na fila local e encerra a thread.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        executor.shutdown();
+        if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+        Pending left;
+        while ((left = pending.poll()) != null) {
+            left.result().completeExceptionally(new IllegalStateException("SqsBatchSender encerrado"));
+        }
+    }
+
+    record Pending(String queueName, String body, Map<String, MessageAttributeValue> attributes, int bytes,
+                   CompletableFuture<Void> result) {
+    }
+}
@@ -0,0 +1,100 @@
+package io.github.athirson010.adapters.out.persistence.memory;
+
+import io.github.athirson010.core.port.out.ConfirmationChangelogPort;
+import io.github.athirson010.domain.model.PolicyProposal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Changelog do agregador de confirmações sobre o {@link PolicyProposalJournal}: um journal por partição, em
+ * {@code <diretório>/partition-NN}. Como cada partição só é gravada pela própria thread, os journals não disputam
+ * o mesmo lock.
+ * <p>
+ * A partição de uma proposta depende da quantidade de partições; por isso a inicialização falha se encontrar
+ * diretórios de partições além da configuração atual (reduzir {@code policy.confirmation-aggregator.partitions}
+ * exige esvaziar o agregador antes).
+ */
+@Slf4j
+@Component
+@Profile("confirmation-aggregator")
+@ConditionalOnProperty(name = "policy.confirmation-aggregator.changelog.enabled", havingValue = "true", matchIfMissing = true)
+public class ConfirmationChangelogAdapter implements ConfirmationChangelogPort, DisposableBean {
+
+    private static final String PARTITION_PREFIX = "partition-";
+
+    private final PolicyProposalJournal[] journals;
+
+    public ConfirmationChangelogAdapter(
+            @Value("${policy.confirmation-aggregator.partitions:8}") int partitions,
+            @Value("${policy.confirmation-aggregator.changelog.directory:data/confirmation-changelog}") Path directory,
+            @Value("${policy.confirmation-aggregator.changelog.segment-size:16MB}") DataSize segmentSize,
+            @Value("${policy.confirmation-aggregator.changelog.force:true}") boolean force) {
+        checkPartitions(directory, partitions);
+        this.journals = new PolicyProposalJournal[partitions];
+        for (int partition = 0; partition < partitions; partition++) {
+            journals[partition] = new PolicyProposalJournal(
+                    directory.resolve(partitionDirectory(partition)), segmentSize.toBytes(), force);
+        }
+        log.info("Changelog do agregador de confirmações em {} ({} partições)", directory, partitions);
+    }
+
+    @Override
+    public long replay(int partition, Consumer<PolicyProposal> sink) {
+        return journals[partition].replay(sink);
+    }
+
+    @Override
+    public void append(int partition, PolicyProposal proposal) {
+        journals[partition].append(proposal);
+    }
+
+    @Override
+    public void compact(int partition, Collection<PolicyProposal> proposals) {
+        journals[partition].compact(proposals);
+    }
+
+    @Override
+    public void destroy() {
+        for (PolicyProposalJournal journal : journals) {
+            journal.close();
+        }
+    }
+
+    private static void checkPartitions(Path directory, int partitions) {
+        if (partitions <= 0) {
+            throw new IllegalArgumentException("Quantidade de partições do agregador inválida: " + partitions);
+        }
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.matches(PARTITION_PREFIX + "\\d+"))
+                    .filter(name -> Integer.parseInt(name.substring(PARTITION_PREFIX.length())) >= partitions)
+                    .findFirst()
+                    .ifPresent(name -> {
+                        throw new IllegalStateException(String.format(
+                                "Changelog em %s tem a partição %s, acima das %d configuradas", directory, name, partitions));
+                    });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao listar as partições do changelog em " + directory, e);
+        }
+    }
+
+    private static String partitionDirectory(int partition) {
+        return String.format("%s%02d", PARTITION_PREFIX, partition);
+    }
+}
@@ -0,0 +1,421 @@
+package io.github.athirson010.adapters.out.persistence.memory;
+
+import io.github.athirson010.core.port.out.OrderRepository;
+import io.github.athirson010.domain.enums.Category;
+import io.github.athirson010.domain.enums.PolicyStatus;
+import io.github.athirson010.domain.enums.SalesChannel;
+import io.github.athirson010.domain.model.HistoryEntry;
+import io.github.athirson010.domain.model.PendingProposal;
+import io.github.athirson010.domain.model.PolicyProposal;
+import io.github.athirson010.domain.model.PolicyProposalId;
+import io.github.athirson010.domain.model.PolicyProposalPage;
+import io.github.athirson010.domain.model.PolicyProposalSummary;
+import io.github.athirson010.domain.model.PolicyStateMachine;
+import io.github.athirson010.domain.model.PolicyStatusStatistics;
+import io.github.athirson010.domain.model.ProposalPageCursor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Collectors;
+
+/**
+ * {@link OrderRepository} em memória para desenvolvimento, testes e instalações de borda sem MongoDB
+ * (perfil {@code in-memory}).
+ * <p>
+ * As propostas ficam em um {@link ConcurrentHashMap} por {@link PolicyProposalId}. Cada gravação decide a nova
+ * versão dentro de {@code compute} da chave, que trava apenas o bin daquela proposta: gravações de propostas
+ * diferentes seguem em paralelo e as da mesma proposta são serializadas junto com a atualização dos índices. O
+ * journal é gravado depois, fora do bin, para que a escrita em disco não segure a trava do mapa. O mapa guarda
+ * cópias, então leituras não veem alterações feitas depois pela API ou pelos consumers. Como no MongoDB, a gravação
+ * só substitui uma proposta cujo status armazenado possa levar ao novo ({@link PolicyStateMachine#canOverwrite}).
+ * <p>
+ * Índices secundários:
+ * <ul>
+ *     <li>por cliente: conjunto ordenado por (createdAt, id) decrescente, a mesma ordem do índice
+ *     {@code customer_created_id_idx} do MongoDB, percorrido a partir do cursor da página;</li>
+ *     <li>por status: ids das propostas em cada status, também usados nas contagens por status;</li>
+ *     <li>contadores por categoria e canal de venda e buckets de transições por hora, retidos pelo mesmo período
+ *     do TTL dos contadores do MongoDB.</li>
+ * </ul>
+ * Com {@code policy.persistence.memory.journal.enabled=true}, cada gravação também vai para o
+ * {@link PolicyProposalJournal}, lido e compactado na inicialização. Duas gravações da mesma proposta podem chegar ao
+ * journal fora de ordem; na leitura prevalece a de maior versão. Os buckets por hora são então reconstruídos pelo
+ * histórico das propostas.
+ */
+@Slf4j
+@Component
+@Profile("in-memory")
+public class OrderInMemoryAdapter implements OrderRepository, DisposableBean {
+
+    static final String SAVE_METRIC = "policy.memory.save";
+    static final String SIZE_METRIC = "policy.memory.proposals";
+
+    /**
+     * Mesma retenção dos buckets por hora no MongoDB ({@code PolicyStatusCounterEntity.HOURLY_RETENTION_SECONDS}).
+     */
+    static final Duration HOURLY_RETENTION = Duration.ofDays(8);
+
+    private static final Comparator<CustomerKey> NEWEST_FIRST = Comparator
+            .comparing(CustomerKey::createdAt)
+            .thenComparing(CustomerKey::id)
+            .reversed();
+
+    private static final Comparator<PendingProposal> PENDING_ORDER = Comparator
+            .comparing(PendingProposal::pendingSince)
+            .thenComparing(pending -> pending.id().asString());
+
+    private final Map<PolicyProposalId, PolicyProposal> proposals = new ConcurrentHashMap<>();
+    private final Map<UUID, NavigableSet<CustomerKey>> byCustomer = new ConcurrentHashMap<>();
+    private final Map<PolicyStatus, Set<PolicyProposalId>> byStatus = new EnumMap<>(PolicyStatus.class);
+    private final Map<Category, AtomicLongArray> byCategory = new EnumMap<>(Category.class);
+    private final Map<SalesChannel, AtomicLongArray> bySalesChannel = new EnumMap<>(SalesChannel.class);
+    private final ConcurrentSkipListMap<Instant, AtomicLongArray> byHour = new ConcurrentSkipListMap<>();
+
+    private final PolicyProposalJournal journal;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+
+    @Autowired
+    public OrderInMemoryAdapter(@Value("${policy.persistence.memory.journal.enabled:false}") boolean journalEnabled,
+                                @Value("${policy.persistence.memory.journal.directory:data/order-journal}") Path directory,
+                                @Value("${policy.persistence.memory.journal.segment-size:64MB}") DataSize segmentSize,
+                                @Value("${policy.persistence.memory.journal.force:false}") boolean force,
+                                MeterRegistry meterRegistry) {
+        this(journalEnabled ? new PolicyProposalJournal(directory, segmentSize.toBytes(), force) : null,
+                meterRegistry, Clock.systemUTC());
+    }
+
+    OrderInMemoryAdapter(PolicyProposalJournal journal, MeterRegistry meterRegistry, Clock clock) {
+        this.journal = journal;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        for (PolicyStatus status : PolicyStatus.values()) {
+            byStatus.put(status, ConcurrentHashMap.newKeySet());
+        }
+        for (Category category : Category.values()) {
+            byCategory.put(category, new AtomicLongArray(PolicyStatus.values().length));
+        }
+        for (SalesChannel salesChannel : SalesChannel.values()) {
+            bySalesChannel.put(salesChannel, new AtomicLongArray(PolicyStatus.values().length));
+        }
+        if (journal != null) {
+            recover();
+        }
+        Gauge.builder(SIZE_METRIC, proposals, Map::size)
+                .description("Propostas mantidas no repositório em memória")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Substitui a proposta se o status armazenado puder levar ao novo e ela ainda estiver na versão lida pela cópia
+     * ({@link PolicyProposal#getVersion()}); caso contrário lança {@link OptimisticLockingFailureException}. A nova
+     * versão é atribuída à proposta recebida.
+     * <p>
+     * Se a gravação no journal falhar, a proposta já está atualizada em memória e a falha é propagada; como cada
+     * registro tem o estado completo, a próxima gravação da proposta volta a cobri-la.
+     */
+    @Override
+    public PolicyProposal save(PolicyProposal policyProposal) {
+        log.debug("Salvando proposta de apólice em memória com ID: {}", policyProposal.getId().asString());
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "ERROR";
+        try {
+            PolicyProposal stored = copyOf(policyProposal);
+            Instant now = clock.instant();
+            proposals.compute(stored.getId(), (id, previous) -> {
+                if (previous != null && !PolicyStateMachine.canOverwrite(previous.getStatus(), stored.getStatus())) {
+                    throw new OptimisticLockingFailureException(String.format(
+                            "Proposta %s já está em %s e não permite gravar %s",
+                            id.asString(), previous.getStatus(), stored.getStatus()));
+                }
+                long currentVersion = previous != null ? previous.getVersion() : 0;
+                if (stored.getVersion() != currentVersion) {
+                    throw new OptimisticLockingFailureException(String.format(
+                            "Proposta %s está na versão %d, mas foi lida na versão %d",
+                            id.asString(), currentVersion, stored.getVersion()));
+                }
+                stored.assignVersion(currentVersion + 1);
+                index(previous, stored);
+                if (previous == null || previous.getStatus() != stored.getStatus()) {
+                    recordTransition(stored.getStatus(), now);
+                }
+                return stored;
+            });
+            if (journal != null) {
+                journal.append(stored);
+            }
+            policyProposal.assignVersion(stored.getVersion());
+            outcome = "SUCCESS";
+            return policyProposal;
+        } finally {
+            sample.stop(Timer.builder(SAVE_METRIC)
+                    .description("Tempo de gravação da proposta no repositório em memória")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public Optional<PolicyProposal> findById(PolicyProposalId id) {
+        return Optional.ofNullable(proposals.get(id)).map(OrderInMemoryAdapter::copyOf);
+    }
+
+    /**
+     * Percorre o índice do cliente a partir do cursor, na ordem (createdAt, id) decrescente, até preencher a página
+     * mais uma proposta, que só sinaliza a existência da próxima página.
+     */
+    @Override
+    public PolicyProposalPage findSummariesByCustomerId(UUID customerId,
+                                                        Set<PolicyStatus> statuses,
+                                                        ProposalPageCursor after,
+                                                        int limit) {
+        NavigableSet<CustomerKey> keys = byCustomer.get(customerId);
+        if (keys == null) {
+            return new PolicyProposalPage(List.of(), null);
+        }
+        if (after != null) {
+            keys = keys.tailSet(new CustomerKey(after.createdAt(), after.id().asString(), after.id()), false);
+        }
+
+        boolean anyStatus = statuses == null || statuses.isEmpty();
+        List<PolicyProposalSummary> items = new ArrayList<>(limit);
+        ProposalPageCursor nextCursor = null;
+        for (CustomerKey key : keys) {
+            PolicyProposal proposal = proposals.get(key.policyId());
+            if (proposal == null || !customerId.equals(proposal.getCustomerId())
+                    || !(anyStatus || statuses.contains(proposal.getStatus()))) {
+                continue;
+            }
+            if (items.size() == limit) {
+                nextCursor = ProposalPageCursor.of(items.get(limit - 1));
+                break;
+            }
+            items.add(toSummary(proposal));
+        }
+        return new PolicyProposalPage(items, nextCursor);
+    }
+
+    @Override
+    public PolicyStatusStatistics loadStatusStatistics(Instant hourlySince) {
+        Map<PolicyStatus, Long> statusCounts = new EnumMap<>(PolicyStatus.class);
+        byStatus.forEach((status, ids) -> statusCounts.put(status, (long) ids.size()));
+
+        Map<Category, Map<PolicyStatus, Long>> categoryCounts = new EnumMap<>(Category.class);
+        byCategory.forEach((category, counts) -> categoryCounts.put(category, toStatusCounts(counts)));
+        Map<SalesChannel, Map<PolicyStatus, Long>> salesChannelCounts = new EnumMap<>(SalesChannel.class);
+        bySalesChannel.forEach((salesChannel, counts) -> salesChannelCounts.put(salesChannel, toStatusCounts(counts)));
+
+        TreeMap<Instant, Map<PolicyStatus, Long>> hourCounts = new TreeMap<>();
+        if (hourlySince != null) {
+            byHour.headMap(clock.instant().minus(HOURLY_RETENTION)).clear();
+            byHour.tailMap(hourlySince, true).forEach((hour, counts) -> hourCounts.put(hour, toStatusCounts(counts)));
+        }
+        return new PolicyStatusStatistics(statusCounts, categoryCounts, salesChannelCounts, hourCounts);
+    }
+
+    /**
+     * Ordena as propostas do índice de PENDING por (pendingSince, id). Só é chamada na reconstrução dos prazos de
+     * expiração, então a ordenação a cada página não compensa um índice ordenado extra.
+     */
+    @Override
+    public List<PendingProposal> findPending(PendingProposal after, int limit) {
+        List<PendingProposal> pending = new ArrayList<>();
+        for (PolicyProposalId id : byStatus.get(PolicyStatus.PENDING)) {
+            PolicyProposal proposal = proposals.get(id);
+            Instant pendingSince = proposal == null ? null : proposal.pendingSince();
+            if (pendingSince != null) {
+                PendingProposal candidate = new PendingProposal(id, pendingSince);
+                if (after == null || PENDING_ORDER.compare(candidate, after) > 0) {
+                    pending.add(candidate);
+                }
+            }
+        }
+        pending.sort(PENDING_ORDER);
+        return pending.size() > limit ? List.copyOf(pending.subList(0, limit)) : pending;
+    }
+
+    /**
+     * Em memória {@code pendingSince} é sempre derivado do histórico da proposta: não há o que preencher.
+     */
+    @Override
+    public int backfillPendingSince(int limit) {
+        return 0;
+    }
+
+    /**
+     * Sem reconciliação em memória: a marca não é usada.
+     */
+    @Override
+    public void markQueued(PolicyProposalId id, Instant queuedAt) {
+    }
+
+    /**
+     * Sem reconciliação em memória: a marca não é usada.
+     */
+    @Override
+    public void markPublished(PolicyProposalId id, Instant publishedAt) {
+    }
+
+    @Override
+    public Set<PolicyProposalId> findPendingIds(Collection<PolicyProposalId> ids) {
+        Set<PolicyProposalId> pendingIds = byStatus.get(PolicyStatus.PENDING);
+        return ids.stream().filter(pendingIds::contains).collect(Collectors.toSet());
+    }
+
+    @Override
+    public void destroy() {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    /**
+     * Reaplica o journal (a gravação de maior versão de cada proposta prevalece; entre versões iguais, a última) e o
+     * reescreve só com o estado atual.
+     */
+    private void recover() {
+        Map<PolicyProposalId, PolicyProposal> recovered = new LinkedHashMap<>();
+        long records = journal.replay(proposal -> recovered.merge(proposal.getId(), proposal,
+                (current, next) -> next.getVersion() >= current.getVersion() ? next : current));
+
+        Instant retainedSince = clock.instant().minus(HOURLY_RETENTION);
+        for (PolicyProposal proposal : recovered.values()) {
+            proposals.put(proposal.getId(), proposal);
+            index(null, proposal);
+            for (HistoryEntry entry : proposal.getHistory()) {
+                if (entry.timestamp() != null && !entry.timestamp().isBefore(retainedSince)) {
+                    recordTransition(entry.status(), entry.timestamp());
+                }
+            }
+        }
+        journal.compact(recovered.values());
+        log.info("Repositório em memória recuperado do journal: {} proposta(s) a partir de {} registro(s)",
+                recovered.size(), records);
+    }
+
+    private void index(PolicyProposal previous, PolicyProposal current) {
+        CustomerKey currentKey = customerKeyOf(current);
+        if (previous != null) {
+            CustomerKey previousKey = customerKeyOf(previous);
+            if (previous.getCustomerId() != null
+                    && (!previous.getCustomerId().equals(current.getCustomerId()) || !previousKey.equals(currentKey))) {
+                byCustomer.get(previous.getCustomerId()).remove(previousKey);
+            }
+            byStatus.get(previous.getStatus()).remove(previous.getId());
+            count(previous, -1);
+        }
+        if (current.getCustomerId() != null) {
+            byCustomer.computeIfAbsent(current.getCustomerId(), customer -> new ConcurrentSkipListSet<>(NEWEST_FIRST))
+                    .add(currentKey);
+        }
+        byStatus.get(current.getStatus()).add(current.getId());
+        count(current, 1);
+    }
+
+    private void count(PolicyProposal proposal, int delta) {
+        int status = proposal.getStatus().ordinal();
+        if (proposal.getCategory() != null) {
+            byCategory.get(proposal.getCategory()).addAndGet(status, delta);
+        }
+        if (proposal.getSalesChannel() != null) {
+            bySalesChannel.get(proposal.getSalesChannel()).addAndGet(status, delta);
+        }
+    }
+
+    private void recordTransition(PolicyStatus status, Instant transitionAt) {
+        byHour.computeIfAbsent(transitionAt.truncatedTo(ChronoUnit.HOURS),
+                        hour -> new AtomicLongArray(PolicyStatus.values().length))
+                .incrementAndGet(status.ordinal());
+    }
+
+    private static Map<PolicyStatus, Long> toStatusCounts(AtomicLongArray counts) {
+        Map<PolicyStatus, Long> result = new EnumMap<>(PolicyStatus.class);
+        for (PolicyStatus status : PolicyStatus.values()) {
+            long count = counts.get(status.ordinal());
+            if (count != 0) {
+                result.put(status, count);
+            }
+        }
+        return result;
+    }
+
+    private static CustomerKey customerKeyOf(PolicyProposal proposal) {
+        Instant createdAt = proposal.getCreatedAt() != null ? proposal.getCreatedAt() : Instant.EPOCH;
+        return new CustomerKey(createdAt, proposal.getId().asString(), proposal.getId());
+    }
+
+    private static PolicyProposalSummary toSummary(PolicyProposal proposal) {
+        return new PolicyProposalSummary(
+                proposal.getId(),
+                proposal.getCustomerId(),
+                proposal.getProductId(),
+                proposal.getCategory(),
+                proposal.getSalesChannel(),
+                proposal.getPaymentMethod(),
+                proposal.getStatus(),
+                proposal.getTotalMonthlyPremiumAmount(),
+                proposal.getInsuredAmount(),
+                proposal.getCreatedAt(),
+                proposal.getFinishedAt());
+    }
+
+    private static PolicyProposal copyOf(PolicyProposal source) {
+        return PolicyProposal.builder()
+                .id(source.getId())
+                .customerId(source.getCustomerId())
+                .productId(source.getProductId())
+                .category(source.getCategory())
+                .salesChannel(source.getSalesChannel())
+                .paymentMethod(source.getPaymentMethod())
+                .totalMonthlyPremiumAmount(source.getTotalMonthlyPremiumAmount())
+                .insuredAmount(source.getInsuredAmount())
+                .coverages(new LinkedHashMap<>(source.getCoverages()))
+                .assistances(new ArrayList<>(source.getAssistances()))
+                .status(source.getStatus())
+                .createdAt(source.getCreatedAt())
+                .finishedAt(source.getFinishedAt())
+                .confirmationFlags(source.getConfirmationFlags())
+                .paymentRejectionReason(source.getPaymentRejectionReason())
+                .subscriptionRejectionReason(source.getSubscriptionRejectionReason())
+                .history(new ArrayList<>(source.getHistory()))
+                .version(source.getVersion())
+                .build();
+    }
+
+    /**
+     * Entrada do índice por cliente. O id em texto desempata na mesma ordem do {@code _id} no MongoDB.
+     */
+    private record CustomerKey(Instant createdAt, String id, PolicyProposalId policyId) {
+    }
+}
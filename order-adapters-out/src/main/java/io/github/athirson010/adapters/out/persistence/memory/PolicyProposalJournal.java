@@ -0,0 +1,193 @@
+package io.github.athirson010.adapters.out.persistence.memory;
+
+import io.github.athirson010.domain.model.PolicyProposal;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Journal append-only em arquivos mapeados em memória ({@code journal-<segmento>.log}), usado pelo
+ * {@link OrderInMemoryAdapter} para reconstruir o estado depois de uma queda.
+ * <p>
+ * Cada gravação da proposta vira um registro {@code [tamanho][crc32c][proposta]} no segmento atual; quando ele
+ * enche, um novo segmento é criado. A escrita vai para o page cache e sobrevive à queda do processo; com
+ * {@code force} cada registro é levado ao disco antes de retornar, o que cobre também queda da máquina ao custo
+ * de latência. Na leitura, um registro incompleto ou com CRC inválido encerra o segmento (escrita interrompida).
+ * <p>
+ * {@link #compact} reescreve o journal só com o estado atual e apaga os segmentos anteriores, o que limita o
+ * tamanho ao das propostas vivas mais as alterações desde a última compactação. As gravações são serializadas.
+ */
+@Slf4j
+public class PolicyProposalJournal implements AutoCloseable {
+
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final int HEADER_BYTES = Integer.BYTES * 2;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final boolean force;
+
+    private long segment;
+    private MappedByteBuffer buffer;
+
+    public PolicyProposalJournal(Path directory, long segmentSize, boolean force) {
+        if (segmentSize <= HEADER_BYTES || segmentSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Tamanho de segmento do journal inválido: " + segmentSize);
+        }
+        this.directory = directory;
+        this.segmentSize = (int) segmentSize;
+        this.force = force;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao criar o diretório do journal " + directory, e);
+        }
+    }
+
+    /**
+     * Entrega, em ordem de gravação, todas as propostas registradas nos segmentos existentes.
+     *
+     * @return quantidade de registros lidos
+     */
+    public synchronized long replay(Consumer<PolicyProposal> sink) {
+        long records = 0;
+        for (Path file : segments()) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                MappedByteBuffer segmentBuffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                records += replaySegment(file, segmentBuffer, sink);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Falha ao ler o segmento do journal " + file, e);
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Reescreve o journal com as propostas informadas, em segmentos novos, e apaga os anteriores. Uma queda no meio
+     * deixa os dois conjuntos de segmentos, que juntos reconstroem o mesmo estado.
+     */
+    public synchronized void compact(Iterable<PolicyProposal> proposals) {
+        List<Path> previous = segments();
+        segment = previous.isEmpty() ? 0 : segmentNumber(previous.get(previous.size() - 1));
+        openSegment(segment + 1);
+        for (PolicyProposal proposal : proposals) {
+            write(PolicyProposalJournalCodec.encode(proposal));
+        }
+        buffer.force();
+        for (Path file : previous) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Falha ao apagar segmento antigo do journal {}: {}", file, e.getMessage());
+            }
+        }
+    }
+
+    public synchronized void append(PolicyProposal proposal) {
+        if (buffer == null) {
+            throw new IllegalStateException("Journal não inicializado: execute compact antes de gravar");
+        }
+        write(PolicyProposalJournalCodec.encode(proposal));
+        if (force) {
+            buffer.force();
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (buffer != null) {
+            buffer.force();
+            buffer = null;
+        }
+    }
+
+    private void write(byte[] payload) {
+        int recordSize = HEADER_BYTES + payload.length;
+        if (recordSize > segmentSize) {
+            throw new IllegalArgumentException("Registro de " + recordSize + " bytes maior que o segmento do journal ("
+                    + segmentSize + " bytes)");
+        }
+        if (buffer.remaining() < recordSize) {
+            buffer.force();
+            openSegment(segment + 1);
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+        // O tamanho vai por último: até ele ser escrito, o leitor vê o fim do segmento e ignora o registro
+        int start = buffer.position();
+        buffer.position(start + Integer.BYTES);
+        buffer.putInt((int) crc.getValue());
+        buffer.put(payload);
+        buffer.putInt(start, payload.length);
+    }
+
+    private long replaySegment(Path file, MappedByteBuffer segmentBuffer, Consumer<PolicyProposal> sink) {
+        long records = 0;
+        while (segmentBuffer.remaining() >= HEADER_BYTES) {
+            int length = segmentBuffer.getInt();
+            if (length == 0) {
+                break;
+            }
+            int expectedCrc = segmentBuffer.getInt();
+            if (length < 0 || length > segmentBuffer.remaining()) {
+                log.warn("Registro incompleto no journal {} na posição {}. Leitura do segmento encerrada",
+                        file, segmentBuffer.position() - HEADER_BYTES);
+                break;
+            }
+            byte[] payload = new byte[length];
+            segmentBuffer.get(payload);
+            CRC32C crc = new CRC32C();
+            crc.update(payload);
+            if ((int) crc.getValue() != expectedCrc) {
+                log.warn("Registro com CRC inválido no journal {} na posição {}. Leitura do segmento encerrada",
+                        file, segmentBuffer.position() - HEADER_BYTES - length);
+                break;
+            }
+            sink.accept(PolicyProposalJournalCodec.decode(payload));
+            records++;
+        }
+        return records;
+    }
+
+    private void openSegment(long number) {
+        Path file = directory.resolve(String.format("%s%016d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX));
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+            segment = number;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao criar o segmento do journal " + file, e);
+        }
+        log.debug("Segmento do journal criado: {}", file);
+    }
+
+    private List<Path> segments() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .collect(ArrayList::new, List::add, List::addAll);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao listar os segmentos do journal em " + directory, e);
+        }
+    }
+
+    private static long segmentNumber(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+}
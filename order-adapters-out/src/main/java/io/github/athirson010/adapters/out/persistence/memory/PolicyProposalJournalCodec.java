@@ -0,0 +1,196 @@
+package io.github.athirson010.adapters.out.persistence.memory;
+
+import io.github.athirson010.domain.enums.Category;
+import io.github.athirson010.domain.enums.PaymentMethod;
+import io.github.athirson010.domain.enums.PolicyStatus;
+import io.github.athirson010.domain.enums.SalesChannel;
+import io.github.athirson010.domain.model.HistoryEntry;
+import io.github.athirson010.domain.model.Money;
+import io.github.athirson010.domain.model.PolicyProposal;
+import io.github.athirson010.domain.model.PolicyProposalId;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Formato binário da proposta no journal do {@link OrderInMemoryAdapter}: todos os campos, inclusive a máscara de
+ * confirmações ({@code PolicyStateMachine}) e o histórico completo. Enums são gravados pelo nome, então novos valores
+ * não invalidam registros antigos. O primeiro byte é a versão do formato; o formato 2 acrescenta ao final a versão da
+ * proposta (controle de concorrência), lida como 0 nos registros do formato 1.
+ */
+final class PolicyProposalJournalCodec {
+
+    private static final byte VERSION = 2;
+    private static final byte VERSION_WITHOUT_PROPOSAL_VERSION = 1;
+
+    private PolicyProposalJournalCodec() {
+    }
+
+    static byte[] encode(PolicyProposal proposal) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            writeUuid(out, proposal.getId().value());
+            writeNullableUuid(out, proposal.getCustomerId());
+            writeNullableString(out, proposal.getProductId());
+            writeNullableString(out, proposal.getCategory() != null ? proposal.getCategory().name() : null);
+            writeNullableString(out, proposal.getSalesChannel() != null ? proposal.getSalesChannel().name() : null);
+            writeNullableString(out, proposal.getPaymentMethod() != null ? proposal.getPaymentMethod().name() : null);
+            writeMoney(out, proposal.getTotalMonthlyPremiumAmount());
+            writeMoney(out, proposal.getInsuredAmount());
+
+            Map<String, Money> coverages = proposal.getCoverages();
+            out.writeInt(coverages.size());
+            for (Map.Entry<String, Money> coverage : coverages.entrySet()) {
+                out.writeUTF(coverage.getKey());
+                writeMoney(out, coverage.getValue());
+            }
+            List<String> assistances = proposal.getAssistances();
+            out.writeInt(assistances.size());
+            for (String assistance : assistances) {
+                out.writeUTF(assistance);
+            }
+
+            out.writeUTF(proposal.getStatus().name());
+            writeInstant(out, proposal.getCreatedAt());
+            writeInstant(out, proposal.getFinishedAt());
+            out.writeByte(proposal.getConfirmationFlags());
+            writeNullableString(out, proposal.getPaymentRejectionReason());
+            writeNullableString(out, proposal.getSubscriptionRejectionReason());
+
+            List<HistoryEntry> history = proposal.getHistory();
+            out.writeInt(history.size());
+            for (HistoryEntry entry : history) {
+                out.writeUTF(entry.status().name());
+                writeInstant(out, entry.timestamp());
+                writeNullableString(out, entry.reason());
+            }
+            out.writeLong(proposal.getVersion());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao codificar proposta " + proposal.getId().asString(), e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static PolicyProposal decode(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            byte version = in.readByte();
+            if (version != VERSION && version != VERSION_WITHOUT_PROPOSAL_VERSION) {
+                throw new IllegalArgumentException("Versão de registro do journal não suportada: " + version);
+            }
+            PolicyProposal.PolicyProposalBuilder builder = PolicyProposal.builder()
+                    .id(new PolicyProposalId(readUuid(in)))
+                    .customerId(readNullableUuid(in))
+                    .productId(readNullableString(in))
+                    .category(readEnum(in, Category.class))
+                    .salesChannel(readEnum(in, SalesChannel.class))
+                    .paymentMethod(readEnum(in, PaymentMethod.class))
+                    .totalMonthlyPremiumAmount(readMoney(in))
+                    .insuredAmount(readMoney(in));
+
+            int coverageCount = in.readInt();
+            Map<String, Money> coverages = new LinkedHashMap<>(coverageCount * 2);
+            for (int i = 0; i < coverageCount; i++) {
+                coverages.put(in.readUTF(), readMoney(in));
+            }
+            int assistanceCount = in.readInt();
+            List<String> assistances = new ArrayList<>(assistanceCount);
+            for (int i = 0; i < assistanceCount; i++) {
+                assistances.add(in.readUTF());
+            }
+
+            builder.coverages(coverages)
+                    .assistances(assistances)
+                    .status(PolicyStatus.valueOf(in.readUTF()))
+                    .createdAt(readInstant(in))
+                    .finishedAt(readInstant(in));
+
+            builder.confirmationFlags(in.readUnsignedByte())
+                    .paymentRejectionReason(readNullableString(in))
+                    .subscriptionRejectionReason(readNullableString(in));
+
+            int historySize = in.readInt();
+            List<HistoryEntry> history = new ArrayList<>(historySize);
+            for (int i = 0; i < historySize; i++) {
+                history.add(HistoryEntry.of(PolicyStatus.valueOf(in.readUTF()), readInstant(in), readNullableString(in)));
+            }
+            if (version == VERSION) {
+                builder.version(in.readLong());
+            }
+            return builder.history(history).build();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Registro do journal inválido", e);
+        }
+    }
+
+    private static void writeUuid(DataOutputStream out, UUID value) throws IOException {
+        out.writeLong(value.getMostSignificantBits());
+        out.writeLong(value.getLeastSignificantBits());
+    }
+
+    private static UUID readUuid(DataInputStream in) throws IOException {
+        return new UUID(in.readLong(), in.readLong());
+    }
+
+    private static void writeNullableUuid(DataOutputStream out, UUID value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            writeUuid(out, value);
+        }
+    }
+
+    private static UUID readNullableUuid(DataInputStream in) throws IOException {
+        return in.readBoolean() ? readUuid(in) : null;
+    }
+
+    private static void writeNullableString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullableString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static <E extends Enum<E>> E readEnum(DataInputStream in, Class<E> type) throws IOException {
+        String name = readNullableString(in);
+        return name != null ? Enum.valueOf(type, name) : null;
+    }
+
+    private static void writeMoney(DataOutputStream out, Money money) throws IOException {
+        out.writeBoolean(money != null);
+        if (money != null) {
+            out.writeUTF(money.amount().toString());
+            writeNullableString(out, money.currency());
+        }
+    }
+
+    private static Money readMoney(DataInputStream in) throws IOException {
+        return in.readBoolean() ? new Money(new BigDecimal(in.readUTF()), readNullableString(in)) : null;
+    }
+
+    private static void writeInstant(DataOutputStream out, Instant instant) throws IOException {
+        out.writeBoolean(instant != null);
+        if (instant != null) {
+            out.writeLong(instant.getEpochSecond());
+            out.writeInt(instant.getNano());
+        }
+    }
+
+    private static Instant readInstant(DataInputStream in) throws IOException {
+        return in.readBoolean() ? Instant.ofEpochSecond(in.readLong(), in.readInt()) : null;
+    }
+}
@@ -1,41 +1,334 @@
 package io.github.athirson010.adapters.out.persistence.mongo;
 
+import io.github.athirson010.adapters.out.persistence.mongo.archive.PolicyProposalArchive;
 import io.github.athirson010.adapters.out.persistence.mongo.document.PolicyProposalEntity;
+import io.github.athirson010.adapters.out.persistence.mongo.document.PolicyProposalSummaryEntity;
+import io.github.athirson010.adapters.out.persistence.mongo.eventstore.EventSourcedPolicyStore;
 import io.github.athirson010.adapters.out.persistence.mongo.mapper.PolicyProposalEntityMapper;
+import io.github.athirson010.adapters.out.persistence.mongo.mapper.PolicyProposalSummaryEntityMapper;
+import io.github.athirson010.adapters.out.persistence.mongo.projection.PolicyProjections;
 import io.github.athirson010.adapters.out.persistence.mongo.repository.PolicyProposalMongoRepository;
 import io.github.athirson010.core.port.out.OrderRepository;
+import io.github.athirson010.domain.enums.PolicyStatus;
+import io.github.athirson010.domain.model.PendingProposal;
 import io.github.athirson010.domain.model.PolicyProposal;
 import io.github.athirson010.domain.model.PolicyProposalId;
+import io.github.athirson010.domain.model.PolicyProposalPage;
+import io.github.athirson010.domain.model.PolicyProposalSummary;
+import io.github.athirson010.domain.model.PolicyStateMachine;
+import io.github.athirson010.domain.model.PolicyStatusStatistics;
+import io.github.athirson010.domain.model.ProposalPageCursor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Component
+@Profile("!in-memory")
 @RequiredArgsConstructor
 public class OrderMongoAdapter implements OrderRepository {
 
+    static final String SAVE_METRIC = "policy.mongo.save";
+
+    private static final Comparator<PolicyProposalSummaryEntity> NEWEST_FIRST = Comparator
+            .comparing(PolicyProposalSummaryEntity::getCreatedAt)
+            .thenComparing(PolicyProposalSummaryEntity::getId)
+            .reversed();
+
     private final PolicyProposalMongoRepository mongoRepository;
     private final PolicyProposalEntityMapper mapper;
+    private final MongoTemplate mongoTemplate;
+    private final PolicyProposalSummaryEntityMapper summaryMapper;
+    private final PolicyProposalArchive archive;
+    private final PolicyProjections projections;
+    private final EventSourcedPolicyStore eventSourcedStore;
+    private final MeterRegistry meterRegistry;
 
+    /**
+     * Substitui o documento (upsert) e obtém atomicamente o status anterior e o total do histórico, repassados
+     * às projeções ({@link PolicyProjections}: contadores de status e, no modo de histórico limitado, as novas
+     * entradas em {@code policy_status_history}).
+     * <p>
+     * No modo event-store, delega para {@link EventSourcedPolicyStore#save(PolicyProposal)}.
+     * <p>
+     * A gravação só substitui um documento cujo status armazenado possa levar ao novo
+     * ({@link PolicyStateMachine#writableOver}) e que ainda esteja na versão lida ({@link PolicyProposal#getVersion()};
+     * versão 0 só grava proposta nova ou documento anterior ao campo). Caso contrário lança
+     * {@link OptimisticLockingFailureException}. A versão gravada é atribuída à proposta recebida.
+     * <p>
+     * O tempo de gravação é publicado em {@code policy.mongo.save}, com as tags {@code mode}
+     * ({@code DOCUMENT} ou {@code EVENT_STORE}) e {@code outcome}.
+     */
     @Override
     public PolicyProposal save(PolicyProposal policyProposal) {
         log.debug("Salvando proposta de apólice com ID: {}", policyProposal.getId().asString());
 
-        PolicyProposalEntity entity = mapper.toEntity(policyProposal);
-        PolicyProposalEntity savedEntity = mongoRepository.save(entity);
+        boolean eventStoreMode = eventSourcedStore.isEnabled();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "ERROR";
+        try {
+            PolicyProposal saved = eventStoreMode
+                    ? eventSourcedStore.save(policyProposal)
+                    : replaceDocument(policyProposal);
+            outcome = "SUCCESS";
+            return saved;
+        } finally {
+            sample.stop(Timer.builder(SAVE_METRIC)
+                    .description("Tempo de gravação da proposta no MongoDB")
+                    .tag("mode", eventStoreMode ? "EVENT_STORE" : "DOCUMENT")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    private PolicyProposal replaceDocument(PolicyProposal policyProposal) {
+        PolicyProposalEntity entity = projections.isHistoryBounded()
+                ? mapper.toEntity(policyProposal, projections.historyInlineLimit())
+                : mapper.toEntity(policyProposal);
+
+        // Só substitui documentos em um status que pode levar ao novo (ou no mesmo status): uma cópia
+        // desatualizada não sobrescreve um status posterior. A versão cobre o mesmo status: duas cópias em
+        // PENDING, cada uma com uma confirmação, não apagam a flag uma da outra
+        PolicyStatus target = PolicyStatus.valueOf(entity.getStatus());
+        long expectedVersion = policyProposal.getVersion();
+        Criteria criteria = Criteria.where("_id").is(entity.getId())
+                .and("status").in(PolicyStateMachine.writableOver(target).stream().map(PolicyStatus::name).toList());
+        criteria = expectedVersion == 0
+                ? criteria.and("version").exists(false)
+                : criteria.and("version").is(expectedVersion);
+        entity.setVersion(expectedVersion + 1);
+        Query writable = Query.query(criteria);
+        writable.fields().include("status").include("statusHistoryCount");
+        PolicyProposalEntity previous;
+        try {
+            previous = mongoTemplate.findAndReplace(
+                    writable,
+                    entity,
+                    FindAndReplaceOptions.options().upsert(),
+                    PolicyProposalEntity.class,
+                    PolicyProposalEntity.COLLECTION,
+                    PolicyProposalEntity.class
+            );
+        } catch (DuplicateKeyException e) {
+            // O documento existe, mas em um status que não leva a target ou em outra versão: o upsert tentou
+            // inserir o mesmo _id
+            throw new OptimisticLockingFailureException(String.format(
+                    "Proposta %s mudou desde a versão %d ou está em um status que não permite gravar %s",
+                    entity.getId(), expectedVersion, target), e);
+        }
+        policyProposal.assignVersion(entity.getVersion());
+
+        projections.documentReplaced(entity, policyProposal.getHistory(), previous);
 
-        log.info("Proposta de apólice salva com sucesso com ID: {}", savedEntity.getId());
-        return mapper.toDomain(savedEntity);
+        log.info("Proposta de apólice salva com sucesso com ID: {}", entity.getId());
+        return toDomain(entity);
     }
 
     @Override
     public Optional<PolicyProposal> findById(PolicyProposalId id) {
         log.debug("Buscando proposta de apólice por ID: {}", id.asString());
 
-        return mongoRepository.findById(id.asString())
-                .map(mapper::toDomain);
+        // Propostas finalizadas antigas podem ter sido movidas para o arquivo frio
+        Optional<PolicyProposalEntity> stored = mongoRepository.findById(id.asString())
+                .or(() -> archive.findById(id.asString()));
+        if (stored.isEmpty() && eventSourcedStore.isEnabled()) {
+            stored = eventSourcedStore.rebuild(id.asString());
+        }
+
+        return stored
+                .map(eventSourcedStore::replay)
+                .map(this::toDomain);
+    }
+
+    @Override
+    public PolicyStatusStatistics loadStatusStatistics(Instant hourlySince) {
+        return projections.loadStatistics(hourlySince);
+    }
+
+    /**
+     * Paginação por chave sobre (pendingSince, _id) das propostas em PENDING, lendo só esses dois campos.
+     * Coberto pelo índice {@code status_pending_since_idx}.
+     */
+    @Override
+    public List<PendingProposal> findPending(PendingProposal after, int limit) {
+        Criteria criteria = Criteria.where("status").is(PolicyStatus.PENDING.name());
+        if (after != null) {
+            criteria = criteria.orOperator(
+                    Criteria.where("pendingSince").gt(after.pendingSince()),
+                    Criteria.where("pendingSince").is(after.pendingSince()).and("_id").gt(after.id().asString()));
+        } else {
+            criteria = criteria.and("pendingSince").ne(null);
+        }
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Direction.ASC, "pendingSince", "_id"))
+                .limit(limit);
+        query.fields().include("pendingSince");
+
+        return mongoTemplate.find(query, PolicyProposalEntity.class, PolicyProposalEntity.COLLECTION).stream()
+                .map(entity -> new PendingProposal(PolicyProposalId.from(entity.getId()), entity.getPendingSince()))
+                .toList();
+    }
+
+    /**
+     * Propostas em PENDING gravadas antes de {@code pendingSince} ficam fora de {@link #findPending}: o campo é
+     * preenchido a partir da última entrada do histórico (ou de {@code createdAt}, se ela não for PENDING). A
+     * atualização só se aplica se a proposta continua em PENDING sem o campo, então execuções concorrentes em
+     * várias instâncias não se sobrepõem. Coberto pelo índice {@code status_pending_since_idx}.
+     */
+    @Override
+    public int backfillPendingSince(int limit) {
+        Query legacy = Query.query(Criteria.where("status").is(PolicyStatus.PENDING.name())
+                        .and("pendingSince").is(null))
+                .limit(limit);
+        List<PolicyProposalEntity> found = mongoTemplate.find(legacy, PolicyProposalEntity.class,
+                PolicyProposalEntity.COLLECTION);
+
+        for (PolicyProposalEntity entity : found) {
+            Instant pendingSince = Optional.ofNullable(toDomain(entity).pendingSince())
+                    .or(() -> Optional.ofNullable(entity.getCreatedAt()))
+                    .orElseGet(Instant::now);
+            mongoTemplate.updateFirst(
+                    Query.query(Criteria.where("_id").is(entity.getId())
+                            .and("status").is(PolicyStatus.PENDING.name())
+                            .and("pendingSince").is(null)),
+                    new Update().set("pendingSince", pendingSince),
+                    PolicyProposalEntity.COLLECTION);
+        }
+        return found.size();
+    }
+
+    /**
+     * Grava {@code queuedAt} só se a proposta continua em RECEIVED: o consumer pode já ter substituído o documento.
+     * A próxima gravação completa do documento remove a marca, quando a proposta já saiu de RECEIVED.
+     */
+    @Override
+    public void markQueued(PolicyProposalId id, Instant queuedAt) {
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(id.asString()).and("status").is(PolicyStatus.RECEIVED.name())),
+                new Update().set("queuedAt", queuedAt),
+                PolicyProposalEntity.COLLECTION);
+    }
+
+    /**
+     * Grava {@code publishedAt} só se a proposta continua em PENDING. A próxima gravação completa do documento remove
+     * a marca; a partir daí a proposta tem resposta registrada ou já saiu de PENDING.
+     */
+    @Override
+    public void markPublished(PolicyProposalId id, Instant publishedAt) {
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(id.asString()).and("status").is(PolicyStatus.PENDING.name())),
+                new Update().set("publishedAt", publishedAt),
+                PolicyProposalEntity.COLLECTION);
+    }
+
+    @Override
+    public Set<PolicyProposalId> findPendingIds(Collection<PolicyProposalId> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        Query query = Query.query(Criteria.where("_id").in(ids.stream().map(PolicyProposalId::asString).toList())
+                .and("status").is(PolicyStatus.PENDING.name()));
+        query.fields().include("_id");
+
+        return mongoTemplate.find(query, PolicyProposalEntity.class, PolicyProposalEntity.COLLECTION).stream()
+                .map(entity -> PolicyProposalId.from(entity.getId()))
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Lista propostas do cliente com paginação por chave (keyset) sobre (createdAt, _id),
+     * em ordem decrescente. Lê apenas os campos da projeção resumida, da coleção quente e do arquivo
+     * ({@link PolicyProposalArchive#findCustomerSummaries}): uma proposta finalizada há tempo pode ser mais recente
+     * que outra ainda na coleção quente, então até {@code limit + 1} documentos de cada origem são intercalados na
+     * ordem da página. Coberto pelo índice {@code customer_created_id_idx} nas duas.
+     */
+    @Override
+    public PolicyProposalPage findSummariesByCustomerId(UUID customerId,
+                                                        Set<PolicyStatus> statuses,
+                                                        ProposalPageCursor after,
+                                                        int limit) {
+        Query query = buildCustomerPageQuery(customerId, statuses, after, limit);
+
+        List<PolicyProposalSummaryEntity> candidates = new ArrayList<>(2 * (limit + 1));
+        try (Stream<PolicyProposalSummaryEntity> results = mongoTemplate.stream(
+                query, PolicyProposalSummaryEntity.class, PolicyProposalEntity.COLLECTION)) {
+            results.forEach(candidates::add);
+        }
+        candidates.addAll(archive.findCustomerSummaries(query, after == null ? null : after.createdAt(), limit + 1));
+
+        // Um lote de arquivamento interrompido deixa a proposta nas duas coleções: vale a primeira, da quente
+        Set<String> seen = new HashSet<>();
+        List<PolicyProposalSummary> items = new ArrayList<>(limit);
+        ProposalPageCursor nextCursor = null;
+        for (PolicyProposalSummaryEntity entity : candidates.stream().sorted(NEWEST_FIRST).toList()) {
+            if (!seen.add(entity.getId())) {
+                continue;
+            }
+            if (items.size() == limit) {
+                // Documento extra (limit + 1) apenas sinaliza que existe próxima página
+                nextCursor = ProposalPageCursor.of(items.get(limit - 1));
+                break;
+            }
+            items.add(summaryMapper.toDomain(entity));
+        }
+
+        log.debug("Listagem do cliente {} retornou {} proposta(s). Há próxima página: {}",
+                customerId, items.size(), nextCursor != null);
+        return new PolicyProposalPage(items, nextCursor);
+    }
+
+    private Query buildCustomerPageQuery(UUID customerId,
+                                         Set<PolicyStatus> statuses,
+                                         ProposalPageCursor after,
+                                         int limit) {
+        List<Criteria> filters = new ArrayList<>();
+        filters.add(Criteria.where("customerId").is(customerId.toString()));
+
+        if (statuses != null && !statuses.isEmpty()) {
+            filters.add(Criteria.where("status").in(statuses.stream().map(PolicyStatus::name).toList()));
+        }
+
+        if (after != null) {
+            filters.add(new Criteria().orOperator(
+                    Criteria.where("createdAt").lt(after.createdAt()),
+                    Criteria.where("createdAt").is(after.createdAt()).and("_id").lt(after.id().asString())
+            ));
+        }
+
+        Query query = new Query(new Criteria().andOperator(filters))
+                .with(Sort.by(Sort.Direction.DESC, "createdAt", "_id"))
+                .limit(limit + 1)
+                .cursorBatchSize(limit + 1);
+        query.fields().include(PolicyProposalSummaryEntity.FIELDS);
+        return query;
+    }
+
+    private PolicyProposal toDomain(PolicyProposalEntity entity) {
+        return entity.getStatusHistoryCount() != null
+                ? mapper.toDomain(entity, projections::loadHistory)
+                : mapper.toDomain(entity);
     }
 }
@@ -0,0 +1,182 @@
+package io.github.athirson010.adapters.out.persistence.mongo.archive;
+
+import io.github.athirson010.adapters.out.persistence.mongo.document.PolicyProposalEntity;
+import io.github.athirson010.adapters.out.persistence.mongo.document.PolicyProposalSummaryEntity;
+import io.github.athirson010.domain.enums.PolicyStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Arquivo frio de propostas finalizadas.
+ * <p>
+ * Propostas em estado final são copiadas para coleções mensais
+ * ({@code policy_proposals_archive_yyyy_MM}, pelo mês de criação) e registradas no catálogo
+ * {@code policy_proposals_archive_catalog}, que indica em qual coleção cada proposta está.
+ * Só então são removidas da coleção quente. Cada etapa é idempotente, então um lote interrompido
+ * pode ser reprocessado sem perda: no pior caso a proposta existe nas duas coleções até a próxima execução.
+ * <p>
+ * Cada coleção mensal recebe o índice {@code customer_created_id_idx}, o mesmo da coleção quente, usado na
+ * listagem por cliente ({@link #findCustomerSummaries}).
+ */
+@Slf4j
+@Component
+@Profile("!in-memory")
+@RequiredArgsConstructor
+public class PolicyProposalArchive {
+
+    public static final String ARCHIVE_COLLECTION_PREFIX = "policy_proposals_archive_";
+    public static final String CATALOG_COLLECTION = "policy_proposals_archive_catalog";
+
+    private static final DateTimeFormatter MONTH_SUFFIX =
+            DateTimeFormatter.ofPattern("yyyy_MM").withZone(ZoneOffset.UTC);
+
+    private static final Index CUSTOMER_INDEX = new Index()
+            .on("customerId", Sort.Direction.ASC)
+            .on("createdAt", Sort.Direction.DESC)
+            .on("_id", Sort.Direction.DESC)
+            .named("customer_created_id_idx");
+
+    private static final List<String> FINAL_STATUSES = Arrays.stream(PolicyStatus.values())
+            .filter(PolicyStatus::isFinalState)
+            .map(PolicyStatus::name)
+            .toList();
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Arquiva um lote de propostas finalizadas antes de {@code finishedBefore}.
+     *
+     * @return quantidade de propostas removidas da coleção quente
+     */
+    public int archiveBatch(Instant finishedBefore, int batchSize) {
+        Query candidates = new Query(finalizedBefore(finishedBefore))
+                .with(Sort.by(Sort.Direction.ASC, "finishedAt"))
+                .limit(batchSize);
+
+        List<Document> documents = mongoTemplate.find(candidates, Document.class, PolicyProposalEntity.COLLECTION);
+        if (documents.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, List<Document>> byArchiveCollection = new LinkedHashMap<>();
+        for (Document document : documents) {
+            byArchiveCollection
+                    .computeIfAbsent(archiveCollectionFor(document), key -> new ArrayList<>())
+                    .add(document);
+        }
+
+        byArchiveCollection.forEach(this::copyToArchive);
+        registerInCatalog(byArchiveCollection);
+
+        List<Object> ids = documents.stream().map(document -> document.get("_id")).toList();
+        long removed = mongoTemplate.remove(
+                new Query(Criteria.where("_id").in(ids).and("status").in(FINAL_STATUSES)),
+                PolicyProposalEntity.COLLECTION
+        ).getDeletedCount();
+
+        log.info("Lote de arquivamento concluído. Copiadas={}, Removidas da coleção quente={}, Coleções={}",
+                documents.size(), removed, byArchiveCollection.keySet());
+        return (int) removed;
+    }
+
+    /**
+     * Busca uma proposta arquivada pelo catálogo.
+     */
+    public Optional<PolicyProposalEntity> findById(String id) {
+        Document catalogEntry = mongoTemplate.findById(id, Document.class, CATALOG_COLLECTION);
+        if (catalogEntry == null) {
+            return Optional.empty();
+        }
+
+        String collection = catalogEntry.getString("collection");
+        log.debug("Proposta {} encontrada no arquivo: {}", id, collection);
+        return Optional.ofNullable(mongoTemplate.findById(id, PolicyProposalEntity.class, collection));
+    }
+
+    /**
+     * Resumos das propostas arquivadas que atendem à consulta da listagem por cliente, na mesma ordem
+     * (createdAt, _id) decrescente, até {@code limit}. As coleções mensais são percorridas da mais recente para a
+     * mais antiga, a partir do mês de {@code createdBefore} (nulo na primeira página), e a busca para ao atingir o
+     * limite: cada coleção guarda um mês de criação, então as anteriores só têm propostas mais antigas.
+     */
+    public List<PolicyProposalSummaryEntity> findCustomerSummaries(Query query, Instant createdBefore, int limit) {
+        String newest = createdBefore == null ? null : ARCHIVE_COLLECTION_PREFIX + MONTH_SUFFIX.format(createdBefore);
+        List<PolicyProposalSummaryEntity> found = new ArrayList<>(limit);
+        for (String collection : archiveCollectionsNewestFirst()) {
+            if (found.size() >= limit) {
+                break;
+            }
+            if (newest != null && collection.compareTo(newest) > 0) {
+                continue;
+            }
+            found.addAll(mongoTemplate.find(Query.of(query).limit(limit - found.size()),
+                    PolicyProposalSummaryEntity.class, collection));
+        }
+        return found;
+    }
+
+    static String archiveCollectionFor(Document document) {
+        Date createdAt = document.getDate("createdAt");
+        Instant reference = createdAt != null ? createdAt.toInstant() : document.getDate("finishedAt").toInstant();
+        return ARCHIVE_COLLECTION_PREFIX + MONTH_SUFFIX.format(reference);
+    }
+
+    private List<String> archiveCollectionsNewestFirst() {
+        return mongoTemplate.getCollectionNames().stream()
+                .filter(name -> name.startsWith(ARCHIVE_COLLECTION_PREFIX))
+                .filter(name -> !name.equals(CATALOG_COLLECTION))
+                .sorted(Comparator.reverseOrder())
+                .toList();
+    }
+
+    private void copyToArchive(String collection, List<Document> documents) {
+        mongoTemplate.indexOps(collection).ensureIndex(CUSTOMER_INDEX);
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, collection);
+        for (Document document : documents) {
+            bulk.replaceOne(
+                    Query.query(Criteria.where("_id").is(document.get("_id"))),
+                    document,
+                    FindAndReplaceOptions.options().upsert()
+            );
+        }
+        bulk.execute();
+    }
+
+    private void registerInCatalog(Map<String, List<Document>> byArchiveCollection) {
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, CATALOG_COLLECTION);
+        Instant archivedAt = Instant.now();
+        byArchiveCollection.forEach((collection, documents) -> documents.forEach(document -> bulk.upsert(
+                Query.query(Criteria.where("_id").is(document.get("_id"))),
+                new Update().set("collection", collection).set("archivedAt", archivedAt)
+        )));
+        bulk.execute();
+    }
+
+    private static Criteria finalizedBefore(Instant finishedBefore) {
+        return Criteria.where("status").in(FINAL_STATUSES).and("finishedAt").lt(finishedBefore);
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.athirson010.adapters.out.persistence.mongo.archive;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Job de arquivamento de propostas finalizadas.
+ * <p>
+ * Move, em lotes limitados e com pausa entre lotes, as propostas em estado final com
+ * {@code finishedAt} anterior a {@code policy.archive.min-age} para o arquivo frio.
+ * Deve ser habilitado em apenas uma instância ({@code policy.archive.enabled=true}).
+ */
+@Slf4j
+@Component
+@Profile("!in-memory")
+@ConditionalOnProperty(name = "policy.archive.enabled", havingValue = "true")
+public class PolicyProposalArchiveJob {
+
+    private final PolicyProposalArchive archive;
+    private final Duration minAge;
+    private final int batchSize;
+    private final Duration pauseBetweenBatches;
+    private final int maxBatchesPerRun;
+
+    public PolicyProposalArchiveJob(PolicyProposalArchive archive,
+                                    @Value("${policy.archive.min-age:90d}") Duration minAge,
+                                    @Value("${policy.archive.batch-size:500}") int batchSize,
+                                    @Value("${policy.archive.pause-between-batches:1s}") Duration pauseBetweenBatches,
+                                    @Value("${policy.archive.max-batches-per-run:200}") int maxBatchesPerRun) {
+        this.archive = archive;
+        this.minAge = minAge;
+        this.batchSize = batchSize;
+        this.pauseBetweenBatches = pauseBetweenBatches;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    @Scheduled(cron = "${policy.archive.cron:0 0 3 * * *}")
+    public void run() {
+        Instant finishedBefore = Instant.now().minus(minAge);
+        log.info("Iniciando arquivamento de propostas finalizadas antes de {}", finishedBefore);
+
+        int batches = 0;
+        long archived = 0;
+        while (batches < maxBatchesPerRun) {
+            int removed = archive.archiveBatch(finishedBefore, batchSize);
+            batches++;
+            archived += removed;
+
+            if (removed < batchSize || !pause()) {
+                break;
+            }
+        }
+
+        log.info("Arquivamento finalizado. Lotes={}, Propostas arquivadas={}", batches, archived);
+    }
+
+    private boolean pause() {
+        if (pauseBetweenBatches.isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseBetweenBatches.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Arquivamento interrompido. Será retomado na próxima execução.");
+            return false;
+        }
+    }
+}
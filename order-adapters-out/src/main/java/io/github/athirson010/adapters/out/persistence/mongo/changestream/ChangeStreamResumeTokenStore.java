@@ -0,0 +1,48 @@
+package io.github.athirson010.adapters.out.persistence.mongo.changestream;
+
+import io.github.athirson010.adapters.out.persistence.mongo.document.PolicyProposalEntity;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * Resume token do change stream de {@code policy_proposals}, em {@code policy_change_stream_tokens}
+ * (um documento por coleção observada). O token é guardado como JSON estendido, sem depender do seu formato interno.
+ */
+@Component
+@Profile("order-consumer & !in-memory")
+@ConditionalOnProperty(name = "policy.cdc.enabled", havingValue = "true")
+public class ChangeStreamResumeTokenStore {
+
+    public static final String COLLECTION = "policy_change_stream_tokens";
+
+    private final MongoTemplate mongoTemplate;
+
+    public ChangeStreamResumeTokenStore(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * @return o último token gravado, ou {@code null} na primeira execução
+     */
+    BsonDocument load() {
+        Document document = mongoTemplate.findById(PolicyProposalEntity.COLLECTION, Document.class, COLLECTION);
+        String token = document == null ? null : document.getString("token");
+        return token == null ? null : BsonDocument.parse(token);
+    }
+
+    void save(BsonDocument token, Instant now) {
+        mongoTemplate.upsert(Query.query(Criteria.where("_id").is(PolicyProposalEntity.COLLECTION)),
+                new Update().set("token", token.toJson()).set("updatedAt", Date.from(now)),
+                COLLECTION);
+    }
+}
@@ -0,0 +1,528 @@
+package io.github.athirson010.adapters.out.persistence.mongo.changestream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.FullDocumentBeforeChange;
+import com.mongodb.client.model.changestream.OperationType;
+import io.github.athirson010.adapters.out.messaging.kafka.OrderTopicKeyStrategy;
+import io.github.athirson010.adapters.out.messaging.kafka.state.PolicyStateMessage;
+import io.github.athirson010.adapters.out.persistence.mongo.archive.PolicyProposalArchive;
+import io.github.athirson010.adapters.out.persistence.mongo.document.PolicyProposalEntity;
+import io.github.athirson010.domain.enums.PolicyStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publica no {@code order-topic} as transições de status gravadas em {@code policy_proposals}, a partir de um
+ * change stream (CDC). Cobre as decisões finais (APPROVED/REJECTED) tomadas nos consumidores de confirmação, que
+ * não passam pelo {@code OrderKafkaProducer}.
+ * <p>
+ * O filtro roda no servidor: inserções e substituições cujo {@code status} está em {@code policy.cdc.statuses} e
+ * atualizações parciais (modo event-store) que alteram o {@code status}. Substituições que regravam o mesmo status
+ * (respostas tardias) são descartadas pela pré-imagem quando {@code policy.cdc.pre-images=true} (exige
+ * {@code changeStreamPreAndPostImages} na coleção) e, sem ela, por um cache das últimas transições publicadas.
+ * <p>
+ * Os eventos ({@link PolicyStatusChangedEvent}, chave de {@code kafka.topic.order.key-strategy}, header
+ * {@code eventType}) são enviados em
+ * lotes de até {@code batch-size} ou a cada {@code max-batch-delay}. O resume token só é gravado depois da
+ * confirmação do lote inteiro pelo broker; numa falha ou reinício o stream volta do último token gravado e os eventos
+ * do lote são reenviados (at-least-once). Sem token gravado, o stream começa no momento da inicialização.
+ * <p>
+ * Com {@code policy.cdc.state-topic.enabled=true}, todas as transições também vão para o tópico compactado
+ * {@code kafka.topic.order-state} ({@link PolicyStateMessage}, chave {@code policyId}), que guarda o último estado de
+ * cada proposta. A remoção do documento publica um tombstone, exceto a do arquivamento (proposta registrada em
+ * {@code policy_proposals_archive_catalog}), que mantém a decisão final no tópico. Os consumidores montam a visão
+ * local com {@code PolicyStateTopicView}.
+ * <p>
+ * Exige MongoDB em replica set. Deve ser habilitado em apenas uma instância ({@code policy.cdc.enabled=true}).
+ * <p>
+ * Métricas: {@code policy.cdc.published} (tag {@code status}), {@code policy.cdc.failures} e {@code policy.cdc.lag}
+ * (segundos entre a gravação no MongoDB e a confirmação do broker, no último lote) e
+ * {@code policy.cdc.state.published} (tag {@code type}: UPSERT ou TOMBSTONE).
+ */
+@Slf4j
+@Component
+@Profile("order-consumer & !in-memory")
+@ConditionalOnProperty(name = "policy.cdc.enabled", havingValue = "true")
+public class PolicyChangeStreamPublisher implements InitializingBean, DisposableBean {
+
+    static final String PUBLISHED_METRIC = "policy.cdc.published";
+    static final String FAILURES_METRIC = "policy.cdc.failures";
+    static final String LAG_METRIC = "policy.cdc.lag";
+    static final String STATE_PUBLISHED_METRIC = "policy.cdc.state.published";
+    static final String EVENT_TYPE_HEADER = "eventType";
+
+    private final MongoTemplate mongoTemplate;
+    private final ChangeStreamResumeTokenStore tokenStore;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final String orderTopic;
+    private final OrderTopicKeyStrategy keyStrategy;
+    private final String stateTopic;
+    private final Set<PolicyStatus> statuses;
+    private final int batchSize;
+    private final Duration maxBatchDelay;
+    private final Duration checkpointInterval;
+    private final Duration sendTimeout;
+    private final Duration retryBackoff;
+    private final boolean preImages;
+    private final Map<String, String> published;
+    private final Clock clock;
+    private final ExecutorService executor;
+    private final Counter failures;
+    private final AtomicLong lagMillis = new AtomicLong();
+    private volatile boolean running;
+
+    @Autowired
+    public PolicyChangeStreamPublisher(MongoTemplate mongoTemplate,
+                                       ChangeStreamResumeTokenStore tokenStore,
+                                       KafkaTemplate<String, String> kafkaTemplate,
+                                       ObjectMapper objectMapper,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${kafka.topic.order}") String orderTopic,
+                                       @Value("${kafka.topic.order.key-strategy:PROPOSAL}") OrderTopicKeyStrategy keyStrategy,
+                                       @Value("${policy.cdc.state-topic.enabled:false}") boolean stateTopicEnabled,
+                                       @Value("${kafka.topic.order-state:order-state-topic}") String stateTopic,
+                                       @Value("${policy.cdc.statuses:APPROVED,REJECTED}") Set<PolicyStatus> statuses,
+                                       @Value("${policy.cdc.batch-size:100}") int batchSize,
+                                       @Value("${policy.cdc.max-batch-delay:500ms}") Duration maxBatchDelay,
+                                       @Value("${policy.cdc.checkpoint-interval:10s}") Duration checkpointInterval,
+                                       @Value("${policy.cdc.send-timeout:30s}") Duration sendTimeout,
+                                       @Value("${policy.cdc.retry-backoff:5s}") Duration retryBackoff,
+                                       @Value("${policy.cdc.pre-images:false}") boolean preImages,
+                                       @Value("${policy.cdc.dedupe-cache-size:10000}") int dedupeCacheSize) {
+        this(mongoTemplate, tokenStore, kafkaTemplate, objectMapper, meterRegistry, orderTopic, keyStrategy,
+                stateTopicEnabled ? stateTopic : null, statuses, batchSize,
+                maxBatchDelay, checkpointInterval, sendTimeout, retryBackoff, preImages, dedupeCacheSize,
+                Clock.systemUTC());
+    }
+
+    PolicyChangeStreamPublisher(MongoTemplate mongoTemplate,
+                                ChangeStreamResumeTokenStore tokenStore,
+                                KafkaTemplate<String, String> kafkaTemplate,
+                                ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry,
+                                String orderTopic,
+                                OrderTopicKeyStrategy keyStrategy,
+                                String stateTopic,
+                                Set<PolicyStatus> statuses,
+                                int batchSize,
+                                Duration maxBatchDelay,
+                                Duration checkpointInterval,
+                                Duration sendTimeout,
+                                Duration retryBackoff,
+                                boolean preImages,
+                                int dedupeCacheSize,
+                                Clock clock) {
+        if (statuses.isEmpty() || batchSize <= 0 || dedupeCacheSize <= 0) {
+            throw new IllegalArgumentException(String.format(
+                    "Configuração do CDC inválida: statuses=%s, batch-size=%d, dedupe-cache-size=%d",
+                    statuses, batchSize, dedupeCacheSize));
+        }
+        this.mongoTemplate = mongoTemplate;
+        this.tokenStore = tokenStore;
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.orderTopic = orderTopic;
+        this.keyStrategy = keyStrategy;
+        this.stateTopic = stateTopic;
+        this.statuses = EnumSet.copyOf(statuses);
+        this.batchSize = batchSize;
+        this.maxBatchDelay = maxBatchDelay;
+        this.checkpointInterval = checkpointInterval;
+        this.sendTimeout = sendTimeout;
+        this.retryBackoff = retryBackoff;
+        this.preImages = preImages;
+        this.published = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > dedupeCacheSize;
+            }
+        });
+        this.clock = clock;
+        this.executor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("policy-cdc-"));
+
+        this.failures = Counter.builder(FAILURES_METRIC)
+                .description("Falhas do change stream ou do envio de lotes ao Kafka")
+                .register(meterRegistry);
+        Gauge.builder(LAG_METRIC, lagMillis, value -> value.get() / 1000.0)
+                .description("Segundos entre a gravação no MongoDB e a confirmação do broker, no último lote")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        running = true;
+        executor.execute(this::loop);
+        log.info("CDC de {} iniciado. Status publicados: {}, tópico: {}, tópico de estado: {}",
+                PolicyProposalEntity.COLLECTION, statuses, orderTopic, stateTopic == null ? "desabilitado" : stateTopic);
+    }
+
+    /**
+     * Mantém o change stream aberto. Em qualquer falha, espera {@code retry-backoff} e reabre a partir do último
+     * resume token gravado.
+     */
+    private void loop() {
+        while (running && !Thread.currentThread().isInterrupted()) {
+            try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = open()) {
+                Batch batch = new Batch(clock.instant());
+                while (running && !Thread.currentThread().isInterrupted()) {
+                    poll(cursor, batch);
+                }
+            } catch (RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                failures.increment();
+                published.clear();
+                log.error("Falha no CDC de {}. Reabrindo do último resume token em {}: {}",
+                        PolicyProposalEntity.COLLECTION, retryBackoff, e.getMessage(), e);
+                if (!pause()) {
+                    return;
+                }
+            }
+        }
+    }
+
+    MongoChangeStreamCursor<ChangeStreamDocument<Document>> open() {
+        // O tópico de estado precisa de todas as transições e das remoções
+        List<String> names = (stateTopic != null ? EnumSet.allOf(PolicyStatus.class) : statuses).stream()
+                .map(Enum::name)
+                .toList();
+        Document replaced = new Document("operationType", OperationType.REPLACE.getValue())
+                .append("fullDocument.status", new Document("$in", names));
+        if (preImages) {
+            replaced.append("$expr", new Document("$ne",
+                    List.of("$fullDocumentBeforeChange.status", "$fullDocument.status")));
+        }
+        List<Document> operations = new ArrayList<>(List.of(
+                new Document("operationType", OperationType.INSERT.getValue())
+                        .append("fullDocument.status", new Document("$in", names)),
+                replaced,
+                new Document("operationType", OperationType.UPDATE.getValue())
+                        .append("updateDescription.updatedFields.status", new Document("$in", names))));
+        if (stateTopic != null) {
+            operations.add(new Document("operationType", OperationType.DELETE.getValue()));
+        }
+        Document filter = new Document("$or", operations);
+        Document projection = new Document("operationType", 1)
+                .append("documentKey", 1)
+                .append("clusterTime", 1)
+                .append("wallTime", 1)
+                .append("updateDescription", 1)
+                .append("fullDocument._id", 1)
+                .append("fullDocument.customerId", 1)
+                .append("fullDocument.category", 1)
+                .append("fullDocument.status", 1)
+                .append("fullDocumentBeforeChange.status", 1);
+
+        ChangeStreamIterable<Document> stream = mongoTemplate.getCollection(PolicyProposalEntity.COLLECTION)
+                .watch(List.of(Aggregates.match(filter), Aggregates.project(projection)))
+                .fullDocument(FullDocument.UPDATE_LOOKUP)
+                .batchSize(batchSize)
+                .maxAwaitTime(maxBatchDelay.toMillis(), TimeUnit.MILLISECONDS);
+        if (preImages) {
+            stream = stream.fullDocumentBeforeChange(FullDocumentBeforeChange.WHEN_AVAILABLE);
+        }
+        BsonDocument token = tokenStore.load();
+        if (token != null) {
+            stream = stream.startAfter(token);
+        }
+        log.info("Abrindo change stream de {} {}", PolicyProposalEntity.COLLECTION,
+                token == null ? "a partir de agora" : "a partir do resume token gravado");
+        return stream.cursor();
+    }
+
+    /**
+     * Lê a próxima alteração (espera até {@code max-batch-delay}) e envia o lote quando está cheio, quando o stream
+     * fica ocioso ou quando o primeiro evento pendente passou de {@code max-batch-delay}. Sem eventos pendentes, o
+     * resume token avança a cada {@code checkpoint-interval}, para não sair da janela do oplog.
+     */
+    void poll(MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor, Batch batch) {
+        ChangeStreamDocument<Document> change = cursor.tryNext();
+        if (change != null) {
+            collect(change, batch);
+        }
+        BsonDocument token = cursor.getResumeToken();
+        if (token != null) {
+            batch.token = token;
+        }
+
+        Instant now = clock.instant();
+        if (batch.changes > 0) {
+            if (batch.changes >= batchSize || change == null
+                    || !now.isBefore(batch.firstEventAt.plus(maxBatchDelay))) {
+                flush(batch, now);
+            }
+        } else if (batch.token != null && !batch.token.equals(batch.savedToken)
+                && !now.isBefore(batch.savedAt.plus(checkpointInterval))) {
+            saveToken(batch, now);
+        }
+    }
+
+    private void collect(ChangeStreamDocument<Document> change, Batch batch) {
+        Instant readAt = clock.instant();
+        if (change.getOperationType() == OperationType.DELETE) {
+            BsonValue key = change.getDocumentKey() == null ? null : change.getDocumentKey().get("_id");
+            if (stateTopic != null && key != null && key.isString()) {
+                String policyId = key.asString().getValue();
+                published.remove(policyId);
+                if (archived(policyId)) {
+                    // Arquivamento: a decisão final continua valendo no tópico compactado
+                    log.debug("Remoção da proposta {} pelo arquivamento. Tombstone não publicado", policyId);
+                    return;
+                }
+                batch.add(new ProducerRecord<>(stateTopic, policyId, null), null, readAt, occurredAt(change));
+                batch.changes++;
+            }
+            return;
+        }
+        toEvent(change).ifPresent(event -> {
+            boolean toOrderTopic = statuses.stream().anyMatch(status -> status.name().equals(event.status()));
+            if (toOrderTopic) {
+                batch.add(record(event), event.status(), readAt, event.occurredAt());
+            }
+            if (stateTopic != null) {
+                batch.add(stateRecord(event), event.status(), readAt, event.occurredAt());
+            }
+            if (toOrderTopic || stateTopic != null) {
+                batch.changes++;
+            }
+        });
+    }
+
+    /**
+     * O arquivamento registra a proposta no catálogo antes de removê-la da coleção quente, então a entrada já
+     * existe quando a remoção chega pelo stream.
+     */
+    private boolean archived(String policyId) {
+        return mongoTemplate.exists(Query.query(Criteria.where("_id").is(policyId)),
+                PolicyProposalArchive.CATALOG_COLLECTION);
+    }
+
+    Optional<PolicyStatusChangedEvent> toEvent(ChangeStreamDocument<Document> change) {
+        Document document = change.getFullDocument();
+        String status = change.getOperationType() == OperationType.UPDATE
+                ? updatedStatus(change)
+                : document == null ? null : document.getString("status");
+        BsonValue key = change.getDocumentKey() == null ? null : change.getDocumentKey().get("_id");
+        if (status == null || key == null || !key.isString()) {
+            return Optional.empty();
+        }
+        String policyId = key.asString().getValue();
+        if (status.equals(published.put(policyId, status))) {
+            return Optional.empty();
+        }
+        Document before = change.getFullDocumentBeforeChange();
+        return Optional.of(new PolicyStatusChangedEvent(
+                policyId,
+                document == null ? null : document.getString("customerId"),
+                document == null ? null : document.getString("category"),
+                status,
+                before == null ? null : before.getString("status"),
+                occurredAt(change)));
+    }
+
+    private static String updatedStatus(ChangeStreamDocument<Document> change) {
+        if (change.getUpdateDescription() == null || change.getUpdateDescription().getUpdatedFields() == null) {
+            return null;
+        }
+        BsonValue status = change.getUpdateDescription().getUpdatedFields().get("status");
+        return status != null && status.isString() ? status.asString().getValue() : null;
+    }
+
+    private Instant occurredAt(ChangeStreamDocument<Document> change) {
+        if (change.getWallTime() != null) {
+            return Instant.ofEpochMilli(change.getWallTime().getValue());
+        }
+        if (change.getClusterTime() != null) {
+            return Instant.ofEpochSecond(change.getClusterTime().getTime());
+        }
+        return clock.instant();
+    }
+
+    /**
+     * Envia o lote, espera a confirmação de todos os registros e só então grava o resume token.
+     */
+    private void flush(Batch batch, Instant now) {
+        List<CompletableFuture<SendResult<String, String>>> sends = new ArrayList<>(batch.entries.size());
+        for (Entry entry : batch.entries) {
+            sends.add(kafkaTemplate.send(entry.record()));
+        }
+        try {
+            CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new))
+                    .get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Envio do lote do CDC interrompido", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException(String.format(
+                    "Falha ao enviar lote de %d registro(s) do CDC ao Kafka", batch.entries.size()),
+                    e instanceof ExecutionException ? e.getCause() : e);
+        }
+
+        Instant acked = clock.instant();
+        for (Entry entry : batch.entries) {
+            countPublished(entry);
+        }
+        lagMillis.set(Math.max(0, Duration.between(batch.lastOccurredAt, acked).toMillis()));
+        log.debug("Lote de {} registro(s) do CDC publicado", batch.entries.size());
+        batch.clear();
+        saveToken(batch, now);
+    }
+
+    private void countPublished(Entry entry) {
+        if (entry.record().topic().equals(orderTopic)) {
+            Counter.builder(PUBLISHED_METRIC)
+                    .description("Transições de status publicadas pelo CDC")
+                    .tag("status", entry.status())
+                    .register(meterRegistry)
+                    .increment();
+        } else {
+            Counter.builder(STATE_PUBLISHED_METRIC)
+                    .description("Registros publicados pelo CDC no tópico compactado de estado")
+                    .tag("type", entry.record().value() == null ? "TOMBSTONE" : "UPSERT")
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+
+    private ProducerRecord<String, String> record(PolicyStatusChangedEvent event) {
+        ProducerRecord<String, String> record = new ProducerRecord<>(orderTopic,
+                keyStrategy.key(event.policyId(), event.customerId(), event.category()), json(event, event.policyId()));
+        record.headers().add(EVENT_TYPE_HEADER, event.eventType().getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+
+    private ProducerRecord<String, String> stateRecord(PolicyStatusChangedEvent event) {
+        PolicyStateMessage state = new PolicyStateMessage(event.policyId(), event.customerId(), event.category(),
+                event.status(), event.occurredAt());
+        return new ProducerRecord<>(stateTopic, event.policyId(), json(state, event.policyId()));
+    }
+
+    private String json(Object value, String policyId) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar evento do CDC. ID: " + policyId, e);
+        }
+    }
+
+    private void saveToken(Batch batch, Instant now) {
+        if (batch.token == null) {
+            return;
+        }
+        tokenStore.save(batch.token, now);
+        batch.savedToken = batch.token;
+        batch.savedAt = now;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(retryBackoff.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        executor.shutdownNow();
+        if (!executor.awaitTermination(maxBatchDelay.plus(sendTimeout).toMillis(), TimeUnit.MILLISECONDS)) {
+            log.warn("CDC de {} não terminou no prazo de desligamento", PolicyProposalEntity.COLLECTION);
+        }
+    }
+
+    /**
+     * Registro a enviar e o status que ele publica (nulo em tombstones).
+     */
+    record Entry(ProducerRecord<String, String> record, String status) {
+    }
+
+    /**
+     * Registros lidos e ainda não confirmados pelo broker, e o resume token correspondente.
+     */
+    static final class Batch {
+
+        private final List<Entry> entries = new ArrayList<>();
+        private int changes;
+        private Instant firstEventAt;
+        private Instant lastOccurredAt;
+        private BsonDocument token;
+        private BsonDocument savedToken;
+        private Instant savedAt;
+
+        Batch(Instant openedAt) {
+            this.savedAt = openedAt;
+        }
+
+        private void add(ProducerRecord<String, String> record, String status, Instant readAt, Instant occurredAt) {
+            if (entries.isEmpty()) {
+                firstEventAt = readAt;
+            }
+            entries.add(new Entry(record, status));
+            lastOccurredAt = occurredAt;
+        }
+
+        private void clear() {
+            entries.clear();
+            changes = 0;
+        }
+
+        /**
+         * Alterações do change stream no lote (cada uma pode gerar registros nos dois tópicos).
+         */
+        int size() {
+            return changes;
+        }
+    }
+}
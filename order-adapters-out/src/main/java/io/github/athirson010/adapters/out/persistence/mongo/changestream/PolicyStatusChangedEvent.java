@@ -0,0 +1,26 @@
+package io.github.athirson010.adapters.out.persistence.mongo.changestream;
+
+import java.time.Instant;
+
+/**
+ * Evento compacto de transição de status publicado no {@code order-topic} pelo {@link PolicyChangeStreamPublisher}.
+ * <p>
+ * {@code previousStatus} só é preenchido quando o change stream traz a pré-imagem do documento. A entrega é
+ * at-least-once: o par ({@code policyId}, {@code status}) identifica a transição para deduplicação no consumidor.
+ */
+public record PolicyStatusChangedEvent(
+        String eventType,
+        String policyId,
+        String customerId,
+        String category,
+        String status,
+        String previousStatus,
+        Instant occurredAt) {
+
+    public static final String EVENT_TYPE = "POLICY_STATUS_CHANGED";
+
+    public PolicyStatusChangedEvent(String policyId, String customerId, String category, String status,
+                                    String previousStatus, Instant occurredAt) {
+        this(EVENT_TYPE, policyId, customerId, category, status, previousStatus, occurredAt);
+    }
+}
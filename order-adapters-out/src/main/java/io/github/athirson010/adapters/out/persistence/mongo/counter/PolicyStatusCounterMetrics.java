@@ -0,0 +1,108 @@
+package io.github.athirson010.adapters.out.persistence.mongo.counter;
+
+import io.github.athirson010.domain.enums.Category;
+import io.github.athirson010.domain.enums.PolicyStatus;
+import io.github.athirson010.domain.enums.SalesChannel;
+import io.github.athirson010.domain.model.PolicyStatusStatistics;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Expõe os contadores materializados de status como gauges do Micrometer.
+ * <p>
+ * Todos os gauges leem de um snapshot em memória, recarregado no máximo uma vez por
+ * {@code policy.statistics.metrics-refresh-interval}, de modo que um scrape gera no máximo
+ * uma leitura da coleção de contadores.
+ */
+@Slf4j
+@Component
+@Profile("!in-memory")
+public class PolicyStatusCounterMetrics implements MeterBinder {
+
+    private final PolicyStatusCounterStore counterStore;
+    private final Duration refreshInterval;
+    private final Clock clock;
+
+    private volatile PolicyStatusStatistics snapshot = PolicyStatusStatistics.empty();
+    private volatile Instant loadedAt = Instant.MIN;
+
+    @Autowired
+    public PolicyStatusCounterMetrics(PolicyStatusCounterStore counterStore,
+                                      @Value("${policy.statistics.metrics-refresh-interval:15s}") Duration refreshInterval) {
+        this(counterStore, refreshInterval, Clock.systemUTC());
+    }
+
+    PolicyStatusCounterMetrics(PolicyStatusCounterStore counterStore, Duration refreshInterval, Clock clock) {
+        this.counterStore = counterStore;
+        this.refreshInterval = refreshInterval;
+        this.clock = clock;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (PolicyStatus status : PolicyStatus.values()) {
+            Gauge.builder("policy.proposals.status", this, metrics -> metrics.snapshot().countOf(status))
+                    .description("Propostas atualmente em cada status")
+                    .tag("status", status.name())
+                    .register(registry);
+
+            for (Category category : Category.values()) {
+                Gauge.builder("policy.proposals.category", this,
+                                metrics -> countOf(metrics.snapshot().byCategory().get(category), status))
+                        .description("Propostas atualmente em cada status por categoria")
+                        .tag("category", category.name())
+                        .tag("status", status.name())
+                        .register(registry);
+            }
+
+            for (SalesChannel salesChannel : SalesChannel.values()) {
+                Gauge.builder("policy.proposals.sales.channel", this,
+                                metrics -> countOf(metrics.snapshot().bySalesChannel().get(salesChannel), status))
+                        .description("Propostas atualmente em cada status por canal de venda")
+                        .tag("sales_channel", salesChannel.name())
+                        .tag("status", status.name())
+                        .register(registry);
+            }
+        }
+    }
+
+    PolicyStatusStatistics snapshot() {
+        Instant now = clock.instant();
+        if (Duration.between(loadedAt, now).compareTo(refreshInterval) >= 0) {
+            synchronized (this) {
+                if (Duration.between(loadedAt, now).compareTo(refreshInterval) >= 0) {
+                    refresh(now);
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    private void refresh(Instant now) {
+        try {
+            PolicyStatusStatistics loaded = counterStore.load(null);
+            if (loaded != null) {
+                snapshot = loaded;
+            }
+        } catch (RuntimeException e) {
+            log.warn("Falha ao recarregar contadores de status. Mantendo último snapshot: {}", e.getMessage());
+        }
+        // Mesmo em falha, aguarda o próximo intervalo para não sobrecarregar o MongoDB a cada scrape
+        loadedAt = now;
+    }
+
+    private static double countOf(Map<PolicyStatus, Long> counts, PolicyStatus status) {
+        return counts == null ? 0 : counts.getOrDefault(status, 0L);
+    }
+}
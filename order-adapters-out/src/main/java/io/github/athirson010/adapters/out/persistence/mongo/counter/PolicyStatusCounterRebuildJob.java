@@ -0,0 +1,63 @@
+package io.github.athirson010.adapters.out.persistence.mongo.counter;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reconstrução dos contadores materializados de status ({@link PolicyStatusCounterStore#rebuild()}).
+ * <p>
+ * Na inicialização, reconstrói quando o contador de status ainda não existe (primeira subida com propostas já
+ * gravadas), ou sempre com {@code policy.statistics.rebuild.on-startup=always}. Com
+ * {@code policy.statistics.rebuild.cron}, reconstrói periodicamente para corrigir divergências; nesse caso
+ * deve ser habilitado em apenas uma instância.
+ */
+@Slf4j
+@Component
+@Profile("!in-memory")
+public class PolicyStatusCounterRebuildJob {
+
+    public enum OnStartup {
+        MISSING,
+        ALWAYS,
+        NEVER
+    }
+
+    private final PolicyStatusCounterStore counterStore;
+    private final OnStartup onStartup;
+
+    public PolicyStatusCounterRebuildJob(PolicyStatusCounterStore counterStore,
+                                         @Value("${policy.statistics.rebuild.on-startup:MISSING}") OnStartup onStartup) {
+        this.counterStore = counterStore;
+        this.onStartup = onStartup;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        if (onStartup == OnStartup.NEVER
+                || (onStartup == OnStartup.MISSING && counterStore.isInitialized())) {
+            return;
+        }
+        log.info("Reconstruindo contadores de status na inicialização ({})", onStartup);
+        rebuild();
+    }
+
+    @Scheduled(cron = "${policy.statistics.rebuild.cron:-}")
+    public void run() {
+        log.info("Reconstrução periódica dos contadores de status");
+        rebuild();
+    }
+
+    private void rebuild() {
+        try {
+            counterStore.rebuild();
+        } catch (RuntimeException e) {
+            // Contadores são derivados: a falha não impede a aplicação de subir
+            log.error("Falha ao reconstruir contadores de status: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package io.github.athirson010.adapters.out.persistence.mongo.counter;
+
+import io.github.athirson010.adapters.out.persistence.mongo.archive.PolicyProposalArchive;
+import io.github.athirson010.adapters.out.persistence.mongo.document.PolicyProposalEntity;
+import io.github.athirson010.adapters.out.persistence.mongo.document.PolicyStatusCounterEntity;
+import io.github.athirson010.domain.enums.Category;
+import io.github.athirson010.domain.enums.PolicyStatus;
+import io.github.athirson010.domain.enums.SalesChannel;
+import io.github.athirson010.domain.model.PolicyStatusStatistics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static io.github.athirson010.adapters.out.persistence.mongo.document.PolicyStatusCounterEntity.*;
+
+/**
+ * Mantém os contadores materializados de status com {@code $inc}, evitando {@code countByStatus}
+ * sobre a coleção de propostas.
+ * <p>
+ * Contadores de status, categoria e canal refletem o status atual (incrementa o novo status e
+ * decrementa o anterior). Buckets por hora são apenas incrementados e contam as transições ocorridas.
+ * <p>
+ * O {@code $inc} roda separado da gravação do documento: uma queda entre os dois deixa o contador
+ * divergente. {@link #rebuild()} recalcula os contadores atuais a partir das propostas.
+ */
+@Slf4j
+@Component
+@Profile("!in-memory")
+@RequiredArgsConstructor
+public class PolicyStatusCounterStore {
+
+    private static final DateTimeFormatter HOUR_KEY_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH").withZone(ZoneOffset.UTC);
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Registra uma transição de status em uma única operação bulk não ordenada.
+     *
+     * @param previous status anterior, ou {@code null} quando a proposta acabou de ser criada
+     */
+    public void recordTransition(PolicyStatus previous,
+                                 PolicyStatus current,
+                                 String category,
+                                 String salesChannel,
+                                 Instant transitionAt) {
+        if (current == null || current == previous) {
+            return;
+        }
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, COLLECTION);
+
+        upsert(bulk, DIMENSION_STATUS, null, previous, current);
+        if (category != null) {
+            upsert(bulk, DIMENSION_CATEGORY, category, previous, current);
+        }
+        if (salesChannel != null) {
+            upsert(bulk, DIMENSION_SALES_CHANNEL, salesChannel, previous, current);
+        }
+
+        Instant bucketStart = transitionAt.truncatedTo(ChronoUnit.HOURS);
+        Update hourly = new Update()
+                .inc(countField(current), 1)
+                .setOnInsert("dimension", DIMENSION_HOUR)
+                .setOnInsert("key", HOUR_KEY_FORMAT.format(bucketStart))
+                .setOnInsert("bucketStart", bucketStart);
+        bulk.upsert(byId(DIMENSION_HOUR, HOUR_KEY_FORMAT.format(bucketStart)), hourly);
+
+        bulk.execute();
+        log.debug("Contadores de status atualizados: {} -> {}", previous, current);
+    }
+
+    /**
+     * Recalcula os contadores de status, categoria e canal com um {@code $group} por
+     * (status, categoria, canal) sobre a coleção quente e as coleções do arquivo, e regrava cada
+     * documento de contador com {@code $set} em {@code counts}. Buckets por hora não são recalculados.
+     * <p>
+     * Transições gravadas enquanto a agregação roda podem se perder no {@code $set}; a próxima
+     * reconstrução as corrige.
+     *
+     * @return total de propostas contadas
+     */
+    public long rebuild() {
+        Map<String, Map<String, Long>> byDimension = new HashMap<>();
+        long total = 0;
+        for (String collection : proposalCollections()) {
+            Aggregation groupByStatus = Aggregation.newAggregation(
+                    Aggregation.group("status", "category", "salesChannel").count().as("count"));
+            for (Document group : mongoTemplate.aggregate(groupByStatus, collection, Document.class)) {
+                Document key = group.get("_id", Document.class);
+                String status = key.getString("status");
+                if (status == null) {
+                    continue;
+                }
+                long count = ((Number) group.get("count")).longValue();
+                add(byDimension, DIMENSION_STATUS, null, status, count);
+                add(byDimension, DIMENSION_CATEGORY, key.getString("category"), status, count);
+                add(byDimension, DIMENSION_SALES_CHANNEL, key.getString("salesChannel"), status, count);
+                total += count;
+            }
+        }
+
+        // Chaves sem propostas também são regravadas, com counts vazio
+        byDimension.computeIfAbsent(DIMENSION_STATUS, ignored -> new HashMap<>());
+        Arrays.stream(Category.values()).forEach(category ->
+                byDimension.computeIfAbsent(idOf(DIMENSION_CATEGORY, category.name()), ignored -> new HashMap<>()));
+        Arrays.stream(SalesChannel.values()).forEach(salesChannel ->
+                byDimension.computeIfAbsent(idOf(DIMENSION_SALES_CHANNEL, salesChannel.name()), ignored -> new HashMap<>()));
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, COLLECTION);
+        byDimension.forEach((id, counts) -> {
+            int separator = id.indexOf(':');
+            Update update = new Update()
+                    .set("counts", new Document(new HashMap<>(counts)))
+                    .setOnInsert("dimension", separator < 0 ? id : id.substring(0, separator));
+            if (separator >= 0) {
+                update.setOnInsert("key", id.substring(separator + 1));
+            }
+            bulk.upsert(Query.query(Criteria.where("_id").is(id)), update);
+        });
+        bulk.execute();
+
+        log.info("Contadores de status reconstruídos. Propostas contadas={}, Documentos={}", total, byDimension.size());
+        return total;
+    }
+
+    /**
+     * Indica se o contador de status já existe, ou seja, se os contadores já foram inicializados.
+     */
+    public boolean isInitialized() {
+        return mongoTemplate.exists(byId(DIMENSION_STATUS, null), COLLECTION);
+    }
+
+    private List<String> proposalCollections() {
+        List<String> collections = new ArrayList<>();
+        collections.add(PolicyProposalEntity.COLLECTION);
+        mongoTemplate.getCollectionNames().stream()
+                .filter(name -> name.startsWith(PolicyProposalArchive.ARCHIVE_COLLECTION_PREFIX))
+                .filter(name -> !name.equals(PolicyProposalArchive.CATALOG_COLLECTION))
+                .sorted()
+                .forEach(collections::add);
+        return collections;
+    }
+
+    private static void add(Map<String, Map<String, Long>> byDimension,
+                            String dimension,
+                            String key,
+                            String status,
+                            long count) {
+        if (key == null && !DIMENSION_STATUS.equals(dimension)) {
+            return;
+        }
+        byDimension.computeIfAbsent(idOf(dimension, key), ignored -> new HashMap<>())
+                .merge(status, count, Long::sum);
+    }
+
+    /**
+     * Carrega os contadores atuais e, quando {@code hourlySince} é informado, os buckets por hora
+     * a partir desse instante.
+     */
+    public PolicyStatusStatistics load(Instant hourlySince) {
+        Criteria current = Criteria.where("dimension")
+                .in(DIMENSION_STATUS, DIMENSION_CATEGORY, DIMENSION_SALES_CHANNEL);
+        Criteria criteria = hourlySince == null
+                ? current
+                : new Criteria().orOperator(current,
+                Criteria.where("dimension").is(DIMENSION_HOUR).and("bucketStart").gte(hourlySince));
+
+        List<PolicyStatusCounterEntity> documents =
+                mongoTemplate.find(new Query(criteria), PolicyStatusCounterEntity.class, COLLECTION);
+
+        Map<PolicyStatus, Long> byStatus = new EnumMap<>(PolicyStatus.class);
+        Map<Category, Map<PolicyStatus, Long>> byCategory = new EnumMap<>(Category.class);
+        Map<SalesChannel, Map<PolicyStatus, Long>> bySalesChannel = new EnumMap<>(SalesChannel.class);
+        TreeMap<Instant, Map<PolicyStatus, Long>> byHour = new TreeMap<>();
+
+        for (PolicyStatusCounterEntity document : documents) {
+            Map<PolicyStatus, Long> counts = toStatusCounts(document.getCounts());
+            switch (document.getDimension()) {
+                case DIMENSION_STATUS -> byStatus.putAll(counts);
+                case DIMENSION_CATEGORY -> byCategory.put(Category.valueOf(document.getKey()), counts);
+                case DIMENSION_SALES_CHANNEL -> bySalesChannel.put(SalesChannel.valueOf(document.getKey()), counts);
+                case DIMENSION_HOUR -> byHour.put(document.getBucketStart(), counts);
+                default -> log.warn("Dimensão de contador desconhecida ignorada: {}", document.getDimension());
+            }
+        }
+
+        return new PolicyStatusStatistics(byStatus, byCategory, bySalesChannel, byHour);
+    }
+
+    private void upsert(BulkOperations bulk,
+                        String dimension,
+                        String key,
+                        PolicyStatus previous,
+                        PolicyStatus current) {
+        Update update = new Update()
+                .inc(countField(current), 1)
+                .setOnInsert("dimension", dimension);
+        if (key != null) {
+            update.setOnInsert("key", key);
+        }
+        if (previous != null) {
+            update.inc(countField(previous), -1);
+        }
+        bulk.upsert(byId(dimension, key), update);
+    }
+
+    private static Query byId(String dimension, String key) {
+        return Query.query(Criteria.where("_id").is(idOf(dimension, key)));
+    }
+
+    private static String idOf(String dimension, String key) {
+        return key == null ? dimension : dimension + ":" + key;
+    }
+
+    private static String countField(PolicyStatus status) {
+        return "counts." + status.name();
+    }
+
+    private static Map<PolicyStatus, Long> toStatusCounts(Map<String, Long> raw) {
+        Map<PolicyStatus, Long> counts = new EnumMap<>(PolicyStatus.class);
+        if (raw != null) {
+            raw.forEach((status, count) -> counts.put(PolicyStatus.valueOf(status), count));
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.athirson010.adapters.out.persistence.mongo.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Evento do log de alterações da proposta (modo {@code policy.persistence.mode=event-store}).
+ * O {@code _id} é {@code policyId:version}: duas gravações concorrentes da mesma versão
+ * resultam em chave duplicada para a segunda.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = PolicyEventEntity.COLLECTION)
+@CompoundIndex(name = "policy_version_idx", def = "{'policyId': 1, 'version': 1}", unique = true)
+public class PolicyEventEntity {
+
+    public static final String COLLECTION = "policy_events";
+
+    public static final String TYPE_CREATED = "PROPOSAL_CREATED";
+    public static final String TYPE_STATUS_CHANGED = "STATUS_CHANGED";
+    public static final String TYPE_HISTORY_APPENDED = "HISTORY_APPENDED";
+    public static final String TYPE_CONFIRMATION_RECORDED = "CONFIRMATION_RECORDED";
+
+    @Id
+    private String id;
+    private String policyId;
+    private long version;
+    private String type;
+    private String status;
+    private Instant finishedAt;
+    private Instant recordedAt;
+
+    /**
+     * Máscara de confirmações após este evento. Nula em eventos gravados antes do campo existir.
+     */
+    private Integer confirmationFlags;
+
+    /**
+     * Entradas de histórico adicionadas por este evento.
+     */
+    private List<StatusHistoryEntryEntity> historyEntries;
+
+    /**
+     * Total de entradas de histórico após este evento.
+     */
+    private int historyCount;
+
+    /**
+     * Estado completo da proposta, presente apenas no evento de versão 1.
+     */
+    private PolicyProposalEntity snapshot;
+
+    public static String idOf(String policyId, long version) {
+        return policyId + ":" + version;
+    }
+}
@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.Instant;
@@ -14,9 +15,14 @@ import java.util.List;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Document(collection = "policy_proposals")
+@Document(collection = PolicyProposalEntity.COLLECTION)
+@CompoundIndex(name = "customer_created_id_idx", def = "{'customerId': 1, 'createdAt': -1, '_id': -1}")
+@CompoundIndex(name = "status_finished_idx", def = "{'status': 1, 'finishedAt': 1}")
+@CompoundIndex(name = "status_pending_since_idx", def = "{'status': 1, 'pendingSince': 1, '_id': 1}")
 public class PolicyProposalEntity {
 
+    public static final String COLLECTION = "policy_proposals";
+
     @Id
     private String id;
     private String proposalNumber;
@@ -35,6 +41,62 @@ public class PolicyProposalEntity {
     private Instant createdAt;
     private Instant validatedAt;
     private Instant finishedAt;
+
+    /**
+     * Entrada em PENDING, usada na reconstrução dos prazos de expiração; nulo fora de PENDING.
+     * Derivado do histórico: não é lido de volta para o domínio.
+     */
+    private Instant pendingSince;
+
+    /**
+     * Aceite da mensagem da proposta em RECEIVED pela fila {@code order-service-consumer}, usado pela reconciliação
+     * para distinguir proposta não enfileirada de proposta parada em uma raia com backlog. A próxima gravação
+     * completa do documento o remove.
+     */
+    private Instant queuedAt;
+
+    /**
+     * Confirmação do evento de aprovação da proposta em PENDING pelo {@code order-topic}, usada pela reconciliação
+     * para distinguir evento não publicado de proposta aguardando as respostas dos parceiros. A próxima gravação
+     * completa do documento o remove.
+     */
+    private Instant publishedAt;
+
+    /**
+     * Último reenvio da proposta pela reconciliação ({@code PolicyReconciliationJob}). Gravado só pela
+     * reconciliação; a próxima gravação completa do documento o remove.
+     */
+    private Instant reconciledAt;
     private Instant canceledAt;
     private List<StatusHistoryEntryEntity> statusHistory;
+
+    /**
+     * Respostas de pagamento e subscrição recebidas e aprovadas, nos bits de {@code PolicyStateMachine}.
+     * Nulo em documentos gravados antes do campo existir (nenhuma resposta).
+     */
+    private Integer confirmationFlags;
+
+    /**
+     * Total de entradas do histórico quando apenas as últimas ficam inline em {@code statusHistory}.
+     * Nulo quando o histórico completo está embutido no documento.
+     */
+    private Integer statusHistoryCount;
+
+    /**
+     * Incrementada a cada substituição do documento e exigida no filtro da próxima: duas cópias lidas na mesma
+     * versão não se sobrescrevem. Nula em documentos gravados antes do campo existir.
+     */
+    private Long version;
+
+    /**
+     * Versão do último evento refletido por completo neste documento (modo event-store).
+     * Eventos posteriores são aplicados na leitura. Nulo quando o documento é o estado completo.
+     */
+    private Long snapshotVersion;
+
+    /**
+     * Versão do último evento refletido em {@code status} e {@code finishedAt}, usados pela
+     * listagem, contadores e arquivamento (modo event-store).
+     */
+    private Long headVersion;
 }
@@ -0,0 +1,46 @@
+package io.github.athirson010.adapters.out.persistence.mongo.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+
+import java.time.Instant;
+
+/**
+ * Projeção de {@link PolicyProposalEntity} usada nas listagens: exclui coberturas,
+ * assistências e histórico de status para reduzir o volume lido do MongoDB.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PolicyProposalSummaryEntity {
+
+    public static final String[] FIELDS = {
+            "customerId",
+            "productId",
+            "category",
+            "salesChannel",
+            "paymentMethod",
+            "status",
+            "totalMonthlyPremiumAmount",
+            "insuredAmount",
+            "createdAt",
+            "finishedAt"
+    };
+
+    @Id
+    private String id;
+    private String customerId;
+    private String productId;
+    private String category;
+    private String salesChannel;
+    private String paymentMethod;
+    private String status;
+    private MoneyEntity totalMonthlyPremiumAmount;
+    private MoneyEntity insuredAmount;
+    private Instant createdAt;
+    private Instant finishedAt;
+}
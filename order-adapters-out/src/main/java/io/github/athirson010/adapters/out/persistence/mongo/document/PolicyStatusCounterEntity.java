@@ -0,0 +1,49 @@
+package io.github.athirson010.adapters.out.persistence.mongo.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Documento de contadores materializados por status.
+ * <p>
+ * Um documento por dimensão/chave (ex.: {@code status}, {@code category:AUTO},
+ * {@code sales_channel:MOBILE}, {@code hour:2024-01-10T10}), com a contagem de cada status em
+ * {@code counts}. Buckets por hora expiram via índice TTL em {@code bucketStart}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = PolicyStatusCounterEntity.COLLECTION)
+public class PolicyStatusCounterEntity {
+
+    public static final String COLLECTION = "policy_status_counters";
+
+    public static final String DIMENSION_STATUS = "status";
+    public static final String DIMENSION_CATEGORY = "category";
+    public static final String DIMENSION_SALES_CHANNEL = "sales_channel";
+    public static final String DIMENSION_HOUR = "hour";
+
+    /**
+     * Retenção dos buckets por hora: 8 dias, cobrindo a janela máxima de 168 horas da consulta.
+     */
+    public static final int HOURLY_RETENTION_SECONDS = 8 * 24 * 60 * 60;
+
+    @Id
+    private String id;
+    private String dimension;
+    private String key;
+
+    @Indexed(name = "hour_bucket_ttl_idx", expireAfterSeconds = HOURLY_RETENTION_SECONDS)
+    private Instant bucketStart;
+
+    private Map<String, Long> counts;
+}
@@ -0,0 +1,39 @@
+package io.github.athirson010.adapters.out.persistence.mongo.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Entrada do histórico completo de status, em coleção dedicada e somente de inserção.
+ * O {@code _id} é {@code policyId:sequence}, o que torna a gravação idempotente.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = StatusHistoryEntity.COLLECTION)
+@CompoundIndex(name = "policy_sequence_idx", def = "{'policyId': 1, 'sequence': 1}")
+@CompoundIndex(name = "policy_changed_at_idx", def = "{'policyId': 1, 'changedAt': 1}")
+public class StatusHistoryEntity {
+
+    public static final String COLLECTION = "policy_status_history";
+
+    @Id
+    private String id;
+    private String policyId;
+    private int sequence;
+    private String status;
+    private Instant changedAt;
+    private String reason;
+
+    public static String idOf(String policyId, int sequence) {
+        return policyId + ":" + sequence;
+    }
+}
@@ -0,0 +1,193 @@
+package io.github.athirson010.adapters.out.persistence.mongo.eventstore;
+
+import io.github.athirson010.adapters.out.persistence.mongo.document.PolicyEventEntity;
+import io.github.athirson010.adapters.out.persistence.mongo.document.PolicyProposalEntity;
+import io.github.athirson010.adapters.out.persistence.mongo.mapper.PolicyEventEntityMapper;
+import io.github.athirson010.adapters.out.persistence.mongo.mapper.PolicyProposalEntityMapper;
+import io.github.athirson010.adapters.out.persistence.mongo.projection.PolicyProjections;
+import io.github.athirson010.domain.enums.PolicyStatus;
+import io.github.athirson010.domain.model.PolicyProposal;
+import io.github.athirson010.domain.model.PolicyStateMachine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Gravação e leitura das propostas no modo event-store ({@code policy.persistence.mode=event-store}).
+ * <p>
+ * Cada alteração vira um evento em {@code policy_events} ({@link PolicyEventStore}) e o documento em
+ * {@code policy_proposals} passa a ser um snapshot: completo na criação, a cada intervalo configurado e em estados
+ * finais; nos demais eventos, apenas os campos usados por consultas. Na leitura, os eventos posteriores ao
+ * snapshot são aplicados sobre ele.
+ */
+@Slf4j
+@Component
+@Profile("!in-memory")
+@RequiredArgsConstructor
+public class EventSourcedPolicyStore {
+
+    private final PolicyEventStore eventStore;
+    private final PolicyEventEntityMapper eventMapper;
+    private final PolicyProposalEntityMapper mapper;
+    private final MongoTemplate mongoTemplate;
+    private final PolicyProjections projections;
+
+    public boolean isEnabled() {
+        return eventStore.isEnabled();
+    }
+
+    /**
+     * Grava a alteração como um evento (com controle de versão) e atualiza o snapshot.
+     *
+     * @throws OptimisticLockingFailureException quando o último evento está em um status que não leva ao novo ou
+     *                                           não é a versão lida pela proposta, ou outra instância gravou a
+     *                                           mesma versão
+     */
+    public PolicyProposal save(PolicyProposal policyProposal) {
+        String policyId = policyProposal.getId().asString();
+
+        PolicyEventEntity last = eventStore.findLast(policyId);
+        if (last != null && !PolicyStateMachine.canOverwrite(PolicyStatus.valueOf(last.getStatus()), policyProposal.getStatus())) {
+            throw new OptimisticLockingFailureException(String.format(
+                    "Proposta %s já está em %s e não permite gravar %s", policyId, last.getStatus(), policyProposal.getStatus()));
+        }
+        // Sem evento anterior a proposta é nova ou veio de um documento gravado antes do modo event-store
+        if (last != null && policyProposal.getVersion() != last.getVersion()) {
+            throw new OptimisticLockingFailureException(String.format(
+                    "Proposta %s está na versão %d, mas foi lida na versão %d",
+                    policyId, last.getVersion(), policyProposal.getVersion()));
+        }
+        PolicyEventEntity event = eventMapper.toNextEvent(policyProposal, last, Instant.now());
+        if (event == null) {
+            log.debug("Proposta {} sem alterações desde o evento {}", policyId, last.getVersion());
+            return policyProposal;
+        }
+
+        PolicyProposalEntity fullState = null;
+        if (event.getVersion() == 1) {
+            // O primeiro evento carrega o estado completo: a proposta pode ser reconstruída só pelo log
+            fullState = mapper.toEntity(policyProposal);
+            event.setSnapshot(fullState);
+        }
+        eventStore.append(event);
+        policyProposal.assignVersion(event.getVersion());
+
+        PolicyStatus previousStatus = last != null ? PolicyStatus.valueOf(last.getStatus()) : null;
+        if (eventStore.isSnapshotDue(event) || !updateSnapshotHead(event, policyProposal.pendingSince())) {
+            PolicyProposalEntity previous = writeSnapshot(
+                    fullState != null ? fullState : mapper.toEntity(policyProposal), event.getVersion());
+            if (last == null) {
+                // Documento gravado antes do modo event-store: o status anterior vem dele
+                previousStatus = PolicyProjections.statusOf(previous);
+            }
+        }
+
+        PolicyProposalEntity current = PolicyProposalEntity.builder()
+                .id(policyId)
+                .status(event.getStatus())
+                .category(policyProposal.getCategory().name())
+                .salesChannel(policyProposal.getSalesChannel().name())
+                .build();
+        projections.recordTransition(previousStatus, current);
+
+        log.info("Proposta de apólice salva com sucesso com ID: {}. Evento: {} (versão {})",
+                policyId, event.getType(), event.getVersion());
+        return policyProposal;
+    }
+
+    /**
+     * Aplica sobre o snapshot os eventos gravados depois dele. A versão do resultado é a do último evento aplicado.
+     */
+    public PolicyProposalEntity replay(PolicyProposalEntity snapshot) {
+        if (snapshot.getSnapshotVersion() == null) {
+            return snapshot;
+        }
+
+        List<PolicyEventEntity> events = eventStore.findAfter(snapshot.getId(), snapshot.getSnapshotVersion());
+        events.forEach(event -> eventMapper.apply(snapshot, event));
+        snapshot.setVersion(events.isEmpty() ? snapshot.getSnapshotVersion() : events.get(events.size() - 1).getVersion());
+        if (!events.isEmpty()) {
+            log.debug("Proposta {} reconstruída com {} evento(s) após o snapshot", snapshot.getId(), events.size());
+        }
+        return snapshot;
+    }
+
+    /**
+     * Reconstrói a proposta pelo estado completo do primeiro evento, quando o snapshot não foi gravado.
+     */
+    public Optional<PolicyProposalEntity> rebuild(String policyId) {
+        List<PolicyEventEntity> events = eventStore.findAfter(policyId, 0);
+        if (events.isEmpty() || events.get(0).getSnapshot() == null) {
+            return Optional.empty();
+        }
+
+        log.warn("Snapshot ausente para a proposta {}. Reconstruindo a partir do log de eventos", policyId);
+        PolicyProposalEntity state = events.get(0).getSnapshot();
+        state.setSnapshotVersion(events.get(0).getVersion());
+        events.subList(1, events.size()).forEach(event -> eventMapper.apply(state, event));
+        // Todos os eventos já foram aplicados
+        state.setSnapshotVersion(null);
+        state.setVersion(events.get(events.size() - 1).getVersion());
+        return Optional.of(state);
+    }
+
+    /**
+     * Atualiza apenas os campos do snapshot usados por consultas ({@code status}, {@code finishedAt} e
+     * {@code pendingSince}). Só se aplica a snapshots do modo
+     * event-store que ainda não refletem uma versão mais recente.
+     *
+     * @return {@code false} quando o documento não foi atualizado e precisa de snapshot completo
+     */
+    private boolean updateSnapshotHead(PolicyEventEntity event, Instant pendingSince) {
+        Query query = Query.query(Criteria.where("_id").is(event.getPolicyId())
+                .and("snapshotVersion").exists(true)
+                .and("headVersion").lt(event.getVersion()));
+        Update update = new Update()
+                .set("status", event.getStatus())
+                .set("finishedAt", event.getFinishedAt())
+                .set("pendingSince", pendingSince)
+                .set("headVersion", event.getVersion());
+        return mongoTemplate.updateFirst(query, update, PolicyProposalEntity.COLLECTION).getMatchedCount() > 0;
+    }
+
+    /**
+     * Regrava o snapshot completo, exceto quando outra instância já gravou uma versão mais recente.
+     *
+     * @return o status anterior do documento, ou {@code null} quando não existia ou não foi regravado
+     */
+    private PolicyProposalEntity writeSnapshot(PolicyProposalEntity entity, long version) {
+        entity.setSnapshotVersion(version);
+        entity.setHeadVersion(version);
+
+        Query notNewer = Query.query(Criteria.where("_id").is(entity.getId()).orOperator(
+                Criteria.where("headVersion").lt(version),
+                Criteria.where("headVersion").exists(false)));
+        notNewer.fields().include("status");
+        try {
+            return mongoTemplate.findAndReplace(
+                    notNewer,
+                    entity,
+                    FindAndReplaceOptions.options().upsert(),
+                    PolicyProposalEntity.class,
+                    PolicyProposalEntity.COLLECTION,
+                    PolicyProposalEntity.class
+            );
+        } catch (DuplicateKeyException e) {
+            // O upsert não encontrou o documento pelo filtro de versão: já existe snapshot mais recente
+            log.debug("Snapshot da proposta {} já está em versão posterior a {}", entity.getId(), version);
+            return null;
+        }
+    }
+}
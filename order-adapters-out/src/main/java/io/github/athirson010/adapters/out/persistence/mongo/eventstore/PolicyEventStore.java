@@ -0,0 +1,98 @@
+package io.github.athirson010.adapters.out.persistence.mongo.eventstore;
+
+import io.github.athirson010.adapters.out.persistence.mongo.document.PolicyEventEntity;
+import io.github.athirson010.domain.enums.PolicyStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Log de eventos das propostas na coleção {@code policy_events}, somente por inserção.
+ * <p>
+ * Com {@code policy.persistence.mode=event-store}, cada alteração da proposta grava um evento pequeno
+ * e o documento em {@code policy_proposals} passa a ser um snapshot, regravado por completo apenas a cada
+ * {@code policy.event-store.snapshot-interval} eventos ou quando a proposta chega a um estado final.
+ * Com {@code snapshot} (padrão), o documento continua sendo regravado a cada alteração.
+ */
+@Slf4j
+@Component
+@Profile("!in-memory")
+public class PolicyEventStore {
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean enabled;
+    private final int snapshotInterval;
+
+    public PolicyEventStore(MongoTemplate mongoTemplate,
+                            @Value("${policy.persistence.mode:snapshot}") String mode,
+                            @Value("${policy.event-store.snapshot-interval:20}") int snapshotInterval) {
+        if (!"snapshot".equalsIgnoreCase(mode) && !"event-store".equalsIgnoreCase(mode)) {
+            throw new IllegalArgumentException("policy.persistence.mode inválido: " + mode);
+        }
+        if (snapshotInterval < 1) {
+            throw new IllegalArgumentException("policy.event-store.snapshot-interval deve ser positivo");
+        }
+        this.mongoTemplate = mongoTemplate;
+        this.enabled = "event-store".equalsIgnoreCase(mode);
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Indica se o evento deve ser acompanhado de um snapshot completo da proposta.
+     */
+    public boolean isSnapshotDue(PolicyEventEntity event) {
+        return event.getVersion() == 1
+                || event.getVersion() % snapshotInterval == 0
+                || PolicyStatus.valueOf(event.getStatus()).isFinalState();
+    }
+
+    /**
+     * Último evento da proposta, sem as entradas de histórico nem o snapshot inicial.
+     */
+    public PolicyEventEntity findLast(String policyId) {
+        Query query = Query.query(Criteria.where("policyId").is(policyId))
+                .with(Sort.by(Sort.Direction.DESC, "version"))
+                .limit(1);
+        query.fields().exclude("historyEntries").exclude("snapshot");
+        return mongoTemplate.findOne(query, PolicyEventEntity.class, PolicyEventEntity.COLLECTION);
+    }
+
+    /**
+     * Grava o evento. Outra instância que já tenha gravado a mesma versão indica alteração concorrente.
+     *
+     * @throws OptimisticLockingFailureException quando a versão já existe
+     */
+    public void append(PolicyEventEntity event) {
+        try {
+            mongoTemplate.insert(event, PolicyEventEntity.COLLECTION);
+            log.debug("Evento {} gravado para a proposta {}. Versão: {}",
+                    event.getType(), event.getPolicyId(), event.getVersion());
+        } catch (DuplicateKeyException e) {
+            throw new OptimisticLockingFailureException(String.format(
+                    "Proposta %s alterada em paralelo: a versão %d já existe",
+                    event.getPolicyId(), event.getVersion()), e);
+        }
+    }
+
+    /**
+     * Eventos posteriores à versão informada, em ordem de versão.
+     */
+    public List<PolicyEventEntity> findAfter(String policyId, long version) {
+        Query query = Query.query(Criteria.where("policyId").is(policyId).and("version").gt(version))
+                .with(Sort.by(Sort.Direction.ASC, "version"));
+        return mongoTemplate.find(query, PolicyEventEntity.class, PolicyEventEntity.COLLECTION);
+    }
+}
@@ -0,0 +1,93 @@
+package io.github.athirson010.adapters.out.persistence.mongo.history;
+
+import io.github.athirson010.domain.model.HistoryEntry;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Histórico de status com carregamento sob demanda.
+ * <p>
+ * Mantém apenas as últimas entradas gravadas inline no documento e as entradas adicionadas
+ * desde a leitura. O histórico completo só é buscado na coleção {@code policy_status_history}
+ * quando uma posição anterior às entradas inline é acessada (ex.: iteração completa).
+ * Novas entradas são aceitas apenas no final, como faz {@code PolicyProposal.addHistoryEntry}.
+ */
+public class LazyStatusHistory extends AbstractList<HistoryEntry> {
+
+    private final int persistedCount;
+    private final List<HistoryEntry> inlineTail;
+    private final List<HistoryEntry> appended = new ArrayList<>();
+    private final Supplier<List<HistoryEntry>> fullHistoryLoader;
+
+    private List<HistoryEntry> persisted;
+
+    public LazyStatusHistory(int persistedCount,
+                             List<HistoryEntry> inlineTail,
+                             Supplier<List<HistoryEntry>> fullHistoryLoader) {
+        if (inlineTail.size() > persistedCount) {
+            throw new IllegalArgumentException("Inline history larger than persisted count");
+        }
+        this.persistedCount = persistedCount;
+        this.inlineTail = List.copyOf(inlineTail);
+        this.fullHistoryLoader = fullHistoryLoader;
+    }
+
+    @Override
+    public HistoryEntry get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        if (index >= persistedCount) {
+            return appended.get(index - persistedCount);
+        }
+
+        int firstInline = persistedCount - inlineTail.size();
+        if (index >= firstInline) {
+            return inlineTail.get(index - firstInline);
+        }
+        return persisted().get(index);
+    }
+
+    @Override
+    public int size() {
+        return persistedCount + appended.size();
+    }
+
+    @Override
+    public void add(int index, HistoryEntry entry) {
+        if (index != size()) {
+            throw new UnsupportedOperationException("Status history is append-only");
+        }
+        appended.add(entry);
+        modCount++;
+    }
+
+    public boolean isHydrated() {
+        return persisted != null;
+    }
+
+    private List<HistoryEntry> persisted() {
+        if (persisted == null) {
+            List<HistoryEntry> loaded = fullHistoryLoader.get();
+            if (loaded.size() < persistedCount) {
+                throw new IllegalStateException(String.format(
+                        "Status history incomplete: expected %d entries, found %d", persistedCount, loaded.size()));
+            }
+            persisted = List.copyOf(loaded.subList(0, persistedCount));
+        }
+        return persisted;
+    }
+
+    /**
+     * Não hidrata o histórico: evita consultas ao MongoDB em logs de {@code PolicyProposal#toString}.
+     */
+    @Override
+    public String toString() {
+        return isHydrated()
+                ? super.toString()
+                : "LazyStatusHistory[size=" + size() + ", inline=" + inlineTail + ", appended=" + appended + "]";
+    }
+}
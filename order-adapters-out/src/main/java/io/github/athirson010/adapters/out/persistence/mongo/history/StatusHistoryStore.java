@@ -0,0 +1,96 @@
+package io.github.athirson010.adapters.out.persistence.mongo.history;
+
+import io.github.athirson010.adapters.out.persistence.mongo.document.StatusHistoryEntity;
+import io.github.athirson010.domain.enums.PolicyStatus;
+import io.github.athirson010.domain.model.HistoryEntry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Armazenamento do histórico completo de status na coleção {@code policy_status_history}.
+ * <p>
+ * Com {@code policy.history.storage=bounded}, o documento da proposta guarda apenas as últimas
+ * {@code policy.history.inline-limit} entradas e o histórico completo é gravado aqui, somente por inserção.
+ * Com {@code embedded} (padrão), o histórico completo continua embutido no documento.
+ */
+@Slf4j
+@Component
+@Profile("!in-memory")
+public class StatusHistoryStore {
+
+    static final int MIN_INLINE_LIMIT = 5;
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean bounded;
+    private final int inlineLimit;
+
+    public StatusHistoryStore(MongoTemplate mongoTemplate,
+                              @Value("${policy.history.storage:embedded}") String storage,
+                              @Value("${policy.history.inline-limit:10}") int inlineLimit) {
+        if (!"embedded".equalsIgnoreCase(storage) && !"bounded".equalsIgnoreCase(storage)) {
+            throw new IllegalArgumentException("Invalid policy.history.storage: " + storage);
+        }
+        // Cada operação adiciona no máximo duas entradas; o limite precisa cobri-las entre leitura e gravação
+        if (inlineLimit < MIN_INLINE_LIMIT) {
+            throw new IllegalArgumentException("policy.history.inline-limit must be at least " + MIN_INLINE_LIMIT);
+        }
+        this.mongoTemplate = mongoTemplate;
+        this.bounded = "bounded".equalsIgnoreCase(storage);
+        this.inlineLimit = inlineLimit;
+    }
+
+    public boolean isBounded() {
+        return bounded;
+    }
+
+    public int inlineLimit() {
+        return inlineLimit;
+    }
+
+    /**
+     * Grava as entradas {@code [fromIndex, toIndex)} do histórico. Entradas já existentes
+     * ({@code policyId:sequence}) não são alteradas.
+     */
+    public void append(String policyId, List<HistoryEntry> history, int fromIndex, int toIndex) {
+        if (fromIndex >= toIndex) {
+            return;
+        }
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, StatusHistoryEntity.COLLECTION);
+        for (int sequence = fromIndex; sequence < toIndex; sequence++) {
+            HistoryEntry entry = history.get(sequence);
+            Update insertOnly = new Update()
+                    .setOnInsert("policyId", policyId)
+                    .setOnInsert("sequence", sequence)
+                    .setOnInsert("status", entry.status().name())
+                    .setOnInsert("changedAt", entry.timestamp())
+                    .setOnInsert("reason", entry.reason());
+            bulk.upsert(Query.query(Criteria.where("_id").is(StatusHistoryEntity.idOf(policyId, sequence))), insertOnly);
+        }
+        bulk.execute();
+        log.debug("Histórico da proposta {} gravado. Entradas {} a {}", policyId, fromIndex, toIndex - 1);
+    }
+
+    public List<HistoryEntry> loadAll(String policyId) {
+        log.debug("Carregando histórico completo da proposta {}", policyId);
+
+        Query query = Query.query(Criteria.where("policyId").is(policyId))
+                .with(Sort.by(Sort.Direction.ASC, "sequence"));
+        return mongoTemplate.find(query, StatusHistoryEntity.class, StatusHistoryEntity.COLLECTION).stream()
+                .map(entity -> HistoryEntry.of(
+                        PolicyStatus.valueOf(entity.getStatus()),
+                        entity.getChangedAt(),
+                        entity.getReason()))
+                .toList();
+    }
+}
@@ -0,0 +1,104 @@
+package io.github.athirson010.adapters.out.persistence.mongo.mapper;
+
+import io.github.athirson010.adapters.out.persistence.mongo.document.PolicyEventEntity;
+import io.github.athirson010.adapters.out.persistence.mongo.document.PolicyProposalEntity;
+import io.github.athirson010.adapters.out.persistence.mongo.document.StatusHistoryEntryEntity;
+import io.github.athirson010.domain.model.HistoryEntry;
+import io.github.athirson010.domain.model.PolicyProposal;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+@Component
+public class PolicyEventEntityMapper {
+
+    private final StatusHistoryEntryEntityMapper statusHistoryMapper = new StatusHistoryEntryEntityMapper();
+
+    /**
+     * Gera o próximo evento a partir do estado atual da proposta e do último evento gravado.
+     * Lê apenas as entradas de histórico posteriores ao último evento, por índice.
+     *
+     * @param last último evento gravado, ou {@code null} quando ainda não há eventos
+     * @return o evento, ou {@code null} quando nada mudou desde o último evento
+     */
+    public PolicyEventEntity toNextEvent(PolicyProposal domain, PolicyEventEntity last, Instant now) {
+        List<HistoryEntry> history = domain.getHistory();
+        String status = domain.getStatus().name();
+
+        int alreadyRecorded = last != null ? last.getHistoryCount() : 0;
+        if (alreadyRecorded > history.size()) {
+            throw new IllegalStateException(String.format(
+                    "Policy %s history shorter than event log: %d < %d",
+                    domain.getId().asString(), history.size(), alreadyRecorded));
+        }
+
+        boolean statusChanged = last == null || !status.equals(last.getStatus());
+        boolean finishedAtChanged = last != null && !Objects.equals(domain.getFinishedAt(), last.getFinishedAt());
+        boolean historyAppended = alreadyRecorded < history.size();
+        // Resposta aprovada com a outra ainda pendente altera só as confirmações
+        boolean confirmationChanged = last != null && domain.getConfirmationFlags() != flagsOf(last);
+        if (!statusChanged && !finishedAtChanged && !historyAppended && !confirmationChanged) {
+            return null;
+        }
+
+        List<StatusHistoryEntryEntity> newEntries = new ArrayList<>(history.size() - alreadyRecorded);
+        for (int index = alreadyRecorded; index < history.size(); index++) {
+            newEntries.add(statusHistoryMapper.toEntity(history.get(index)));
+        }
+
+        long version = last != null ? last.getVersion() + 1 : 1;
+        String policyId = domain.getId().asString();
+        return PolicyEventEntity.builder()
+                .id(PolicyEventEntity.idOf(policyId, version))
+                .policyId(policyId)
+                .version(version)
+                .type(typeOf(last == null, statusChanged, historyAppended || finishedAtChanged))
+                .status(status)
+                .confirmationFlags(domain.getConfirmationFlags())
+                .finishedAt(domain.getFinishedAt())
+                .recordedAt(now)
+                .historyEntries(newEntries)
+                .historyCount(history.size())
+                .build();
+    }
+
+    /**
+     * Aplica o evento sobre o estado reconstruído da proposta.
+     */
+    public void apply(PolicyProposalEntity state, PolicyEventEntity event) {
+        state.setStatus(event.getStatus());
+        state.setFinishedAt(event.getFinishedAt());
+        if (event.getConfirmationFlags() != null) {
+            state.setConfirmationFlags(event.getConfirmationFlags());
+        }
+
+        List<StatusHistoryEntryEntity> history = state.getStatusHistory() != null
+                ? new ArrayList<>(state.getStatusHistory())
+                : new ArrayList<>();
+        if (event.getHistoryEntries() != null) {
+            history.addAll(event.getHistoryEntries());
+            if (state.getStatusHistoryCount() != null) {
+                state.setStatusHistoryCount(state.getStatusHistoryCount() + event.getHistoryEntries().size());
+            }
+        }
+        state.setStatusHistory(history);
+        state.setSnapshotVersion(event.getVersion());
+    }
+
+    private static String typeOf(boolean created, boolean statusChanged, boolean historyChanged) {
+        if (created) {
+            return PolicyEventEntity.TYPE_CREATED;
+        }
+        if (statusChanged) {
+            return PolicyEventEntity.TYPE_STATUS_CHANGED;
+        }
+        return historyChanged ? PolicyEventEntity.TYPE_HISTORY_APPENDED : PolicyEventEntity.TYPE_CONFIRMATION_RECORDED;
+    }
+
+    private static int flagsOf(PolicyEventEntity event) {
+        return event.getConfirmationFlags() != null ? event.getConfirmationFlags() : 0;
+    }
+}
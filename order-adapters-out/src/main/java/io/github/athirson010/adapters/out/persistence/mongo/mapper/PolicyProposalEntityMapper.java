@@ -1,9 +1,13 @@
 package io.github.athirson010.adapters.out.persistence.mongo.mapper;
 
 import io.github.athirson010.adapters.out.persistence.mongo.document.PolicyProposalEntity;
+import io.github.athirson010.adapters.out.persistence.mongo.history.LazyStatusHistory;
+import io.github.athirson010.domain.model.HistoryEntry;
 import io.github.athirson010.domain.model.PolicyProposal;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Component
@@ -14,11 +18,31 @@ public class PolicyProposalEntityMapper {
     private final AssistanceEntityMapper assistanceMapper = new AssistanceEntityMapper();
     private final StatusHistoryEntryEntityMapper statusHistoryMapper = new StatusHistoryEntryEntityMapper();
 
+    /**
+     * Converte mantendo apenas as últimas {@code inlineHistoryLimit} entradas do histórico inline.
+     * Acessa o histórico apenas por índice, sem hidratar um {@link LazyStatusHistory}.
+     */
+    public PolicyProposalEntity toEntity(PolicyProposal domain, int inlineHistoryLimit) {
+        if (domain == null) {
+            return null;
+        }
+
+        List<HistoryEntry> history = domain.getHistory();
+        int size = history.size();
+        PolicyProposalEntity entity = toEntity(domain, history.subList(Math.max(0, size - inlineHistoryLimit), size));
+        entity.setStatusHistoryCount(size);
+        return entity;
+    }
+
     public PolicyProposalEntity toEntity(PolicyProposal domain) {
         if (domain == null) {
             return null;
         }
 
+        return toEntity(domain, domain.getHistory());
+    }
+
+    private PolicyProposalEntity toEntity(PolicyProposal domain, List<HistoryEntry> inlineHistory) {
         return PolicyProposalEntity.builder()
                 .id(domain.getId().asString())
                 .proposalNumber(null) // Será gerado pelo sistema quando necessário
@@ -41,18 +65,55 @@ public class PolicyProposalEntityMapper {
                 .createdAt(domain.getCreatedAt())
                 .validatedAt(null) // Campo ainda não implementado no domínio
                 .finishedAt(domain.getFinishedAt())
+                .pendingSince(domain.pendingSince())
                 .canceledAt(null) // Campo ainda não implementado no domínio
-                .statusHistory(domain.getHistory().stream()
+                .confirmationFlags(domain.getConfirmationFlags())
+                .statusHistory(inlineHistory.stream()
                         .map(statusHistoryMapper::toEntity)
                         .collect(Collectors.toList()))
                 .build();
     }
 
+    /**
+     * Converte um documento cujo histórico pode estar limitado às últimas entradas inline.
+     * Nesse caso o histórico do domínio é um {@link LazyStatusHistory} que usa
+     * {@code fullHistoryLoader} apenas quando entradas anteriores forem acessadas.
+     */
+    public PolicyProposal toDomain(PolicyProposalEntity entity,
+                                   Function<String, List<HistoryEntry>> fullHistoryLoader) {
+        if (entity == null) {
+            return null;
+        }
+
+        List<HistoryEntry> inlineHistory = toDomainHistory(entity);
+        Integer totalEntries = entity.getStatusHistoryCount();
+        if (totalEntries == null || totalEntries <= inlineHistory.size()) {
+            return toDomain(entity, inlineHistory);
+        }
+
+        return toDomain(entity, new LazyStatusHistory(
+                totalEntries, inlineHistory, () -> fullHistoryLoader.apply(entity.getId())));
+    }
+
     public PolicyProposal toDomain(PolicyProposalEntity entity) {
         if (entity == null) {
             return null;
         }
 
+        return toDomain(entity, toDomainHistory(entity));
+    }
+
+    private List<HistoryEntry> toDomainHistory(PolicyProposalEntity entity) {
+        // Converte List<StatusHistoryEntryEntity> para List<HistoryEntry>
+        return entity.getStatusHistory() != null
+                ? entity.getStatusHistory().stream()
+                .map(statusHistoryMapper::toDomain)
+                .filter(java.util.Objects::nonNull)
+                .collect(Collectors.toList())
+                : new java.util.ArrayList<>();
+    }
+
+    private PolicyProposal toDomain(PolicyProposalEntity entity, List<HistoryEntry> historyList) {
         // Converte List<CoverageEntity> para Map<String, Money>
         java.util.Map<String, io.github.athirson010.domain.model.Money> coveragesMap = new java.util.HashMap<>();
         if (entity.getCoverages() != null) {
@@ -73,14 +134,6 @@ public class PolicyProposalEntityMapper {
                 .collect(Collectors.toList())
                 : java.util.Collections.emptyList();
 
-        // Converte List<StatusHistoryEntryEntity> para List<HistoryEntry>
-        java.util.List<io.github.athirson010.domain.model.HistoryEntry> historyList = entity.getStatusHistory() != null
-                ? entity.getStatusHistory().stream()
-                .map(statusHistoryMapper::toDomain)
-                .filter(java.util.Objects::nonNull)
-                .collect(Collectors.toList())
-                : new java.util.ArrayList<>();
-
         return PolicyProposal.builder()
                 .id(io.github.athirson010.domain.model.PolicyProposalId.from(entity.getId()))
                 .customerId(java.util.UUID.fromString(entity.getCustomerId()))
@@ -95,7 +148,9 @@ public class PolicyProposalEntityMapper {
                 .status(io.github.athirson010.domain.enums.PolicyStatus.valueOf(entity.getStatus()))
                 .createdAt(entity.getCreatedAt())
                 .finishedAt(entity.getFinishedAt())
+                .confirmationFlags(entity.getConfirmationFlags() != null ? entity.getConfirmationFlags() : 0)
                 .history(historyList)
+                .version(entity.getVersion() != null ? entity.getVersion() : 0)
                 .build();
     }
 }
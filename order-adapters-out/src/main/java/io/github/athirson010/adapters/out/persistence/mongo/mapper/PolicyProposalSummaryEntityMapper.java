@@ -0,0 +1,38 @@
+package io.github.athirson010.adapters.out.persistence.mongo.mapper;
+
+import io.github.athirson010.adapters.out.persistence.mongo.document.PolicyProposalSummaryEntity;
+import io.github.athirson010.domain.enums.Category;
+import io.github.athirson010.domain.enums.PaymentMethod;
+import io.github.athirson010.domain.enums.PolicyStatus;
+import io.github.athirson010.domain.enums.SalesChannel;
+import io.github.athirson010.domain.model.PolicyProposalId;
+import io.github.athirson010.domain.model.PolicyProposalSummary;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+@Component
+public class PolicyProposalSummaryEntityMapper {
+
+    private final MoneyEntityMapper moneyMapper = new MoneyEntityMapper();
+
+    public PolicyProposalSummary toDomain(PolicyProposalSummaryEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+
+        return new PolicyProposalSummary(
+                PolicyProposalId.from(entity.getId()),
+                UUID.fromString(entity.getCustomerId()),
+                entity.getProductId(),
+                Category.valueOf(entity.getCategory()),
+                SalesChannel.valueOf(entity.getSalesChannel()),
+                PaymentMethod.valueOf(entity.getPaymentMethod()),
+                PolicyStatus.valueOf(entity.getStatus()),
+                moneyMapper.toDomain(entity.getTotalMonthlyPremiumAmount()),
+                moneyMapper.toDomain(entity.getInsuredAmount()),
+                entity.getCreatedAt(),
+                entity.getFinishedAt()
+        );
+    }
+}
@@ -0,0 +1,103 @@
+package io.github.athirson010.adapters.out.persistence.mongo.projection;
+
+import io.github.athirson010.adapters.out.persistence.mongo.counter.PolicyStatusCounterStore;
+import io.github.athirson010.adapters.out.persistence.mongo.document.PolicyProposalEntity;
+import io.github.athirson010.adapters.out.persistence.mongo.history.StatusHistoryStore;
+import io.github.athirson010.domain.enums.PolicyStatus;
+import io.github.athirson010.domain.model.HistoryEntry;
+import io.github.athirson010.domain.model.PolicyStatusStatistics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Dados derivados de cada gravação da proposta: o histórico em {@code policy_status_history} (modo
+ * {@code bounded}) e os contadores materializados de status.
+ * <p>
+ * Rodam depois que o documento ou o evento foi gravado, e uma falha aqui não desfaz nem falha a gravação:
+ * o histórico fica inline no documento até a próxima gravação e os contadores são corrigidos pela reconstrução.
+ */
+@Slf4j
+@Component
+@Profile("!in-memory")
+@RequiredArgsConstructor
+public class PolicyProjections {
+
+    private final StatusHistoryStore historyStore;
+    private final PolicyStatusCounterStore counterStore;
+
+    public boolean isHistoryBounded() {
+        return historyStore.isBounded();
+    }
+
+    public int historyInlineLimit() {
+        return historyStore.inlineLimit();
+    }
+
+    public List<HistoryEntry> loadHistory(String policyId) {
+        return historyStore.loadAll(policyId);
+    }
+
+    public PolicyStatusStatistics loadStatistics(Instant hourlySince) {
+        return counterStore.load(hourlySince);
+    }
+
+    /**
+     * Projeta a substituição do documento {@code current}, que ocupou o lugar de {@code previous}
+     * ({@code null} quando foi inserido).
+     */
+    public void documentReplaced(PolicyProposalEntity current, List<HistoryEntry> history, PolicyProposalEntity previous) {
+        if (historyStore.isBounded()) {
+            appendHistory(current.getId(), history, previous);
+        }
+        recordTransition(statusOf(previous), current);
+    }
+
+    /**
+     * Projeta a mudança de status de {@code previousStatus} para o status de {@code current}.
+     */
+    public void recordTransition(PolicyStatus previousStatus, PolicyProposalEntity current) {
+        try {
+            counterStore.recordTransition(
+                    previousStatus,
+                    PolicyStatus.valueOf(current.getStatus()),
+                    current.getCategory(),
+                    current.getSalesChannel(),
+                    Instant.now()
+            );
+        } catch (RuntimeException e) {
+            // A proposta já foi persistida; contadores são derivados e não devem falhar a operação
+            log.error("Falha ao atualizar contadores de status da proposta {}: {}", current.getId(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Grava em {@code policy_status_history} as entradas da janela inline do documento substituído em diante.
+     * Roda só depois do {@code findAndReplace}: quem perde a gravação não ocupa sequências com entradas suas.
+     * A janela anterior é regravada (sem efeito para entradas existentes) para cobrir uma gravação interrompida
+     * entre a substituição e o histórico.
+     */
+    private void appendHistory(String policyId, List<HistoryEntry> history, PolicyProposalEntity previous) {
+        Integer previousCount = previous != null ? previous.getStatusHistoryCount() : null;
+        // Documento novo ou gravado antes com histórico embutido: copia o histórico inteiro uma única vez
+        int fromIndex = previousCount == null
+                ? 0
+                : Math.max(0, Math.min(previousCount, history.size()) - historyStore.inlineLimit());
+        try {
+            historyStore.append(policyId, history, fromIndex, history.size());
+        } catch (RuntimeException e) {
+            // As entradas continuam inline no documento e são regravadas na próxima gravação
+            log.error("Falha ao gravar histórico da proposta {}: {}", policyId, e.getMessage(), e);
+        }
+    }
+
+    public static PolicyStatus statusOf(PolicyProposalEntity document) {
+        return document != null && document.getStatus() != null
+                ? PolicyStatus.valueOf(document.getStatus())
+                : null;
+    }
+}
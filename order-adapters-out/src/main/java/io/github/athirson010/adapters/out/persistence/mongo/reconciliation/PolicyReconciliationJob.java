@@ -0,0 +1,374 @@
+package io.github.athirson010.adapters.out.persistence.mongo.reconciliation;
+
+import io.github.athirson010.core.service.PolicyRedriveService;
+import io.github.athirson010.core.service.PolicyRedriveService.Gap;
+import io.github.athirson010.domain.enums.PolicyStatus;
+import io.github.athirson010.domain.model.PolicyProposalId;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Reconciliação entre o MongoDB e os brokers: encontra propostas que ficaram sem a mensagem que as levaria adiante
+ * e a publica de novo.
+ * <ul>
+ *     <li>{@code NOT_QUEUED}: em RECEIVED há mais de {@code min-age} sem {@code queuedAt}, a marca gravada quando a
+ *     fila aceita a mensagem (ex.: {@code sendToFraudQueue} falhou depois de gravar). Proposta com a marca está
+ *     apenas aguardando em uma raia com backlog e não é reenviada. Reenviada para {@code order-service-consumer};
+ *     uma cópia que chegue depois da original é descartada pelo consumer.</li>
+ *     <li>{@code NOT_PUBLISHED}: em PENDING há mais de {@code min-age} sem {@code publishedAt}, a marca gravada
+ *     quando o {@code order-topic} confirma o evento de aprovação, e sem nenhuma resposta de pagamento ou
+ *     subscrição. Proposta com a marca está apenas aguardando os parceiros (ou a gravação do
+ *     {@code confirmation-aggregator}) e não é reenviada. Reenviado ao {@code order-topic} e marcado.</li>
+ * </ul>
+ * A coleção é varrida por {@code _id} em {@code partitions} faixas ({@link ReconciliationRange}), com até
+ * {@code parallelism} faixas ao mesmo tempo, páginas de {@code page-size} e pausa entre páginas. O checkpoint de
+ * cada faixa é gravado a cada página, então uma execução interrompida continua de onde parou; a passada seguinte
+ * recomeça quando todas as faixas terminam. Os reenvios passam por um limite de {@code redrives-per-second} e são
+ * feitos pelo {@link PolicyRedriveService}, que relê a proposta antes de publicar. O reenvio fica marcado em
+ * {@code reconciledAt} e só se repete após {@code redrive-interval}.
+ * <p>
+ * Lacunas sem publicador na instância são apenas contadas. Deve ser habilitado em apenas uma instância
+ * ({@code policy.reconciliation.enabled=true}).
+ * <p>
+ * Métricas: {@code policy.reconciliation.scanned}, {@code policy.reconciliation.gaps} (tag {@code type}),
+ * {@code policy.reconciliation.redrives} (tags {@code type} e {@code outcome}) e
+ * {@code policy.reconciliation.progress} (fração estimada da passada atual).
+ */
+@Slf4j
+@Component
+@Profile("!in-memory")
+@ConditionalOnProperty(name = "policy.reconciliation.enabled", havingValue = "true")
+public class PolicyReconciliationJob implements DisposableBean {
+
+    static final String SCANNED_METRIC = "policy.reconciliation.scanned";
+    static final String GAPS_METRIC = "policy.reconciliation.gaps";
+    static final String REDRIVES_METRIC = "policy.reconciliation.redrives";
+    static final String PROGRESS_METRIC = "policy.reconciliation.progress";
+
+    static final String ERROR_OUTCOME = "ERROR";
+
+    private final PolicyReconciliationStore store;
+    private final PolicyRedriveService redriveService;
+    private final MeterRegistry meterRegistry;
+    private final List<ReconciliationRange> ranges;
+    private final int pageSize;
+    private final Duration pauseBetweenPages;
+    private final Duration minAge;
+    private final Duration redriveInterval;
+    private final RedriveRateLimiter rateLimiter;
+    private final Clock clock;
+    private final ExecutorService coordinator;
+    private final ExecutorService workers;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLongArray progress;
+    private final Counter scanned;
+
+    @Autowired
+    public PolicyReconciliationJob(PolicyReconciliationStore store,
+                                   PolicyRedriveService redriveService,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${policy.reconciliation.partitions:16}") int partitions,
+                                   @Value("${policy.reconciliation.parallelism:4}") int parallelism,
+                                   @Value("${policy.reconciliation.page-size:200}") int pageSize,
+                                   @Value("${policy.reconciliation.pause-between-pages:200ms}") Duration pauseBetweenPages,
+                                   @Value("${policy.reconciliation.min-age:10m}") Duration minAge,
+                                   @Value("${policy.reconciliation.redrive-interval:1h}") Duration redriveInterval,
+                                   @Value("${policy.reconciliation.redrives-per-second:20}") double redrivesPerSecond) {
+        this(store, redriveService, meterRegistry,
+                partitions, parallelism, pageSize, pauseBetweenPages, minAge, redriveInterval, redrivesPerSecond,
+                Clock.systemUTC());
+    }
+
+    PolicyReconciliationJob(PolicyReconciliationStore store,
+                            PolicyRedriveService redriveService,
+                            MeterRegistry meterRegistry,
+                            int partitions,
+                            int parallelism,
+                            int pageSize,
+                            Duration pauseBetweenPages,
+                            Duration minAge,
+                            Duration redriveInterval,
+                            double redrivesPerSecond,
+                            Clock clock) {
+        if (parallelism <= 0 || pageSize <= 0 || redrivesPerSecond <= 0) {
+            throw new IllegalArgumentException(String.format(
+                    "Configuração da reconciliação inválida: parallelism=%d, page-size=%d, redrives-per-second=%s",
+                    parallelism, pageSize, redrivesPerSecond));
+        }
+        this.store = store;
+        this.redriveService = redriveService;
+        this.meterRegistry = meterRegistry;
+        this.ranges = ReconciliationRange.split(partitions);
+        this.pageSize = pageSize;
+        this.pauseBetweenPages = pauseBetweenPages;
+        this.minAge = minAge;
+        this.redriveInterval = redriveInterval;
+        this.rateLimiter = new RedriveRateLimiter(redrivesPerSecond);
+        this.clock = clock;
+        this.coordinator = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("reconciliation-"));
+        this.workers = Executors.newFixedThreadPool(parallelism, new CustomizableThreadFactory("reconciliation-scan-"));
+        this.progress = new AtomicLongArray(partitions);
+
+        this.scanned = Counter.builder(SCANNED_METRIC)
+                .description("Propostas varridas pela reconciliação")
+                .register(meterRegistry);
+        Gauge.builder(PROGRESS_METRIC, this, PolicyReconciliationJob::progress)
+                .description("Fração estimada da passada atual da reconciliação")
+                .register(meterRegistry);
+
+        if (!redriveService.canRedrive(Gap.NOT_QUEUED) || !redriveService.canRedrive(Gap.NOT_PUBLISHED)) {
+            log.warn("Reconciliação sem publicador para {}: essas lacunas serão apenas contadas",
+                    !redriveService.canRedrive(Gap.NOT_QUEUED)
+                            ? "order-service-consumer (profile api)"
+                            : "order-topic (profile order-consumer)");
+        }
+    }
+
+    /**
+     * Dispara a reconciliação em segundo plano, sem ocupar a thread do agendador. Se a execução anterior ainda
+     * não terminou, esta é ignorada.
+     */
+    @Scheduled(cron = "${policy.reconciliation.cron:0 */30 * * * *}")
+    public void trigger() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("Reconciliação anterior ainda em andamento. Execução ignorada");
+            return;
+        }
+        coordinator.execute(() -> {
+            try {
+                run();
+            } catch (RuntimeException e) {
+                log.error("Falha na reconciliação: {}", e.getMessage(), e);
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    /**
+     * Executa a passada atual até o fim (ou até ser interrompida), continuando dos checkpoints.
+     */
+    void run() {
+        Map<Integer, ReconciliationCheckpoint> checkpoints = store.loadCheckpoints();
+        boolean passCompleted = checkpoints.size() == ranges.size()
+                && checkpoints.values().stream().allMatch(ReconciliationCheckpoint::completed);
+        boolean reconfigured = checkpoints.values().stream().anyMatch(checkpoint -> checkpoint.partitions() != ranges.size());
+        if (passCompleted || reconfigured) {
+            store.resetCheckpoints();
+            checkpoints = Map.of();
+        }
+
+        Instant cutoff = clock.instant().minus(minAge);
+        Instant redriveBefore = clock.instant().minus(redriveInterval);
+        List<Callable<Long>> scans = new ArrayList<>();
+        for (ReconciliationRange range : ranges) {
+            ReconciliationCheckpoint checkpoint = checkpoints.get(range.partition());
+            setProgress(range, checkpoint == null ? 0 : checkpoint.completed() ? 1 : range.progress(checkpoint.lastId()));
+            if (checkpoint == null || !checkpoint.completed()) {
+                scans.add(() -> scan(range, checkpoint, cutoff, redriveBefore));
+            }
+        }
+        log.info("Iniciando reconciliação de {} de {} partição(ões). Lacunas anteriores a {}",
+                scans.size(), ranges.size(), cutoff);
+
+        long total = 0;
+        try {
+            for (Future<Long> result : workers.invokeAll(scans)) {
+                total += result.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Reconciliação interrompida. Será retomada do checkpoint na próxima execução");
+            return;
+        } catch (ExecutionException e) {
+            log.error("Falha ao varrer uma partição da reconciliação: {}", e.getCause().getMessage(), e.getCause());
+        }
+        log.info("Reconciliação finalizada. Propostas varridas nesta execução={}", total);
+    }
+
+    private long scan(ReconciliationRange range, ReconciliationCheckpoint checkpoint, Instant cutoff, Instant redriveBefore) {
+        String after = checkpoint == null ? null : checkpoint.lastId();
+        long total = checkpoint == null ? 0 : checkpoint.scanned();
+        long scannedNow = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            List<Document> page = store.scan(range, after, pageSize);
+            for (Document document : page) {
+                detect(document, cutoff, redriveBefore)
+                        .ifPresent(gap -> redrive(document.getString("_id"), gap));
+            }
+            if (!page.isEmpty()) {
+                after = page.get(page.size() - 1).getString("_id");
+            }
+            scannedNow += page.size();
+            total += page.size();
+            scanned.increment(page.size());
+
+            boolean completed = page.size() < pageSize;
+            store.saveCheckpoint(new ReconciliationCheckpoint(range.partition(), ranges.size(), after, completed, total),
+                    clock.instant());
+            setProgress(range, completed ? 1 : range.progress(after));
+            if (completed || !pause()) {
+                break;
+            }
+        }
+        return scannedNow;
+    }
+
+    static Optional<Gap> detect(Document document, Instant cutoff, Instant redriveBefore) {
+        Date reconciledAt = document.getDate("reconciledAt");
+        if (reconciledAt != null && reconciledAt.toInstant().isAfter(redriveBefore)) {
+            return Optional.empty();
+        }
+        String status = document.getString("status");
+        if (PolicyStatus.RECEIVED.name().equals(status)) {
+            Date createdAt = document.getDate("createdAt");
+            return document.get("queuedAt") == null && createdAt != null && createdAt.toInstant().isBefore(cutoff)
+                    ? Optional.of(Gap.NOT_QUEUED)
+                    : Optional.empty();
+        }
+        if (PolicyStatus.PENDING.name().equals(status)) {
+            // Uma resposta registrada também prova a publicação: a gravação dela remove a marca
+            Integer flags = document.getInteger("confirmationFlags");
+            Date pendingSince = document.getDate("pendingSince");
+            return document.get("publishedAt") == null && (flags == null || flags == 0)
+                    && pendingSince != null && pendingSince.toInstant().isBefore(cutoff)
+                    ? Optional.of(Gap.NOT_PUBLISHED)
+                    : Optional.empty();
+        }
+        return Optional.empty();
+    }
+
+    private void redrive(String policyId, Gap gap) {
+        gapCounter(gap).increment();
+        if (!redriveService.canRedrive(gap)) {
+            redriveCounter(gap, PolicyRedriveService.Outcome.UNAVAILABLE.name()).increment();
+            return;
+        }
+        if (!rateLimiter.acquire()) {
+            return;
+        }
+
+        String outcome = ERROR_OUTCOME;
+        try {
+            PolicyRedriveService.Outcome result = redriveService.redrive(PolicyProposalId.from(policyId), gap);
+            if (result == PolicyRedriveService.Outcome.REDRIVEN) {
+                store.markRedriven(policyId, gap.status().name(), clock.instant());
+            }
+            outcome = result.name();
+        } catch (RuntimeException e) {
+            log.warn("Falha ao reenviar a proposta {} pela reconciliação ({}): {}", policyId, gap, e.getMessage());
+        } finally {
+            redriveCounter(gap, outcome).increment();
+        }
+    }
+
+    private boolean pause() {
+        if (pauseBetweenPages.isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseBetweenPages.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    double progress() {
+        double sum = 0;
+        for (int partition = 0; partition < progress.length(); partition++) {
+            sum += Double.longBitsToDouble(progress.get(partition));
+        }
+        return sum / progress.length();
+    }
+
+    private void setProgress(ReconciliationRange range, double value) {
+        progress.set(range.partition(), Double.doubleToLongBits(value));
+    }
+
+    private Counter gapCounter(Gap gap) {
+        return Counter.builder(GAPS_METRIC)
+                .description("Lacunas encontradas pela reconciliação")
+                .tag("type", gap.name())
+                .register(meterRegistry);
+    }
+
+    private Counter redriveCounter(Gap gap, String outcome) {
+        return Counter.builder(REDRIVES_METRIC)
+                .description("Reenvios da reconciliação")
+                .tag("type", gap.name())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void destroy() {
+        coordinator.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    /**
+     * Espaça os reenvios de todas as partições em intervalos fixos, reservando o próximo horário livre.
+     */
+    static final class RedriveRateLimiter {
+
+        private final long intervalNanos;
+        private long nextFreeNanos = System.nanoTime();
+
+        RedriveRateLimiter(double permitsPerSecond) {
+            this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        }
+
+        /**
+         * @return {@code false} se a espera foi interrompida
+         */
+        boolean acquire() {
+            long waitNanos;
+            synchronized (this) {
+                long now = System.nanoTime();
+                long slot = Math.max(now, nextFreeNanos);
+                nextFreeNanos = slot + intervalNanos;
+                waitNanos = slot - now;
+            }
+            if (waitNanos <= 0) {
+                return true;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+}
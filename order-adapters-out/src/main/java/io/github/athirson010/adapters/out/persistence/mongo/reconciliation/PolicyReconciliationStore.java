@@ -0,0 +1,116 @@
+package io.github.athirson010.adapters.out.persistence.mongo.reconciliation;
+
+import com.mongodb.ReadPreference;
+import io.github.athirson010.adapters.out.persistence.mongo.document.PolicyProposalEntity;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Acesso ao MongoDB da reconciliação: varredura de {@code policy_proposals} por faixa de {@code _id},
+ * checkpoints por partição em {@code policy_reconciliation_checkpoints} e marca das propostas reenviadas.
+ * <p>
+ * A varredura usa o índice de {@code _id}, lê só os campos da detecção e sai pelo read preference configurado
+ * ({@code secondaryPreferred} por padrão), para não competir com as gravações no primário.
+ */
+@Component
+@Profile("!in-memory")
+@ConditionalOnProperty(name = "policy.reconciliation.enabled", havingValue = "true")
+public class PolicyReconciliationStore {
+
+    public static final String CHECKPOINT_COLLECTION = "policy_reconciliation_checkpoints";
+
+    static final List<String> SCAN_FIELDS =
+            List.of("status", "createdAt", "queuedAt", "publishedAt", "pendingSince", "confirmationFlags", "reconciledAt");
+
+    private final MongoTemplate mongoTemplate;
+    private final ReadPreference readPreference;
+
+    public PolicyReconciliationStore(MongoTemplate mongoTemplate,
+                                     @Value("${policy.reconciliation.read-preference:secondaryPreferred}") String readPreference) {
+        this.mongoTemplate = mongoTemplate;
+        this.readPreference = ReadPreference.valueOf(readPreference);
+    }
+
+    /**
+     * Próxima página da faixa, em ordem crescente de {@code _id}, a partir do id seguinte a {@code after}.
+     */
+    List<Document> scan(ReconciliationRange range, String after, int limit) {
+        Criteria criteria = Criteria.where("_id");
+        boolean bounded = false;
+        String from = after != null ? after : range.lower();
+        if (from != null) {
+            criteria = after != null ? criteria.gt(from) : criteria.gte(from);
+            bounded = true;
+        }
+        if (range.upper() != null) {
+            criteria = criteria.lt(range.upper());
+            bounded = true;
+        }
+        Query query = (bounded ? Query.query(criteria) : new Query())
+                .with(Sort.by(Sort.Direction.ASC, "_id"))
+                .limit(limit)
+                .cursorBatchSize(limit)
+                .withReadPreference(readPreference);
+        SCAN_FIELDS.forEach(field -> query.fields().include(field));
+        return mongoTemplate.find(query, Document.class, PolicyProposalEntity.COLLECTION);
+    }
+
+    Map<Integer, ReconciliationCheckpoint> loadCheckpoints() {
+        Map<Integer, ReconciliationCheckpoint> checkpoints = new HashMap<>();
+        for (Document document : mongoTemplate.findAll(Document.class, CHECKPOINT_COLLECTION)) {
+            ReconciliationCheckpoint checkpoint = new ReconciliationCheckpoint(
+                    document.getInteger("partition"),
+                    document.getInteger("partitions"),
+                    document.getString("lastId"),
+                    document.getBoolean("completed", false),
+                    document.get("scanned", Number.class).longValue());
+            checkpoints.put(checkpoint.partition(), checkpoint);
+        }
+        return checkpoints;
+    }
+
+    void saveCheckpoint(ReconciliationCheckpoint checkpoint, Instant now) {
+        Update update = new Update()
+                .set("partition", checkpoint.partition())
+                .set("partitions", checkpoint.partitions())
+                .set("lastId", checkpoint.lastId())
+                .set("completed", checkpoint.completed())
+                .set("scanned", checkpoint.scanned())
+                .set("updatedAt", Date.from(now));
+        mongoTemplate.upsert(Query.query(Criteria.where("_id").is(checkpointId(checkpoint.partition()))),
+                update, CHECKPOINT_COLLECTION);
+    }
+
+    void resetCheckpoints() {
+        mongoTemplate.remove(new Query(), CHECKPOINT_COLLECTION);
+    }
+
+    /**
+     * Marca a proposta como reenviada, se continua no status em que foi reenviada. Uma gravação completa do
+     * documento pelo fluxo normal remove a marca.
+     */
+    void markRedriven(String policyId, String status, Instant now) {
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(policyId).and("status").is(status)),
+                new Update().set("reconciledAt", Date.from(now)),
+                PolicyProposalEntity.COLLECTION);
+    }
+
+    private static String checkpointId(int partition) {
+        return String.format("partition-%04d", partition);
+    }
+}
@@ -0,0 +1,8 @@
+package io.github.athirson010.adapters.out.persistence.mongo.reconciliation;
+
+/**
+ * Posição de uma partição na passada atual da reconciliação: último {@code _id} varrido e se a faixa terminou.
+ * {@code partitions} registra com quantas partições a passada começou; mudar a configuração reinicia a passada.
+ */
+record ReconciliationCheckpoint(int partition, int partitions, String lastId, boolean completed, long scanned) {
+}
@@ -0,0 +1,50 @@
+package io.github.athirson010.adapters.out.persistence.mongo.reconciliation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Faixa de {@code _id} varrida por um worker da reconciliação: {@code [lower, upper)}, com {@code null} como limite
+ * aberto. Os ids são UUIDs em hexadecimal minúsculo, então as faixas dividem o espaço dos 8 primeiros dígitos em
+ * partes iguais e a comparação de strings do MongoDB segue a ordem numérica. A primeira e a última faixa são abertas
+ * para que ids fora do formato também sejam varridos.
+ */
+record ReconciliationRange(int partition, String lower, String upper) {
+
+    private static final long KEY_SPACE = 1L << 32;
+
+    static List<ReconciliationRange> split(int partitions) {
+        if (partitions <= 0 || partitions > 4096) {
+            throw new IllegalArgumentException("Quantidade de partições da reconciliação inválida: " + partitions);
+        }
+        List<ReconciliationRange> ranges = new ArrayList<>(partitions);
+        for (int partition = 0; partition < partitions; partition++) {
+            String lower = partition == 0 ? null : boundary(partition, partitions);
+            String upper = partition == partitions - 1 ? null : boundary(partition + 1, partitions);
+            ranges.add(new ReconciliationRange(partition, lower, upper));
+        }
+        return ranges;
+    }
+
+    /**
+     * Fração estimada da faixa já varrida até {@code lastId}, pela posição dos 8 primeiros dígitos.
+     */
+    double progress(String lastId) {
+        if (lastId == null) {
+            return 0;
+        }
+        long position;
+        try {
+            position = Long.parseLong(lastId.substring(0, Math.min(8, lastId.length())), 16);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+        long from = lower == null ? 0 : Long.parseLong(lower, 16);
+        long to = upper == null ? KEY_SPACE : Long.parseLong(upper, 16);
+        return Math.max(0, Math.min(1, (double) (position - from) / (to - from)));
+    }
+
+    private static String boundary(int partition, int partitions) {
+        return String.format("%08x", partition * KEY_SPACE / partitions);
+    }
+}
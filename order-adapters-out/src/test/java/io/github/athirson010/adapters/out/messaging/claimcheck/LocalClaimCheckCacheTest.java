@@ -0,0 +1,91 @@
+package io.github.athirson010.adapters.out.messaging.claimcheck;
+
+import io.github.athirson010.domain.enums.Category;
+import io.github.athirson010.domain.enums.PaymentMethod;
+import io.github.athirson010.domain.enums.PolicyStatus;
+import io.github.athirson010.domain.enums.SalesChannel;
+import io.github.athirson010.domain.model.Money;
+import io.github.athirson010.domain.model.PolicyProposal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LocalClaimCheckCache - Testes Unitários")
+class LocalClaimCheckCacheTest {
+
+    @Test
+    @DisplayName("Deve retornar cópia independente e remover a entrada na leitura")
+    void deveRetornarCopiaERemoverNaLeitura() {
+        // Given
+        LocalClaimCheckCache cache = new LocalClaimCheckCache(Duration.ofSeconds(30), 10);
+        PolicyProposal proposal = proposal();
+        cache.put(proposal);
+
+        // When
+        PolicyProposal cached = cache.take(proposal.getId()).orElseThrow();
+        cached.validate(Instant.now());
+
+        // Then
+        assertThat(cached).isNotSameAs(proposal);
+        assertThat(proposal.getStatus()).isEqualTo(PolicyStatus.RECEIVED);
+        assertThat(proposal.getHistory()).hasSize(1);
+        assertThat(cache.take(proposal.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Não deve retornar entrada expirada")
+    void naoDeveRetornarEntradaExpirada() {
+        // Given
+        LocalClaimCheckCache cache = new LocalClaimCheckCache(Duration.ZERO, 10);
+        PolicyProposal proposal = proposal();
+        cache.put(proposal);
+
+        // When / Then
+        assertThat(cache.take(proposal.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve descartar expiradas e ignorar novas entradas quando cheio")
+    void deveRespeitarLimiteDeEntradas() {
+        // Given
+        LocalClaimCheckCache expiring = new LocalClaimCheckCache(Duration.ZERO, 1);
+        expiring.put(proposal());
+        LocalClaimCheckCache full = new LocalClaimCheckCache(Duration.ofSeconds(30), 1);
+        PolicyProposal first = proposal();
+        full.put(first);
+
+        // When
+        PolicyProposal next = proposal();
+        expiring.put(next);
+        full.put(proposal());
+
+        // Then
+        assertThat(expiring.size()).isEqualTo(1);
+        assertThat(expiring.take(next.getId())).isEmpty();
+        assertThat(full.size()).isEqualTo(1);
+        assertThat(full.take(first.getId())).isPresent();
+    }
+
+    private PolicyProposal proposal() {
+        return PolicyProposal.create(
+                UUID.randomUUID(),
+                "PROD-AUTO-2024",
+                Category.AUTO,
+                SalesChannel.MOBILE,
+                PaymentMethod.CREDIT_CARD,
+                Money.brl(new BigDecimal("350.00")),
+                Money.brl(new BigDecimal("200000.00")),
+                Map.of("COLISAO", Money.brl(new BigDecimal("200000.00"))),
+                List.of("GUINCHO_24H"),
+                Instant.now()
+        );
+    }
+}
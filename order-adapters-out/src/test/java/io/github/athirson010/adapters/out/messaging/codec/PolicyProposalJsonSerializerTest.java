@@ -0,0 +1,80 @@
+package io.github.athirson010.adapters.out.messaging.codec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.github.athirson010.domain.enums.Category;
+import io.github.athirson010.domain.enums.PaymentMethod;
+import io.github.athirson010.domain.enums.SalesChannel;
+import io.github.athirson010.domain.model.Money;
+import io.github.athirson010.domain.model.PolicyProposal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PolicyProposalJsonSerializer - Testes Unitários")
+class PolicyProposalJsonSerializerTest {
+
+    private static final Instant T0 = Instant.parse("2024-01-10T10:00:00.123456Z");
+
+    private final ObjectMapper beanMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final ObjectMapper streamingMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .registerModule(new SimpleModule().addSerializer(PolicyProposal.class, new PolicyProposalJsonSerializer()));
+
+    @Test
+    @DisplayName("Deve gerar o mesmo JSON da serialização por bean para proposta recém-criada")
+    void deveGerarMesmoJsonParaPropostaRecebida() throws Exception {
+        PolicyProposal proposal = proposal();
+
+        assertSameJson(proposal);
+    }
+
+    @Test
+    @DisplayName("Deve gerar o mesmo JSON da serialização por bean para proposta finalizada com histórico")
+    void deveGerarMesmoJsonParaPropostaFinalizada() throws Exception {
+        PolicyProposal proposal = proposal();
+        proposal.validate(T0.plusSeconds(1));
+        proposal.markAsPending(T0.plusSeconds(2));
+        proposal.processPaymentResponse(false, "Saldo insuficiente", T0.plusSeconds(3));
+        proposal.processSubscriptionResponse(true, null, T0.plusSeconds(4));
+
+        assertSameJson(proposal);
+    }
+
+    private void assertSameJson(PolicyProposal proposal) throws Exception {
+        JsonNode expected = beanMapper.readTree(beanMapper.writeValueAsBytes(proposal));
+        JsonNode actual = streamingMapper.readTree(streamingMapper.writeValueAsBytes(proposal));
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    private PolicyProposal proposal() {
+        return PolicyProposal.create(
+                UUID.randomUUID(),
+                "PROD-AUTO-2024",
+                Category.AUTO,
+                SalesChannel.MOBILE,
+                PaymentMethod.CREDIT_CARD,
+                Money.brl(new BigDecimal("350.00")),
+                Money.brl(new BigDecimal("200000.00")),
+                Map.of("COLISAO", Money.brl(new BigDecimal("200000.00")),
+                        "ROUBO", Money.brl(new BigDecimal("150000.50"))),
+                List.of("GUINCHO_24H", "CARRO_RESERVA"),
+                T0
+        );
+    }
+}
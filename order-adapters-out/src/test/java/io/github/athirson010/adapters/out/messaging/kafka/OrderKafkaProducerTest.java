@@ -7,6 +7,8 @@ import io.github.athirson010.domain.enums.PaymentMethod;
 import io.github.athirson010.domain.enums.SalesChannel;
 import io.github.athirson010.domain.model.Money;
 import io.github.athirson010.domain.model.PolicyProposal;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.clients.producer.RecordMetadata;
 import org.apache.kafka.common.TopicPartition;
@@ -16,6 +18,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
@@ -27,6 +30,7 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -42,6 +46,9 @@ class OrderKafkaProducerTest {
     @Mock
     private ObjectMapper objectMapper;
 
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private OrderKafkaProducer orderKafkaProducer;
 
@@ -51,6 +58,7 @@ class OrderKafkaProducerTest {
     @BeforeEach
     void setUp() {
         ReflectionTestUtils.setField(orderKafkaProducer, "orderTopic", orderTopic);
+        ReflectionTestUtils.setField(orderKafkaProducer, "keyStrategy", OrderTopicKeyStrategy.PROPOSAL);
 
         policyProposal = PolicyProposal.create(
                 UUID.randomUUID(),
@@ -78,11 +86,31 @@ class OrderKafkaProducerTest {
                 .thenReturn(future);
 
         // When
-        orderKafkaProducer.sendOrderApprovedEvent(policyProposal);
+        CompletableFuture<Void> sent = orderKafkaProducer.sendOrderApprovedEvent(policyProposal);
 
         // Then
+        assertThat(sent).isCompleted();
         verify(objectMapper, times(1)).writeValueAsString(policyProposal);
         verify(kafkaTemplate, times(1)).send(eq(orderTopic), anyString(), eq(messageJson));
+        assertThat(meterRegistry.get(OrderKafkaProducer.SEND_METRIC)
+                .tag("event", "APPROVED").tag("outcome", "SUCCESS").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve usar a chave da estratégia configurada")
+    void shouldKeyEventsByConfiguredStrategy() throws JsonProcessingException {
+        // Given
+        ReflectionTestUtils.setField(orderKafkaProducer, "keyStrategy", OrderTopicKeyStrategy.CUSTOMER);
+        String messageJson = "{\"id\":\"123\"}";
+        when(objectMapper.writeValueAsString(policyProposal)).thenReturn(messageJson);
+        when(kafkaTemplate.send(eq(orderTopic), anyString(), eq(messageJson)))
+                .thenReturn(createSuccessfulFuture());
+
+        // When
+        orderKafkaProducer.sendOrderApprovedEvent(policyProposal);
+
+        // Then
+        verify(kafkaTemplate).send(orderTopic, policyProposal.getCustomerId().toString(), messageJson);
     }
 
     @Test
@@ -152,11 +180,14 @@ class OrderKafkaProducerTest {
                 .thenReturn(future);
 
         // When
-        orderKafkaProducer.sendOrderApprovedEvent(policyProposal);
+        CompletableFuture<Void> sent = orderKafkaProducer.sendOrderApprovedEvent(policyProposal);
 
         // Then
+        assertThat(sent).isCompletedExceptionally();
         verify(objectMapper, times(1)).writeValueAsString(policyProposal);
         verify(kafkaTemplate, times(1)).send(eq(orderTopic), anyString(), eq(messageJson));
+        assertThat(meterRegistry.get(OrderKafkaProducer.SEND_METRIC)
+                .tag("event", "APPROVED").tag("outcome", "ERROR").timer().count()).isEqualTo(1);
     }
 
     // ========== MÉTODOS AUXILIARES ==========
@@ -0,0 +1,87 @@
+package io.github.athirson010.adapters.out.messaging.kafka;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.Cluster;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.utils.Utils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StickyKeyPartitioner - Testes Unitários")
+class StickyKeyPartitionerTest {
+
+    private static final String TOPIC = "order-topic";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Node node = new Node(0, "localhost", 9092);
+    private final Cluster cluster = new Cluster("cluster", Set.of(node),
+            IntStream.range(0, 3)
+                    .mapToObj(partition -> new PartitionInfo(TOPIC, partition, node, new Node[]{node}, new Node[]{node}))
+                    .toList(),
+            Set.of(), Set.of());
+    private StickyKeyPartitioner partitioner;
+
+    @BeforeEach
+    void setUp() {
+        partitioner = new StickyKeyPartitioner();
+        partitioner.configure(Map.of(StickyKeyPartitioner.METER_REGISTRY_CONFIG, meterRegistry));
+    }
+
+    @Test
+    @DisplayName("Deve particionar registros com chave pelo murmur2, como o particionador padrão")
+    void deveParticionarRegistrosComChavePeloMurmur2() {
+        // Given
+        byte[] key = "cliente-1".getBytes(StandardCharsets.UTF_8);
+
+        // When
+        int first = partitioner.partition(TOPIC, "cliente-1", key, "v", null, cluster);
+        partitioner.onNewBatch(TOPIC, cluster, first);
+        int second = partitioner.partition(TOPIC, "cliente-1", key, "v", null, cluster);
+
+        // Then
+        assertThat(first).isEqualTo(Utils.toPositive(Utils.murmur2(key)) % 3).isEqualTo(second);
+        assertThat(meterRegistry.get(StickyKeyPartitioner.RECORDS_METRIC)
+                .tag("topic", TOPIC).tag("partition", String.valueOf(first)).gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve manter registros sem chave na mesma partição até abrir um novo lote")
+    void deveManterRegistrosSemChaveNaMesmaParticaoAteNovoLote() {
+        // When
+        int first = partitioner.partition(TOPIC, null, null, "v", null, cluster);
+        int second = partitioner.partition(TOPIC, null, null, "v", null, cluster);
+        partitioner.onNewBatch(TOPIC, cluster, second);
+        int third = partitioner.partition(TOPIC, null, null, "v", null, cluster);
+
+        // Then
+        assertThat(second).isEqualTo(first);
+        assertThat(third).isNotEqualTo(first);
+        assertThat(meterRegistry.get(StickyKeyPartitioner.RECORDS_METRIC)
+                .tag("topic", TOPIC).tag("partition", String.valueOf(first)).gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get(StickyKeyPartitioner.RECORDS_METRIC)
+                .tag("topic", TOPIC).tag("partition", String.valueOf(third)).gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve medir a concentração de registros na partição mais carregada")
+    void deveMedirConcentracaoNaParticaoMaisCarregada() {
+        // Given
+        byte[] key = "AUTO".getBytes(StandardCharsets.UTF_8);
+
+        // When
+        IntStream.range(0, 6).forEach(i -> partitioner.partition(TOPIC, "AUTO", key, "v", null, cluster));
+
+        // Then: 6 registros numa partição de 3, média 2 por partição
+        assertThat(meterRegistry.get(StickyKeyPartitioner.SKEW_METRIC).tag("topic", TOPIC).gauge().value())
+                .isEqualTo(3.0);
+    }
+}
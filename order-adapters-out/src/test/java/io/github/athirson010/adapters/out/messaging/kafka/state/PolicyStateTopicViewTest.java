@@ -0,0 +1,114 @@
+package io.github.athirson010.adapters.out.messaging.kafka.state;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.github.athirson010.domain.enums.Category;
+import io.github.athirson010.domain.enums.PolicyStatus;
+import io.github.athirson010.domain.model.PolicyProposalId;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PolicyStateTopicView - Testes Unitários")
+class PolicyStateTopicViewTest {
+
+    private static final String TOPIC = "order-state-topic";
+    private static final Instant NOW = Instant.parse("2024-01-10T10:00:00Z");
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final TopicPartition partition0 = new TopicPartition(TOPIC, 0);
+    private final TopicPartition partition1 = new TopicPartition(TOPIC, 1);
+    private MockConsumer<String, String> consumer;
+    private PolicyStateTopicView view;
+
+    @BeforeEach
+    void setUp() {
+        consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        consumer.updatePartitions(TOPIC, List.of(
+                new PartitionInfo(TOPIC, 0, null, null, null),
+                new PartitionInfo(TOPIC, 1, null, null, null)));
+        consumer.updateBeginningOffsets(Map.of(partition0, 0L, partition1, 0L));
+        view = new PolicyStateTopicView(consumer, TOPIC, objectMapper);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        view.close();
+    }
+
+    @Test
+    @DisplayName("Deve montar a visão lendo o tópico até os offsets finais, aplicando tombstones e ignorando registros inválidos")
+    void deveMontarVisaoAteOsOffsetsFinais() throws Exception {
+        // Given
+        PolicyProposalId approved = PolicyProposalId.generate();
+        PolicyProposalId archived = PolicyProposalId.generate();
+        UUID customerId = UUID.randomUUID();
+        consumer.updateEndOffsets(Map.of(partition0, 3L, partition1, 1L));
+        String pending = state(approved, customerId, "PENDING");
+        String rejected = state(archived, customerId, "REJECTED");
+        String approvedState = state(approved, customerId, "APPROVED");
+        consumer.schedulePollTask(() -> {
+            consumer.addRecord(record(0, 0, approved, pending));
+            consumer.addRecord(record(0, 1, archived, rejected));
+            consumer.addRecord(record(1, 0, approved, approvedState));
+        });
+        consumer.schedulePollTask(() -> {
+            consumer.addRecord(record(0, 2, archived, null));
+            consumer.addRecord(new ConsumerRecord<>(TOPIC, 0, 3, "chave-invalida", "{}"));
+        });
+
+        // When
+        view.bootstrap();
+
+        // Then
+        assertThat(view.isReady()).isTrue();
+        assertThat(view.size()).isEqualTo(1);
+        assertThat(view.find(archived)).isEmpty();
+        assertThat(view.find(approved)).hasValueSatisfying(state -> {
+            assertThat(state.status()).isEqualTo(PolicyStatus.APPROVED);
+            assertThat(state.customerId()).isEqualTo(customerId);
+            assertThat(state.category()).isEqualTo(Category.AUTO);
+            assertThat(state.changedAt()).isEqualTo(NOW);
+        });
+    }
+
+    @Test
+    @DisplayName("Deve continuar aplicando as publicações depois de pronta")
+    void deveAplicarPublicacoesDepoisDePronta() throws Exception {
+        // Given
+        PolicyProposalId id = PolicyProposalId.generate();
+        consumer.updateEndOffsets(Map.of(partition0, 0L, partition1, 0L));
+        view.bootstrap();
+        consumer.addRecord(record(1, 0, id, state(id, UUID.randomUUID(), "REJECTED")));
+
+        // When
+        int applied = view.poll();
+
+        // Then
+        assertThat(applied).isEqualTo(1);
+        assertThat(view.find(id)).hasValueSatisfying(state ->
+                assertThat(state.status()).isEqualTo(PolicyStatus.REJECTED));
+    }
+
+    private ConsumerRecord<String, String> record(int partition, long offset, PolicyProposalId id, String value) {
+        return new ConsumerRecord<>(TOPIC, partition, offset, id.asString(), value);
+    }
+
+    private String state(PolicyProposalId id, UUID customerId, String status) throws Exception {
+        return objectMapper.writeValueAsString(
+                new PolicyStateMessage(id.asString(), customerId.toString(), "AUTO", status, NOW));
+    }
+}
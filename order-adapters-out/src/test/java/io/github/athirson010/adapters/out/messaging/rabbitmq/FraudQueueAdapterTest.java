@@ -1,10 +1,10 @@
 package io.github.athirson010.adapters.out.messaging.rabbitmq;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.athirson010.core.port.out.ClaimCheckCachePort;
 import io.github.athirson010.domain.enums.Category;
 import io.github.athirson010.domain.enums.PaymentMethod;
 import io.github.athirson010.domain.enums.PolicyStatus;
+import io.github.athirson010.domain.enums.ProcessingLane;
 import io.github.athirson010.domain.enums.SalesChannel;
 import io.github.athirson010.domain.model.Money;
 import io.github.athirson010.domain.model.PolicyProposal;
@@ -16,16 +16,23 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.MessageConversionException;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -37,7 +44,13 @@ class FraudQueueAdapterTest {
     private RabbitTemplate rabbitTemplate;
 
     @Mock
-    private ObjectMapper objectMapper;
+    private PolicyProposalMessageConverter messageConverter;
+
+    @Mock
+    private ClaimCheckCachePort claimCheckCache;
+
+    @Mock
+    private ProcessingLaneRouter laneRouter;
 
     @InjectMocks
     private FraudQueueAdapter fraudQueueAdapter;
@@ -53,7 +66,8 @@ class FraudQueueAdapterTest {
 
         // Injeta os valores das propriedades usando ReflectionTestUtils
         ReflectionTestUtils.setField(fraudQueueAdapter, "exchange", exchange);
-        ReflectionTestUtils.setField(fraudQueueAdapter, "routingKey", routingKey);
+        lenient().when(laneRouter.laneOf(any(PolicyProposal.class))).thenReturn(ProcessingLane.STANDARD);
+        lenient().when(laneRouter.routingKey(ProcessingLane.STANDARD)).thenReturn(routingKey);
 
         policyProposal = PolicyProposal.builder()
                 .id(PolicyProposalId.generate())
@@ -75,16 +89,16 @@ class FraudQueueAdapterTest {
     @DisplayName("Deve enviar proposta de apólice para fila com sucesso")
     void deveEnviarPropostaDeApoliceParaFilaComSucesso() throws Exception {
         // Given
-        String expectedMessage = "{\"id\":\"" + policyProposal.getId().asString() + "\"}";
-        when(objectMapper.writeValueAsString(policyProposal))
+        Message expectedMessage = message(policyProposal);
+        when(messageConverter.toMessage(eq(policyProposal), any(MessageProperties.class)))
                 .thenReturn(expectedMessage);
 
         // When
         fraudQueueAdapter.sendToFraudQueue(policyProposal);
 
         // Then
-        verify(objectMapper).writeValueAsString(policyProposal);
-        verify(rabbitTemplate).convertAndSend(
+        verify(messageConverter).toMessage(eq(policyProposal), any(MessageProperties.class));
+        verify(rabbitTemplate).send(
                 eq(exchange),
                 eq(routingKey),
                 eq(expectedMessage)
@@ -95,38 +109,38 @@ class FraudQueueAdapterTest {
     @DisplayName("Deve lançar exceção quando houver erro de serialização")
     void deveLancarExcecaoQuandoHouverErroDeSerializacao() throws Exception {
         // Given
-        when(objectMapper.writeValueAsString(policyProposal))
-                .thenThrow(new JsonProcessingException("Serialization error") {});
+        when(messageConverter.toMessage(eq(policyProposal), any(MessageProperties.class)))
+                .thenThrow(new MessageConversionException("Serialization error"));
 
         // When & Then
         assertThatThrownBy(() -> fraudQueueAdapter.sendToFraudQueue(policyProposal))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("Falha ao serializar PolicyProposal")
-                .hasCauseInstanceOf(JsonProcessingException.class);
+                .hasCauseInstanceOf(MessageConversionException.class);
 
-        verify(objectMapper).writeValueAsString(policyProposal);
-        verify(rabbitTemplate, never()).convertAndSend(anyString(), anyString(), anyString());
+        verify(messageConverter).toMessage(eq(policyProposal), any(MessageProperties.class));
+        verify(rabbitTemplate, never()).send(anyString(), anyString(), any(Message.class));
     }
 
     @Test
     @DisplayName("Deve lançar exceção quando houver erro ao publicar mensagem no RabbitMQ")
     void deveLancarExcecaoQuandoHouverErroAoPublicarMensagemNoRabbitMQ() throws Exception {
         // Given
-        String expectedMessage = "{\"id\":\"" + policyProposal.getId().asString() + "\"}";
-        when(objectMapper.writeValueAsString(policyProposal))
+        Message expectedMessage = message(policyProposal);
+        when(messageConverter.toMessage(eq(policyProposal), any(MessageProperties.class)))
                 .thenReturn(expectedMessage);
 
         doThrow(new RuntimeException("RabbitMQ connection error"))
                 .when(rabbitTemplate)
-                .convertAndSend(anyString(), anyString(), anyString());
+                .send(anyString(), anyString(), any(Message.class));
 
         // When & Then
         assertThatThrownBy(() -> fraudQueueAdapter.sendToFraudQueue(policyProposal))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("Falha ao enviar mensagem para fila order-service-consumer");
 
-        verify(objectMapper).writeValueAsString(policyProposal);
-        verify(rabbitTemplate).convertAndSend(eq(exchange), eq(routingKey), eq(expectedMessage));
+        verify(messageConverter).toMessage(eq(policyProposal), any(MessageProperties.class));
+        verify(rabbitTemplate).send(eq(exchange), eq(routingKey), eq(expectedMessage));
     }
 
     @Test
@@ -148,16 +162,16 @@ class FraudQueueAdapterTest {
                 .createdAt(Instant.now())
                 .build();
 
-        String expectedMessage = "{\"id\":\"" + policyProposal.getId().asString() + "\"}";
-        when(objectMapper.writeValueAsString(policyProposal))
+        Message expectedMessage = message(policyProposal);
+        when(messageConverter.toMessage(eq(policyProposal), any(MessageProperties.class)))
                 .thenReturn(expectedMessage);
 
         // When
         fraudQueueAdapter.sendToFraudQueue(policyProposal);
 
         // Then
-        verify(objectMapper).writeValueAsString(policyProposal);
-        verify(rabbitTemplate).convertAndSend(
+        verify(messageConverter).toMessage(eq(policyProposal), any(MessageProperties.class));
+        verify(rabbitTemplate).send(
                 eq(exchange),
                 eq(routingKey),
                 eq(expectedMessage)
@@ -187,16 +201,16 @@ class FraudQueueAdapterTest {
                 .createdAt(Instant.now())
                 .build();
 
-        String expectedMessage = "{\"id\":\"" + policyProposal.getId().asString() + "\"}";
-        when(objectMapper.writeValueAsString(policyProposal))
+        Message expectedMessage = message(policyProposal);
+        when(messageConverter.toMessage(eq(policyProposal), any(MessageProperties.class)))
                 .thenReturn(expectedMessage);
 
         // When
         fraudQueueAdapter.sendToFraudQueue(policyProposal);
 
         // Then
-        verify(objectMapper).writeValueAsString(policyProposal);
-        verify(rabbitTemplate).convertAndSend(
+        verify(messageConverter).toMessage(eq(policyProposal), any(MessageProperties.class));
+        verify(rabbitTemplate).send(
                 eq(exchange),
                 eq(routingKey),
                 eq(expectedMessage)
@@ -211,17 +225,17 @@ class FraudQueueAdapterTest {
         String customRoutingKey = "custom-routing-key";
 
         ReflectionTestUtils.setField(fraudQueueAdapter, "exchange", customExchange);
-        ReflectionTestUtils.setField(fraudQueueAdapter, "routingKey", customRoutingKey);
+        when(laneRouter.routingKey(ProcessingLane.STANDARD)).thenReturn(customRoutingKey);
 
-        String expectedMessage = "{\"id\":\"" + policyProposal.getId().asString() + "\"}";
-        when(objectMapper.writeValueAsString(policyProposal))
+        Message expectedMessage = message(policyProposal);
+        when(messageConverter.toMessage(eq(policyProposal), any(MessageProperties.class)))
                 .thenReturn(expectedMessage);
 
         // When
         fraudQueueAdapter.sendToFraudQueue(policyProposal);
 
         // Then
-        verify(rabbitTemplate).convertAndSend(
+        verify(rabbitTemplate).send(
                 eq(customExchange),
                 eq(customRoutingKey),
                 eq(expectedMessage)
@@ -247,19 +261,79 @@ class FraudQueueAdapterTest {
                 .createdAt(Instant.now())
                 .build();
 
-        String expectedMessage = "{\"id\":\"" + policyProposal.getId().asString() + "\"}";
-        when(objectMapper.writeValueAsString(policyProposal))
+        Message expectedMessage = message(policyProposal);
+        when(messageConverter.toMessage(eq(policyProposal), any(MessageProperties.class)))
                 .thenReturn(expectedMessage);
 
         // When
         fraudQueueAdapter.sendToFraudQueue(policyProposal);
 
         // Then
-        verify(objectMapper).writeValueAsString(policyProposal);
-        verify(rabbitTemplate).convertAndSend(
+        verify(messageConverter).toMessage(eq(policyProposal), any(MessageProperties.class));
+        verify(rabbitTemplate).send(
                 eq(exchange),
                 eq(routingKey),
                 eq(expectedMessage)
         );
     }
+
+    @Test
+    @DisplayName("Deve enviar claim-check e guardar proposta no cache quando mensagem passar do limite")
+    void deveEnviarClaimCheckQuandoMensagemPassarDoLimite() {
+        // Given
+        ReflectionTestUtils.setField(fraudQueueAdapter, "claimCheckThreshold", DataSize.ofBytes(10));
+        Message fullMessage = message(policyProposal);
+        Message claimCheckMessage = new Message("{}".getBytes(StandardCharsets.UTF_8), new MessageProperties());
+        when(messageConverter.toMessage(eq(policyProposal), any(MessageProperties.class))).thenReturn(fullMessage);
+        when(messageConverter.toClaimCheckMessage(eq(policyProposal), any(MessageProperties.class)))
+                .thenReturn(claimCheckMessage);
+
+        // When
+        fraudQueueAdapter.sendToFraudQueue(policyProposal);
+
+        // Then
+        verify(claimCheckCache).put(policyProposal);
+        verify(rabbitTemplate).send(eq(exchange), eq(routingKey), eq(claimCheckMessage));
+    }
+
+    @Test
+    @DisplayName("Deve enviar proposta completa quando mensagem estiver dentro do limite")
+    void deveEnviarPropostaCompletaDentroDoLimite() {
+        // Given
+        ReflectionTestUtils.setField(fraudQueueAdapter, "claimCheckThreshold", DataSize.ofKilobytes(64));
+        Message fullMessage = message(policyProposal);
+        when(messageConverter.toMessage(eq(policyProposal), any(MessageProperties.class))).thenReturn(fullMessage);
+
+        // When
+        fraudQueueAdapter.sendToFraudQueue(policyProposal);
+
+        // Then
+        verify(claimCheckCache, never()).put(any());
+        verify(messageConverter, never()).toClaimCheckMessage(any(), any());
+        verify(rabbitTemplate).send(eq(exchange), eq(routingKey), eq(fullMessage));
+    }
+
+    @Test
+    @DisplayName("Deve publicar na routing key da raia da proposta com o instante de publicação")
+    void devePublicarNaRaiaDaProposta() {
+        // Given
+        Message expectedMessage = message(policyProposal);
+        when(messageConverter.toMessage(eq(policyProposal), any(MessageProperties.class)))
+                .thenReturn(expectedMessage);
+        when(laneRouter.laneOf(policyProposal)).thenReturn(ProcessingLane.PRIORITY);
+        when(laneRouter.routingKey(ProcessingLane.PRIORITY)).thenReturn("order.process.priority");
+
+        // When
+        fraudQueueAdapter.sendToFraudQueue(policyProposal);
+
+        // Then
+        verify(rabbitTemplate).send(exchange, "order.process.priority", expectedMessage);
+        assertThat(expectedMessage.getMessageProperties().<Long>getHeader(FraudQueueAdapter.PUBLISHED_AT_HEADER))
+                .isNotNull();
+    }
+
+    private Message message(PolicyProposal proposal) {
+        String json = "{\"id\":{\"value\":\"" + proposal.getId().asString() + "\"}}";
+        return new Message(json.getBytes(StandardCharsets.UTF_8), new MessageProperties());
+    }
 }
@@ -0,0 +1,123 @@
+package io.github.athirson010.adapters.out.messaging.rabbitmq;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.github.athirson010.adapters.out.messaging.codec.PolicyProposalJsonSerializer;
+import io.github.athirson010.domain.enums.Category;
+import io.github.athirson010.domain.enums.PaymentMethod;
+import io.github.athirson010.domain.enums.SalesChannel;
+import io.github.athirson010.domain.model.Money;
+import io.github.athirson010.domain.model.PolicyProposal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PolicyProposalMessageConverter - Testes Unitários")
+class PolicyProposalMessageConverterTest {
+
+    private static final Instant T0 = Instant.parse("2024-01-10T10:00:00.123456Z");
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .registerModule(new SimpleModule().addSerializer(PolicyProposal.class, new PolicyProposalJsonSerializer()));
+
+    @Test
+    @DisplayName("Deve gerar JSON com content-type application/json no formato json")
+    void deveGerarJsonNoFormatoJson() throws Exception {
+        // Given
+        PolicyProposalMessageConverter converter = new PolicyProposalMessageConverter(objectMapper, "json");
+        PolicyProposal proposal = proposal();
+
+        // When
+        Message message = converter.toMessage(proposal, new MessageProperties());
+
+        // Then
+        assertThat(message.getMessageProperties().getContentType()).isEqualTo(MessageProperties.CONTENT_TYPE_JSON);
+        assertThat(message.getMessageProperties().getContentLength()).isEqualTo(message.getBody().length);
+        assertThat(objectMapper.readTree(message.getBody()))
+                .isEqualTo(objectMapper.readTree(objectMapper.writeValueAsBytes(proposal)));
+    }
+
+    @Test
+    @DisplayName("Deve gerar Smile compacto e versionado no formato smile")
+    void deveGerarSmileCompactoNoFormatoSmile() throws Exception {
+        // Given
+        PolicyProposalMessageConverter converter = new PolicyProposalMessageConverter(objectMapper, "SMILE");
+        PolicyProposal proposal = proposal();
+
+        // When
+        Message message = converter.toMessage(proposal, new MessageProperties());
+
+        // Then
+        assertThat(message.getMessageProperties().getContentType())
+                .isEqualTo(PolicyProposalMessageConverter.SMILE_V1_CONTENT_TYPE);
+        assertThat(message.getBody().length).isLessThan(objectMapper.writeValueAsBytes(proposal).length);
+
+        JsonNode body = new ObjectMapper(new SmileFactory()).readTree(message.getBody());
+        assertThat(body.get("id").asText()).isEqualTo(proposal.getId().asString());
+        assertThat(body.get("status").asText()).isEqualTo("RECEIVED");
+        assertThat(body.get("createdAt").decimalValue()).isEqualByComparingTo("1704880800.123456");
+        assertThat(body.has("finishedAt")).isFalse();
+        assertThat(body.has("paymentConfirmed")).isFalse();
+        assertThat(body.get("history")).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Deve gerar claim-check apenas com id e campos de roteamento")
+    void deveGerarClaimCheckComIdECamposDeRoteamento() throws Exception {
+        // Given
+        PolicyProposalMessageConverter converter = new PolicyProposalMessageConverter(objectMapper, "smile");
+        PolicyProposal proposal = proposal();
+
+        // When
+        Message message = converter.toClaimCheckMessage(proposal, new MessageProperties());
+
+        // Then
+        assertThat(message.getMessageProperties().getContentType())
+                .isEqualTo(PolicyProposalMessageConverter.CLAIM_CHECK_V1_CONTENT_TYPE);
+        JsonNode body = objectMapper.readTree(message.getBody());
+        assertThat(body.get("id").asText()).isEqualTo(proposal.getId().asString());
+        assertThat(body.get("status").asText()).isEqualTo("RECEIVED");
+        assertThat(body.get("category").asText()).isEqualTo("AUTO");
+        assertThat(body.get("salesChannel").asText()).isEqualTo("MOBILE");
+        assertThat(body.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar formato de fila desconhecido")
+    void deveRejeitarFormatoDesconhecido() {
+        assertThatThrownBy(() -> new PolicyProposalMessageConverter(objectMapper, "protobuf"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("rabbitmq.wire-format.order-consumer");
+    }
+
+    private PolicyProposal proposal() {
+        return PolicyProposal.create(
+                UUID.randomUUID(),
+                "PROD-AUTO-2024",
+                Category.AUTO,
+                SalesChannel.MOBILE,
+                PaymentMethod.CREDIT_CARD,
+                Money.brl(new BigDecimal("350.00")),
+                Money.brl(new BigDecimal("200000.00")),
+                Map.of("COLISAO", Money.brl(new BigDecimal("200000.00"))),
+                List.of("GUINCHO_24H", "CARRO_RESERVA"),
+                T0
+        );
+    }
+}
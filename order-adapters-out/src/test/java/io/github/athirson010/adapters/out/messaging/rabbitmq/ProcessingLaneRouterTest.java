@@ -0,0 +1,80 @@
+package io.github.athirson010.adapters.out.messaging.rabbitmq;
+
+import io.github.athirson010.domain.enums.Category;
+import io.github.athirson010.domain.enums.PaymentMethod;
+import io.github.athirson010.domain.enums.ProcessingLane;
+import io.github.athirson010.domain.enums.SalesChannel;
+import io.github.athirson010.domain.model.Money;
+import io.github.athirson010.domain.model.PolicyProposal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ProcessingLaneRouter - Testes Unitários")
+class ProcessingLaneRouterTest {
+
+    private final ProcessingLaneRouter router = router(true);
+
+    @Test
+    @DisplayName("Deve priorizar categorias configuradas e capital segurado alto")
+    void devePriorizarCategoriasECapitalAlto() {
+        assertThat(router.laneOf(proposal(Category.VIDA, SalesChannel.MOBILE, "100000"))).isEqualTo(ProcessingLane.PRIORITY);
+        assertThat(router.laneOf(proposal(Category.AUTO, SalesChannel.WEB, "1000000"))).isEqualTo(ProcessingLane.PRIORITY);
+        assertThat(router.laneOf(proposal(Category.OUTROS, SalesChannel.OUTROS, "2000000"))).isEqualTo(ProcessingLane.PRIORITY);
+    }
+
+    @Test
+    @DisplayName("Deve enviar categoria ou canal de lote para a raia BULK e o resto para STANDARD")
+    void deveSepararBulkEStandard() {
+        assertThat(router.laneOf(proposal(Category.OUTROS, SalesChannel.MOBILE, "5000"))).isEqualTo(ProcessingLane.BULK);
+        assertThat(router.laneOf(proposal(Category.AUTO, SalesChannel.WHATSAPP, "5000"))).isEqualTo(ProcessingLane.BULK);
+        assertThat(router.laneOf(proposal(Category.AUTO, SalesChannel.MOBILE, "200000"))).isEqualTo(ProcessingLane.STANDARD);
+    }
+
+    @Test
+    @DisplayName("Deve usar sempre a raia STANDARD quando as raias estão desabilitadas")
+    void deveUsarStandardQuandoDesabilitado() {
+        ProcessingLaneRouter disabled = router(false);
+
+        assertThat(disabled.laneOf(proposal(Category.VIDA, SalesChannel.MOBILE, "5000000"))).isEqualTo(ProcessingLane.STANDARD);
+        assertThat(disabled.routingKey(ProcessingLane.STANDARD)).isEqualTo("order.process");
+    }
+
+    @Test
+    @DisplayName("Deve mapear cada raia para sua routing key")
+    void deveMapearRoutingKeys() {
+        assertThat(router.routingKey(ProcessingLane.PRIORITY)).isEqualTo("order.process.priority");
+        assertThat(router.routingKey(ProcessingLane.STANDARD)).isEqualTo("order.process");
+        assertThat(router.routingKey(ProcessingLane.BULK)).isEqualTo("order.process.bulk");
+    }
+
+    private static ProcessingLaneRouter router(boolean enabled) {
+        return new ProcessingLaneRouter(enabled,
+                Set.of(Category.EMPRESARIAL, Category.VIDA), Set.of(), new BigDecimal("1000000"),
+                Set.of(Category.OUTROS), Set.of(SalesChannel.WHATSAPP),
+                "order.process.priority", "order.process", "order.process.bulk");
+    }
+
+    private static PolicyProposal proposal(Category category, SalesChannel salesChannel, String insuredAmount) {
+        return PolicyProposal.create(
+                UUID.randomUUID(),
+                "PROD-2024",
+                category,
+                salesChannel,
+                PaymentMethod.PIX,
+                Money.brl(new BigDecimal("100.00")),
+                Money.brl(new BigDecimal(insuredAmount)),
+                Map.of("BASICA", Money.brl(new BigDecimal(insuredAmount))),
+                List.of(),
+                Instant.now()
+        );
+    }
+}
@@ -0,0 +1,117 @@
+package io.github.athirson010.adapters.out.messaging.rabbitmq;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.github.athirson010.domain.enums.ProcessingLane;
+import io.github.athirson010.domain.model.QueueBacklog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RabbitManagementQueueBacklogAdapter - Testes Unitários")
+class RabbitManagementQueueBacklogAdapterTest {
+
+    private HttpServer server;
+    private final AtomicReference<String> requestedPath = new AtomicReference<>();
+    private final AtomicReference<String> authorization = new AtomicReference<>();
+    private volatile int status = 200;
+    private volatile String body = "{}";
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            requestedPath.set(exchange.getRequestURI().getRawPath());
+            authorization.set(exchange.getRequestHeaders().getFirst("Authorization"));
+            byte[] response = body.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status, response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("Deve ler profundidade, consumers e taxa de ack da fila")
+    void deveLerBacklogDaFila() {
+        // Given
+        body = """
+                {"name":"order-service-consumer","messages":1500,"consumers":3,
+                 "message_stats":{"ack_details":{"rate":120.5},"deliver_get_details":{"rate":130.0}}}
+                """;
+
+        // When
+        Map<ProcessingLane, QueueBacklog> backlogs = adapter().sample();
+
+        // Then
+        assertThat(backlogs).containsOnly(Map.entry(ProcessingLane.STANDARD, new QueueBacklog(1500, 3, 120.5)));
+        assertThat(requestedPath.get()).isEqualTo("/api/queues/%2F/order-service-consumer");
+        assertThat(authorization.get()).isEqualTo("Basic YWRtaW46YWRtaW4=");
+    }
+
+    @Test
+    @DisplayName("Deve usar a taxa de entrega quando não há ack (auto-ack) e tratar fila ociosa sem estatísticas")
+    void deveUsarTaxaDeEntregaSemAck() {
+        body = "{\"messages\":10,\"consumers\":1,\"message_stats\":{\"deliver_get_details\":{\"rate\":5.0}}}";
+        assertThat(adapter().sample().get(ProcessingLane.STANDARD).consumeRatePerSecond()).isEqualTo(5.0);
+
+        body = "{\"messages\":0,\"consumers\":1}";
+        assertThat(adapter().sample().get(ProcessingLane.STANDARD)).isEqualTo(new QueueBacklog(0, 1, 0));
+    }
+
+    @Test
+    @DisplayName("Deve amostrar a fila de cada raia e ignorar as que não existem")
+    void deveAmostrarCadaRaia() {
+        // Given
+        body = "{\"messages\":7,\"consumers\":1}";
+        RabbitManagementQueueBacklogAdapter adapter = new RabbitManagementQueueBacklogAdapter(
+                java.net.http.HttpClient.newHttpClient(), new ObjectMapper(),
+                "http://localhost:" + server.getAddress().getPort(), "admin", "admin", "/",
+                Map.of(ProcessingLane.STANDARD, "order-service-consumer", ProcessingLane.BULK, "order-service-consumer.bulk"),
+                Duration.ofSeconds(2));
+
+        // When
+        Map<ProcessingLane, QueueBacklog> withBulk = adapter.sample();
+        status = 404;
+        Map<ProcessingLane, QueueBacklog> withoutQueues = adapter.sample();
+
+        // Then
+        assertThat(withBulk).containsOnlyKeys(ProcessingLane.STANDARD, ProcessingLane.BULK);
+        assertThat(withBulk.get(ProcessingLane.BULK).depth()).isEqualTo(7);
+        assertThat(withoutQueues).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve falhar quando a API de gerenciamento responde com erro")
+    void deveFalharComStatusDeErro() {
+        status = 401;
+
+        assertThatThrownBy(() -> adapter().sample())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("401");
+    }
+
+    private RabbitManagementQueueBacklogAdapter adapter() {
+        return new RabbitManagementQueueBacklogAdapter(java.net.http.HttpClient.newHttpClient(), new ObjectMapper(),
+                "http://localhost:" + server.getAddress().getPort() + "/",
+                "admin", "admin", "/", Map.of(ProcessingLane.STANDARD, "order-service-consumer"), Duration.ofSeconds(2));
+    }
+}
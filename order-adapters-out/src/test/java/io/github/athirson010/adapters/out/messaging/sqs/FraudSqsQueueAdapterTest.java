@@ -0,0 +1,247 @@
+package io.github.athirson010.adapters.out.messaging.sqs;
+
+import io.github.athirson010.adapters.out.messaging.rabbitmq.PolicyProposalMessageConverter;
+import io.github.athirson010.adapters.out.messaging.rabbitmq.ProcessingLaneRouter;
+import io.github.athirson010.core.port.out.ClaimCheckCachePort;
+import io.github.athirson010.domain.enums.Category;
+import io.github.athirson010.domain.enums.PaymentMethod;
+import io.github.athirson010.domain.enums.PolicyStatus;
+import io.github.athirson010.domain.enums.ProcessingLane;
+import io.github.athirson010.domain.enums.SalesChannel;
+import io.github.athirson010.domain.model.Money;
+import io.github.athirson010.domain.model.PolicyProposal;
+import io.github.athirson010.domain.model.PolicyProposalId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FraudSqsQueueAdapter - Testes Unitários")
+class FraudSqsQueueAdapterTest {
+
+    private static final String STANDARD = "order-service-consumer";
+    private static final String PRIORITY = "order-service-consumer-priority";
+    private static final String BULK = "order-service-consumer-bulk";
+
+    @Mock
+    private PolicyProposalMessageConverter messageConverter;
+
+    @Mock
+    private ClaimCheckCachePort claimCheckCache;
+
+    @Mock
+    private ProcessingLaneRouter laneRouter;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private LocalSqsStandIn sqs;
+    private FraudSqsQueueAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        sqs = new LocalSqsStandIn(STANDARD, PRIORITY, BULK);
+        lenient().when(laneRouter.laneOf(any(PolicyProposal.class))).thenReturn(ProcessingLane.STANDARD);
+        adapter = adapter(Duration.ofMillis(200), DataSize.ofBytes(0));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        adapter.destroy();
+    }
+
+    @Test
+    @DisplayName("Deve agrupar envios concorrentes em SendMessageBatch de até 10 mensagens")
+    void deveAgruparEnviosConcorrentesEmLotes() throws Exception {
+        // Given
+        when(messageConverter.toMessage(any(PolicyProposal.class), any(MessageProperties.class)))
+                .thenAnswer(invocation -> json(invocation.getArgument(0)));
+        ExecutorService callers = Executors.newFixedThreadPool(25);
+
+        // When
+        List<CompletableFuture<Void>> sends = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            PolicyProposal proposal = proposal(PolicyStatus.RECEIVED);
+            sends.add(CompletableFuture.runAsync(() -> adapter.sendToFraudQueue(proposal), callers));
+        }
+        CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+        callers.shutdown();
+
+        // Then
+        assertThat(sqs.messages(STANDARD)).hasSize(25);
+        assertThat(sqs.sendBatchCalls()).isBetween(3, 24);
+        assertThat(meterRegistry.get(SqsBatchSender.REQUESTS_METRIC)
+                .tag("queue", STANDARD).tag("operation", "SendMessageBatch").counter().count())
+                .isEqualTo(sqs.sendBatchCalls());
+    }
+
+    @Test
+    @DisplayName("Deve dividir o lote pelo tamanho somado de corpo e atributos")
+    void deveDividirLotePeloTamanhoSomado() throws Exception {
+        // Given: 6 mensagens de 100 KiB, que num único lote passariam de 256 KiB
+        when(messageConverter.toMessage(any(PolicyProposal.class), any(MessageProperties.class)))
+                .thenAnswer(invocation -> new Message(new byte[100 * 1024], jsonProperties()));
+        ExecutorService callers = Executors.newFixedThreadPool(6);
+
+        // When
+        List<CompletableFuture<Void>> sends = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            PolicyProposal proposal = proposal(PolicyStatus.RECEIVED);
+            sends.add(CompletableFuture.runAsync(() -> adapter.sendToFraudQueue(proposal), callers));
+        }
+        CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+        callers.shutdown();
+
+        // Then
+        assertThat(sqs.messages(STANDARD)).hasSize(6);
+        assertThat(sqs.sendBatchCalls()).isGreaterThanOrEqualTo(3);
+        verify(claimCheckCache, never()).put(any(PolicyProposal.class));
+    }
+
+    @Test
+    @DisplayName("Deve contar os atributos no limite do SQS por mensagem")
+    void deveContarAtributosNoLimitePorMensagem() {
+        // Given: corpo abaixo de 256 KiB, mas acima do limite com os atributos
+        PolicyProposal proposal = proposal(PolicyStatus.RECEIVED);
+        Message reference = json(proposal);
+        reference.getMessageProperties().setContentType(PolicyProposalMessageConverter.CLAIM_CHECK_V1_CONTENT_TYPE);
+        when(messageConverter.toMessage(any(PolicyProposal.class), any(MessageProperties.class)))
+                .thenReturn(new Message(new byte[FraudSqsQueueAdapter.MAX_MESSAGE_BYTES - 10], jsonProperties()));
+        when(messageConverter.toClaimCheckMessage(any(PolicyProposal.class), any(MessageProperties.class)))
+                .thenReturn(reference);
+
+        // When
+        adapter.sendToFraudQueue(proposal);
+
+        // Then
+        verify(claimCheckCache).put(proposal);
+        assertThat(sqs.messages(STANDARD)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Deve publicar Smile em Base64 na fila da raia, com content-type e instante da publicação")
+    void devePublicarSmileEmBase64NaFilaDaRaia() {
+        // Given
+        PolicyProposal proposal = proposal(PolicyStatus.RECEIVED);
+        byte[] smile = {0x3a, 0x29, 0x0a, 0x05, (byte) 0xfa};
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(PolicyProposalMessageConverter.SMILE_V1_CONTENT_TYPE);
+        when(messageConverter.toMessage(any(PolicyProposal.class), any(MessageProperties.class)))
+                .thenReturn(new Message(smile, properties));
+        when(laneRouter.laneOf(proposal)).thenReturn(ProcessingLane.PRIORITY);
+
+        // When
+        adapter.sendToFraudQueue(proposal);
+
+        // Then
+        assertThat(sqs.messages(STANDARD)).isEmpty();
+        assertThat(sqs.messages(PRIORITY)).singleElement().satisfies(message -> {
+            assertThat(Base64.getDecoder().decode(message.body())).isEqualTo(smile);
+            assertThat(message.messageAttributes().get(FraudSqsQueueAdapter.CONTENT_TYPE_ATTRIBUTE).stringValue())
+                    .isEqualTo(PolicyProposalMessageConverter.SMILE_V1_CONTENT_TYPE);
+            assertThat(message.messageAttributes().get(FraudSqsQueueAdapter.CONTENT_ENCODING_ATTRIBUTE).stringValue())
+                    .isEqualTo(FraudSqsQueueAdapter.BASE64);
+            assertThat(message.messageAttributes()).containsKey(FraudSqsQueueAdapter.PUBLISHED_AT_ATTRIBUTE);
+        });
+    }
+
+    @Test
+    @DisplayName("Deve enviar referência de claim-check quando o corpo passa do limite do SQS")
+    void deveEnviarClaimCheckQuandoCorpoPassaDoLimiteDoSqs() {
+        // Given
+        PolicyProposal proposal = proposal(PolicyStatus.RECEIVED);
+        Message reference = json(proposal);
+        reference.getMessageProperties().setContentType(PolicyProposalMessageConverter.CLAIM_CHECK_V1_CONTENT_TYPE);
+        when(messageConverter.toMessage(any(PolicyProposal.class), any(MessageProperties.class)))
+                .thenReturn(new Message(new byte[FraudSqsQueueAdapter.MAX_MESSAGE_BYTES + 1], jsonProperties()));
+        when(messageConverter.toClaimCheckMessage(any(PolicyProposal.class), any(MessageProperties.class)))
+                .thenReturn(reference);
+
+        // When
+        adapter.sendToFraudQueue(proposal);
+
+        // Then
+        verify(claimCheckCache).put(proposal);
+        assertThat(sqs.messages(STANDARD)).singleElement().satisfies(message ->
+                assertThat(message.messageAttributes().get(FraudSqsQueueAdapter.CONTENT_TYPE_ATTRIBUTE).stringValue())
+                        .isEqualTo(PolicyProposalMessageConverter.CLAIM_CHECK_V1_CONTENT_TYPE));
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando a fila SQS não existe")
+    void deveLancarExcecaoQuandoFilaNaoExiste() throws InterruptedException {
+        // Given
+        adapter.destroy();
+        sqs = new LocalSqsStandIn(PRIORITY, BULK);
+        adapter = adapter(Duration.ofMillis(10), DataSize.ofBytes(0));
+        when(messageConverter.toMessage(any(PolicyProposal.class), any(MessageProperties.class)))
+                .thenAnswer(invocation -> json(invocation.getArgument(0)));
+
+        // When & Then
+        assertThatThrownBy(() -> adapter.sendToFraudQueue(proposal(PolicyStatus.RECEIVED)))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("Falha ao enviar mensagem para fila order-service-consumer");
+    }
+
+    private FraudSqsQueueAdapter adapter(Duration maxBatchDelay, DataSize claimCheckThreshold) {
+        SqsBatchSender sender = new SqsBatchSender(sqs.client(), meterRegistry, maxBatchDelay);
+        return new FraudSqsQueueAdapter(messageConverter, claimCheckCache, laneRouter, sender,
+                STANDARD, PRIORITY, BULK, claimCheckThreshold, Duration.ofSeconds(5));
+    }
+
+    private static Message json(PolicyProposal proposal) {
+        return new Message(("{\"id\":\"" + proposal.getId().asString() + "\"}").getBytes(StandardCharsets.UTF_8),
+                jsonProperties());
+    }
+
+    private static MessageProperties jsonProperties() {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        return properties;
+    }
+
+    private static PolicyProposal proposal(PolicyStatus status) {
+        return PolicyProposal.builder()
+                .id(PolicyProposalId.generate())
+                .customerId(UUID.randomUUID())
+                .productId("PROD-AUTO-2024")
+                .category(Category.AUTO)
+                .salesChannel(SalesChannel.MOBILE)
+                .paymentMethod(PaymentMethod.CREDIT_CARD)
+                .totalMonthlyPremiumAmount(Money.brl(BigDecimal.valueOf(350.00)))
+                .insuredAmount(Money.brl(BigDecimal.valueOf(200000.00)))
+                .coverages(Map.of("COLISAO", Money.brl(BigDecimal.valueOf(200000.00))))
+                .assistances(List.of("GUINCHO_24H"))
+                .status(status)
+                .createdAt(Instant.now())
+                .build();
+    }
+}
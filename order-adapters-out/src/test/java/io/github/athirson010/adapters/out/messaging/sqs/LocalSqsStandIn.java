@@ -0,0 +1,123 @@
+package io.github.athirson010.adapters.out.messaging.sqs;
+
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.BatchRequestTooLongException;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.GetQueueUrlRequest;
+import software.amazon.awssdk.services.sqs.model.GetQueueUrlResponse;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sqs.model.QueueDoesNotExistException;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Stand-in local compatível com o SQS para os testes: filas em memória atrás de um {@link SqsAsyncClient}, com as
+ * mesmas regras de lote da API (no máximo 10 entradas por lote, mensagem até 256 KiB e lote até 256 KiB somados,
+ * contando corpo e atributos).
+ */
+class LocalSqsStandIn {
+
+    private static final String URL_PREFIX = "http://localhost:9324/000000000000/";
+    private static final int MAX_BYTES = 256 * 1024;
+
+    private final Map<String, List<Message>> queues = new ConcurrentHashMap<>();
+    private final AtomicInteger sendBatchCalls = new AtomicInteger();
+    private final SqsAsyncClient client = mock(SqsAsyncClient.class);
+
+    LocalSqsStandIn(String... queueNames) {
+        for (String queueName : queueNames) {
+            queues.put(URL_PREFIX + queueName, new CopyOnWriteArrayList<>());
+        }
+        lenient().when(client.getQueueUrl(any(GetQueueUrlRequest.class)))
+                .thenAnswer(invocation -> getQueueUrl(invocation.getArgument(0)));
+        lenient().when(client.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .thenAnswer(invocation -> sendMessageBatch(invocation.getArgument(0)));
+    }
+
+    SqsAsyncClient client() {
+        return client;
+    }
+
+    List<Message> messages(String queueName) {
+        return queues.get(URL_PREFIX + queueName);
+    }
+
+    int sendBatchCalls() {
+        return sendBatchCalls.get();
+    }
+
+    private CompletableFuture<GetQueueUrlResponse> getQueueUrl(GetQueueUrlRequest request) {
+        String url = URL_PREFIX + request.queueName();
+        if (!queues.containsKey(url)) {
+            return CompletableFuture.failedFuture(QueueDoesNotExistException.builder()
+                    .message("Fila inexistente: " + request.queueName())
+                    .build());
+        }
+        return CompletableFuture.completedFuture(GetQueueUrlResponse.builder().queueUrl(url).build());
+    }
+
+    private CompletableFuture<SendMessageBatchResponse> sendMessageBatch(SendMessageBatchRequest request) {
+        sendBatchCalls.incrementAndGet();
+        List<Message> queue = queues.get(request.queueUrl());
+        if (queue == null || request.entries().isEmpty() || request.entries().size() > 10) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Lote inválido para o SQS"));
+        }
+        if (request.entries().stream().mapToInt(LocalSqsStandIn::size).sum() > MAX_BYTES) {
+            return CompletableFuture.failedFuture(BatchRequestTooLongException.builder()
+                    .message("Lote acima de 256 KiB")
+                    .build());
+        }
+        List<SendMessageBatchResultEntry> successful = new ArrayList<>();
+        List<BatchResultErrorEntry> failed = new ArrayList<>();
+        for (SendMessageBatchRequestEntry entry : request.entries()) {
+            if (size(entry) > MAX_BYTES) {
+                failed.add(BatchResultErrorEntry.builder()
+                        .id(entry.id())
+                        .code("InvalidParameterValue")
+                        .message("Mensagem acima de 256 KiB")
+                        .senderFault(true)
+                        .build());
+                continue;
+            }
+            String messageId = UUID.randomUUID().toString();
+            queue.add(Message.builder()
+                    .messageId(messageId)
+                    .receiptHandle(messageId)
+                    .body(entry.messageBody())
+                    .messageAttributes(entry.messageAttributes())
+                    .build());
+            successful.add(SendMessageBatchResultEntry.builder().id(entry.id()).messageId(messageId).build());
+        }
+        return CompletableFuture.completedFuture(SendMessageBatchResponse.builder()
+                .successful(successful)
+                .failed(failed)
+                .build());
+    }
+
+    private static int size(SendMessageBatchRequestEntry entry) {
+        int size = entry.messageBody().getBytes(StandardCharsets.UTF_8).length;
+        for (Map.Entry<String, MessageAttributeValue> attribute : entry.messageAttributes().entrySet()) {
+            size += attribute.getKey().length()
+                    + attribute.getValue().dataType().length()
+                    + attribute.getValue().stringValue().getBytes(StandardCharsets.UTF_8).length;
+        }
+        return size;
+    }
+}
@@ -0,0 +1,85 @@
+package io.github.athirson010.adapters.out.persistence.memory;
+
+import io.github.athirson010.domain.enums.Category;
+import io.github.athirson010.domain.enums.PaymentMethod;
+import io.github.athirson010.domain.enums.SalesChannel;
+import io.github.athirson010.domain.model.Money;
+import io.github.athirson010.domain.model.PolicyProposal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ConfirmationChangelogAdapter - Testes Unitários")
+class ConfirmationChangelogAdapterTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-10T10:15:30Z");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Deve manter um log independente por partição")
+    void deveManterLogPorParticao() {
+        // Given
+        PolicyProposal first = proposal();
+        PolicyProposal second = proposal();
+        ConfirmationChangelogAdapter adapter = new ConfirmationChangelogAdapter(2, directory, DataSize.ofKilobytes(64), false);
+        adapter.compact(0, List.of());
+        adapter.compact(1, List.of());
+        adapter.append(0, first);
+        adapter.append(1, second);
+        adapter.destroy();
+
+        // When
+        ConfirmationChangelogAdapter reopened = new ConfirmationChangelogAdapter(2, directory, DataSize.ofKilobytes(64), false);
+        List<PolicyProposal> partition0 = new ArrayList<>();
+        List<PolicyProposal> partition1 = new ArrayList<>();
+        reopened.replay(0, partition0::add);
+        reopened.replay(1, partition1::add);
+        reopened.destroy();
+
+        // Then
+        assertThat(partition0).extracting(PolicyProposal::getId).containsExactly(first.getId());
+        assertThat(partition1).extracting(PolicyProposal::getId).containsExactly(second.getId());
+        assertThat(directory.resolve("partition-00")).isDirectory();
+        assertThat(directory.resolve("partition-01")).isDirectory();
+    }
+
+    @Test
+    @DisplayName("Deve recusar iniciar com menos partições do que as existentes no diretório")
+    void deveRecusarReducaoDeParticoes() {
+        // Given
+        new ConfirmationChangelogAdapter(4, directory, DataSize.ofKilobytes(64), false).destroy();
+
+        // When / Then
+        assertThatThrownBy(() -> new ConfirmationChangelogAdapter(2, directory, DataSize.ofKilobytes(64), false))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("acima das 2 configuradas");
+    }
+
+    private static PolicyProposal proposal() {
+        return PolicyProposal.create(
+                UUID.randomUUID(),
+                "PROD-AUTO-2024",
+                Category.AUTO,
+                SalesChannel.WEB,
+                PaymentMethod.PIX,
+                Money.brl(BigDecimal.valueOf(350.00)),
+                Money.brl(BigDecimal.valueOf(200000.00)),
+                Map.of("COLISAO", Money.brl(BigDecimal.valueOf(200000.00))),
+                List.of("GUINCHO_24H"),
+                NOW);
+    }
+}
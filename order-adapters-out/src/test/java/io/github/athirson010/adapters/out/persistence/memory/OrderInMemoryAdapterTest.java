@@ -0,0 +1,314 @@
+package io.github.athirson010.adapters.out.persistence.memory;
+
+import io.github.athirson010.domain.enums.Category;
+import io.github.athirson010.domain.enums.PaymentMethod;
+import io.github.athirson010.domain.enums.PolicyStatus;
+import io.github.athirson010.domain.enums.SalesChannel;
+import io.github.athirson010.domain.model.Money;
+import io.github.athirson010.domain.model.PendingProposal;
+import io.github.athirson010.domain.model.PolicyProposal;
+import io.github.athirson010.domain.model.PolicyProposalId;
+import io.github.athirson010.domain.model.PolicyProposalPage;
+import io.github.athirson010.domain.model.PolicyProposalSummary;
+import io.github.athirson010.domain.model.PolicyStatusStatistics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("OrderInMemoryAdapter - Testes Unitários")
+class OrderInMemoryAdapterTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-10T10:15:30Z");
+
+    private final Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @TempDir
+    Path journalDirectory;
+
+    private OrderInMemoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new OrderInMemoryAdapter(null, meterRegistry, clock);
+    }
+
+    @Test
+    @DisplayName("Deve guardar cópia da proposta, isolada de alterações posteriores")
+    void deveGuardarCopiaDaProposta() {
+        // Given
+        PolicyProposal proposal = proposal(UUID.randomUUID(), NOW, Category.AUTO);
+        adapter.save(proposal);
+
+        // When
+        proposal.validate(NOW);
+        PolicyProposal found = adapter.findById(proposal.getId()).orElseThrow();
+        found.validate(NOW);
+
+        // Then
+        assertThat(adapter.findById(proposal.getId()).orElseThrow().getStatus()).isEqualTo(PolicyStatus.RECEIVED);
+        assertThat(meterRegistry.get(OrderInMemoryAdapter.SAVE_METRIC).tag("outcome", "SUCCESS").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get(OrderInMemoryAdapter.SIZE_METRIC).gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve paginar propostas do cliente da mais recente para a mais antiga, filtrando por status")
+    void devePaginarPropostasDoCliente() {
+        // Given
+        UUID customerId = UUID.randomUUID();
+        List<PolicyProposal> proposals = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            PolicyProposal proposal = proposal(customerId, NOW.plusSeconds(i), Category.AUTO);
+            if (i % 2 == 0) {
+                proposal.validate(NOW);
+            }
+            adapter.save(proposal);
+            proposals.add(proposal);
+        }
+        adapter.save(proposal(UUID.randomUUID(), NOW, Category.AUTO));
+
+        // When
+        PolicyProposalPage first = adapter.findSummariesByCustomerId(customerId, Set.of(), null, 2);
+        PolicyProposalPage second = adapter.findSummariesByCustomerId(customerId, Set.of(), first.nextCursor(), 2);
+        PolicyProposalPage last = adapter.findSummariesByCustomerId(customerId, Set.of(), second.nextCursor(), 2);
+        PolicyProposalPage validated = adapter.findSummariesByCustomerId(
+                customerId, Set.of(PolicyStatus.VALIDATED), null, 10);
+
+        // Then
+        assertThat(first.items()).extracting(PolicyProposalSummary::id)
+                .containsExactly(proposals.get(4).getId(), proposals.get(3).getId());
+        assertThat(second.items()).extracting(PolicyProposalSummary::id)
+                .containsExactly(proposals.get(2).getId(), proposals.get(1).getId());
+        assertThat(last.items()).extracting(PolicyProposalSummary::id).containsExactly(proposals.get(0).getId());
+        assertThat(last.nextCursor()).isNull();
+        assertThat(validated.items()).extracting(PolicyProposalSummary::id)
+                .containsExactly(proposals.get(4).getId(), proposals.get(2).getId(), proposals.get(0).getId());
+    }
+
+    @Test
+    @DisplayName("Deve manter contadores pelo status atual e buckets por hora pelas transições")
+    void deveManterContadores() {
+        // Given
+        PolicyProposal auto = proposal(UUID.randomUUID(), NOW, Category.AUTO);
+        PolicyProposal vida = proposal(UUID.randomUUID(), NOW, Category.VIDA);
+        adapter.save(auto);
+        adapter.save(vida);
+
+        // When
+        auto.validate(NOW);
+        adapter.save(auto);
+        adapter.save(auto);
+        PolicyStatusStatistics statistics = adapter.loadStatusStatistics(NOW.minusSeconds(3600));
+
+        // Then
+        assertThat(statistics.byStatus())
+                .containsEntry(PolicyStatus.RECEIVED, 1L)
+                .containsEntry(PolicyStatus.VALIDATED, 1L);
+        assertThat(statistics.byCategory().get(Category.AUTO)).containsOnly(Map.entry(PolicyStatus.VALIDATED, 1L));
+        assertThat(statistics.byCategory().get(Category.VIDA)).containsOnly(Map.entry(PolicyStatus.RECEIVED, 1L));
+        assertThat(statistics.bySalesChannel().get(SalesChannel.MOBILE))
+                .containsEntry(PolicyStatus.RECEIVED, 1L)
+                .containsEntry(PolicyStatus.VALIDATED, 1L);
+        assertThat(statistics.byHour()).containsOnlyKeys(Instant.parse("2024-01-10T10:00:00Z"));
+        assertThat(statistics.byHour().firstEntry().getValue())
+                .containsEntry(PolicyStatus.RECEIVED, 2L)
+                .containsEntry(PolicyStatus.VALIDATED, 1L);
+    }
+
+    @Test
+    @DisplayName("Deve paginar propostas em PENDING por pendingSince e conferir as que continuam em PENDING")
+    void devePaginarPropostasEmPending() {
+        // Given
+        List<PolicyProposal> pending = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            PolicyProposal proposal = proposal(UUID.randomUUID(), NOW, Category.AUTO);
+            proposal.validate(NOW);
+            proposal.markAsPending(NOW.plusSeconds(3 - i));
+            adapter.save(proposal);
+            pending.add(proposal);
+        }
+        PolicyProposal received = proposal(UUID.randomUUID(), NOW, Category.AUTO);
+        adapter.save(received);
+
+        // When
+        List<PendingProposal> first = adapter.findPending(null, 2);
+        List<PendingProposal> second = adapter.findPending(first.get(1), 2);
+        Set<PolicyProposalId> stillPending = adapter.findPendingIds(List.of(pending.get(0).getId(), received.getId()));
+
+        // Then
+        assertThat(first).extracting(PendingProposal::id)
+                .containsExactly(pending.get(2).getId(), pending.get(1).getId());
+        assertThat(first.get(0).pendingSince()).isEqualTo(NOW.plusSeconds(1));
+        assertThat(second).extracting(PendingProposal::id).containsExactly(pending.get(0).getId());
+        assertThat(stillPending).containsExactly(pending.get(0).getId());
+    }
+
+    @Test
+    @DisplayName("Não deve sobrescrever status posterior com cópia desatualizada")
+    void naoDeveSobrescreverStatusPosterior() {
+        // Given
+        PolicyProposal proposal = proposal(UUID.randomUUID(), NOW, Category.AUTO);
+        proposal.validate(NOW);
+        proposal.markAsPending(NOW);
+        adapter.save(proposal);
+        PolicyProposal stale = adapter.findById(proposal.getId()).orElseThrow();
+        proposal.cancel("Cliente desistiu", NOW);
+        adapter.save(proposal);
+
+        // When / Then
+        assertThatThrownBy(() -> adapter.save(stale))
+                .isInstanceOf(OptimisticLockingFailureException.class)
+                .hasMessageContaining("CANCELED");
+        assertThat(adapter.findById(proposal.getId()).orElseThrow().getStatus()).isEqualTo(PolicyStatus.CANCELED);
+        assertThat(meterRegistry.get(OrderInMemoryAdapter.SAVE_METRIC).tag("outcome", "ERROR").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Não deve perder a confirmação gravada por outra cópia no mesmo status")
+    void naoDevePerderConfirmacaoDeOutraCopia() {
+        // Given: duas cópias lidas em PENDING, uma para cada resposta
+        PolicyProposal proposal = proposal(UUID.randomUUID(), NOW, Category.AUTO);
+        proposal.validate(NOW);
+        proposal.markAsPending(NOW);
+        adapter.save(proposal);
+        PolicyProposal paymentCopy = adapter.findById(proposal.getId()).orElseThrow();
+        PolicyProposal subscriptionCopy = adapter.findById(proposal.getId()).orElseThrow();
+        paymentCopy.processPaymentResponse(true, null, NOW);
+        subscriptionCopy.processSubscriptionResponse(true, null, NOW);
+        adapter.save(paymentCopy);
+
+        // When / Then
+        assertThatThrownBy(() -> adapter.save(subscriptionCopy))
+                .isInstanceOf(OptimisticLockingFailureException.class)
+                .hasMessageContaining("versão");
+        PolicyProposal stored = adapter.findById(proposal.getId()).orElseThrow();
+        assertThat(stored.isPaymentConfirmed()).isTrue();
+        assertThat(stored.getVersion()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve manter índices consistentes com gravações concorrentes")
+    void deveManterIndicesComGravacoesConcorrentes() throws InterruptedException {
+        // Given
+        UUID customerId = UUID.randomUUID();
+        int total = 500;
+
+        // When
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < total; i++) {
+            Instant createdAt = NOW.plusMillis(i);
+            executor.execute(() -> {
+                PolicyProposal proposal = proposal(customerId, createdAt, Category.AUTO);
+                adapter.save(proposal);
+                proposal.validate(NOW);
+                adapter.save(proposal);
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // Then
+        PolicyStatusStatistics statistics = adapter.loadStatusStatistics(null);
+        assertThat(statistics.byStatus().values().stream().mapToLong(Long::longValue).sum()).isEqualTo(total);
+        assertThat(statistics.byStatus()).containsEntry(PolicyStatus.VALIDATED, (long) total);
+        assertThat(statistics.byCategory().get(Category.AUTO)).containsOnly(Map.entry(PolicyStatus.VALIDATED, (long) total));
+        List<PolicyProposalSummary> items = adapter.findSummariesByCustomerId(customerId, Set.of(), null, total).items();
+        assertThat(items).hasSize(total).allMatch(summary -> summary.status() == PolicyStatus.VALIDATED);
+        assertThat(items.get(0).createdAt()).isEqualTo(NOW.plusMillis(total - 1));
+    }
+
+    @Test
+    @DisplayName("Deve recuperar as propostas do journal ao reiniciar")
+    void deveRecuperarPropostasDoJournal() {
+        // Given
+        OrderInMemoryAdapter first = new OrderInMemoryAdapter(
+                new PolicyProposalJournal(journalDirectory, 64 * 1024, false), meterRegistry, clock);
+        UUID customerId = UUID.randomUUID();
+        PolicyProposal proposal = proposal(customerId, NOW, Category.AUTO);
+        first.save(proposal);
+        proposal.validate(NOW);
+        proposal.markAsPending(NOW);
+        first.save(proposal);
+        first.destroy();
+
+        // When
+        OrderInMemoryAdapter recovered = new OrderInMemoryAdapter(
+                new PolicyProposalJournal(journalDirectory, 64 * 1024, false), new SimpleMeterRegistry(), clock);
+
+        // Then
+        PolicyProposal found = recovered.findById(proposal.getId()).orElseThrow();
+        assertThat(found.getStatus()).isEqualTo(PolicyStatus.PENDING);
+        assertThat(found.getVersion()).isEqualTo(2);
+        assertThat(found.getHistory()).hasSize(3);
+        assertThat(recovered.findSummariesByCustomerId(customerId, Set.of(PolicyStatus.PENDING), null, 10).items())
+                .hasSize(1);
+        PolicyStatusStatistics statistics = recovered.loadStatusStatistics(NOW.minusSeconds(3600));
+        assertThat(statistics.byStatus()).containsEntry(PolicyStatus.PENDING, 1L);
+        assertThat(statistics.byHour().firstEntry().getValue())
+                .containsEntry(PolicyStatus.RECEIVED, 1L)
+                .containsEntry(PolicyStatus.VALIDATED, 1L)
+                .containsEntry(PolicyStatus.PENDING, 1L);
+    }
+
+    @Test
+    @DisplayName("Deve recuperar a versão mais recente quando o journal registrou as gravações fora de ordem")
+    void deveRecuperarMaiorVersaoDoJournal() {
+        // Given: gravações concorrentes da mesma proposta chegam ao journal depois de sair do compute
+        PolicyProposal received = proposal(UUID.randomUUID(), NOW, Category.AUTO);
+        received.assignVersion(1);
+        PolicyProposal pending = received.toBuilder().history(new ArrayList<>(received.getHistory())).build();
+        pending.validate(NOW);
+        pending.markAsPending(NOW);
+        pending.assignVersion(2);
+        PolicyProposalJournal journal = new PolicyProposalJournal(journalDirectory, 64 * 1024, false);
+        journal.compact(List.of());
+        journal.append(pending);
+        journal.append(received);
+        journal.close();
+
+        // When
+        OrderInMemoryAdapter recovered = new OrderInMemoryAdapter(
+                new PolicyProposalJournal(journalDirectory, 64 * 1024, false), new SimpleMeterRegistry(), clock);
+
+        // Then
+        PolicyProposal found = recovered.findById(received.getId()).orElseThrow();
+        assertThat(found.getStatus()).isEqualTo(PolicyStatus.PENDING);
+        assertThat(found.getVersion()).isEqualTo(2);
+    }
+
+    private static PolicyProposal proposal(UUID customerId, Instant createdAt, Category category) {
+        return PolicyProposal.create(
+                customerId,
+                "PROD-" + category.name(),
+                category,
+                SalesChannel.MOBILE,
+                PaymentMethod.CREDIT_CARD,
+                Money.brl(BigDecimal.valueOf(350.00)),
+                Money.brl(BigDecimal.valueOf(200000.00)),
+                Map.of("COLISAO", Money.brl(BigDecimal.valueOf(200000.00))),
+                List.of("GUINCHO_24H"),
+                createdAt);
+    }
+}
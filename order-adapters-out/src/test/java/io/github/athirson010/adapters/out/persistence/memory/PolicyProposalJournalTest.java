@@ -0,0 +1,164 @@
+package io.github.athirson010.adapters.out.persistence.memory;
+
+import io.github.athirson010.domain.enums.Category;
+import io.github.athirson010.domain.enums.PaymentMethod;
+import io.github.athirson010.domain.enums.PolicyStatus;
+import io.github.athirson010.domain.enums.SalesChannel;
+import io.github.athirson010.domain.model.Money;
+import io.github.athirson010.domain.model.PolicyProposal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PolicyProposalJournal - Testes Unitários")
+class PolicyProposalJournalTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-10T10:15:30Z");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Deve preservar todos os campos, flags de confirmação, histórico e versão")
+    void devePreservarTodosOsCampos() {
+        // Given
+        PolicyProposal proposal = proposal();
+        proposal.validate(NOW);
+        proposal.markAsPending(NOW);
+        proposal.processPaymentResponse(false, "Saldo insuficiente", NOW.plusSeconds(1));
+        proposal.assignVersion(4);
+
+        // When
+        PolicyProposal decoded = PolicyProposalJournalCodec.decode(PolicyProposalJournalCodec.encode(proposal));
+
+        // Then
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(proposal);
+        assertThat(decoded.isPaymentResponseReceived()).isTrue();
+        assertThat(decoded.isPaymentConfirmed()).isFalse();
+        assertThat(decoded.getStatus()).isEqualTo(PolicyStatus.REJECTED);
+    }
+
+    @Test
+    @DisplayName("Deve reler os registros gravados em ordem, passando para novos segmentos")
+    void deveRelerRegistrosEmOrdem() throws IOException {
+        // Given
+        List<PolicyProposal> written = new ArrayList<>();
+        try (PolicyProposalJournal journal = new PolicyProposalJournal(directory, 2048, false)) {
+            journal.compact(List.of());
+            for (int i = 0; i < 20; i++) {
+                PolicyProposal proposal = proposal();
+                journal.append(proposal);
+                written.add(proposal);
+            }
+        }
+
+        // When
+        List<PolicyProposal> replayed = new ArrayList<>();
+        long records = new PolicyProposalJournal(directory, 2048, false).replay(replayed::add);
+
+        // Then
+        assertThat(records).isEqualTo(20);
+        assertThat(segments()).hasSizeGreaterThan(1);
+        assertThat(replayed).extracting(PolicyProposal::getId)
+                .containsExactlyElementsOf(written.stream().map(PolicyProposal::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Deve ignorar registro corrompido no fim do segmento")
+    void deveIgnorarRegistroCorrompido() throws IOException {
+        // Given
+        PolicyProposal first = proposal();
+        try (PolicyProposalJournal journal = new PolicyProposalJournal(directory, 64 * 1024, false)) {
+            journal.compact(List.of());
+            journal.append(first);
+            journal.append(proposal());
+        }
+        Path segment = segments().get(0);
+        int secondRecord = Integer.BYTES * 2 + PolicyProposalJournalCodec.encode(first).length;
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            // Corrompe um byte do conteúdo do segundo registro
+            channel.write(ByteBuffer.wrap(new byte[]{0x7f}), secondRecord + Integer.BYTES * 2 + 20);
+        }
+
+        // When
+        List<PolicyProposal> replayed = new ArrayList<>();
+        new PolicyProposalJournal(directory, 64 * 1024, false).replay(replayed::add);
+
+        // Then
+        assertThat(replayed).extracting(PolicyProposal::getId).containsExactly(first.getId());
+    }
+
+    @Test
+    @DisplayName("Deve compactar mantendo apenas o estado informado e apagar os segmentos anteriores")
+    void deveCompactarJournal() throws IOException {
+        // Given
+        PolicyProposal proposal = proposal();
+        try (PolicyProposalJournal journal = new PolicyProposalJournal(directory, 64 * 1024, false)) {
+            journal.compact(List.of());
+            for (int i = 0; i < 10; i++) {
+                journal.append(proposal);
+            }
+        }
+        List<Path> before = segments();
+
+        // When
+        try (PolicyProposalJournal journal = new PolicyProposalJournal(directory, 64 * 1024, false)) {
+            journal.compact(List.of(proposal));
+        }
+
+        // Then
+        List<PolicyProposal> replayed = new ArrayList<>();
+        new PolicyProposalJournal(directory, 64 * 1024, false).replay(replayed::add);
+        assertThat(replayed).extracting(PolicyProposal::getId).containsExactly(proposal.getId());
+        assertThat(segments()).hasSize(1).doesNotContainAnyElementsOf(before);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar registro maior que o segmento")
+    void deveRejeitarRegistroMaiorQueSegmento() {
+        try (PolicyProposalJournal journal = new PolicyProposalJournal(directory, 64, false)) {
+            journal.compact(List.of());
+
+            assertThatThrownBy(() -> journal.append(proposal()))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("maior que o segmento");
+        }
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+
+    private static PolicyProposal proposal() {
+        return PolicyProposal.create(
+                UUID.randomUUID(),
+                "PROD-AUTO-2024",
+                Category.AUTO,
+                SalesChannel.WEB,
+                PaymentMethod.PIX,
+                Money.brl(BigDecimal.valueOf(350.00)),
+                Money.brl(BigDecimal.valueOf(200000.00)),
+                Map.of("COLISAO", Money.brl(BigDecimal.valueOf(200000.00))),
+                List.of("GUINCHO_24H"),
+                NOW);
+    }
+}
@@ -1,32 +1,56 @@
 package io.github.athirson010.adapters.out.persistence.mongo;
 
+import io.github.athirson010.adapters.out.persistence.mongo.archive.PolicyProposalArchive;
 import io.github.athirson010.adapters.out.persistence.mongo.document.*;
+import io.github.athirson010.adapters.out.persistence.mongo.eventstore.EventSourcedPolicyStore;
 import io.github.athirson010.adapters.out.persistence.mongo.mapper.PolicyProposalEntityMapper;
+import io.github.athirson010.adapters.out.persistence.mongo.mapper.PolicyProposalSummaryEntityMapper;
+import io.github.athirson010.adapters.out.persistence.mongo.projection.PolicyProjections;
 import io.github.athirson010.adapters.out.persistence.mongo.repository.PolicyProposalMongoRepository;
 import io.github.athirson010.domain.enums.Category;
 import io.github.athirson010.domain.enums.PaymentMethod;
 import io.github.athirson010.domain.enums.PolicyStatus;
 import io.github.athirson010.domain.enums.SalesChannel;
 import io.github.athirson010.domain.model.Money;
+import io.github.athirson010.domain.model.PendingProposal;
 import io.github.athirson010.domain.model.PolicyProposal;
 import io.github.athirson010.domain.model.PolicyProposalId;
+import io.github.athirson010.domain.model.PolicyProposalPage;
+import io.github.athirson010.domain.model.PolicyStatusStatistics;
+import io.github.athirson010.domain.model.ProposalPageCursor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,6 +63,24 @@ class OrderMongoAdapterTest {
     @Mock
     private PolicyProposalEntityMapper mapper;
 
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Spy
+    private PolicyProposalSummaryEntityMapper summaryMapper = new PolicyProposalSummaryEntityMapper();
+
+    @Mock
+    private PolicyProposalArchive archive;
+
+    @Mock
+    private PolicyProjections projections;
+
+    @Mock
+    private EventSourcedPolicyStore eventSourcedStore;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private OrderMongoAdapter orderMongoAdapter;
 
@@ -48,6 +90,7 @@ class OrderMongoAdapterTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(eventSourcedStore.replay(any())).thenAnswer(invocation -> invocation.getArgument(0));
         policyId = UUID.randomUUID().toString();
 
         // Domain model
@@ -103,7 +146,6 @@ class OrderMongoAdapterTest {
     void deveSalvarPropostaDeApoliceComSucesso() {
         // Given
         when(mapper.toEntity(policyProposal)).thenReturn(policyProposalEntity);
-        when(mongoRepository.save(policyProposalEntity)).thenReturn(policyProposalEntity);
         when(mapper.toDomain(policyProposalEntity)).thenReturn(policyProposal);
 
         // When
@@ -117,8 +159,11 @@ class OrderMongoAdapterTest {
         assertThat(result.getStatus()).isEqualTo(policyProposal.getStatus());
 
         verify(mapper).toEntity(policyProposal);
-        verify(mongoRepository).save(policyProposalEntity);
+        verifyReplaced(policyProposalEntity);
         verify(mapper).toDomain(policyProposalEntity);
+        verify(projections).documentReplaced(policyProposalEntity, policyProposal.getHistory(), null);
+        assertThat(meterRegistry.get(OrderMongoAdapter.SAVE_METRIC)
+                .tag("mode", "DOCUMENT").tag("outcome", "SUCCESS").timer().count()).isEqualTo(1);
     }
 
     @Test
@@ -187,7 +232,6 @@ class OrderMongoAdapterTest {
                 .build();
 
         when(mapper.toEntity(policyProposal)).thenReturn(policyProposalEntity);
-        when(mongoRepository.save(policyProposalEntity)).thenReturn(policyProposalEntity);
         when(mapper.toDomain(policyProposalEntity)).thenReturn(policyProposal);
 
         // When
@@ -198,7 +242,7 @@ class OrderMongoAdapterTest {
         assertThat(result.getStatus()).isEqualTo(PolicyStatus.VALIDATED);
 
         verify(mapper).toEntity(policyProposal);
-        verify(mongoRepository).save(policyProposalEntity);
+        verifyReplaced(policyProposalEntity);
         verify(mapper).toDomain(policyProposalEntity);
     }
 
@@ -230,7 +274,6 @@ class OrderMongoAdapterTest {
                 .build();
 
         when(mapper.toEntity(policyProposal)).thenReturn(policyProposalEntity);
-        when(mongoRepository.save(policyProposalEntity)).thenReturn(policyProposalEntity);
         when(mapper.toDomain(policyProposalEntity)).thenReturn(policyProposal);
 
         // When
@@ -241,7 +284,7 @@ class OrderMongoAdapterTest {
         assertThat(result.getStatus()).isEqualTo(PolicyStatus.PENDING);
 
         verify(mapper).toEntity(policyProposal);
-        verify(mongoRepository).save(policyProposalEntity);
+        verifyReplaced(policyProposalEntity);
     }
 
     @Test
@@ -275,7 +318,6 @@ class OrderMongoAdapterTest {
                 .build();
 
         when(mapper.toEntity(policyProposal)).thenReturn(policyProposalEntity);
-        when(mongoRepository.save(policyProposalEntity)).thenReturn(policyProposalEntity);
         when(mapper.toDomain(policyProposalEntity)).thenReturn(policyProposal);
 
         // When
@@ -287,7 +329,7 @@ class OrderMongoAdapterTest {
         assertThat(result.getFinishedAt()).isNotNull();
 
         verify(mapper).toEntity(policyProposal);
-        verify(mongoRepository).save(policyProposalEntity);
+        verifyReplaced(policyProposalEntity);
     }
 
     @Test
@@ -321,7 +363,6 @@ class OrderMongoAdapterTest {
                 .build();
 
         when(mapper.toEntity(policyProposal)).thenReturn(policyProposalEntity);
-        when(mongoRepository.save(policyProposalEntity)).thenReturn(policyProposalEntity);
         when(mapper.toDomain(policyProposalEntity)).thenReturn(policyProposal);
 
         // When
@@ -333,7 +374,7 @@ class OrderMongoAdapterTest {
         assertThat(result.getFinishedAt()).isNotNull();
 
         verify(mapper).toEntity(policyProposal);
-        verify(mongoRepository).save(policyProposalEntity);
+        verifyReplaced(policyProposalEntity);
     }
 
     @Test
@@ -360,7 +401,6 @@ class OrderMongoAdapterTest {
                 .build();
 
         when(mapper.toEntity(policyProposal)).thenReturn(policyProposalEntity);
-        when(mongoRepository.save(policyProposalEntity)).thenReturn(policyProposalEntity);
         when(mapper.toDomain(policyProposalEntity)).thenReturn(policyProposal);
 
         // When
@@ -373,7 +413,7 @@ class OrderMongoAdapterTest {
         assertThat(result.getAssistances()).hasSize(3);
 
         verify(mapper).toEntity(policyProposal);
-        verify(mongoRepository).save(policyProposalEntity);
+        verifyReplaced(policyProposalEntity);
     }
 
     @Test
@@ -409,4 +449,480 @@ class OrderMongoAdapterTest {
         verify(mongoRepository).findById(policyId);
         verify(mapper).toDomain(policyProposalEntity);
     }
+
+    @Test
+    @DisplayName("Deve listar propostas do cliente com cursor para a próxima página")
+    void deveListarPropostasDoClienteComCursorParaProximaPagina() {
+        // Given
+        UUID customerId = UUID.randomUUID();
+        Instant now = Instant.parse("2024-01-10T10:00:00Z");
+        PolicyProposalSummaryEntity first = summaryEntity(customerId, now);
+        PolicyProposalSummaryEntity second = summaryEntity(customerId, now.minusSeconds(60));
+        PolicyProposalSummaryEntity third = summaryEntity(customerId, now.minusSeconds(120));
+
+        when(mongoTemplate.stream(any(Query.class), eq(PolicyProposalSummaryEntity.class), eq("policy_proposals")))
+                .thenReturn(Stream.of(first, second, third));
+
+        // When
+        PolicyProposalPage page = orderMongoAdapter.findSummariesByCustomerId(customerId, Set.of(), null, 2);
+
+        // Then
+        assertThat(page.items()).hasSize(2);
+        assertThat(page.items().get(0).id().asString()).isEqualTo(first.getId());
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.nextCursor().id().asString()).isEqualTo(second.getId());
+        assertThat(page.nextCursor().createdAt()).isEqualTo(second.getCreatedAt());
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).stream(queryCaptor.capture(), eq(PolicyProposalSummaryEntity.class), eq("policy_proposals"));
+        Query query = queryCaptor.getValue();
+        assertThat(query.getLimit()).isEqualTo(3);
+        assertThat(query.getFieldsObject()).containsKeys("customerId", "status", "createdAt");
+        assertThat(query.getFieldsObject()).doesNotContainKeys("coverages", "assistances", "statusHistory");
+        assertThat(query.getSortObject()).containsKeys("createdAt", "_id");
+    }
+
+    @Test
+    @DisplayName("Deve paginar propostas em PENDING por pendingSince e id lendo só esses campos")
+    void devePaginarPropostasEmPending() {
+        // Given
+        Instant pendingSince = Instant.parse("2024-01-10T10:00:00Z");
+        PendingProposal after = new PendingProposal(PolicyProposalId.generate(), pendingSince);
+        PolicyProposalEntity next = PolicyProposalEntity.builder()
+                .id(UUID.randomUUID().toString())
+                .pendingSince(pendingSince.plusSeconds(1))
+                .build();
+        when(mongoTemplate.find(any(Query.class), eq(PolicyProposalEntity.class), eq("policy_proposals")))
+                .thenReturn(List.of(next));
+
+        // When
+        List<PendingProposal> page = orderMongoAdapter.findPending(after, 50);
+
+        // Then
+        assertThat(page).containsExactly(new PendingProposal(PolicyProposalId.from(next.getId()), next.getPendingSince()));
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(queryCaptor.capture(), eq(PolicyProposalEntity.class), eq("policy_proposals"));
+        Query query = queryCaptor.getValue();
+        assertThat(query.getQueryObject()).containsEntry("status", "PENDING").containsKey("$or");
+        assertThat(query.getSortObject()).containsExactly(Map.entry("pendingSince", 1), Map.entry("_id", 1));
+        assertThat(query.getFieldsObject()).containsOnlyKeys("pendingSince");
+        assertThat(query.getLimit()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("Deve preencher pendingSince das propostas em PENDING anteriores ao campo pela entrada do histórico")
+    void devePreencherPendingSinceDePropostasAntigas() {
+        // Given
+        Instant pendingSince = Instant.parse("2024-01-10T10:00:00Z");
+        policyProposal.validate(pendingSince.minusSeconds(5));
+        policyProposal.markAsPending(pendingSince);
+        PolicyProposalEntity legacy = PolicyProposalEntity.builder().id(policyId).status("PENDING").build();
+        when(mongoTemplate.find(any(Query.class), eq(PolicyProposalEntity.class), eq("policy_proposals")))
+                .thenReturn(List.of(legacy));
+        when(mapper.toDomain(legacy)).thenReturn(policyProposal);
+
+        // When
+        int found = orderMongoAdapter.backfillPendingSince(100);
+
+        // Then
+        assertThat(found).isEqualTo(1);
+        ArgumentCaptor<Query> findCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(findCaptor.capture(), eq(PolicyProposalEntity.class), eq("policy_proposals"));
+        assertThat(findCaptor.getValue().getQueryObject())
+                .containsEntry("status", "PENDING")
+                .containsEntry("pendingSince", null);
+        assertThat(findCaptor.getValue().getLimit()).isEqualTo(100);
+
+        ArgumentCaptor<Query> updateQuery = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateFirst(updateQuery.capture(), update.capture(), eq("policy_proposals"));
+        assertThat(updateQuery.getValue().getQueryObject())
+                .containsEntry("_id", policyId)
+                .containsEntry("status", "PENDING")
+                .containsEntry("pendingSince", null);
+        assertThat(update.getValue().getUpdateObject().get("$set", Document.class))
+                .containsEntry("pendingSince", pendingSince);
+    }
+
+    @Test
+    @DisplayName("Deve marcar como enfileirada só a proposta que continua em RECEIVED")
+    void deveMarcarPropostaEnfileiradaEmReceived() {
+        // Given
+        Instant queuedAt = Instant.parse("2024-01-10T10:00:00Z");
+
+        // When
+        orderMongoAdapter.markQueued(PolicyProposalId.from(policyId), queuedAt);
+
+        // Then
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateFirst(queryCaptor.capture(), update.capture(), eq("policy_proposals"));
+        assertThat(queryCaptor.getValue().getQueryObject())
+                .containsEntry("_id", policyId)
+                .containsEntry("status", "RECEIVED");
+        assertThat(update.getValue().getUpdateObject().get("$set", Document.class))
+                .containsEntry("queuedAt", queuedAt);
+    }
+
+    @Test
+    @DisplayName("Deve marcar como publicada só a proposta que continua em PENDING")
+    void deveMarcarPropostaPublicadaEmPending() {
+        // Given
+        Instant publishedAt = Instant.parse("2024-01-10T10:00:00Z");
+
+        // When
+        orderMongoAdapter.markPublished(PolicyProposalId.from(policyId), publishedAt);
+
+        // Then
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateFirst(queryCaptor.capture(), update.capture(), eq("policy_proposals"));
+        assertThat(queryCaptor.getValue().getQueryObject())
+                .containsEntry("_id", policyId)
+                .containsEntry("status", "PENDING");
+        assertThat(update.getValue().getUpdateObject().get("$set", Document.class))
+                .containsEntry("publishedAt", publishedAt);
+    }
+
+    @Test
+    @DisplayName("Deve retornar última página sem cursor quando não houver mais propostas")
+    void deveRetornarUltimaPaginaSemCursor() {
+        // Given
+        UUID customerId = UUID.randomUUID();
+        Instant now = Instant.parse("2024-01-10T10:00:00Z");
+        ProposalPageCursor after = new ProposalPageCursor(now, PolicyProposalId.generate());
+        PolicyProposalSummaryEntity older = summaryEntity(customerId, now.minusSeconds(60));
+
+        when(mongoTemplate.stream(any(Query.class), eq(PolicyProposalSummaryEntity.class), eq("policy_proposals")))
+                .thenReturn(Stream.of(older));
+
+        // When
+        PolicyProposalPage page = orderMongoAdapter.findSummariesByCustomerId(
+                customerId, Set.of(PolicyStatus.PENDING), after, 2);
+
+        // Then
+        assertThat(page.items()).hasSize(1);
+        assertThat(page.items().get(0).status()).isEqualTo(PolicyStatus.PENDING);
+        assertThat(page.hasNext()).isFalse();
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).stream(queryCaptor.capture(), eq(PolicyProposalSummaryEntity.class), eq("policy_proposals"));
+        assertThat(queryCaptor.getValue().getQueryObject().toString())
+                .contains("$or")
+                .contains(after.id().asString())
+                .contains("PENDING");
+    }
+
+    @Test
+    @DisplayName("Deve intercalar propostas arquivadas com as da coleção quente na listagem do cliente")
+    void deveIntercalarPropostasArquivadasNaListagemDoCliente() {
+        // Given
+        UUID customerId = UUID.randomUUID();
+        Instant now = Instant.parse("2024-01-10T10:00:00Z");
+        ProposalPageCursor after = new ProposalPageCursor(now, PolicyProposalId.generate());
+        PolicyProposalSummaryEntity hot = summaryEntity(customerId, now.minusSeconds(120));
+        PolicyProposalSummaryEntity archived = summaryEntity(customerId, now.minusSeconds(60));
+        archived.setStatus("APPROVED");
+        PolicyProposalSummaryEntity olderArchived = summaryEntity(customerId, now.minusSeconds(180));
+        PolicyProposalSummaryEntity duplicated = summaryEntity(customerId, now.minusSeconds(120));
+        duplicated.setId(hot.getId());
+
+        when(mongoTemplate.stream(any(Query.class), eq(PolicyProposalSummaryEntity.class), eq("policy_proposals")))
+                .thenReturn(Stream.of(hot));
+        when(archive.findCustomerSummaries(any(Query.class), eq(now), eq(3)))
+                .thenReturn(List.of(archived, duplicated, olderArchived));
+
+        // When
+        PolicyProposalPage page = orderMongoAdapter.findSummariesByCustomerId(customerId, Set.of(), after, 2);
+
+        // Then
+        assertThat(page.items()).extracting(item -> item.id().asString())
+                .containsExactly(archived.getId(), hot.getId());
+        assertThat(page.items().get(0).status()).isEqualTo(PolicyStatus.APPROVED);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.nextCursor().id().asString()).isEqualTo(hot.getId());
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(archive).findCustomerSummaries(queryCaptor.capture(), eq(now), eq(3));
+        assertThat(queryCaptor.getValue().getQueryObject().toString()).contains(customerId.toString());
+    }
+
+    @Test
+    @DisplayName("Deve repassar às projeções o documento anterior retornado pelo findAndReplace")
+    void deveRepassarDocumentoAnteriorAsProjecoes() {
+        // Given
+        policyProposalEntity.setStatus("PENDING");
+        PolicyProposalEntity previous = PolicyProposalEntity.builder().id(policyId).status("VALIDATED").build();
+        when(mapper.toEntity(policyProposal)).thenReturn(policyProposalEntity);
+        when(mongoTemplate.findAndReplace(any(Query.class), eq(policyProposalEntity), any(FindAndReplaceOptions.class),
+                eq(PolicyProposalEntity.class), eq(PolicyProposalEntity.COLLECTION), eq(PolicyProposalEntity.class)))
+                .thenReturn(previous);
+
+        // When
+        orderMongoAdapter.save(policyProposal);
+
+        // Then
+        verify(projections).documentReplaced(policyProposalEntity, policyProposal.getHistory(), previous);
+
+        ArgumentCaptor<FindAndReplaceOptions> optionsCaptor = ArgumentCaptor.forClass(FindAndReplaceOptions.class);
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).findAndReplace(queryCaptor.capture(), eq(policyProposalEntity), optionsCaptor.capture(),
+                eq(PolicyProposalEntity.class), eq(PolicyProposalEntity.COLLECTION), eq(PolicyProposalEntity.class));
+        assertThat(optionsCaptor.getValue().isUpsert()).isTrue();
+        assertThat(optionsCaptor.getValue().isReturnNew()).isFalse();
+        assertThat(queryCaptor.getValue().getFieldsObject()).containsOnlyKeys("status", "statusHistoryCount");
+    }
+
+    @Test
+    @DisplayName("Deve substituir apenas documentos em status que levam ao novo status")
+    void deveSubstituirApenasDocumentosEmStatusAnterior() {
+        // Given
+        policyProposalEntity.setStatus("APPROVED");
+        when(mapper.toEntity(policyProposal)).thenReturn(policyProposalEntity);
+
+        // When
+        orderMongoAdapter.save(policyProposal);
+
+        // Then
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).findAndReplace(queryCaptor.capture(), eq(policyProposalEntity), any(FindAndReplaceOptions.class),
+                eq(PolicyProposalEntity.class), eq(PolicyProposalEntity.COLLECTION), eq(PolicyProposalEntity.class));
+        assertThat(queryCaptor.getValue().getQueryObject().get("status", Document.class).getList("$in", String.class))
+                .containsExactlyInAnyOrder("RECEIVED", "VALIDATED", "PENDING", "APPROVED");
+    }
+
+    @Test
+    @DisplayName("Deve exigir a versão lida no filtro e atribuir a próxima à proposta")
+    void deveExigirVersaoLidaNoFiltro() {
+        // Given
+        PolicyProposal loaded = policyProposal.toBuilder().version(3).build();
+        when(mapper.toEntity(loaded)).thenReturn(policyProposalEntity);
+
+        // When
+        orderMongoAdapter.save(loaded);
+
+        // Then
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).findAndReplace(queryCaptor.capture(), eq(policyProposalEntity), any(FindAndReplaceOptions.class),
+                eq(PolicyProposalEntity.class), eq(PolicyProposalEntity.COLLECTION), eq(PolicyProposalEntity.class));
+        assertThat(queryCaptor.getValue().getQueryObject()).containsEntry("version", 3L);
+        assertThat(policyProposalEntity.getVersion()).isEqualTo(4L);
+        assertThat(loaded.getVersion()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("Deve gravar proposta sem versão apenas sobre documento sem versão")
+    void deveGravarPropostaNovaApenasSobreDocumentoSemVersao() {
+        // Given
+        when(mapper.toEntity(policyProposal)).thenReturn(policyProposalEntity);
+
+        // When
+        orderMongoAdapter.save(policyProposal);
+
+        // Then
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).findAndReplace(queryCaptor.capture(), eq(policyProposalEntity), any(FindAndReplaceOptions.class),
+                eq(PolicyProposalEntity.class), eq(PolicyProposalEntity.COLLECTION), eq(PolicyProposalEntity.class));
+        assertThat(queryCaptor.getValue().getQueryObject().get("version", Document.class))
+                .containsEntry("$exists", false);
+        assertThat(policyProposal.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Deve lançar OptimisticLockingFailureException quando o documento estiver em status posterior")
+    void deveLancarExcecaoQuandoDocumentoEstiverEmStatusPosterior() {
+        // Given
+        policyProposalEntity.setStatus("PENDING");
+        when(mapper.toEntity(policyProposal)).thenReturn(policyProposalEntity);
+        when(mongoTemplate.findAndReplace(any(Query.class), eq(policyProposalEntity), any(FindAndReplaceOptions.class),
+                eq(PolicyProposalEntity.class), eq(PolicyProposalEntity.COLLECTION), eq(PolicyProposalEntity.class)))
+                .thenThrow(new DuplicateKeyException("E11000 duplicate key error"));
+
+        // When / Then
+        assertThatThrownBy(() -> orderMongoAdapter.save(policyProposal))
+                .isInstanceOf(OptimisticLockingFailureException.class)
+                .hasMessageContaining("PENDING");
+        verify(projections, never()).documentReplaced(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve carregar estatísticas a partir dos contadores materializados")
+    void deveCarregarEstatisticasDosContadores() {
+        // Given
+        Instant since = Instant.parse("2024-01-10T00:00:00Z");
+        PolicyStatusStatistics statistics = new PolicyStatusStatistics(
+                Map.of(PolicyStatus.PENDING, 3L), Map.of(), Map.of(), null);
+        when(projections.loadStatistics(since)).thenReturn(statistics);
+
+        // When
+        PolicyStatusStatistics result = orderMongoAdapter.loadStatusStatistics(since);
+
+        // Then
+        assertThat(result.countOf(PolicyStatus.PENDING)).isEqualTo(3L);
+        verifyNoInteractions(mongoRepository);
+    }
+
+    @Test
+    @DisplayName("Deve buscar proposta no arquivo quando não estiver na coleção quente")
+    void deveBuscarPropostaNoArquivoQuandoAusenteNaColecaoQuente() {
+        // Given
+        policyProposalEntity.setStatus("APPROVED");
+        when(mongoRepository.findById(policyId)).thenReturn(Optional.empty());
+        when(archive.findById(policyId)).thenReturn(Optional.of(policyProposalEntity));
+        when(mapper.toDomain(policyProposalEntity)).thenReturn(policyProposal);
+
+        // When
+        Optional<PolicyProposal> result = orderMongoAdapter.findById(PolicyProposalId.from(policyId));
+
+        // Then
+        assertThat(result).contains(policyProposal);
+        verify(archive).findById(policyId);
+    }
+
+    @Test
+    @DisplayName("Não deve consultar o arquivo quando a proposta estiver na coleção quente")
+    void naoDeveConsultarArquivoQuandoPresenteNaColecaoQuente() {
+        // Given
+        when(mongoRepository.findById(policyId)).thenReturn(Optional.of(policyProposalEntity));
+        when(mapper.toDomain(policyProposalEntity)).thenReturn(policyProposal);
+
+        // When
+        Optional<PolicyProposal> result = orderMongoAdapter.findById(PolicyProposalId.from(policyId));
+
+        // Then
+        assertThat(result).isPresent();
+        verifyNoInteractions(archive);
+    }
+
+    @Test
+    @DisplayName("Deve gravar documento com janela inline e projetar o histórico depois da substituição no modo limitado")
+    void deveProjetarHistoricoDepoisDaSubstituicaoNoModoLimitado() {
+        // Given
+        PolicyProposalEntity previous = PolicyProposalEntity.builder()
+                .id(policyId).status("RECEIVED").statusHistoryCount(1).build();
+        when(projections.isHistoryBounded()).thenReturn(true);
+        when(projections.historyInlineLimit()).thenReturn(1);
+        when(mapper.toEntity(policyProposal, 1)).thenReturn(policyProposalEntity);
+        when(mongoTemplate.findAndReplace(any(Query.class), eq(policyProposalEntity), any(FindAndReplaceOptions.class),
+                eq(PolicyProposalEntity.class), eq(PolicyProposalEntity.COLLECTION), eq(PolicyProposalEntity.class)))
+                .thenReturn(previous);
+        when(mapper.toDomain(policyProposalEntity)).thenReturn(policyProposal);
+
+        // When
+        PolicyProposal result = orderMongoAdapter.save(policyProposal);
+
+        // Then
+        assertThat(result).isEqualTo(policyProposal);
+        InOrder replaceThenProjections = inOrder(mongoTemplate, projections);
+        replaceThenProjections.verify(mongoTemplate).findAndReplace(any(Query.class), eq(policyProposalEntity),
+                any(FindAndReplaceOptions.class), eq(PolicyProposalEntity.class), eq(PolicyProposalEntity.COLLECTION),
+                eq(PolicyProposalEntity.class));
+        replaceThenProjections.verify(projections).documentReplaced(policyProposalEntity, policyProposal.getHistory(), previous);
+        verify(mapper, never()).toEntity(policyProposal);
+    }
+
+    @Test
+    @DisplayName("Não deve gravar histórico quando a substituição do documento for rejeitada")
+    void naoDeveGravarHistoricoQuandoSubstituicaoForRejeitada() {
+        // Given
+        policyProposalEntity.setStatus("PENDING");
+        when(projections.isHistoryBounded()).thenReturn(true);
+        when(projections.historyInlineLimit()).thenReturn(10);
+        when(mapper.toEntity(policyProposal, 10)).thenReturn(policyProposalEntity);
+        when(mongoTemplate.findAndReplace(any(Query.class), eq(policyProposalEntity), any(FindAndReplaceOptions.class),
+                eq(PolicyProposalEntity.class), eq(PolicyProposalEntity.COLLECTION), eq(PolicyProposalEntity.class)))
+                .thenThrow(new DuplicateKeyException("E11000 duplicate key error"));
+
+        // When / Then
+        assertThatThrownBy(() -> orderMongoAdapter.save(policyProposal))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        verifyNoMoreInteractions(ignoreStubs(projections));
+    }
+
+    @Test
+    @DisplayName("Deve usar carregamento sob demanda para documento com histórico limitado")
+    void deveUsarCarregamentoSobDemandaParaHistoricoLimitado() {
+        // Given
+        policyProposalEntity.setStatusHistoryCount(25);
+        when(mongoRepository.findById(policyId)).thenReturn(Optional.of(policyProposalEntity));
+        when(mapper.toDomain(eq(policyProposalEntity), any())).thenReturn(policyProposal);
+
+        // When
+        Optional<PolicyProposal> result = orderMongoAdapter.findById(PolicyProposalId.from(policyId));
+
+        // Then
+        assertThat(result).contains(policyProposal);
+        verify(mapper, never()).toDomain(policyProposalEntity);
+        verify(projections, never()).loadHistory(any());
+    }
+
+    @Test
+    @DisplayName("Deve delegar a gravação ao event store no modo event-store")
+    void deveDelegarGravacaoAoEventStore() {
+        // Given
+        when(eventSourcedStore.isEnabled()).thenReturn(true);
+        when(eventSourcedStore.save(policyProposal)).thenReturn(policyProposal);
+
+        // When
+        PolicyProposal result = orderMongoAdapter.save(policyProposal);
+
+        // Then
+        assertThat(result).isSameAs(policyProposal);
+        verifyNoInteractions(mongoTemplate, mapper, projections);
+        assertThat(meterRegistry.get(OrderMongoAdapter.SAVE_METRIC)
+                .tag("mode", "EVENT_STORE").tag("outcome", "SUCCESS").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve aplicar eventos posteriores ao snapshot ao buscar proposta")
+    void deveAplicarEventosPosterioresAoSnapshot() {
+        // Given
+        when(mongoRepository.findById(policyId)).thenReturn(Optional.of(policyProposalEntity));
+        when(mapper.toDomain(policyProposalEntity)).thenReturn(policyProposal);
+
+        // When
+        Optional<PolicyProposal> result = orderMongoAdapter.findById(PolicyProposalId.from(policyId));
+
+        // Then
+        assertThat(result).contains(policyProposal);
+        verify(eventSourcedStore).replay(policyProposalEntity);
+    }
+
+    @Test
+    @DisplayName("Deve reconstruir proposta pelo log de eventos quando o snapshot não existir")
+    void deveReconstruirPropostaPeloLogDeEventos() {
+        // Given
+        when(eventSourcedStore.isEnabled()).thenReturn(true);
+        when(mongoRepository.findById(policyId)).thenReturn(Optional.empty());
+        when(archive.findById(policyId)).thenReturn(Optional.empty());
+        when(eventSourcedStore.rebuild(policyId)).thenReturn(Optional.of(policyProposalEntity));
+        when(mapper.toDomain(policyProposalEntity)).thenReturn(policyProposal);
+
+        // When
+        Optional<PolicyProposal> result = orderMongoAdapter.findById(PolicyProposalId.from(policyId));
+
+        // Then
+        assertThat(result).contains(policyProposal);
+        verify(eventSourcedStore).rebuild(policyId);
+    }
+
+    private void verifyReplaced(PolicyProposalEntity entity) {
+        verify(mongoTemplate).findAndReplace(any(Query.class), eq(entity), any(FindAndReplaceOptions.class),
+                eq(PolicyProposalEntity.class), eq(PolicyProposalEntity.COLLECTION), eq(PolicyProposalEntity.class));
+    }
+
+    private PolicyProposalSummaryEntity summaryEntity(UUID customerId, Instant createdAt) {
+        return PolicyProposalSummaryEntity.builder()
+                .id(UUID.randomUUID().toString())
+                .customerId(customerId.toString())
+                .productId("PROD-AUTO-2024")
+                .category("AUTO")
+                .salesChannel("MOBILE")
+                .paymentMethod("PIX")
+                .status("PENDING")
+                .totalMonthlyPremiumAmount(MoneyEntity.builder().amount(BigDecimal.valueOf(350.00)).currency("BRL").build())
+                .insuredAmount(MoneyEntity.builder().amount(BigDecimal.valueOf(200000.00)).currency("BRL").build())
+                .createdAt(createdAt)
+                .build();
+    }
 }
@@ -0,0 +1,54 @@
+package io.github.athirson010.adapters.out.persistence.mongo.archive;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PolicyProposalArchiveJob - Testes Unitários")
+class PolicyProposalArchiveJobTest {
+
+    @Mock
+    private PolicyProposalArchive archive;
+
+    @Test
+    @DisplayName("Deve processar lotes até encontrar um lote incompleto")
+    void deveProcessarLotesAteLoteIncompleto() {
+        // Given
+        PolicyProposalArchiveJob job = new PolicyProposalArchiveJob(archive, Duration.ofDays(90), 10, Duration.ZERO, 50);
+        when(archive.archiveBatch(any(Instant.class), eq(10))).thenReturn(10, 10, 3);
+
+        // When
+        job.run();
+
+        // Then
+        ArgumentCaptor<Instant> cutoff = ArgumentCaptor.forClass(Instant.class);
+        verify(archive, times(3)).archiveBatch(cutoff.capture(), eq(10));
+        assertThat(cutoff.getValue()).isBefore(Instant.now().minus(Duration.ofDays(89)));
+    }
+
+    @Test
+    @DisplayName("Deve respeitar o limite de lotes por execução")
+    void deveRespeitarLimiteDeLotesPorExecucao() {
+        // Given
+        PolicyProposalArchiveJob job = new PolicyProposalArchiveJob(archive, Duration.ofDays(90), 10, Duration.ZERO, 2);
+        when(archive.archiveBatch(any(Instant.class), eq(10))).thenReturn(10);
+
+        // When
+        job.run();
+
+        // Then
+        verify(archive, times(2)).archiveBatch(any(Instant.class), eq(10));
+    }
+}
@@ -0,0 +1,186 @@
+package io.github.athirson010.adapters.out.persistence.mongo.archive;
+
+import com.mongodb.client.result.DeleteResult;
+import io.github.athirson010.adapters.out.persistence.mongo.document.PolicyProposalEntity;
+import io.github.athirson010.adapters.out.persistence.mongo.document.PolicyProposalSummaryEntity;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PolicyProposalArchive - Testes Unitários")
+class PolicyProposalArchiveTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private BulkOperations archiveBulk;
+
+    @Mock
+    private BulkOperations catalogBulk;
+
+    @Mock
+    private IndexOperations indexOps;
+
+    @InjectMocks
+    private PolicyProposalArchive archive;
+
+    @Test
+    @DisplayName("Deve copiar para coleção mensal, registrar no catálogo e remover da coleção quente")
+    void deveArquivarLoteDePropostasFinalizadas() {
+        // Given
+        Instant cutoff = Instant.parse("2024-06-01T00:00:00Z");
+        Document january = proposal("p-1", "2024-01-15T10:00:00Z");
+        Document february = proposal("p-2", "2024-02-03T10:00:00Z");
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq(PolicyProposalEntity.COLLECTION)))
+                .thenReturn(List.of(january, february));
+        when(mongoTemplate.indexOps(anyString())).thenReturn(indexOps);
+        when(mongoTemplate.bulkOps(eq(BulkOperations.BulkMode.UNORDERED), eq("policy_proposals_archive_2024_01")))
+                .thenReturn(archiveBulk);
+        when(mongoTemplate.bulkOps(eq(BulkOperations.BulkMode.UNORDERED), eq("policy_proposals_archive_2024_02")))
+                .thenReturn(archiveBulk);
+        when(mongoTemplate.bulkOps(eq(BulkOperations.BulkMode.UNORDERED), eq(PolicyProposalArchive.CATALOG_COLLECTION)))
+                .thenReturn(catalogBulk);
+        when(mongoTemplate.remove(any(Query.class), eq(PolicyProposalEntity.COLLECTION)))
+                .thenReturn(DeleteResult.acknowledged(2));
+
+        // When
+        int removed = archive.archiveBatch(cutoff, 100);
+
+        // Then
+        assertThat(removed).isEqualTo(2);
+        verify(archiveBulk, times(2)).replaceOne(any(Query.class), any(Document.class), any(FindAndReplaceOptions.class));
+        verify(archiveBulk, times(2)).execute();
+        verify(catalogBulk, times(2)).upsert(any(Query.class), any(Update.class));
+        verify(catalogBulk).execute();
+        verify(mongoTemplate).indexOps("policy_proposals_archive_2024_01");
+        verify(mongoTemplate).indexOps("policy_proposals_archive_2024_02");
+        verify(indexOps, times(2)).ensureIndex(argThat(index ->
+                "customer_created_id_idx".equals(index.getIndexOptions().get("name"))));
+
+        ArgumentCaptor<Query> candidates = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(candidates.capture(), eq(Document.class), eq(PolicyProposalEntity.COLLECTION));
+        assertThat(candidates.getValue().getLimit()).isEqualTo(100);
+        assertThat(candidates.getValue().getQueryObject().toString())
+                .contains("APPROVED", "REJECTED", "CANCELED")
+                .doesNotContain("PENDING");
+
+        ArgumentCaptor<Query> removal = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).remove(removal.capture(), eq(PolicyProposalEntity.COLLECTION));
+        assertThat(removal.getValue().getQueryObject().toString()).contains("p-1", "p-2", "status");
+    }
+
+    @Test
+    @DisplayName("Não deve escrever nada quando não houver propostas elegíveis")
+    void naoDeveEscreverQuandoNaoHouverCandidatas() {
+        // Given
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq(PolicyProposalEntity.COLLECTION)))
+                .thenReturn(List.of());
+
+        // When
+        int removed = archive.archiveBatch(Instant.now(), 100);
+
+        // Then
+        assertThat(removed).isZero();
+        verify(mongoTemplate, never()).bulkOps(any(BulkOperations.BulkMode.class), any(String.class));
+        verify(mongoTemplate, never()).remove(any(Query.class), any(String.class));
+    }
+
+    @Test
+    @DisplayName("Deve buscar proposta arquivada pela coleção registrada no catálogo")
+    void deveBuscarPropostaArquivadaPeloCatalogo() {
+        // Given
+        PolicyProposalEntity entity = PolicyProposalEntity.builder().id("p-1").status("APPROVED").build();
+        when(mongoTemplate.findById("p-1", Document.class, PolicyProposalArchive.CATALOG_COLLECTION))
+                .thenReturn(new Document("_id", "p-1").append("collection", "policy_proposals_archive_2024_01"));
+        when(mongoTemplate.findById("p-1", PolicyProposalEntity.class, "policy_proposals_archive_2024_01"))
+                .thenReturn(entity);
+
+        // When
+        Optional<PolicyProposalEntity> result = archive.findById("p-1");
+
+        // Then
+        assertThat(result).contains(entity);
+    }
+
+    @Test
+    @DisplayName("Deve retornar vazio quando a proposta não estiver no catálogo")
+    void deveRetornarVazioQuandoForaDoCatalogo() {
+        // When
+        Optional<PolicyProposalEntity> result = archive.findById("inexistente");
+
+        // Then
+        assertThat(result).isEmpty();
+        verify(mongoTemplate, times(1)).findById(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve listar resumos do cliente do mês do cursor para trás até atingir o limite")
+    void deveListarResumosArquivadosDoMesDoCursorParaTras() {
+        // Given
+        Query query = new Query().limit(3);
+        PolicyProposalSummaryEntity march = PolicyProposalSummaryEntity.builder().id("p-3").build();
+        PolicyProposalSummaryEntity february = PolicyProposalSummaryEntity.builder().id("p-2").build();
+        PolicyProposalSummaryEntity january = PolicyProposalSummaryEntity.builder().id("p-1").build();
+        when(mongoTemplate.getCollectionNames()).thenReturn(Set.of(
+                PolicyProposalEntity.COLLECTION,
+                PolicyProposalArchive.CATALOG_COLLECTION,
+                "policy_proposals_archive_2024_01",
+                "policy_proposals_archive_2024_02",
+                "policy_proposals_archive_2024_03",
+                "policy_proposals_archive_2024_04",
+                "policy_proposals_archive_2023_12"));
+        when(mongoTemplate.find(any(Query.class), eq(PolicyProposalSummaryEntity.class), eq("policy_proposals_archive_2024_03")))
+                .thenReturn(List.of(march));
+        when(mongoTemplate.find(any(Query.class), eq(PolicyProposalSummaryEntity.class), eq("policy_proposals_archive_2024_02")))
+                .thenReturn(List.of(february));
+        when(mongoTemplate.find(any(Query.class), eq(PolicyProposalSummaryEntity.class), eq("policy_proposals_archive_2024_01")))
+                .thenReturn(List.of(january));
+
+        // When
+        List<PolicyProposalSummaryEntity> result = archive.findCustomerSummaries(
+                query, Instant.parse("2024-03-20T10:00:00Z"), 3);
+
+        // Then
+        assertThat(result).containsExactly(march, february, january);
+        ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate, times(3)).find(queries.capture(), eq(PolicyProposalSummaryEntity.class), anyString());
+        assertThat(queries.getAllValues()).extracting(Query::getLimit).containsExactly(3, 2, 1);
+        verify(mongoTemplate, never()).find(any(Query.class), eq(PolicyProposalSummaryEntity.class),
+                eq("policy_proposals_archive_2024_04"));
+        verify(mongoTemplate, never()).find(any(Query.class), eq(PolicyProposalSummaryEntity.class),
+                eq("policy_proposals_archive_2023_12"));
+    }
+
+    private Document proposal(String id, String createdAt) {
+        return new Document("_id", id)
+                .append("status", "APPROVED")
+                .append("createdAt", Date.from(Instant.parse(createdAt)))
+                .append("finishedAt", Date.from(Instant.parse(createdAt).plusSeconds(3600)));
+    }
+}
@@ -0,0 +1,300 @@
+package io.github.athirson010.adapters.out.persistence.mongo.changestream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.UpdateDescription;
+import io.github.athirson010.adapters.out.messaging.kafka.OrderTopicKeyStrategy;
+import io.github.athirson010.adapters.out.persistence.mongo.archive.PolicyProposalArchive;
+import io.github.athirson010.adapters.out.persistence.mongo.changestream.PolicyChangeStreamPublisher.Batch;
+import io.github.athirson010.adapters.out.persistence.mongo.document.PolicyProposalEntity;
+import io.github.athirson010.domain.enums.PolicyStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.bson.BsonDateTime;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PolicyChangeStreamPublisher - Testes Unitários")
+class PolicyChangeStreamPublisherTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-10T10:00:00Z");
+    private static final String TOPIC = "order-topic";
+    private static final String STATE_TOPIC = "order-state-topic";
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private ChangeStreamResumeTokenStore tokenStore;
+
+    @Mock
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    @Mock
+    private MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<PolicyChangeStreamPublisher> publishers = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        for (PolicyChangeStreamPublisher publisher : publishers) {
+            publisher.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve publicar as transições em lote e gravar o resume token só depois da confirmação do broker")
+    void devePublicarTransicoesEmLote() throws Exception {
+        // Given
+        PolicyChangeStreamPublisher publisher = publisher(2, Duration.ofSeconds(10));
+        BsonDocument firstToken = token("01");
+        BsonDocument secondToken = token("02");
+        when(cursor.tryNext()).thenReturn(
+                replaced("p-1", "APPROVED", null),
+                updated("p-2", "REJECTED"));
+        when(cursor.getResumeToken()).thenReturn(firstToken, secondToken);
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+        Batch batch = new Batch(NOW);
+
+        // When
+        publisher.poll(cursor, batch);
+        verifyNoInteractions(kafkaTemplate, tokenStore);
+        publisher.poll(cursor, batch);
+
+        // Then
+        ArgumentCaptor<ProducerRecord<String, String>> records = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate, times(2)).send(records.capture());
+        ProducerRecord<String, String> approved = records.getAllValues().get(0);
+        assertThat(approved.topic()).isEqualTo(TOPIC);
+        assertThat(approved.key()).isEqualTo("p-1");
+        assertThat(new String(approved.headers().lastHeader(PolicyChangeStreamPublisher.EVENT_TYPE_HEADER).value(),
+                StandardCharsets.UTF_8)).isEqualTo(PolicyStatusChangedEvent.EVENT_TYPE);
+        JsonNode json = objectMapper.readTree(approved.value());
+        assertThat(json.get("status").asText()).isEqualTo("APPROVED");
+        assertThat(json.get("customerId").asText()).isEqualTo("customer-p-1");
+        assertThat(json.get("category").asText()).isEqualTo("AUTO");
+        assertThat(records.getAllValues().get(1).key()).isEqualTo("p-2");
+        verify(tokenStore).save(secondToken, NOW);
+        assertThat(batch.size()).isZero();
+        assertThat(meterRegistry.get(PolicyChangeStreamPublisher.PUBLISHED_METRIC)
+                .tag("status", "REJECTED").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Não deve publicar de novo o status regravado por resposta tardia")
+    void naoDevePublicarStatusRegravado() {
+        // Given
+        PolicyChangeStreamPublisher publisher = publisher(10, Duration.ofSeconds(10));
+
+        // When / Then
+        assertThat(publisher.toEvent(replaced("p-1", "REJECTED", null))).isPresent();
+        assertThat(publisher.toEvent(replaced("p-1", "REJECTED", null))).isEmpty();
+        assertThat(publisher.toEvent(replaced("p-2", "APPROVED", "PENDING")))
+                .hasValueSatisfying(event -> assertThat(event.previousStatus()).isEqualTo("PENDING"));
+        assertThat(publisher.toEvent(updated("p-3", "APPROVED")))
+                .hasValueSatisfying(event -> assertThat(event.customerId()).isNull());
+    }
+
+    @Test
+    @DisplayName("Não deve avançar o resume token quando o envio do lote falha")
+    void naoDeveAvancarTokenQuandoEnvioFalha() {
+        // Given
+        PolicyChangeStreamPublisher publisher = publisher(1, Duration.ofSeconds(10));
+        when(cursor.tryNext()).thenReturn(replaced("p-1", "APPROVED", null));
+        when(cursor.getResumeToken()).thenReturn(token("01"));
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker indisponível")));
+
+        // When / Then
+        assertThatThrownBy(() -> publisher.poll(cursor, new Batch(NOW)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasRootCauseMessage("broker indisponível");
+        verifyNoInteractions(tokenStore);
+    }
+
+    @Test
+    @DisplayName("Deve avançar o resume token sem eventos a cada intervalo de checkpoint")
+    void deveAvancarTokenSemEventos() {
+        // Given
+        PolicyChangeStreamPublisher publisher = publisher(10, Duration.ZERO);
+        BsonDocument token = token("03");
+        when(cursor.tryNext()).thenReturn(null);
+        when(cursor.getResumeToken()).thenReturn(token);
+        Batch batch = new Batch(NOW);
+
+        // When
+        publisher.poll(cursor, batch);
+        publisher.poll(cursor, batch);
+
+        // Then
+        verify(tokenStore, times(1)).save(token, NOW);
+        verifyNoInteractions(kafkaTemplate);
+    }
+
+    @Test
+    @DisplayName("Deve manter o último estado de todas as transições no tópico compactado e publicar tombstone na remoção")
+    void deveManterUltimoEstadoNoTopicoCompactado() throws Exception {
+        // Given
+        PolicyChangeStreamPublisher publisher = publisher(3, Duration.ofSeconds(10), STATE_TOPIC);
+        when(cursor.tryNext()).thenReturn(
+                replaced("p-1", "PENDING", null),
+                replaced("p-1", "APPROVED", null),
+                deleted("p-2"));
+        when(cursor.getResumeToken()).thenReturn(token("05"));
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+        Batch batch = new Batch(NOW);
+
+        // When
+        publisher.poll(cursor, batch);
+        publisher.poll(cursor, batch);
+        publisher.poll(cursor, batch);
+
+        // Then
+        ArgumentCaptor<ProducerRecord<String, String>> records = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate, times(4)).send(records.capture());
+        assertThat(records.getAllValues()).extracting(ProducerRecord::topic)
+                .containsExactly(STATE_TOPIC, TOPIC, STATE_TOPIC, STATE_TOPIC);
+        JsonNode pending = objectMapper.readTree(records.getAllValues().get(0).value());
+        assertThat(pending.get("status").asText()).isEqualTo("PENDING");
+        assertThat(pending.get("policyId").asText()).isEqualTo("p-1");
+        ProducerRecord<String, String> tombstone = records.getAllValues().get(3);
+        assertThat(tombstone.key()).isEqualTo("p-2");
+        assertThat(tombstone.value()).isNull();
+        verify(tokenStore).save(token("05"), NOW);
+        assertThat(meterRegistry.get(PolicyChangeStreamPublisher.STATE_PUBLISHED_METRIC)
+                .tag("type", "UPSERT").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get(PolicyChangeStreamPublisher.STATE_PUBLISHED_METRIC)
+                .tag("type", "TOMBSTONE").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Não deve publicar tombstone quando a remoção vem do arquivamento")
+    void naoDevePublicarTombstoneDeArquivamento() {
+        // Given
+        PolicyChangeStreamPublisher publisher = publisher(3, Duration.ofSeconds(10), STATE_TOPIC);
+        when(cursor.tryNext()).thenReturn(deleted("p-archived"));
+        when(mongoTemplate.exists(any(Query.class), eq(PolicyProposalArchive.CATALOG_COLLECTION))).thenReturn(true);
+        Batch batch = new Batch(NOW);
+
+        // When
+        publisher.poll(cursor, batch);
+
+        // Then
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).exists(query.capture(), eq(PolicyProposalArchive.CATALOG_COLLECTION));
+        assertThat(query.getValue().getQueryObject()).containsEntry("_id", "p-archived");
+        assertThat(batch.size()).isZero();
+        verifyNoInteractions(kafkaTemplate);
+    }
+
+    @Test
+    @DisplayName("Deve reabrir o stream a partir do resume token gravado filtrando os status publicados")
+    @SuppressWarnings("unchecked")
+    void deveReabrirDoResumeToken() {
+        // Given
+        PolicyChangeStreamPublisher publisher = publisher(10, Duration.ofSeconds(10));
+        MongoCollection<Document> collection = mock(MongoCollection.class);
+        ChangeStreamIterable<Document> stream = mock(ChangeStreamIterable.class, RETURNS_SELF);
+        BsonDocument token = token("04");
+        when(tokenStore.load()).thenReturn(token);
+        when(mongoTemplate.getCollection(PolicyProposalEntity.COLLECTION)).thenReturn(collection);
+        when(collection.watch(anyList())).thenReturn(stream);
+        doReturn(cursor).when(stream).cursor();
+
+        // When
+        MongoChangeStreamCursor<ChangeStreamDocument<Document>> opened = publisher.open();
+
+        // Then
+        assertThat(opened).isSameAs(cursor);
+        verify(stream).startAfter(token);
+        ArgumentCaptor<List<Bson>> pipeline = ArgumentCaptor.forClass(List.class);
+        verify(collection).watch(pipeline.capture());
+        String match = pipeline.getValue().get(0).toBsonDocument().toJson();
+        assertThat(match).contains("APPROVED", "REJECTED", "updateDescription.updatedFields.status")
+                .doesNotContain("PENDING");
+    }
+
+    private PolicyChangeStreamPublisher publisher(int batchSize, Duration checkpointInterval) {
+        return publisher(batchSize, checkpointInterval, null);
+    }
+
+    private PolicyChangeStreamPublisher publisher(int batchSize, Duration checkpointInterval, String stateTopic) {
+        PolicyChangeStreamPublisher publisher = new PolicyChangeStreamPublisher(mongoTemplate, tokenStore,
+                kafkaTemplate, objectMapper, meterRegistry, TOPIC, OrderTopicKeyStrategy.PROPOSAL, stateTopic,
+                Set.of(PolicyStatus.APPROVED, PolicyStatus.REJECTED),
+                batchSize, Duration.ofMillis(500), checkpointInterval, Duration.ofSeconds(1), Duration.ofSeconds(1),
+                false, 100, Clock.fixed(NOW, ZoneOffset.UTC));
+        publishers.add(publisher);
+        return publisher;
+    }
+
+    private static ChangeStreamDocument<Document> replaced(String id, String status, String previousStatus) {
+        Document document = new Document("_id", id)
+                .append("customerId", "customer-" + id)
+                .append("category", "AUTO")
+                .append("status", status);
+        Document before = previousStatus == null ? null : new Document("_id", id).append("status", previousStatus);
+        return new ChangeStreamDocument<>("replace", token("00"), null, null, document, before,
+                new BsonDocument("_id", new BsonString(id)), null, null, null, null,
+                new BsonDateTime(NOW.toEpochMilli()), null);
+    }
+
+    private static ChangeStreamDocument<Document> deleted(String id) {
+        return new ChangeStreamDocument<>("delete", token("00"), null, null, null, null,
+                new BsonDocument("_id", new BsonString(id)), null, null, null, null,
+                new BsonDateTime(NOW.toEpochMilli()), null);
+    }
+
+    private static ChangeStreamDocument<Document> updated(String id, String status) {
+        UpdateDescription description = new UpdateDescription(List.of(), new BsonDocument("status", new BsonString(status))
+                .append("headVersion", new BsonInt32(3)));
+        return new ChangeStreamDocument<>("update", token("00"), null, null, null, null,
+                new BsonDocument("_id", new BsonString(id)), null, description, null, null,
+                new BsonDateTime(NOW.toEpochMilli()), null);
+    }
+
+    private static BsonDocument token(String data) {
+        return new BsonDocument("_data", new BsonString(data));
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.athirson010.adapters.out.persistence.mongo.counter;
+
+import io.github.athirson010.domain.enums.Category;
+import io.github.athirson010.domain.enums.PolicyStatus;
+import io.github.athirson010.domain.model.PolicyStatusStatistics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PolicyStatusCounterMetrics - Testes Unitários")
+class PolicyStatusCounterMetricsTest {
+
+    @Mock
+    private PolicyStatusCounterStore counterStore;
+
+    private MeterRegistry registry;
+    private PolicyStatusCounterMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        Clock clock = Clock.fixed(Instant.parse("2024-01-10T10:00:00Z"), ZoneOffset.UTC);
+        metrics = new PolicyStatusCounterMetrics(counterStore, Duration.ofSeconds(15), clock);
+        metrics.bindTo(registry);
+    }
+
+    @Test
+    @DisplayName("Deve expor contadores por status e categoria como gauges")
+    void deveExporContadoresComoGauges() {
+        // Given
+        when(counterStore.load(null)).thenReturn(new PolicyStatusStatistics(
+                Map.of(PolicyStatus.PENDING, 12L),
+                Map.of(Category.AUTO, Map.of(PolicyStatus.PENDING, 9L)),
+                Map.of(),
+                null));
+
+        // When
+        double pending = registry.get("policy.proposals.status").tag("status", "PENDING").gauge().value();
+        double autoPending = registry.get("policy.proposals.category")
+                .tag("category", "AUTO").tag("status", "PENDING").gauge().value();
+        double webApproved = registry.get("policy.proposals.sales.channel")
+                .tag("sales_channel", "WEB").tag("status", "APPROVED").gauge().value();
+
+        // Then
+        assertThat(pending).isEqualTo(12.0);
+        assertThat(autoPending).isEqualTo(9.0);
+        assertThat(webApproved).isZero();
+        verify(counterStore, times(1)).load(null);
+    }
+
+    @Test
+    @DisplayName("Deve manter último snapshot quando a leitura dos contadores falhar")
+    void deveManterSnapshotQuandoLeituraFalhar() {
+        // Given
+        when(counterStore.load(null)).thenThrow(new IllegalStateException("mongo indisponível"));
+
+        // When
+        double pending = registry.get("policy.proposals.status").tag("status", "PENDING").gauge().value();
+
+        // Then
+        assertThat(pending).isZero();
+    }
+}
@@ -0,0 +1,56 @@
+package io.github.athirson010.adapters.out.persistence.mongo.counter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PolicyStatusCounterRebuildJob - Testes Unitários")
+class PolicyStatusCounterRebuildJobTest {
+
+    @Mock
+    private PolicyStatusCounterStore counterStore;
+
+    @Test
+    @DisplayName("Deve reconstruir na inicialização quando os contadores ainda não existem")
+    void deveReconstruirQuandoContadoresNaoExistem() {
+        // Given
+        when(counterStore.isInitialized()).thenReturn(false);
+
+        // When
+        new PolicyStatusCounterRebuildJob(counterStore, PolicyStatusCounterRebuildJob.OnStartup.MISSING).onStartup();
+
+        // Then
+        verify(counterStore).rebuild();
+    }
+
+    @Test
+    @DisplayName("Não deve reconstruir na inicialização quando os contadores já existem")
+    void naoDeveReconstruirQuandoContadoresExistem() {
+        // Given
+        when(counterStore.isInitialized()).thenReturn(true);
+
+        // When
+        new PolicyStatusCounterRebuildJob(counterStore, PolicyStatusCounterRebuildJob.OnStartup.MISSING).onStartup();
+
+        // Then
+        verify(counterStore, never()).rebuild();
+    }
+
+    @Test
+    @DisplayName("Não deve consultar os contadores com a reconstrução na inicialização desligada")
+    void naoDeveReconstruirComInicializacaoDesligada() {
+        // When
+        new PolicyStatusCounterRebuildJob(counterStore, PolicyStatusCounterRebuildJob.OnStartup.NEVER).onStartup();
+
+        // Then
+        verifyNoInteractions(counterStore);
+    }
+}
@@ -0,0 +1,199 @@
+package io.github.athirson010.adapters.out.persistence.mongo.counter;
+
+import io.github.athirson010.adapters.out.persistence.mongo.document.PolicyStatusCounterEntity;
+import io.github.athirson010.domain.enums.Category;
+import io.github.athirson010.domain.enums.PolicyStatus;
+import io.github.athirson010.domain.enums.SalesChannel;
+import io.github.athirson010.domain.model.PolicyStatusStatistics;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PolicyStatusCounterStore - Testes Unitários")
+class PolicyStatusCounterStoreTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+    @InjectMocks
+    private PolicyStatusCounterStore counterStore;
+
+    @Test
+    @DisplayName("Deve incrementar novo status e decrementar anterior em todas as dimensões")
+    void deveIncrementarNovoStatusEDecrementarAnterior() {
+        // Given
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, PolicyStatusCounterEntity.COLLECTION))
+                .thenReturn(bulkOperations);
+
+        // When
+        counterStore.recordTransition(PolicyStatus.VALIDATED, PolicyStatus.PENDING, "AUTO", "MOBILE",
+                Instant.parse("2024-01-10T10:15:30Z"));
+
+        // Then
+        ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(bulkOperations, times(4)).upsert(queries.capture(), updates.capture());
+        verify(bulkOperations).execute();
+
+        assertThat(queries.getAllValues())
+                .extracting(query -> query.getQueryObject().get("_id"))
+                .containsExactly("status", "category:AUTO", "sales_channel:MOBILE", "hour:2024-01-10T10");
+
+        Document statusInc = (Document) updates.getAllValues().get(0).getUpdateObject().get("$inc");
+        assertThat(statusInc).containsEntry("counts.PENDING", 1).containsEntry("counts.VALIDATED", -1);
+
+        Document hourlyInc = (Document) updates.getAllValues().get(3).getUpdateObject().get("$inc");
+        assertThat(hourlyInc).containsOnlyKeys("counts.PENDING");
+        Document hourlyOnInsert = (Document) updates.getAllValues().get(3).getUpdateObject().get("$setOnInsert");
+        assertThat(hourlyOnInsert).containsEntry("bucketStart", Instant.parse("2024-01-10T10:00:00Z"));
+    }
+
+    @Test
+    @DisplayName("Deve apenas incrementar quando a proposta for criada")
+    void deveApenasIncrementarNaCriacao() {
+        // Given
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, PolicyStatusCounterEntity.COLLECTION))
+                .thenReturn(bulkOperations);
+
+        // When
+        counterStore.recordTransition(null, PolicyStatus.RECEIVED, "VIDA", "WEB", Instant.now());
+
+        // Then
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(bulkOperations, times(4)).upsert(any(Query.class), updates.capture());
+        assertThat(updates.getAllValues())
+                .allSatisfy(update -> assertThat((Document) update.getUpdateObject().get("$inc"))
+                        .containsOnlyKeys("counts.RECEIVED"));
+    }
+
+    @Test
+    @DisplayName("Não deve tocar nos contadores quando o status não mudar")
+    void naoDeveAtualizarQuandoStatusNaoMudar() {
+        // When
+        counterStore.recordTransition(PolicyStatus.PENDING, PolicyStatus.PENDING, "AUTO", "MOBILE", Instant.now());
+
+        // Then
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    @DisplayName("Deve montar estatísticas a partir dos documentos de contadores")
+    void deveMontarEstatisticasDosDocumentos() {
+        // Given
+        Instant hour = Instant.parse("2024-01-10T10:00:00Z");
+        when(mongoTemplate.find(any(Query.class), eq(PolicyStatusCounterEntity.class), eq(PolicyStatusCounterEntity.COLLECTION)))
+                .thenReturn(List.of(
+                        counter("status", null, null, Map.of("PENDING", 5L, "APPROVED", 2L)),
+                        counter("category", "AUTO", null, Map.of("PENDING", 4L)),
+                        counter("sales_channel", "WEB", null, Map.of("APPROVED", 2L)),
+                        counter("hour", "2024-01-10T10", hour, Map.of("RECEIVED", 7L))
+                ));
+
+        // When
+        PolicyStatusStatistics statistics = counterStore.load(hour);
+
+        // Then
+        assertThat(statistics.countOf(PolicyStatus.PENDING)).isEqualTo(5L);
+        assertThat(statistics.countOf(PolicyStatus.REJECTED)).isZero();
+        assertThat(statistics.byCategory().get(Category.AUTO)).containsEntry(PolicyStatus.PENDING, 4L);
+        assertThat(statistics.bySalesChannel().get(SalesChannel.WEB)).containsEntry(PolicyStatus.APPROVED, 2L);
+        assertThat(statistics.byHour()).containsKey(hour);
+        assertThat(statistics.byHour().get(hour)).containsEntry(PolicyStatus.RECEIVED, 7L);
+    }
+
+    @Test
+    @DisplayName("Deve reconstruir contadores agrupando a coleção quente e o arquivo")
+    void deveReconstruirContadoresAgrupandoColecoes() {
+        // Given
+        when(mongoTemplate.getCollectionNames()).thenReturn(Set.of(
+                "policy_proposals", "policy_proposals_archive_2023_01", "policy_proposals_archive_catalog",
+                "policy_status_counters"));
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq("policy_proposals"), eq(Document.class)))
+                .thenReturn(results(group("PENDING", "AUTO", "MOBILE", 3), group("RECEIVED", "AUTO", "WEB", 2)));
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq("policy_proposals_archive_2023_01"), eq(Document.class)))
+                .thenReturn(results(group("APPROVED", "AUTO", "MOBILE", 5)));
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, PolicyStatusCounterEntity.COLLECTION))
+                .thenReturn(bulkOperations);
+
+        // When
+        long total = counterStore.rebuild();
+
+        // Then
+        assertThat(total).isEqualTo(10);
+        verify(mongoTemplate, never()).aggregate(any(Aggregation.class), eq("policy_proposals_archive_catalog"),
+                eq(Document.class));
+        ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(bulkOperations, times(1 + Category.values().length + SalesChannel.values().length))
+                .upsert(queries.capture(), updates.capture());
+        verify(bulkOperations).execute();
+
+        Map<Object, Document> countsById = new HashMap<>();
+        for (int i = 0; i < queries.getAllValues().size(); i++) {
+            Document set = (Document) updates.getAllValues().get(i).getUpdateObject().get("$set");
+            countsById.put(queries.getAllValues().get(i).getQueryObject().get("_id"), (Document) set.get("counts"));
+        }
+        assertThat(countsById.get("status"))
+                .containsEntry("PENDING", 3L).containsEntry("RECEIVED", 2L).containsEntry("APPROVED", 5L);
+        assertThat(countsById.get("category:AUTO")).containsEntry("APPROVED", 5L);
+        assertThat(countsById.get("sales_channel:MOBILE")).containsEntry("PENDING", 3L).doesNotContainKey("RECEIVED");
+        assertThat(countsById.get("category:VIDA")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve indicar contadores inicializados quando o documento de status existir")
+    void deveIndicarContadoresInicializados() {
+        // Given
+        when(mongoTemplate.exists(any(Query.class), eq(PolicyStatusCounterEntity.COLLECTION))).thenReturn(true);
+
+        // When / Then
+        assertThat(counterStore.isInitialized()).isTrue();
+    }
+
+    private static AggregationResults<Document> results(Document... groups) {
+        return new AggregationResults<>(List.of(groups), new Document());
+    }
+
+    private static Document group(String status, String category, String salesChannel, int count) {
+        return new Document("_id", new Document("status", status)
+                .append("category", category)
+                .append("salesChannel", salesChannel))
+                .append("count", count);
+    }
+
+    private PolicyStatusCounterEntity counter(String dimension, String key, Instant bucketStart, Map<String, Long> counts) {
+        return PolicyStatusCounterEntity.builder()
+                .id(key == null ? dimension : dimension + ":" + key)
+                .dimension(dimension)
+                .key(key)
+                .bucketStart(bucketStart)
+                .counts(counts)
+                .build();
+    }
+}
@@ -0,0 +1,238 @@
+package io.github.athirson010.adapters.out.persistence.mongo.eventstore;
+
+import com.mongodb.client.result.UpdateResult;
+import io.github.athirson010.adapters.out.persistence.mongo.document.PolicyEventEntity;
+import io.github.athirson010.adapters.out.persistence.mongo.document.PolicyProposalEntity;
+import io.github.athirson010.adapters.out.persistence.mongo.mapper.PolicyEventEntityMapper;
+import io.github.athirson010.adapters.out.persistence.mongo.mapper.PolicyProposalEntityMapper;
+import io.github.athirson010.adapters.out.persistence.mongo.projection.PolicyProjections;
+import io.github.athirson010.domain.enums.Category;
+import io.github.athirson010.domain.enums.PaymentMethod;
+import io.github.athirson010.domain.enums.PolicyStatus;
+import io.github.athirson010.domain.enums.SalesChannel;
+import io.github.athirson010.domain.model.Money;
+import io.github.athirson010.domain.model.PolicyProposal;
+import io.github.athirson010.domain.model.PolicyProposalId;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EventSourcedPolicyStore - Testes Unitários")
+class EventSourcedPolicyStoreTest {
+
+    @Mock
+    private PolicyEventStore eventStore;
+
+    @Mock
+    private PolicyEventEntityMapper eventMapper;
+
+    @Mock
+    private PolicyProposalEntityMapper mapper;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private PolicyProjections projections;
+
+    @InjectMocks
+    private EventSourcedPolicyStore store;
+
+    private PolicyProposal policyProposal;
+    private PolicyProposalEntity policyProposalEntity;
+    private String policyId;
+
+    @BeforeEach
+    void setUp() {
+        policyId = UUID.randomUUID().toString();
+        policyProposal = PolicyProposal.builder()
+                .id(PolicyProposalId.from(policyId))
+                .customerId(UUID.randomUUID())
+                .productId("PROD-AUTO-2024")
+                .category(Category.AUTO)
+                .salesChannel(SalesChannel.MOBILE)
+                .paymentMethod(PaymentMethod.CREDIT_CARD)
+                .totalMonthlyPremiumAmount(Money.brl(BigDecimal.valueOf(350.00)))
+                .insuredAmount(Money.brl(BigDecimal.valueOf(200000.00)))
+                .coverages(Map.of("COLISAO", Money.brl(BigDecimal.valueOf(200000.00))))
+                .assistances(List.of("GUINCHO_24H"))
+                .status(PolicyStatus.RECEIVED)
+                .createdAt(Instant.now())
+                .build();
+        policyProposalEntity = PolicyProposalEntity.builder()
+                .id(policyId)
+                .category("AUTO")
+                .salesChannel("MOBILE")
+                .status("RECEIVED")
+                .build();
+    }
+
+    @Test
+    @DisplayName("Deve gravar evento inicial com estado completo e snapshot")
+    void deveGravarEventoInicialComSnapshot() {
+        // Given
+        PolicyEventEntity created = event(1, "RECEIVED");
+        when(eventMapper.toNextEvent(eq(policyProposal), eq(null), any(Instant.class))).thenReturn(created);
+        when(eventStore.isSnapshotDue(created)).thenReturn(true);
+        when(mapper.toEntity(policyProposal)).thenReturn(policyProposalEntity);
+
+        // When
+        PolicyProposal result = store.save(policyProposal);
+
+        // Then
+        assertThat(result).isSameAs(policyProposal);
+        assertThat(created.getSnapshot()).isSameAs(policyProposalEntity);
+        assertThat(policyProposalEntity.getSnapshotVersion()).isEqualTo(1L);
+        assertThat(policyProposalEntity.getHeadVersion()).isEqualTo(1L);
+        verify(eventStore).append(created);
+        verify(mongoTemplate).findAndReplace(any(Query.class), eq(policyProposalEntity), any(FindAndReplaceOptions.class),
+                eq(PolicyProposalEntity.class), eq(PolicyProposalEntity.COLLECTION), eq(PolicyProposalEntity.class));
+        ArgumentCaptor<PolicyProposalEntity> current = ArgumentCaptor.forClass(PolicyProposalEntity.class);
+        verify(projections).recordTransition(eq(null), current.capture());
+        assertThat(current.getValue().getStatus()).isEqualTo("RECEIVED");
+        assertThat(current.getValue().getCategory()).isEqualTo("AUTO");
+    }
+
+    @Test
+    @DisplayName("Deve atualizar apenas status do snapshot entre snapshots completos")
+    void deveAtualizarApenasStatusDoSnapshot() {
+        // Given
+        PolicyEventEntity last = event(1, "RECEIVED");
+        PolicyEventEntity validated = event(2, "VALIDATED");
+        policyProposal.assignVersion(1);
+        when(eventStore.findLast(policyId)).thenReturn(last);
+        when(eventMapper.toNextEvent(eq(policyProposal), eq(last), any(Instant.class))).thenReturn(validated);
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(PolicyProposalEntity.COLLECTION)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        // When
+        store.save(policyProposal);
+
+        // Then
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateFirst(any(Query.class), update.capture(), eq(PolicyProposalEntity.COLLECTION));
+        assertThat((Document) update.getValue().getUpdateObject().get("$set"))
+                .containsEntry("status", "VALIDATED")
+                .containsEntry("pendingSince", null)
+                .containsEntry("headVersion", 2L);
+        verify(eventStore).append(validated);
+        verify(mapper, never()).toEntity(any(PolicyProposal.class));
+        verify(mongoTemplate, never()).findAndReplace(any(Query.class), any(), any(FindAndReplaceOptions.class),
+                any(), any(), any());
+        verify(projections).recordTransition(eq(PolicyStatus.RECEIVED), any(PolicyProposalEntity.class));
+        assertThat(policyProposal.getVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Não deve gravar evento quando a proposta não mudou desde o último evento")
+    void naoDeveGravarEventoSemAlteracoes() {
+        // Given
+        policyProposal.assignVersion(1);
+        when(eventStore.findLast(policyId)).thenReturn(event(1, "RECEIVED"));
+
+        // When
+        store.save(policyProposal);
+
+        // Then
+        verify(eventStore, never()).append(any());
+        verifyNoInteractions(mongoTemplate, projections);
+    }
+
+    @Test
+    @DisplayName("Deve lançar OptimisticLockingFailureException quando o último evento não leva ao novo status")
+    void deveLancarExcecaoQuandoUltimoEventoEstiverEmStatusPosterior() {
+        // Given
+        when(eventStore.findLast(policyId)).thenReturn(event(3, "APPROVED"));
+
+        // When / Then
+        assertThatThrownBy(() -> store.save(policyProposal))
+                .isInstanceOf(OptimisticLockingFailureException.class)
+                .hasMessageContaining("APPROVED");
+        verify(eventStore, never()).append(any());
+    }
+
+    @Test
+    @DisplayName("Deve lançar OptimisticLockingFailureException quando outro evento foi gravado depois da leitura")
+    void deveLancarExcecaoQuandoVersaoLidaEstiverDesatualizada() {
+        // Given: a cópia foi lida na versão 1 e outra gravação já criou a versão 2
+        policyProposal.assignVersion(1);
+        when(eventStore.findLast(policyId)).thenReturn(event(2, "RECEIVED"));
+
+        // When / Then
+        assertThatThrownBy(() -> store.save(policyProposal))
+                .isInstanceOf(OptimisticLockingFailureException.class)
+                .hasMessageContaining("versão 2");
+        verify(eventStore, never()).append(any());
+    }
+
+    @Test
+    @DisplayName("Deve aplicar eventos posteriores ao snapshot")
+    void deveAplicarEventosPosterioresAoSnapshot() {
+        // Given
+        policyProposalEntity.setSnapshotVersion(20L);
+        PolicyEventEntity pending = event(21, "PENDING");
+        when(eventStore.findAfter(policyId, 20L)).thenReturn(List.of(pending));
+
+        // When
+        PolicyProposalEntity result = store.replay(policyProposalEntity);
+
+        // Then
+        assertThat(result).isSameAs(policyProposalEntity);
+        assertThat(result.getVersion()).isEqualTo(21L);
+        verify(eventMapper).apply(policyProposalEntity, pending);
+    }
+
+    @Test
+    @DisplayName("Deve reconstruir proposta pelo log de eventos quando o snapshot não existir")
+    void deveReconstruirPropostaPeloLogDeEventos() {
+        // Given
+        PolicyEventEntity created = event(1, "RECEIVED");
+        created.setSnapshot(policyProposalEntity);
+        PolicyEventEntity validated = event(2, "VALIDATED");
+        when(eventStore.findAfter(policyId, 0)).thenReturn(List.of(created, validated));
+
+        // When
+        Optional<PolicyProposalEntity> result = store.rebuild(policyId);
+
+        // Then
+        assertThat(result).contains(policyProposalEntity);
+        assertThat(policyProposalEntity.getSnapshotVersion()).isNull();
+        assertThat(policyProposalEntity.getVersion()).isEqualTo(2L);
+        verify(eventMapper).apply(policyProposalEntity, validated);
+    }
+
+    private PolicyEventEntity event(long version, String status) {
+        return PolicyEventEntity.builder()
+                .id(PolicyEventEntity.idOf(policyId, version))
+                .policyId(policyId)
+                .version(version)
+                .status(status)
+                .historyCount((int) version)
+                .build();
+    }
+}
@@ -0,0 +1,130 @@
+package io.github.athirson010.adapters.out.persistence.mongo.eventstore;
+
+import io.github.athirson010.adapters.out.persistence.mongo.document.PolicyEventEntity;
+import io.github.athirson010.adapters.out.persistence.mongo.document.PolicyProposalEntity;
+import io.github.athirson010.adapters.out.persistence.mongo.mapper.PolicyEventEntityMapper;
+import io.github.athirson010.domain.enums.Category;
+import io.github.athirson010.domain.enums.PaymentMethod;
+import io.github.athirson010.domain.enums.SalesChannel;
+import io.github.athirson010.domain.model.Money;
+import io.github.athirson010.domain.model.PolicyProposal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PolicyEventStore - Testes Unitários")
+class PolicyEventStoreTest {
+
+    private static final Instant T0 = Instant.parse("2024-01-10T10:00:00Z");
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    private final PolicyEventEntityMapper eventMapper = new PolicyEventEntityMapper();
+
+    @Test
+    @DisplayName("Deve sinalizar alteração concorrente quando a versão do evento já existir")
+    void deveSinalizarAlteracaoConcorrente() {
+        // Given
+        PolicyEventStore store = new PolicyEventStore(mongoTemplate, "event-store", 20);
+        PolicyEventEntity event = PolicyEventEntity.builder()
+                .id(PolicyEventEntity.idOf("p-1", 2)).policyId("p-1").version(2).status("VALIDATED").build();
+        when(mongoTemplate.insert(event, PolicyEventEntity.COLLECTION)).thenThrow(new DuplicateKeyException("E11000"));
+
+        // When / Then
+        assertThatThrownBy(() -> store.append(event))
+                .isInstanceOf(OptimisticLockingFailureException.class)
+                .hasMessageContaining("version 2");
+    }
+
+    @Test
+    @DisplayName("Deve buscar eventos posteriores ao snapshot em ordem de versão")
+    void deveBuscarEventosPosterioresAoSnapshot() {
+        // Given
+        PolicyEventStore store = new PolicyEventStore(mongoTemplate, "event-store", 20);
+        when(mongoTemplate.find(any(Query.class), eq(PolicyEventEntity.class), eq(PolicyEventEntity.COLLECTION)))
+                .thenReturn(List.of());
+
+        // When
+        store.findAfter("p-1", 20);
+
+        // Then
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(PolicyEventEntity.class), eq(PolicyEventEntity.COLLECTION));
+        assertThat(query.getValue().getQueryObject().toString()).contains("policyId=p-1").contains("$gt=20");
+        assertThat(query.getValue().getSortObject()).containsEntry("version", 1);
+    }
+
+    @Test
+    @DisplayName("Deve exigir snapshot completo na criação, no intervalo configurado e em estado final")
+    void deveExigirSnapshotCompletoNosMomentosConfigurados() {
+        PolicyEventStore store = new PolicyEventStore(mongoTemplate, "event-store", 20);
+
+        assertThat(store.isSnapshotDue(PolicyEventEntity.builder().version(1).status("RECEIVED").build())).isTrue();
+        assertThat(store.isSnapshotDue(PolicyEventEntity.builder().version(2).status("VALIDATED").build())).isFalse();
+        assertThat(store.isSnapshotDue(PolicyEventEntity.builder().version(40).status("PENDING").build())).isTrue();
+        assertThat(store.isSnapshotDue(PolicyEventEntity.builder().version(4).status("REJECTED").build())).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar configuração inválida do modo de persistência")
+    void deveRejeitarConfiguracaoInvalida() {
+        assertThatThrownBy(() -> new PolicyEventStore(mongoTemplate, "journal", 20))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new PolicyEventStore(mongoTemplate, "event-store", 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(new PolicyEventStore(mongoTemplate, "snapshot", 20).isEnabled()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve gerar eventos apenas com as entradas novas e reconstruir o estado ao aplicá-los")
+    void deveGerarEventosIncrementaisEReconstruirEstado() {
+        // Given
+        PolicyProposal proposal = PolicyProposal.create(
+                UUID.randomUUID(), "PROD-AUTO-2024", Category.AUTO, SalesChannel.MOBILE, PaymentMethod.PIX,
+                Money.brl(BigDecimal.TEN), Money.brl(BigDecimal.TEN), Map.of(), List.of(), T0);
+        PolicyEventEntity created = eventMapper.toNextEvent(proposal, null, T0);
+
+        proposal.validate(T0.plusSeconds(1));
+        proposal.markAsPending(T0.plusSeconds(2));
+
+        // When
+        PolicyEventEntity next = eventMapper.toNextEvent(proposal, created, T0.plusSeconds(2));
+        PolicyProposalEntity state = PolicyProposalEntity.builder().status("RECEIVED")
+                .statusHistory(List.of()).snapshotVersion(1L).build();
+        eventMapper.apply(state, next);
+
+        // Then
+        assertThat(created.getType()).isEqualTo(PolicyEventEntity.TYPE_CREATED);
+        assertThat(created.getHistoryCount()).isEqualTo(1);
+        assertThat(next.getVersion()).isEqualTo(2);
+        assertThat(next.getType()).isEqualTo(PolicyEventEntity.TYPE_STATUS_CHANGED);
+        assertThat(next.getHistoryEntries()).extracting("status").containsExactly("VALIDATED", "PENDING");
+        assertThat(next.getHistoryCount()).isEqualTo(3);
+        assertThat(eventMapper.toNextEvent(proposal, next, T0.plusSeconds(3))).isNull();
+
+        assertThat(state.getStatus()).isEqualTo("PENDING");
+        assertThat(state.getStatusHistory()).hasSize(2);
+        assertThat(state.getSnapshotVersion()).isEqualTo(2L);
+    }
+}
@@ -0,0 +1,128 @@
+package io.github.athirson010.adapters.out.persistence.mongo.history;
+
+import io.github.athirson010.adapters.out.persistence.mongo.document.MoneyEntity;
+import io.github.athirson010.adapters.out.persistence.mongo.document.PolicyProposalEntity;
+import io.github.athirson010.adapters.out.persistence.mongo.document.StatusHistoryEntryEntity;
+import io.github.athirson010.adapters.out.persistence.mongo.mapper.PolicyProposalEntityMapper;
+import io.github.athirson010.domain.enums.PolicyStatus;
+import io.github.athirson010.domain.model.HistoryEntry;
+import io.github.athirson010.domain.model.PolicyProposal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LazyStatusHistory - Testes Unitários")
+class LazyStatusHistoryTest {
+
+    private static final Instant T0 = Instant.parse("2024-01-10T10:00:00Z");
+
+    private final List<HistoryEntry> fullHistory = List.of(
+            HistoryEntry.of(PolicyStatus.RECEIVED, T0, null),
+            HistoryEntry.of(PolicyStatus.VALIDATED, T0.plusSeconds(1), null),
+            HistoryEntry.of(PolicyStatus.PENDING, T0.plusSeconds(2), null),
+            HistoryEntry.of(PolicyStatus.REJECTED, T0.plusSeconds(3), "Pagamento recusado"),
+            HistoryEntry.of(PolicyStatus.REJECTED, T0.plusSeconds(4), "Subscrição aprovada após rejeição")
+    );
+
+    @Test
+    @DisplayName("Deve acessar entradas inline e adicionadas sem carregar o histórico completo")
+    void deveAcessarEntradasRecentesSemCarregarHistorico() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        LazyStatusHistory history = new LazyStatusHistory(5, fullHistory.subList(3, 5), counting(loads));
+
+        // When
+        history.add(HistoryEntry.of(PolicyStatus.REJECTED, T0.plusSeconds(5), "Resposta tardia"));
+
+        // Then
+        assertThat(history).hasSize(6);
+        assertThat(history.get(3)).isEqualTo(fullHistory.get(3));
+        assertThat(history.get(5).reason()).isEqualTo("Resposta tardia");
+        assertThat(history.subList(4, 6)).hasSize(2);
+        assertThat(history.toString()).contains("size=6");
+        assertThat(loads).hasValue(0);
+        assertThat(history.isHydrated()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve carregar o histórico completo uma única vez ao acessar entradas antigas")
+    void deveCarregarHistoricoCompletoSobDemanda() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        LazyStatusHistory history = new LazyStatusHistory(5, fullHistory.subList(3, 5), counting(loads));
+
+        // When
+        List<HistoryEntry> all = List.copyOf(history);
+        history.get(0);
+
+        // Then
+        assertThat(all).containsExactlyElementsOf(fullHistory);
+        assertThat(loads).hasValue(1);
+        assertThat(history.isHydrated()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve permitir apenas inclusão no final do histórico")
+    void devePermitirApenasInclusaoNoFinal() {
+        LazyStatusHistory history = new LazyStatusHistory(5, fullHistory.subList(3, 5), () -> fullHistory);
+
+        assertThatThrownBy(() -> history.add(0, fullHistory.get(0)))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("Deve hidratar proposta convertida pelo mapper apenas quando o histórico completo for lido")
+    void deveHidratarPropostaConvertidaPeloMapperSobDemanda() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        PolicyProposalEntityMapper mapper = new PolicyProposalEntityMapper();
+        PolicyProposalEntity entity = PolicyProposalEntity.builder()
+                .id(UUID.randomUUID().toString())
+                .customerId(UUID.randomUUID().toString())
+                .productId("PROD-AUTO-2024")
+                .category("AUTO")
+                .salesChannel("MOBILE")
+                .paymentMethod("PIX")
+                .totalMonthlyPremiumAmount(MoneyEntity.builder().amount(BigDecimal.TEN).currency("BRL").build())
+                .insuredAmount(MoneyEntity.builder().amount(BigDecimal.TEN).currency("BRL").build())
+                .status("PENDING")
+                .createdAt(T0)
+                .statusHistory(List.of(StatusHistoryEntryEntity.builder()
+                        .status("PENDING").changedAt(T0.plusSeconds(2)).build()))
+                .statusHistoryCount(3)
+                .build();
+
+        // When
+        PolicyProposal proposal = mapper.toDomain(entity, id -> {
+            loads.incrementAndGet();
+            return fullHistory.subList(0, 3);
+        });
+        proposal.processPaymentResponse(false, "Cartão recusado", T0.plusSeconds(10));
+        PolicyProposalEntity rewritten = mapper.toEntity(proposal, 1);
+
+        // Then
+        assertThat(loads).hasValue(0);
+        assertThat(rewritten.getStatusHistoryCount()).isEqualTo(4);
+        assertThat(rewritten.getStatusHistory()).hasSize(1);
+        assertThat(rewritten.getStatusHistory().get(0).getStatus()).isEqualTo("REJECTED");
+
+        assertThat(proposal.getHistory().get(0).status()).isEqualTo(PolicyStatus.RECEIVED);
+        assertThat(loads).hasValue(1);
+    }
+
+    private Supplier<List<HistoryEntry>> counting(AtomicInteger loads) {
+        return () -> {
+            loads.incrementAndGet();
+            return fullHistory;
+        };
+    }
+}
@@ -0,0 +1,110 @@
+package io.github.athirson010.adapters.out.persistence.mongo.history;
+
+import io.github.athirson010.adapters.out.persistence.mongo.document.StatusHistoryEntity;
+import io.github.athirson010.domain.enums.PolicyStatus;
+import io.github.athirson010.domain.model.HistoryEntry;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StatusHistoryStore - Testes Unitários")
+class StatusHistoryStoreTest {
+
+    private static final Instant T0 = Instant.parse("2024-01-10T10:00:00Z");
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+    @Test
+    @DisplayName("Deve gravar entradas somente por inserção com id policyId:sequence")
+    void deveGravarEntradasSomentePorInsercao() {
+        // Given
+        StatusHistoryStore store = new StatusHistoryStore(mongoTemplate, "bounded", 10);
+        List<HistoryEntry> history = List.of(
+                HistoryEntry.of(PolicyStatus.RECEIVED, T0, null),
+                HistoryEntry.of(PolicyStatus.VALIDATED, T0.plusSeconds(1), null),
+                HistoryEntry.of(PolicyStatus.PENDING, T0.plusSeconds(2), null));
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, StatusHistoryEntity.COLLECTION))
+                .thenReturn(bulkOperations);
+
+        // When
+        store.append("p-1", history, 1, 3);
+
+        // Then
+        ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(bulkOperations, times(2)).upsert(queries.capture(), updates.capture());
+        verify(bulkOperations).execute();
+
+        assertThat(queries.getAllValues())
+                .extracting(query -> query.getQueryObject().get("_id"))
+                .containsExactly("p-1:1", "p-1:2");
+        Document update = updates.getAllValues().get(0).getUpdateObject();
+        assertThat(update).containsOnlyKeys("$setOnInsert");
+        assertThat((Document) update.get("$setOnInsert"))
+                .containsEntry("status", "VALIDATED")
+                .containsEntry("sequence", 1);
+    }
+
+    @Test
+    @DisplayName("Não deve acessar o MongoDB quando não houver entradas a gravar")
+    void naoDeveGravarIntervaloVazio() {
+        StatusHistoryStore store = new StatusHistoryStore(mongoTemplate, "bounded", 10);
+
+        store.append("p-1", List.of(), 0, 0);
+
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    @DisplayName("Deve carregar o histórico completo ordenado pela sequência")
+    void deveCarregarHistoricoCompletoOrdenado() {
+        // Given
+        StatusHistoryStore store = new StatusHistoryStore(mongoTemplate, "bounded", 10);
+        when(mongoTemplate.find(any(Query.class), eq(StatusHistoryEntity.class), eq(StatusHistoryEntity.COLLECTION)))
+                .thenReturn(List.of(
+                        StatusHistoryEntity.builder().sequence(0).status("RECEIVED").changedAt(T0).build(),
+                        StatusHistoryEntity.builder().sequence(1).status("CANCELED").changedAt(T0).reason("Desistência").build()));
+
+        // When
+        List<HistoryEntry> history = store.loadAll("p-1");
+
+        // Then
+        assertThat(history).extracting(HistoryEntry::status)
+                .containsExactly(PolicyStatus.RECEIVED, PolicyStatus.CANCELED);
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(StatusHistoryEntity.class), eq(StatusHistoryEntity.COLLECTION));
+        assertThat(query.getValue().getSortObject()).containsEntry("sequence", 1);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar configuração inválida do modo de histórico")
+    void deveRejeitarConfiguracaoInvalida() {
+        assertThatThrownBy(() -> new StatusHistoryStore(mongoTemplate, "compacted", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new StatusHistoryStore(mongoTemplate, "bounded", 2))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(new StatusHistoryStore(mongoTemplate, "embedded", 10).isBounded()).isFalse();
+    }
+}
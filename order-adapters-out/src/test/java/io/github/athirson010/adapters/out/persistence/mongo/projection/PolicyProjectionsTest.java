@@ -0,0 +1,159 @@
+package io.github.athirson010.adapters.out.persistence.mongo.projection;
+
+import io.github.athirson010.adapters.out.persistence.mongo.counter.PolicyStatusCounterStore;
+import io.github.athirson010.adapters.out.persistence.mongo.document.PolicyProposalEntity;
+import io.github.athirson010.adapters.out.persistence.mongo.history.StatusHistoryStore;
+import io.github.athirson010.domain.enums.Category;
+import io.github.athirson010.domain.enums.PaymentMethod;
+import io.github.athirson010.domain.enums.PolicyStatus;
+import io.github.athirson010.domain.enums.SalesChannel;
+import io.github.athirson010.domain.model.Money;
+import io.github.athirson010.domain.model.PolicyProposal;
+import io.github.athirson010.domain.model.PolicyStatusStatistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PolicyProjections - Testes Unitários")
+class PolicyProjectionsTest {
+
+    @Mock
+    private StatusHistoryStore historyStore;
+
+    @Mock
+    private PolicyStatusCounterStore counterStore;
+
+    @InjectMocks
+    private PolicyProjections projections;
+
+    private PolicyProposal policyProposal;
+    private PolicyProposalEntity current;
+
+    @BeforeEach
+    void setUp() {
+        policyProposal = PolicyProposal.create(
+                UUID.randomUUID(), "PROD-AUTO-2024", Category.AUTO, SalesChannel.MOBILE, PaymentMethod.CREDIT_CARD,
+                Money.brl(BigDecimal.valueOf(350.00)), Money.brl(BigDecimal.valueOf(200000.00)),
+                Map.of("COLISAO", Money.brl(BigDecimal.valueOf(200000.00))), List.of("GUINCHO_24H"), Instant.now());
+        policyProposal.validate(Instant.now());
+        policyProposal.markAsPending(Instant.now());
+        current = PolicyProposalEntity.builder()
+                .id(policyProposal.getId().asString())
+                .category("AUTO")
+                .salesChannel("MOBILE")
+                .status("PENDING")
+                .statusHistoryCount(3)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Deve atualizar contadores com o status anterior do documento substituído")
+    void deveAtualizarContadoresComStatusAnterior() {
+        // Given
+        PolicyProposalEntity previous = PolicyProposalEntity.builder().id(current.getId()).status("VALIDATED").build();
+
+        // When
+        projections.documentReplaced(current, policyProposal.getHistory(), previous);
+
+        // Then
+        verify(counterStore).recordTransition(eq(PolicyStatus.VALIDATED), eq(PolicyStatus.PENDING),
+                eq("AUTO"), eq("MOBILE"), any(Instant.class));
+        verify(historyStore, never()).append(any(), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Não deve propagar falha na atualização dos contadores")
+    void naoDevePropagarFalhaDosContadores() {
+        // Given
+        doThrow(new IllegalStateException("bulk write error"))
+                .when(counterStore).recordTransition(any(), any(), any(), any(), any());
+
+        // When
+        projections.recordTransition(null, current);
+
+        // Then
+        verify(counterStore).recordTransition(eq(null), eq(PolicyStatus.PENDING), eq("AUTO"), eq("MOBILE"),
+                any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("Deve gravar as entradas a partir da janela inline do documento substituído no modo limitado")
+    void deveGravarHistoricoRecenteNoModoLimitado() {
+        // Given
+        PolicyProposalEntity previous = PolicyProposalEntity.builder()
+                .id(current.getId()).status("VALIDATED").statusHistoryCount(2).build();
+        when(historyStore.isBounded()).thenReturn(true);
+        when(historyStore.inlineLimit()).thenReturn(1);
+
+        // When
+        projections.documentReplaced(current, policyProposal.getHistory(), previous);
+
+        // Then
+        verify(historyStore).append(current.getId(), policyProposal.getHistory(), 1, 3);
+        verify(historyStore, never()).append(any(), any(), eq(0), anyInt());
+    }
+
+    @Test
+    @DisplayName("Deve copiar histórico antigo uma única vez ao migrar documento com histórico embutido")
+    void deveCopiarHistoricoAntigoAoMigrarDocumentoEmbutido() {
+        // Given
+        PolicyProposalEntity previous = PolicyProposalEntity.builder().id(current.getId()).status("VALIDATED").build();
+        when(historyStore.isBounded()).thenReturn(true);
+
+        // When
+        projections.documentReplaced(current, policyProposal.getHistory(), previous);
+
+        // Then
+        verify(historyStore).append(current.getId(), policyProposal.getHistory(), 0, 3);
+        verifyNoMoreInteractions(ignoreStubs(historyStore));
+    }
+
+    @Test
+    @DisplayName("Não deve propagar falha na gravação do histórico nem deixar de atualizar contadores")
+    void naoDevePropagarFalhaDoHistorico() {
+        // Given
+        when(historyStore.isBounded()).thenReturn(true);
+        doThrow(new IllegalStateException("bulk write error"))
+                .when(historyStore).append(any(), any(), anyInt(), anyInt());
+
+        // When
+        projections.documentReplaced(current, policyProposal.getHistory(), null);
+
+        // Then
+        verify(counterStore).recordTransition(eq(null), eq(PolicyStatus.PENDING), eq("AUTO"), eq("MOBILE"),
+                any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("Deve carregar estatísticas a partir dos contadores materializados")
+    void deveCarregarEstatisticasDosContadores() {
+        // Given
+        Instant since = Instant.parse("2024-01-10T00:00:00Z");
+        PolicyStatusStatistics statistics = new PolicyStatusStatistics(
+                Map.of(PolicyStatus.PENDING, 3L), Map.of(), Map.of(), null);
+        when(counterStore.load(since)).thenReturn(statistics);
+
+        // When
+        PolicyStatusStatistics result = projections.loadStatistics(since);
+
+        // Then
+        assertThat(result.countOf(PolicyStatus.PENDING)).isEqualTo(3L);
+    }
+}
@@ -0,0 +1,237 @@
+package io.github.athirson010.adapters.out.persistence.mongo.reconciliation;
+
+import io.github.athirson010.core.service.PolicyRedriveService;
+import io.github.athirson010.core.service.PolicyRedriveService.Gap;
+import io.github.athirson010.core.service.PolicyRedriveService.Outcome;
+import io.github.athirson010.domain.model.PolicyProposalId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PolicyReconciliationJob - Testes Unitários")
+class PolicyReconciliationJobTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-10T10:00:00Z");
+    private static final Instant OLD = NOW.minus(Duration.ofHours(1));
+
+    @Mock
+    private PolicyReconciliationStore store;
+
+    @Mock
+    private PolicyRedriveService redriveService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<PolicyReconciliationJob> jobs = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redriveService.canRedrive(any(Gap.class))).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobs.forEach(PolicyReconciliationJob::destroy);
+    }
+
+    @Test
+    @DisplayName("Deve reenviar proposta parada em RECEIVED e evento de PENDING sem respostas")
+    void deveReenviarPropostasParadas() {
+        // Given
+        PolicyProposalId received = PolicyProposalId.generate();
+        PolicyProposalId pending = PolicyProposalId.generate();
+        when(store.loadCheckpoints()).thenReturn(Map.of());
+        when(store.scan(any(ReconciliationRange.class), isNull(), eq(10)))
+                .thenReturn(List.of(
+                        document(received, "RECEIVED", OLD, null, null),
+                        document(PolicyProposalId.generate(), "APPROVED", OLD, null, 15),
+                        document(pending, "PENDING", OLD, OLD, 0)));
+        when(redriveService.redrive(received, Gap.NOT_QUEUED)).thenReturn(Outcome.REDRIVEN);
+        when(redriveService.redrive(pending, Gap.NOT_PUBLISHED)).thenReturn(Outcome.REDRIVEN);
+
+        // When
+        job(1, 10).run();
+
+        // Then
+        verify(redriveService, times(2)).redrive(any(), any());
+        verify(store).markRedriven(received.asString(), "RECEIVED", NOW);
+        verify(store).markRedriven(pending.asString(), "PENDING", NOW);
+        ArgumentCaptor<ReconciliationCheckpoint> checkpoint = ArgumentCaptor.forClass(ReconciliationCheckpoint.class);
+        verify(store).saveCheckpoint(checkpoint.capture(), eq(NOW));
+        assertThat(checkpoint.getValue().completed()).isTrue();
+        assertThat(checkpoint.getValue().scanned()).isEqualTo(3);
+        assertThat(meterRegistry.get(PolicyReconciliationJob.SCANNED_METRIC).counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get(PolicyReconciliationJob.REDRIVES_METRIC)
+                .tag("type", "NOT_PUBLISHED").tag("outcome", "REDRIVEN").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(PolicyReconciliationJob.PROGRESS_METRIC).gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Não deve marcar o reenvio quando a proposta já avançou no repositório")
+    void naoDeveMarcarQuandoPropostaAvancou() {
+        // Given
+        PolicyProposalId id = PolicyProposalId.generate();
+        when(store.loadCheckpoints()).thenReturn(Map.of());
+        when(store.scan(any(ReconciliationRange.class), isNull(), eq(10)))
+                .thenReturn(List.of(document(id, "RECEIVED", OLD, null, null)));
+        when(redriveService.redrive(id, Gap.NOT_QUEUED)).thenReturn(Outcome.SKIPPED);
+
+        // When
+        job(1, 10).run();
+
+        // Then
+        verify(store, never()).markRedriven(any(), any(), any());
+        assertThat(meterRegistry.get(PolicyReconciliationJob.REDRIVES_METRIC)
+                .tag("type", "NOT_QUEUED").tag("outcome", "SKIPPED").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve apenas contar a lacuna quando a instância não tem o publicador")
+    void deveContarLacunaSemPublicador() {
+        // Given
+        PolicyProposalId id = PolicyProposalId.generate();
+        when(redriveService.canRedrive(Gap.NOT_QUEUED)).thenReturn(false);
+        when(store.loadCheckpoints()).thenReturn(Map.of());
+        when(store.scan(any(ReconciliationRange.class), isNull(), eq(10)))
+                .thenReturn(List.of(document(id, "RECEIVED", OLD, null, null)));
+
+        // When
+        job(1, 10).run();
+
+        // Then
+        verify(redriveService, never()).redrive(any(), any());
+        assertThat(meterRegistry.get(PolicyReconciliationJob.REDRIVES_METRIC)
+                .tag("type", "NOT_QUEUED").tag("outcome", "UNAVAILABLE").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve continuar do checkpoint e varrer só as partições incompletas")
+    void deveContinuarDoCheckpoint() {
+        // Given
+        String lastId = "40000000-0000-4000-8000-000000000000";
+        when(store.loadCheckpoints()).thenReturn(Map.of(
+                0, new ReconciliationCheckpoint(0, 2, lastId, false, 50),
+                1, new ReconciliationCheckpoint(1, 2, "ffffffff", true, 70)));
+        when(store.scan(any(ReconciliationRange.class), eq(lastId), eq(10))).thenReturn(List.of());
+
+        // When
+        job(2, 10).run();
+
+        // Then
+        ArgumentCaptor<ReconciliationRange> range = ArgumentCaptor.forClass(ReconciliationRange.class);
+        verify(store).scan(range.capture(), eq(lastId), eq(10));
+        assertThat(range.getValue().partition()).isZero();
+        verify(store).saveCheckpoint(new ReconciliationCheckpoint(0, 2, lastId, true, 50), NOW);
+        verify(store, never()).resetCheckpoints();
+    }
+
+    @Test
+    @DisplayName("Deve recomeçar a passada quando todas as partições terminaram ou a quantidade mudou")
+    void deveRecomecarPassada() {
+        // Given
+        when(store.loadCheckpoints()).thenReturn(Map.of(0, new ReconciliationCheckpoint(0, 4, "80000000", false, 10)));
+        when(store.scan(any(ReconciliationRange.class), isNull(), anyInt())).thenReturn(List.of());
+
+        // When
+        job(2, 10).run();
+
+        // Then
+        verify(store).resetCheckpoints();
+        verify(store, times(2)).scan(any(ReconciliationRange.class), isNull(), eq(10));
+    }
+
+    @Test
+    @DisplayName("Deve detectar lacunas só depois da idade mínima e do intervalo entre reenvios")
+    void deveDetectarLacunasPelaIdade() {
+        // Given
+        Instant cutoff = NOW.minus(Duration.ofMinutes(10));
+        Instant redriveBefore = NOW.minus(Duration.ofHours(1));
+        PolicyProposalId id = PolicyProposalId.generate();
+
+        // When / Then
+        assertThat(PolicyReconciliationJob.detect(document(id, "RECEIVED", NOW, null, null), cutoff, redriveBefore))
+                .isEmpty();
+        assertThat(PolicyReconciliationJob.detect(document(id, "PENDING", OLD, OLD, 1), cutoff, redriveBefore))
+                .isEmpty();
+        assertThat(PolicyReconciliationJob.detect(document(id, "PENDING", OLD, OLD, null), cutoff, redriveBefore))
+                .contains(Gap.NOT_PUBLISHED);
+        Document recentlyRedriven = document(id, "RECEIVED", OLD, null, null)
+                .append("reconciledAt", Date.from(NOW.minus(Duration.ofMinutes(5))));
+        assertThat(PolicyReconciliationJob.detect(recentlyRedriven, cutoff, redriveBefore)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Não deve reenviar proposta em RECEIVED que a fila já aceitou, mesmo parada no backlog")
+    void naoDeveReenviarPropostaJaEnfileirada() {
+        // Given
+        Instant cutoff = NOW.minus(Duration.ofMinutes(10));
+        Instant redriveBefore = NOW.minus(Duration.ofHours(1));
+        PolicyProposalId id = PolicyProposalId.generate();
+        Document queued = document(id, "RECEIVED", OLD, null, null).append("queuedAt", Date.from(OLD));
+
+        // When / Then
+        assertThat(PolicyReconciliationJob.detect(queued, cutoff, redriveBefore)).isEmpty();
+        assertThat(PolicyReconciliationJob.detect(document(id, "RECEIVED", OLD, null, null), cutoff, redriveBefore))
+                .contains(Gap.NOT_QUEUED);
+    }
+
+    @Test
+    @DisplayName("Não deve reenviar proposta em PENDING já publicada que aguarda as respostas dos parceiros")
+    void naoDeveReenviarPropostaJaPublicada() {
+        // Given: em PENDING há horas, sem respostas, mas com o evento confirmado pelo order-topic
+        Instant cutoff = NOW.minus(Duration.ofMinutes(10));
+        Instant redriveBefore = NOW.minus(Duration.ofHours(1));
+        PolicyProposalId id = PolicyProposalId.generate();
+        Instant longAgo = NOW.minus(Duration.ofHours(6));
+        Document published = document(id, "PENDING", longAgo, longAgo, 0).append("publishedAt", Date.from(longAgo));
+
+        // When / Then
+        assertThat(PolicyReconciliationJob.detect(published, cutoff, redriveBefore)).isEmpty();
+        assertThat(PolicyReconciliationJob.detect(document(id, "PENDING", longAgo, longAgo, 0), cutoff, redriveBefore))
+                .contains(Gap.NOT_PUBLISHED);
+    }
+
+    private PolicyReconciliationJob job(int partitions, int pageSize) {
+        PolicyReconciliationJob job = new PolicyReconciliationJob(store, redriveService, meterRegistry, partitions, 2,
+                pageSize, Duration.ZERO, Duration.ofMinutes(10), Duration.ofHours(1), 1000, Clock.fixed(NOW, ZoneOffset.UTC));
+        jobs.add(job);
+        return job;
+    }
+
+    private static Document document(PolicyProposalId id, String status, Instant createdAt, Instant pendingSince,
+                                     Integer confirmationFlags) {
+        Document document = new Document("_id", id.asString())
+                .append("status", status)
+                .append("createdAt", Date.from(createdAt));
+        if (pendingSince != null) {
+            document.append("pendingSince", Date.from(pendingSince));
+        }
+        if (confirmationFlags != null) {
+            document.append("confirmationFlags", confirmationFlags);
+        }
+        return document;
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.athirson010.adapters.out.persistence.mongo.reconciliation;
+
+import com.mongodb.ReadPreference;
+import io.github.athirson010.adapters.out.persistence.mongo.document.PolicyProposalEntity;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PolicyReconciliationStore - Testes Unitários")
+class PolicyReconciliationStoreTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Test
+    @DisplayName("Deve dividir o espaço de ids em faixas contíguas com as pontas abertas")
+    void deveDividirEspacoDeIdsEmFaixas() {
+        // When
+        List<ReconciliationRange> ranges = ReconciliationRange.split(4);
+
+        // Then
+        assertThat(ranges).containsExactly(
+                new ReconciliationRange(0, null, "40000000"),
+                new ReconciliationRange(1, "40000000", "80000000"),
+                new ReconciliationRange(2, "80000000", "c0000000"),
+                new ReconciliationRange(3, "c0000000", null));
+        assertThat(ranges.get(1).progress("60000000-0000-4000-8000-000000000000")).isEqualTo(0.5);
+        assertThatThrownBy(() -> ReconciliationRange.split(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Deve varrer a faixa a partir do checkpoint pelo índice de _id lendo só os campos da detecção")
+    void deveVarrerFaixaAPartirDoCheckpoint() {
+        // Given
+        PolicyReconciliationStore store = new PolicyReconciliationStore(mongoTemplate, "secondaryPreferred");
+        ReconciliationRange range = new ReconciliationRange(1, "40000000", "80000000");
+        when(mongoTemplate.find(any(Query.class), eq(Document.class),
+                eq(PolicyProposalEntity.COLLECTION))).thenReturn(List.of());
+
+        // When
+        store.scan(range, "5", 100);
+
+        // Then
+        ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(captor.capture(), eq(Document.class), eq(PolicyProposalEntity.COLLECTION));
+        Query query = captor.getValue();
+        assertThat((Document) query.getQueryObject().get("_id"))
+                .containsEntry("$gt", "5")
+                .containsEntry("$lt", "80000000")
+                .doesNotContainKey("$gte");
+        assertThat(query.getSortObject()).containsEntry("_id", 1);
+        assertThat(query.getFieldsObject()).containsOnlyKeys(PolicyReconciliationStore.SCAN_FIELDS);
+        assertThat(query.getLimit()).isEqualTo(100);
+        assertThat(query.getReadPreference()).isEqualTo(ReadPreference.secondaryPreferred());
+    }
+}
@@ -4,6 +4,9 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.github.athirson010.adapters.in.messaging.codec.PolicyProposalJsonDeserializer;
+import io.github.athirson010.adapters.out.messaging.codec.PolicyProposalJsonSerializer;
+import io.github.athirson010.domain.model.PolicyProposal;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
@@ -23,6 +26,9 @@ public class JacksonConfig {
                         DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES
                 )
                 .modules(new JavaTimeModule())
+                // Mensagens de PolicyProposal (RabbitMQ e Kafka) sem introspecção por reflexão
+                .serializerByType(PolicyProposal.class, new PolicyProposalJsonSerializer())
+                .deserializerByType(PolicyProposal.class, new PolicyProposalJsonDeserializer())
                 .build()
                 .enable(DeserializationFeature.READ_UNKNOWN_ENUM_VALUES_AS_NULL)
                 .enable(com.fasterxml.jackson.databind.MapperFeature.ACCEPT_CASE_INSENSITIVE_ENUMS);
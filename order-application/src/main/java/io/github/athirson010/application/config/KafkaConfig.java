@@ -1,14 +1,20 @@
 package io.github.athirson010.application.config;
 
+import io.github.athirson010.adapters.out.messaging.kafka.StickyKeyPartitioner;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerProducerListener;
 import org.springframework.kafka.core.ProducerFactory;
 
 import java.util.HashMap;
@@ -34,8 +40,19 @@ public class KafkaConfig {
     @Value("${spring.kafka.producer.retries}")
     private int retries;
 
+    @Value("${kafka.producer.sticky-partitioner:false}")
+    private boolean stickyPartitioner;
+
+    @Value("${kafka.producer.linger-ms:0}")
+    private int lingerMs;
+
+    /**
+     * Com {@code kafka.producer.sticky-partitioner=true}, usa o {@link StickyKeyPartitioner}, que publica a
+     * distribuição por partição ({@code policy.kafka.partition.*}). As métricas do próprio producer (tamanho médio de
+     * lote, registros por requisição) são publicadas como {@code kafka.producer.*}.
+     */
     @Bean
-    public ProducerFactory<String, String> producerFactory() {
+    public ProducerFactory<String, String> producerFactory(MeterRegistry meterRegistry) {
         log.info("Configurando Kafka Producer para o profile order-consumer. Bootstrap servers: {}", bootstrapServers);
 
         Map<String, Object> configProps = new HashMap<>();
@@ -44,13 +61,37 @@ public class KafkaConfig {
         configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
         configProps.put(ProducerConfig.ACKS_CONFIG, acks);
         configProps.put(ProducerConfig.RETRIES_CONFIG, retries);
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        if (stickyPartitioner) {
+            configProps.put(ProducerConfig.PARTITIONER_CLASS_CONFIG, StickyKeyPartitioner.class);
+            configProps.put(StickyKeyPartitioner.METER_REGISTRY_CONFIG, meterRegistry);
+        }
 
-        return new DefaultKafkaProducerFactory<>(configProps);
+        DefaultKafkaProducerFactory<String, String> factory = new DefaultKafkaProducerFactory<>(configProps);
+        factory.addListener(new MicrometerProducerListener<>(meterRegistry));
+        return factory;
     }
 
     @Bean
-    public KafkaTemplate<String, String> kafkaTemplate() {
+    public KafkaTemplate<String, String> kafkaTemplate(ProducerFactory<String, String> producerFactory) {
         log.info("Criando KafkaTemplate para o profile order-consumer");
-        return new KafkaTemplate<>(producerFactory());
+        return new KafkaTemplate<>(producerFactory);
+    }
+
+    /**
+     * Tópico compactado com o último estado de cada proposta, publicado pelo CDC. Criado pelo {@code KafkaAdmin}
+     * na inicialização, se ainda não existir.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "policy.cdc.state-topic.enabled", havingValue = "true")
+    public NewTopic orderStateTopic(@Value("${kafka.topic.order-state}") String topic,
+                                    @Value("${kafka.topic.order-state.partitions:3}") int partitions,
+                                    @Value("${kafka.topic.order-state.replicas:1}") int replicas) {
+        log.info("Declarando tópico compactado de estado {} ({} partição(ões))", topic, partitions);
+        return TopicBuilder.name(topic)
+                .partitions(partitions)
+                .replicas(replicas)
+                .compact()
+                .build();
     }
 }
@@ -0,0 +1,15 @@
+package io.github.athirson010.application.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
+
+/**
+ * Repositórios do MongoDB, desabilitados no profile 'in-memory', em que as propostas ficam no
+ * {@code OrderInMemoryAdapter} e a aplicação sobe sem conexão com o banco.
+ */
+@Profile("!in-memory")
+@Configuration
+@EnableMongoRepositories(basePackages = "io.github.athirson010.adapters.out.persistence.mongo")
+public class MongoConfig {
+}
@@ -31,4 +31,44 @@ public class RabbitMQConfig {
                 .to(orderIntegrationExchange)
                 .with(routingKey);
     }
+
+    /**
+     * Raias de prioridade da order-service-consumer (ver {@code ProcessingLaneRouter}). A raia STANDARD continua
+     * na fila original; PRIORITY e BULK têm filas próprias, cada uma com seus consumers.
+     */
+    @Bean
+    public Queue orderConsumerPriorityQueue(
+            @Value("${rabbitmq.queues.order-consumer-priority}") String queue) {
+        return QueueBuilder.durable(queue).build();
+    }
+
+    @Bean
+    public Binding orderConsumerPriorityBinding(
+            Queue orderConsumerPriorityQueue,
+            TopicExchange orderIntegrationExchange,
+            @Value("${rabbitmq.routing-keys.order-priority}") String routingKey) {
+
+        return BindingBuilder
+                .bind(orderConsumerPriorityQueue)
+                .to(orderIntegrationExchange)
+                .with(routingKey);
+    }
+
+    @Bean
+    public Queue orderConsumerBulkQueue(
+            @Value("${rabbitmq.queues.order-consumer-bulk}") String queue) {
+        return QueueBuilder.durable(queue).build();
+    }
+
+    @Bean
+    public Binding orderConsumerBulkBinding(
+            Queue orderConsumerBulkQueue,
+            TopicExchange orderIntegrationExchange,
+            @Value("${rabbitmq.routing-keys.order-bulk}") String routingKey) {
+
+        return BindingBuilder
+                .bind(orderConsumerBulkQueue)
+                .to(orderIntegrationExchange)
+                .with(routingKey);
+    }
 }
@@ -0,0 +1,12 @@
+package io.github.athirson010.application.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita jobs agendados (@Scheduled). Cada job é ativado individualmente por propriedade.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
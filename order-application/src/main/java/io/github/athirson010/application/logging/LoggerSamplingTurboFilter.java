@@ -0,0 +1,65 @@
+package io.github.athirson010.application.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Amostragem por logger: dos eventos do logger {@code logger} (e filhos) com nível até {@code level}, só 1 a cada
+ * {@code oneIn} segue para os appenders. Níveis acima (WARN e ERROR, com o padrão INFO) nunca são descartados.
+ * A decisão é tomada antes da formatação da mensagem. Configurado no {@code logback-spring.xml}, uma instância por
+ * logger amostrado.
+ */
+public class LoggerSamplingTurboFilter extends TurboFilter {
+
+    private final AtomicLong counter = new AtomicLong();
+
+    private String logger;
+    private Level level = Level.INFO;
+    private long oneIn = 1;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger eventLogger, Level eventLevel,
+                              String format, Object[] params, Throwable t) {
+        // format nulo: chamada de isXxxEnabled(), que não é um evento e não consome a vez na amostragem
+        if (oneIn <= 1 || format == null || eventLevel == null || eventLevel.toInt() > level.toInt()
+                || !matches(eventLogger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        if (!eventLevel.isGreaterOrEqual(eventLogger.getEffectiveLevel())) {
+            // Evento que o nível do logger já descarta também não consome a vez
+            return FilterReply.NEUTRAL;
+        }
+        return counter.getAndIncrement() % oneIn == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private boolean matches(String name) {
+        return name.startsWith(logger)
+                && (name.length() == logger.length() || name.charAt(logger.length()) == '.');
+    }
+
+    @Override
+    public void start() {
+        if (logger == null || logger.isBlank()) {
+            addError("Informe o logger amostrado em <logger>");
+            return;
+        }
+        super.start();
+    }
+
+    public void setLogger(String logger) {
+        this.logger = logger;
+    }
+
+    public void setLevel(String level) {
+        this.level = Level.toLevel(level, Level.INFO);
+    }
+
+    public void setOneIn(long oneIn) {
+        this.oneIn = oneIn;
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.athirson010.application.logging;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Liga o log detalhado de uma única proposta em tempo de execução ({@link PolicyTraceTurboFilter}):
+ * {@code POST /actuator/policytrace/{policyId}} (corpo opcional {@code {"duration": "PT10M"}}),
+ * {@code DELETE /actuator/policytrace/{policyId}} e {@code GET /actuator/policytrace}.
+ * <p>
+ * Não entra na exposição web padrão: por alterar o nível de log, só deve ser exposto com o actuator numa porta de
+ * gerenciamento separada ({@code management.server.port}), fora do alcance dos clientes da API. Aceita no máximo
+ * {@code logging.policy-trace.max-traced} propostas rastreadas ao mesmo tempo.
+ */
+@Slf4j
+@Component
+@Endpoint(id = "policytrace")
+public class PolicyTraceEndpoint {
+
+    private final Duration defaultDuration;
+    private final Duration maxDuration;
+    private final int maxTraced;
+
+    public PolicyTraceEndpoint(
+            @Value("${logging.policy-trace.default-duration:10m}") Duration defaultDuration,
+            @Value("${logging.policy-trace.max-duration:1h}") Duration maxDuration,
+            @Value("${logging.policy-trace.max-traced:20}") int maxTraced) {
+        this.defaultDuration = defaultDuration;
+        this.maxDuration = maxDuration;
+        this.maxTraced = maxTraced;
+    }
+
+    @ReadOperation
+    public Map<String, Instant> traced() {
+        return PolicyTraceTurboFilter.traced();
+    }
+
+    @WriteOperation
+    public Map<String, Instant> trace(@Selector String policyId, @Nullable Duration duration) {
+        Duration requested = duration != null ? duration : defaultDuration;
+        Instant expiresAt = Instant.now().plus(requested.compareTo(maxDuration) > 0 ? maxDuration : requested);
+        if (!PolicyTraceTurboFilter.trace(policyId, expiresAt, maxTraced)) {
+            throw new InvalidEndpointRequestException("Limite de " + maxTraced + " propostas rastreadas atingido",
+                    "Limite de propostas rastreadas atingido");
+        }
+        log.info("Log detalhado ativado para a proposta {} até {}", policyId, expiresAt);
+        return Map.of(policyId, expiresAt);
+    }
+
+    @DeleteOperation
+    public void untrace(@Selector String policyId) {
+        PolicyTraceTurboFilter.untrace(policyId);
+        log.info("Log detalhado desativado para a proposta {}", policyId);
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.athirson010.application.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Detalhe completo sob demanda: enquanto o id da proposta em {@code MDC[policyId]} estiver rastreado, todos os
+ * eventos dos loggers da aplicação passam, inclusive DEBUG e os que seriam descartados pela amostragem. Deve ser o
+ * primeiro turbo filter do {@code logback-spring.xml}. Os ids são incluídos em tempo de execução pelo endpoint
+ * {@code /actuator/policytrace} e expiram sozinhos; no máximo {@code maxTraced} ao mesmo tempo, para que o
+ * endpoint não vire um mapa sem limite.
+ */
+public class PolicyTraceTurboFilter extends TurboFilter {
+
+    static final String MDC_KEY = "policyId";
+    private static final String APPLICATION_LOGGERS = "io.github.athirson010";
+
+    private static final Map<String, Instant> TRACED = new ConcurrentHashMap<>();
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level,
+                              String format, Object[] params, Throwable t) {
+        if (TRACED.isEmpty() || !logger.getName().startsWith(APPLICATION_LOGGERS)) {
+            return FilterReply.NEUTRAL;
+        }
+        String policyId = MDC.get(MDC_KEY);
+        if (policyId == null) {
+            return FilterReply.NEUTRAL;
+        }
+        Instant expiresAt = TRACED.get(policyId);
+        if (expiresAt == null) {
+            return FilterReply.NEUTRAL;
+        }
+        if (Instant.now().isAfter(expiresAt)) {
+            TRACED.remove(policyId, expiresAt);
+            return FilterReply.NEUTRAL;
+        }
+        return FilterReply.ACCEPT;
+    }
+
+    /**
+     * Rastreia (ou renova) a proposta até {@code expiresAt}.
+     *
+     * @return {@code false} quando já há {@code maxTraced} propostas rastreadas e esta não é uma delas
+     */
+    public static synchronized boolean trace(String policyId, Instant expiresAt, int maxTraced) {
+        if (!TRACED.containsKey(policyId)) {
+            Instant now = Instant.now();
+            TRACED.values().removeIf(now::isAfter);
+            if (TRACED.size() >= maxTraced) {
+                return false;
+            }
+        }
+        TRACED.put(policyId, expiresAt);
+        return true;
+    }
+
+    public static void untrace(String policyId) {
+        TRACED.remove(policyId);
+    }
+
+    /**
+     * Ids rastreados e respectivas expirações; os já expirados são descartados.
+     */
+    public static Map<String, Instant> traced() {
+        Instant now = Instant.now();
+        TRACED.values().removeIf(now::isAfter);
+        return Map.copyOf(TRACED);
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.athirson010.application.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LoggerSamplingTurboFilter - Testes Unitários")
+class LoggerSamplingTurboFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final Logger summary = context.getLogger("app.OrderQueueConsumer.summary");
+
+    @Test
+    @DisplayName("Deve deixar passar 1 a cada N eventos INFO do logger configurado")
+    void deveAmostrarEventosInfo() {
+        LoggerSamplingTurboFilter filter = filter("app.OrderQueueConsumer.summary", 3);
+
+        List<FilterReply> replies = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            replies.add(filter.decide(null, summary, Level.INFO, "Mensagem processada", null, null));
+        }
+
+        assertThat(replies).containsExactly(
+                FilterReply.NEUTRAL, FilterReply.DENY, FilterReply.DENY,
+                FilterReply.NEUTRAL, FilterReply.DENY, FilterReply.DENY);
+    }
+
+    @Test
+    @DisplayName("Não deve amostrar WARN/ERROR, outros loggers nem chamadas isEnabled")
+    void naoDeveAmostrarForaDoEscopo() {
+        LoggerSamplingTurboFilter filter = filter("app.OrderQueueConsumer.summary", 1000);
+        Logger other = context.getLogger("app.OrderQueueConsumerOutro");
+
+        filter.decide(null, summary, Level.INFO, "primeiro", null, null);
+
+        assertThat(filter.decide(null, summary, Level.WARN, "falha", null, null)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(filter.decide(null, summary, Level.INFO, null, null, null)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(filter.decide(null, other, Level.INFO, "outro", null, null)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(filter.decide(null, summary, Level.INFO, "segundo", null, null)).isEqualTo(FilterReply.DENY);
+    }
+
+    private LoggerSamplingTurboFilter filter(String logger, long oneIn) {
+        LoggerSamplingTurboFilter filter = new LoggerSamplingTurboFilter();
+        filter.setContext(context);
+        filter.setLogger(logger);
+        filter.setOneIn(oneIn);
+        filter.start();
+        return filter;
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.athirson010.application.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PolicyTraceTurboFilter - Testes Unitários")
+class PolicyTraceTurboFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final Logger consumerLogger = context.getLogger("io.github.athirson010.adapters.in.messaging.rabbitmq.OrderQueueConsumer");
+    private final PolicyTraceTurboFilter filter = new PolicyTraceTurboFilter();
+
+    @AfterEach
+    void tearDown() {
+        PolicyTraceTurboFilter.untrace("policy-1");
+        PolicyTraceTurboFilter.untrace("policy-2");
+        MDC.remove(PolicyTraceTurboFilter.MDC_KEY);
+    }
+
+    @Test
+    @DisplayName("Deve liberar DEBUG apenas para a proposta rastreada")
+    void deveLiberarDetalheDaPropostaRastreada() {
+        PolicyTraceTurboFilter.trace("policy-1", Instant.now().plusSeconds(60), 10);
+
+        MDC.put(PolicyTraceTurboFilter.MDC_KEY, "policy-1");
+        assertThat(filter.decide(null, consumerLogger, Level.DEBUG, "detalhe", null, null)).isEqualTo(FilterReply.ACCEPT);
+
+        MDC.put(PolicyTraceTurboFilter.MDC_KEY, "policy-2");
+        assertThat(filter.decide(null, consumerLogger, Level.DEBUG, "detalhe", null, null)).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    @DisplayName("Deve descartar o rastreamento expirado")
+    void deveDescartarRastreamentoExpirado() {
+        PolicyTraceTurboFilter.trace("policy-1", Instant.now().minusSeconds(1), 10);
+        MDC.put(PolicyTraceTurboFilter.MDC_KEY, "policy-1");
+
+        assertThat(filter.decide(null, consumerLogger, Level.DEBUG, "detalhe", null, null)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(PolicyTraceTurboFilter.traced()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve recusar novas propostas acima do limite, mas renovar as já rastreadas")
+    void deveLimitarQuantidadeDePropostasRastreadas() {
+        // Given
+        PolicyTraceTurboFilter.trace("policy-1", Instant.now().plusSeconds(60), 1);
+
+        // When
+        boolean novaProposta = PolicyTraceTurboFilter.trace("policy-2", Instant.now().plusSeconds(60), 1);
+        boolean renovacao = PolicyTraceTurboFilter.trace("policy-1", Instant.now().plusSeconds(120), 1);
+
+        // Then
+        assertThat(novaProposta).isFalse();
+        assertThat(renovacao).isTrue();
+        assertThat(PolicyTraceTurboFilter.traced()).containsOnlyKeys("policy-1");
+    }
+}
@@ -0,0 +1,137 @@
+package io.github.athirson010.benchmark;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.github.athirson010.adapters.in.messaging.codec.PolicyProposalJsonDeserializer;
+import io.github.athirson010.adapters.out.messaging.codec.PolicyProposalJsonSerializer;
+import io.github.athirson010.adapters.out.messaging.rabbitmq.PolicyProposalMessageConverter;
+import io.github.athirson010.domain.enums.Category;
+import io.github.athirson010.domain.enums.PaymentMethod;
+import io.github.athirson010.domain.enums.SalesChannel;
+import io.github.athirson010.domain.model.Money;
+import io.github.athirson010.domain.model.PolicyProposal;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.SimpleMessageConverter;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Compara o caminho anterior da fila order-service-consumer ({@code writeValueAsString} + {@code getBytes}
+ * e leitura de {@code String} por reflexão) com o conversor em bytes e o (de)serializador por streaming,
+ * em JSON e no formato binário Smile.
+ * <p>
+ * Execução: {@code mvn -pl order-benchmark -am package -DskipTests && java -jar order-benchmark/target/benchmarks.jar
+ * PolicyProposalCodecBenchmark -prof gc}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PolicyProposalCodecBenchmark {
+
+    /**
+     * Quantidade de coberturas e assistências: propostas pequenas e propostas com muitos itens.
+     */
+    @Param({"1", "20"})
+    public int items;
+
+    private ObjectMapper reflectionMapper;
+    private ObjectMapper streamingMapper;
+    private SimpleMessageConverter stringConverter;
+    private PolicyProposalMessageConverter messageConverter;
+    private PolicyProposalMessageConverter smileConverter;
+    private PolicyProposal proposal;
+    private Message stringMessage;
+    private Message message;
+    private Message smileMessage;
+
+    @Setup
+    public void setUp() throws Exception {
+        reflectionMapper = baseMapper();
+        streamingMapper = baseMapper().registerModule(new SimpleModule()
+                .addSerializer(PolicyProposal.class, new PolicyProposalJsonSerializer())
+                .addDeserializer(PolicyProposal.class, new PolicyProposalJsonDeserializer()));
+        messageConverter = new PolicyProposalMessageConverter(streamingMapper, "json");
+        smileConverter = new PolicyProposalMessageConverter(streamingMapper, "smile");
+        stringConverter = new SimpleMessageConverter();
+
+        Map<String, Money> coverages = new LinkedHashMap<>();
+        IntStream.range(0, items).forEach(i -> coverages.put("COBERTURA_" + i, Money.brl(new BigDecimal("150000.00"))));
+        List<String> assistances = IntStream.range(0, items).mapToObj(i -> "ASSISTENCIA_" + i).toList();
+
+        Instant now = Instant.parse("2024-01-10T10:00:00Z");
+        proposal = PolicyProposal.create(UUID.randomUUID(), "PROD-AUTO-2024", Category.AUTO, SalesChannel.MOBILE,
+                PaymentMethod.CREDIT_CARD, Money.brl(new BigDecimal("350.00")), Money.brl(new BigDecimal("200000.00")),
+                coverages, assistances, now);
+        proposal.validate(now.plusSeconds(1));
+        proposal.markAsPending(now.plusSeconds(2));
+
+        stringMessage = stringConverter.toMessage(reflectionMapper.writeValueAsString(proposal), new MessageProperties());
+        message = messageConverter.toMessage(proposal, new MessageProperties());
+        smileMessage = smileConverter.toMessage(proposal, new MessageProperties());
+    }
+
+    /**
+     * Caminho anterior: {@code convertAndSend(String)} com o {@code SimpleMessageConverter} padrão.
+     */
+    @Benchmark
+    public Message serializeReflectionString() throws Exception {
+        return stringConverter.toMessage(reflectionMapper.writeValueAsString(proposal), new MessageProperties());
+    }
+
+    @Benchmark
+    public Message serializeStreamingConverter() {
+        return messageConverter.toMessage(proposal, new MessageProperties());
+    }
+
+    @Benchmark
+    public Message serializeSmileConverter() {
+        return smileConverter.toMessage(proposal, new MessageProperties());
+    }
+
+    @Benchmark
+    public byte[] serializeStreamingBytesOnly() throws Exception {
+        return streamingMapper.writeValueAsBytes(proposal);
+    }
+
+    /**
+     * Caminho anterior: listener recebendo {@code String} e {@code readValue(String)} por reflexão.
+     */
+    @Benchmark
+    public PolicyProposal deserializeReflectionString() throws Exception {
+        String body = new String(stringMessage.getBody(), StandardCharsets.UTF_8);
+        return reflectionMapper.readValue(body, PolicyProposal.class);
+    }
+
+    @Benchmark
+    public PolicyProposal deserializeStreamingBytes() {
+        return messageConverter.fromMessage(message);
+    }
+
+    @Benchmark
+    public PolicyProposal deserializeSmile() {
+        return smileConverter.fromMessage(smileMessage);
+    }
+
+    private static ObjectMapper baseMapper() {
+        return new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+}
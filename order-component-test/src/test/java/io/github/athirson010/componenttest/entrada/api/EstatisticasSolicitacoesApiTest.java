@@ -0,0 +1,72 @@
+package io.github.athirson010.componenttest.entrada.api;
+
+import io.github.athirson010.componenttest.BaseComponentTest;
+import io.github.athirson010.domain.enums.Category;
+import io.github.athirson010.domain.enums.PolicyStatus;
+import io.github.athirson010.domain.enums.SalesChannel;
+import io.github.athirson010.domain.model.PolicyStatusStatistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@ActiveProfiles({"test", "api"})
+@DisplayName("Entrada API - Contadores de Solicitações por Status")
+class EstatisticasSolicitacoesApiTest extends BaseComponentTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Deve retornar contadores materializados por status, categoria, canal e hora")
+    void deveRetornarContadoresMaterializados() throws Exception {
+        // Given - Contadores materializados no repository
+        Instant hora = Instant.parse("2024-01-10T10:00:00Z");
+        TreeMap<Instant, Map<PolicyStatus, Long>> porHora = new TreeMap<>();
+        porHora.put(hora, Map.of(PolicyStatus.RECEIVED, 7L));
+        when(orderRepository.loadStatusStatistics(any(Instant.class)))
+                .thenReturn(new PolicyStatusStatistics(
+                        Map.of(PolicyStatus.PENDING, 5L, PolicyStatus.APPROVED, 2L),
+                        Map.of(Category.AUTO, Map.of(PolicyStatus.PENDING, 5L)),
+                        Map.of(SalesChannel.WEB, Map.of(PolicyStatus.APPROVED, 2L)),
+                        porHora));
+
+        // When & Then
+        mockMvc.perform(get("/policies/statistics").param("hours", "6"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.by_status.PENDING").value(5))
+                .andExpect(jsonPath("$.by_status.APPROVED").value(2))
+                .andExpect(jsonPath("$.by_status.REJECTED").value(0))
+                .andExpect(jsonPath("$.by_category.AUTO.PENDING").value(5))
+                .andExpect(jsonPath("$.by_sales_channel.WEB.APPROVED").value(2))
+                .andExpect(jsonPath("$.hourly['2024-01-10T10:00:00Z'].RECEIVED").value(7));
+
+        // Verify - Nenhuma busca de proposta por ID
+        verify(orderRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 para janela de horas inválida")
+    void deveRetornar400ParaJanelaInvalida() throws Exception {
+        mockMvc.perform(get("/policies/statistics").param("hours", "0"))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+
+        verify(orderRepository, never()).loadStatusStatistics(any());
+    }
+}
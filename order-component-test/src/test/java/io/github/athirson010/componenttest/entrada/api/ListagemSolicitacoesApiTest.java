@@ -0,0 +1,134 @@
+package io.github.athirson010.componenttest.entrada.api;
+
+import io.github.athirson010.componenttest.BaseComponentTest;
+import io.github.athirson010.domain.enums.Category;
+import io.github.athirson010.domain.enums.PaymentMethod;
+import io.github.athirson010.domain.enums.PolicyStatus;
+import io.github.athirson010.domain.enums.SalesChannel;
+import io.github.athirson010.domain.model.Money;
+import io.github.athirson010.domain.model.PolicyProposalId;
+import io.github.athirson010.domain.model.PolicyProposalPage;
+import io.github.athirson010.domain.model.PolicyProposalSummary;
+import io.github.athirson010.domain.model.ProposalPageCursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@ActiveProfiles({"test", "api"})
+@DisplayName("Entrada API - Listagem de Solicitações por Cliente")
+class ListagemSolicitacoesApiTest extends BaseComponentTest {
+
+    private static final UUID CUSTOMER_ID = UUID.fromString("adc56d77-348c-4bf0-908f-22d402ee715c");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Deve listar propostas resumidas do cliente com cursor da próxima página")
+    void deveListarPropostasResumidasComCursor() throws Exception {
+        // Given - Repository retorna página com próxima página
+        PolicyProposalSummary resumo = resumo(PolicyStatus.PENDING, Instant.parse("2024-01-10T10:00:00Z"));
+        ProposalPageCursor proximo = ProposalPageCursor.of(resumo);
+        when(orderRepository.findSummariesByCustomerId(eq(CUSTOMER_ID), eq(Set.of(PolicyStatus.PENDING)), isNull(), eq(1)))
+                .thenReturn(new PolicyProposalPage(List.of(resumo), proximo));
+
+        // When & Then
+        mockMvc.perform(get("/policies")
+                        .param("customer_id", CUSTOMER_ID.toString())
+                        .param("status", "PENDING")
+                        .param("limit", "1"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].policy_request_id").value(resumo.id().asString()))
+                .andExpect(jsonPath("$.items[0].status").value("PENDING"))
+                .andExpect(jsonPath("$.items[0].coverages").doesNotExist())
+                .andExpect(jsonPath("$.items[0].history").doesNotExist())
+                .andExpect(jsonPath("$.next_cursor").value(proximo.asToken()));
+    }
+
+    @Test
+    @DisplayName("Deve repassar cursor recebido para buscar a próxima página")
+    void deveRepassarCursorParaProximaPagina() throws Exception {
+        // Given - Cursor da página anterior
+        ProposalPageCursor cursor = new ProposalPageCursor(Instant.parse("2024-01-10T10:00:00Z"), PolicyProposalId.generate());
+        when(orderRepository.findSummariesByCustomerId(eq(CUSTOMER_ID), eq(Set.of()), eq(cursor), eq(20)))
+                .thenReturn(PolicyProposalPage.empty());
+
+        // When & Then
+        mockMvc.perform(get("/policies")
+                        .param("customer_id", CUSTOMER_ID.toString())
+                        .param("cursor", cursor.asToken()))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(0))
+                .andExpect(jsonPath("$.next_cursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 quando customer_id não for informado")
+    void deveRetornar400SemCustomerId() throws Exception {
+        mockMvc.perform(get("/policies"))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+
+        verify(orderRepository, never()).findSummariesByCustomerId(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 para limite acima do máximo permitido")
+    void deveRetornar400ParaLimiteAcimaDoMaximo() throws Exception {
+        mockMvc.perform(get("/policies")
+                        .param("customer_id", CUSTOMER_ID.toString())
+                        .param("limit", "500"))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+
+        verify(orderRepository, never()).findSummariesByCustomerId(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 para cursor inválido")
+    void deveRetornar400ParaCursorInvalido() throws Exception {
+        mockMvc.perform(get("/policies")
+                        .param("customer_id", CUSTOMER_ID.toString())
+                        .param("cursor", "cursor-invalido"))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
+    private PolicyProposalSummary resumo(PolicyStatus status, Instant createdAt) {
+        return new PolicyProposalSummary(
+                PolicyProposalId.generate(),
+                CUSTOMER_ID,
+                "PROD-AUTO-2024",
+                Category.AUTO,
+                SalesChannel.MOBILE,
+                PaymentMethod.CREDIT_CARD,
+                status,
+                Money.brl(new BigDecimal("350.00")),
+                Money.brl(new BigDecimal("200000.00")),
+                createdAt,
+                null
+        );
+    }
+}
@@ -1,9 +1,15 @@
 package io.github.athirson010.core.port.in;
 
+import io.github.athirson010.domain.enums.PolicyStatus;
 import io.github.athirson010.domain.model.PolicyProposal;
 import io.github.athirson010.domain.model.PolicyProposalId;
+import io.github.athirson010.domain.model.PolicyProposalPage;
+import io.github.athirson010.domain.model.PolicyStatusStatistics;
+import io.github.athirson010.domain.model.ProposalPageCursor;
 
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
 public interface CreateOrderUseCase {
 
@@ -12,4 +18,11 @@ public interface CreateOrderUseCase {
     Optional<PolicyProposal> findPolicyRequestById(PolicyProposalId id);
 
     PolicyProposal cancelPolicyRequest(PolicyProposalId id, String reason);
+
+    PolicyProposalPage listPolicyRequestsByCustomer(UUID customerId,
+                                                    Set<PolicyStatus> statuses,
+                                                    ProposalPageCursor after,
+                                                    int limit);
+
+    PolicyStatusStatistics getStatusStatistics(int lastHours);
 }
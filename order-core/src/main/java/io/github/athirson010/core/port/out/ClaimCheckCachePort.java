@@ -0,0 +1,20 @@
+package io.github.athirson010.core.port.out;
+
+import io.github.athirson010.domain.model.PolicyProposal;
+import io.github.athirson010.domain.model.PolicyProposalId;
+
+import java.util.Optional;
+
+/**
+ * Cache local e de curta duração das propostas publicadas por referência (claim-check) na fila
+ * order-service-consumer. Só evita a leitura no MongoDB quando API e consumer rodam no mesmo processo.
+ */
+public interface ClaimCheckCachePort {
+
+    void put(PolicyProposal policyProposal);
+
+    /**
+     * Remove e retorna a proposta, se ainda estiver no cache. Uma reentrega da mesma mensagem lê do MongoDB.
+     */
+    Optional<PolicyProposal> take(PolicyProposalId id);
+}
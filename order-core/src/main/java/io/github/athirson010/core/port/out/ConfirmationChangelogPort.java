@@ -0,0 +1,29 @@
+package io.github.athirson010.core.port.out;
+
+import io.github.athirson010.domain.model.PolicyProposal;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * Changelog do estado que o agregador de confirmações mantém em memória (perfil {@code confirmation-aggregator}),
+ * usado para reconstruí-lo depois de uma queda. Cada partição do agregador tem o próprio log, gravado apenas pela
+ * thread da partição; na releitura, o último registro de cada proposta prevalece.
+ */
+public interface ConfirmationChangelogPort {
+
+    /**
+     * Entrega, em ordem de gravação, os registros da partição.
+     *
+     * @return quantidade de registros lidos
+     */
+    long replay(int partition, Consumer<PolicyProposal> sink);
+
+    void append(int partition, PolicyProposal proposal);
+
+    /**
+     * Reescreve o log da partição só com as propostas informadas. Deve ser chamado antes do primeiro
+     * {@link #append}.
+     */
+    void compact(int partition, Collection<PolicyProposal> proposals);
+}
@@ -2,8 +2,16 @@ package io.github.athirson010.core.port.out;
 
 import io.github.athirson010.domain.model.PolicyProposal;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface OrderEventPort {
-    void sendOrderApprovedEvent(PolicyProposal policyProposal);
+
+    /**
+     * Publica a aprovação da proposta no {@code order-topic}.
+     *
+     * @return concluído quando o broker confirma o evento, ou com a falha do envio
+     */
+    CompletableFuture<Void> sendOrderApprovedEvent(PolicyProposal policyProposal);
 
     void sendOrderCancelledEvent(PolicyProposal policyProposal);
 }
@@ -0,0 +1,20 @@
+package io.github.athirson010.core.port.out;
+
+import io.github.athirson010.domain.enums.ProcessingLane;
+import io.github.athirson010.domain.model.QueueBacklog;
+
+import java.util.Map;
+
+/**
+ * Leitura do backlog das filas de cada raia da order-service-consumer, usada pela API para aplicar backpressure
+ * quando os consumers não acompanham a entrada de propostas.
+ */
+public interface OrderQueueBacklogPort {
+
+    /**
+     * Backlog de cada raia cuja fila existe no broker.
+     *
+     * @throws RuntimeException se o broker não puder ser consultado
+     */
+    Map<ProcessingLane, QueueBacklog> sample();
+}
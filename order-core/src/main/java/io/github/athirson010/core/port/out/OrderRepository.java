@@ -1,13 +1,62 @@
 package io.github.athirson010.core.port.out;
 
+import io.github.athirson010.domain.enums.PolicyStatus;
+import io.github.athirson010.domain.model.PendingProposal;
 import io.github.athirson010.domain.model.PolicyProposal;
 import io.github.athirson010.domain.model.PolicyProposalId;
+import io.github.athirson010.domain.model.PolicyProposalPage;
+import io.github.athirson010.domain.model.PolicyStatusStatistics;
+import io.github.athirson010.domain.model.ProposalPageCursor;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
 public interface OrderRepository {
 
     PolicyProposal save(PolicyProposal policyProposal);
 
     Optional<PolicyProposal> findById(PolicyProposalId id);
+
+    PolicyProposalPage findSummariesByCustomerId(UUID customerId,
+                                                 Set<PolicyStatus> statuses,
+                                                 ProposalPageCursor after,
+                                                 int limit);
+
+    PolicyStatusStatistics loadStatusStatistics(Instant hourlySince);
+
+    /**
+     * Propostas em PENDING na ordem (pendingSince, id) crescente, a partir da posição seguinte a {@code after}
+     * ({@code null} para a primeira página). Usada na reconstrução dos prazos de expiração.
+     */
+    List<PendingProposal> findPending(PendingProposal after, int limit);
+
+    /**
+     * Grava {@code pendingSince} em até {@code limit} propostas em PENDING que ainda não têm o campo (gravadas antes
+     * dele), a partir da entrada PENDING do histórico. Retorna quantas propostas sem o campo foram encontradas; um
+     * valor menor que {@code limit} indica que não restam outras.
+     */
+    int backfillPendingSince(int limit);
+
+    /**
+     * Marca que a mensagem da proposta, ainda em RECEIVED, foi aceita pela fila {@code order-service-consumer}. Sem a
+     * marca, a reconciliação trata a proposta como não enfileirada; com ela, uma proposta parada em uma raia com
+     * backlog não é reenviada.
+     */
+    void markQueued(PolicyProposalId id, Instant queuedAt);
+
+    /**
+     * Marca que o evento de aprovação da proposta, ainda em PENDING, foi confirmado pelo {@code order-topic}. Sem a
+     * marca, a reconciliação trata a proposta como não publicada; com ela, uma proposta aguardando as respostas de
+     * pagamento e subscrição não é reenviada.
+     */
+    void markPublished(PolicyProposalId id, Instant publishedAt);
+
+    /**
+     * Dentre os ids informados, os das propostas que continuam em PENDING.
+     */
+    Set<PolicyProposalId> findPendingIds(Collection<PolicyProposalId> ids);
 }
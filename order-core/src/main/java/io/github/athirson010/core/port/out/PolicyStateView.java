@@ -0,0 +1,22 @@
+package io.github.athirson010.core.port.out;
+
+import io.github.athirson010.domain.model.PolicyLatestState;
+import io.github.athirson010.domain.model.PolicyProposalId;
+
+import java.util.Optional;
+
+/**
+ * Visão local, em memória, do último estado de cada proposta, montada a partir do tópico compactado de estado.
+ * Serve aos serviços que precisam do status atual sem consultar a API nem reprocessar o {@code order-topic}.
+ */
+public interface PolicyStateView {
+
+    Optional<PolicyLatestState> find(PolicyProposalId id);
+
+    int size();
+
+    /**
+     * @return {@code true} depois que o tópico foi lido até os offsets finais observados na inicialização
+     */
+    boolean isReady();
+}
@@ -0,0 +1,125 @@
+package io.github.athirson010.core.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Timing wheel hierárquico: cada nível tem {@code wheelSize} buckets, e um bucket do nível {@code k} cobre
+ * {@code wheelSize^k} ticks. Prazos além do alcance de um nível vão para o nível seguinte (criado sob demanda) e
+ * descem de nível quando o bucket deles é alcançado. Registrar e expirar custam O(1) por item, sem varrer os
+ * prazos pendentes.
+ * <p>
+ * Um item expira no primeiro tick igual ou posterior ao prazo: nunca antes, e no máximo um tick depois. Não há
+ * cancelamento; quem consome os itens expirados confere se o prazo ainda vale.
+ */
+final class HierarchicalTimingWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final List<Level<T>> levels = new ArrayList<>();
+
+    private long currentTick;
+    private int size;
+
+    HierarchicalTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize < 2) {
+            throw new IllegalArgumentException(String.format(
+                    "Timing wheel inválido: tick=%dms, buckets=%d", tickMillis, wheelSize));
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+        levels.add(new Level<>(1, wheelSize));
+    }
+
+    /**
+     * Registra o item para expirar em {@code deadlineMillis}.
+     *
+     * @return {@code false} quando o prazo já passou (o item não é registrado)
+     */
+    synchronized boolean add(T item, long deadlineMillis) {
+        long expirationTick = -Math.floorDiv(-deadlineMillis, tickMillis);
+        if (expirationTick <= currentTick) {
+            return false;
+        }
+        place(new Timeout<>(item, expirationTick));
+        size++;
+        return true;
+    }
+
+    /**
+     * Avança o relógio até {@code nowMillis}, um tick por vez, e devolve os itens cujo prazo foi alcançado.
+     */
+    synchronized List<T> advance(long nowMillis) {
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        List<T> expired = new ArrayList<>();
+        while (currentTick < targetTick) {
+            currentTick++;
+            // Do nível mais alto para o mais baixo: o que desce de nível ainda pode expirar neste mesmo tick
+            for (int index = levels.size() - 1; index >= 0; index--) {
+                Level<T> level = levels.get(index);
+                if (currentTick % level.span == 0) {
+                    for (Timeout<T> timeout : level.flush(currentTick)) {
+                        if (timeout.expirationTick <= currentTick) {
+                            expired.add(timeout.item);
+                            size--;
+                        } else {
+                            place(timeout);
+                        }
+                    }
+                }
+            }
+        }
+        return expired;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    synchronized int levels() {
+        return levels.size();
+    }
+
+    private void place(Timeout<T> timeout) {
+        for (int index = 0; ; index++) {
+            if (index == levels.size()) {
+                long span = levels.get(index - 1).span;
+                levels.add(new Level<>(Math.multiplyExact(span, wheelSize), wheelSize));
+            }
+            Level<T> level = levels.get(index);
+            if (timeout.expirationTick / level.span - currentTick / level.span < wheelSize) {
+                level.bucket(timeout.expirationTick).add(timeout);
+                return;
+            }
+        }
+    }
+
+    private record Timeout<T>(T item, long expirationTick) {
+    }
+
+    private static final class Level<T> {
+
+        private final long span;
+        private final List<List<Timeout<T>>> buckets;
+
+        private Level(long span, int wheelSize) {
+            this.span = span;
+            this.buckets = new ArrayList<>(wheelSize);
+            for (int index = 0; index < wheelSize; index++) {
+                buckets.add(new ArrayList<>());
+            }
+        }
+
+        private List<Timeout<T>> bucket(long tick) {
+            return buckets.get((int) ((tick / span) % buckets.size()));
+        }
+
+        private List<Timeout<T>> flush(long tick) {
+            int index = (int) ((tick / span) % buckets.size());
+            List<Timeout<T>> flushed = buckets.get(index);
+            buckets.set(index, new ArrayList<>());
+            return flushed;
+        }
+    }
+}
@@ -7,14 +7,22 @@ import io.github.athirson010.domain.enums.PolicyStatus;
 import io.github.athirson010.domain.exception.InvalidCancellationException;
 import io.github.athirson010.domain.model.PolicyProposal;
 import io.github.athirson010.domain.model.PolicyProposalId;
+import io.github.athirson010.domain.model.PolicyProposalPage;
+import io.github.athirson010.domain.model.PolicyStateMachine;
+import io.github.athirson010.domain.model.PolicyStatusStatistics;
+import io.github.athirson010.domain.model.ProposalPageCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
 @Slf4j
 @Service
@@ -22,6 +30,10 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class OrderApplicationService implements CreateOrderUseCase {
 
+    static final int MAX_PAGE_SIZE = 100;
+    static final int MAX_STATISTICS_HOURS = 168;
+    static final int MAX_CANCEL_ATTEMPTS = 3;
+
     private final OrderRepository orderRepository;
     private final FraudQueuePort fraudQueuePort;
 
@@ -36,56 +48,103 @@ public class OrderApplicationService implements CreateOrderUseCase {
 
         fraudQueuePort.sendToFraudQueue(savedPolicy);
         log.info("Proposta de apólice enviada para fila order-service-consumer: {}", savedPolicy.getId().asString());
+        markQueued(savedPolicy);
 
         return savedPolicy;
     }
 
+    /**
+     * A mensagem já está na fila: sem a marca, a reconciliação apenas reenvia uma cópia, que o consumer descarta.
+     */
+    private void markQueued(PolicyProposal policyProposal) {
+        try {
+            orderRepository.markQueued(policyProposal.getId(), Instant.now());
+        } catch (RuntimeException e) {
+            log.warn("Falha ao marcar proposta {} como enfileirada: {}",
+                    policyProposal.getId().asString(), e.getMessage());
+        }
+    }
+
     @Override
     public Optional<PolicyProposal> findPolicyRequestById(PolicyProposalId id) {
         log.debug("Buscando proposta de apólice por ID: {}", id.asString());
         return orderRepository.findById(id);
     }
 
+    /**
+     * A gravação exige a versão lida: se o consumer ou uma confirmação gravou a proposta entre a leitura e o
+     * cancelamento, ela é relida e o status conferido de novo, em até {@value #MAX_CANCEL_ATTEMPTS} tentativas.
+     * Esgotadas, a {@link OptimisticLockingFailureException} é propagada.
+     */
     @Override
     @Transactional
     public PolicyProposal cancelPolicyRequest(PolicyProposalId id, String reason) {
         log.info("Solicitação de cancelamento para apólice: {}", id.asString());
 
+        PolicyProposal savedPolicy = null;
+        for (int attempt = 1; savedPolicy == null; attempt++) {
+            PolicyProposal policyProposal = findCancellable(id);
+            policyProposal.cancel(reason, Instant.now());
+            try {
+                savedPolicy = orderRepository.save(policyProposal);
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= MAX_CANCEL_ATTEMPTS) {
+                    throw e;
+                }
+                log.info("Apólice {} alterada durante o cancelamento. Relendo (tentativa {} de {})",
+                        id.asString(), attempt + 1, MAX_CANCEL_ATTEMPTS);
+            }
+        }
+
+        log.info("Proposta de apólice cancelada: {}", savedPolicy.getId().asString());
+
+        // Enviar para a fila order-service-consumer que irá rotear para Kafka
+        fraudQueuePort.sendToFraudQueue(savedPolicy);
+        log.info("Evento de cancelamento enviado para fila order-service-consumer. Consumer publicará no Kafka.");
+
+        return savedPolicy;
+    }
+
+    private PolicyProposal findCancellable(PolicyProposalId id) {
         PolicyProposal policyProposal = orderRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Proposta de apólice não encontrada: " + id.asString()));
 
         PolicyStatus currentStatus = policyProposal.getStatus();
         log.info("Status atual da apólice {}: {}", id.asString(), currentStatus);
 
-        // Validar se o cancelamento é permitido baseado no status atual
-        if (PolicyStatus.CANCELED.equals(currentStatus)) {
-            log.warn("Tentativa de cancelar apólice já cancelada. PolicyId={}", id.asString());
-            throw new InvalidCancellationException(id.asString(), currentStatus);
-        }
-
-        if (PolicyStatus.REJECTED.equals(currentStatus)) {
-            log.warn("Tentativa de cancelar apólice rejeitada. PolicyId={}", id.asString());
+        // Cancelamento permitido apenas antes de um estado final (RECEIVED, VALIDATED, PENDING)
+        if (!PolicyStateMachine.canCancel(currentStatus)) {
+            log.warn("Tentativa de cancelar apólice em status final. PolicyId={}, Status={}", id.asString(), currentStatus);
             throw new InvalidCancellationException(id.asString(), currentStatus);
         }
 
-        if (PolicyStatus.APPROVED.equals(currentStatus)) {
-            log.warn("Tentativa de cancelar apólice aprovada. PolicyId={}", id.asString());
-            throw new InvalidCancellationException(id.asString(), currentStatus);
-        }
-
-        // Permitir cancelamento para: RECEIVED, VALIDATED, PENDING
         log.info("Cancelamento permitido para status: {}. Procedendo com cancelamento.", currentStatus);
+        return policyProposal;
+    }
 
-        policyProposal.cancel(reason, Instant.now());
-
-        PolicyProposal savedPolicy = orderRepository.save(policyProposal);
+    @Override
+    public PolicyProposalPage listPolicyRequestsByCustomer(UUID customerId,
+                                                           Set<PolicyStatus> statuses,
+                                                           ProposalPageCursor after,
+                                                           int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException(
+                    String.format("Tamanho de página deve estar entre 1 e %d", MAX_PAGE_SIZE));
+        }
 
-        log.info("Proposta de apólice cancelada: {}", savedPolicy.getId().asString());
+        log.debug("Listando propostas do cliente {}. Status={}, Limite={}", customerId, statuses, limit);
+        return orderRepository.findSummariesByCustomerId(customerId, statuses, after, limit);
+    }
 
-        // Enviar para a fila order-service-consumer que irá rotear para Kafka
-        fraudQueuePort.sendToFraudQueue(savedPolicy);
-        log.info("Evento de cancelamento enviado para fila order-service-consumer. Consumer publicará no Kafka.");
+    @Override
+    public PolicyStatusStatistics getStatusStatistics(int lastHours) {
+        if (lastHours < 1 || lastHours > MAX_STATISTICS_HOURS) {
+            throw new IllegalArgumentException(
+                    String.format("Janela de horas deve estar entre 1 e %d", MAX_STATISTICS_HOURS));
+        }
 
-        return savedPolicy;
+        // Inclui a hora corrente: lastHours = 1 retorna apenas o bucket da hora atual
+        Instant hourlySince = Instant.now().truncatedTo(ChronoUnit.HOURS).minus(lastHours - 1L, ChronoUnit.HOURS);
+        return orderRepository.loadStatusStatistics(hourlySince);
     }
 }
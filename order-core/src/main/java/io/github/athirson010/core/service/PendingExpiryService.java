@@ -0,0 +1,237 @@
+package io.github.athirson010.core.service;
+
+import io.github.athirson010.core.port.out.OrderRepository;
+import io.github.athirson010.domain.enums.PolicyStatus;
+import io.github.athirson010.domain.model.PendingProposal;
+import io.github.athirson010.domain.model.PolicyProposal;
+import io.github.athirson010.domain.model.PolicyProposalId;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Expira propostas que ficaram em PENDING sem as duas respostas (pagamento e subscrição) dentro de
+ * {@code policy.pending-expiry.timeout}.
+ * <p>
+ * Os prazos ficam em um {@link HierarchicalTimingWheel}: o consumer registra o prazo ao gravar a proposta em
+ * PENDING, e na inicialização o wheel é reconstruído pelas propostas em PENDING, em páginas pelo índice
+ * {@code {status, pendingSince}}. A cada tick, os prazos alcançados são conferidos em lotes
+ * ({@link OrderRepository#findPendingIds}) e as propostas que continuam em PENDING são rejeitadas
+ * ({@code REJECT}) ou apenas reportadas para tratamento manual ({@code ESCALATE}). Nenhuma etapa varre a coleção
+ * periodicamente; propostas que saíram de PENDING antes do prazo são descartadas na conferência.
+ * <p>
+ * Desabilitado por padrão e, quando habilitado, em {@code ESCALATE} por padrão: rejeitar por tempo limite muda o
+ * desfecho das propostas e deve ser ligado explicitamente. Com várias instâncias, todas conferem os mesmos prazos;
+ * a rejeição grava sobre a versão lida em PENDING, então só a primeira instância a gravar rejeita e as demais
+ * recebem {@link OptimisticLockingFailureException} sem acrescentar entradas ao histórico.
+ */
+@Slf4j
+@Service
+@Profile("order-consumer")
+public class PendingExpiryService implements InitializingBean, DisposableBean {
+
+    static final String EXPIRY_REASON = "Tempo limite para respostas de pagamento e subscrição esgotado";
+
+    public enum ExpiryAction {
+        REJECT,
+        ESCALATE
+    }
+
+    private final OrderRepository orderRepository;
+    private final boolean enabled;
+    private final Duration timeout;
+    private final Duration tick;
+    private final int batchSize;
+    private final ExpiryAction action;
+    private final Clock clock;
+    private final HierarchicalTimingWheel<PolicyProposalId> wheel;
+
+    private ScheduledExecutorService ticker;
+    private boolean rebuilt;
+
+    @Autowired
+    public PendingExpiryService(OrderRepository orderRepository,
+                                @Value("${policy.pending-expiry.enabled:false}") boolean enabled,
+                                @Value("${policy.pending-expiry.timeout:24h}") Duration timeout,
+                                @Value("${policy.pending-expiry.tick:1s}") Duration tick,
+                                @Value("${policy.pending-expiry.wheel-size:512}") int wheelSize,
+                                @Value("${policy.pending-expiry.batch-size:100}") int batchSize,
+                                @Value("${policy.pending-expiry.action:ESCALATE}") ExpiryAction action) {
+        this(orderRepository, enabled, timeout, tick, wheelSize, batchSize, action, Clock.systemUTC());
+    }
+
+    PendingExpiryService(OrderRepository orderRepository, boolean enabled, Duration timeout, Duration tick,
+                         int wheelSize, int batchSize, ExpiryAction action, Clock clock) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Tamanho de lote da expiração inválido: " + batchSize);
+        }
+        this.orderRepository = orderRepository;
+        this.enabled = enabled;
+        this.timeout = timeout;
+        this.tick = tick;
+        this.batchSize = batchSize;
+        this.action = action;
+        this.clock = clock;
+        this.wheel = new HierarchicalTimingWheel<>(tick.toMillis(), wheelSize, clock.millis());
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!enabled) {
+            log.info("Expiração de propostas em PENDING desabilitada");
+            return;
+        }
+        ticker = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("pending-expiry-"));
+        ticker.scheduleWithFixedDelay(this::tick, 0, tick.toMillis(), TimeUnit.MILLISECONDS);
+        log.info("Expiração de propostas em PENDING após {} ({}), tick de {}", timeout, action, tick);
+    }
+
+    /**
+     * Registra o prazo de uma proposta que acabou de ser gravada em PENDING.
+     */
+    public void register(PolicyProposal proposal) {
+        Instant pendingSince = proposal.pendingSince();
+        if (!enabled || proposal.getStatus() != PolicyStatus.PENDING || pendingSince == null) {
+            return;
+        }
+        if (!wheel.add(proposal.getId(), pendingSince.plus(timeout).toEpochMilli())) {
+            // Prazo já vencido ao registrar: entra no próximo tick
+            wheel.add(proposal.getId(), clock.millis() + tick.toMillis());
+        }
+    }
+
+    int scheduled() {
+        return wheel.size();
+    }
+
+    /**
+     * Executado só pela thread do ticker. Enquanto a reconstrução não conclui (repositório indisponível na
+     * inicialização), é tentada de novo a cada tick.
+     */
+    void tick() {
+        try {
+            if (!rebuilt) {
+                rebuild();
+                rebuilt = true;
+            }
+            List<PolicyProposalId> due = wheel.advance(clock.millis());
+            for (int from = 0; from < due.size(); from += batchSize) {
+                expireBatch(due.subList(from, Math.min(due.size(), from + batchSize)));
+            }
+        } catch (RuntimeException e) {
+            log.error("Falha no tick da expiração de propostas em PENDING: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Preenche {@code pendingSince} nas propostas em PENDING anteriores ao campo e registra as propostas em PENDING
+     * página a página; as de prazo vencido são expiradas no primeiro tick.
+     */
+    private void rebuild() {
+        int backfilled = 0;
+        int found;
+        do {
+            found = orderRepository.backfillPendingSince(batchSize);
+            backfilled += found;
+        } while (found == batchSize);
+        if (backfilled > 0) {
+            log.info("pendingSince preenchido em {} proposta(s) em PENDING anteriores ao campo", backfilled);
+        }
+
+        long next = clock.millis() + tick.toMillis();
+        int registered = 0;
+        PendingProposal after = null;
+        List<PendingProposal> page;
+        do {
+            page = orderRepository.findPending(after, batchSize);
+            for (PendingProposal pending : page) {
+                if (!wheel.add(pending.id(), pending.pendingSince().plus(timeout).toEpochMilli())) {
+                    wheel.add(pending.id(), next);
+                }
+            }
+            registered += page.size();
+            after = page.isEmpty() ? after : page.get(page.size() - 1);
+        } while (page.size() == batchSize);
+        log.info("Prazos de expiração reconstruídos para {} proposta(s) em PENDING", registered);
+    }
+
+    private void expireBatch(List<PolicyProposalId> batch) {
+        Set<PolicyProposalId> ids = new LinkedHashSet<>(batch);
+        Set<PolicyProposalId> stillPending;
+        try {
+            stillPending = orderRepository.findPendingIds(ids);
+        } catch (RuntimeException e) {
+            // Os prazos voltam para o wheel e são conferidos de novo no próximo tick
+            long retry = clock.millis() + tick.toMillis();
+            ids.forEach(id -> wheel.add(id, retry));
+            throw e;
+        }
+
+        List<PolicyProposalId> expired = new ArrayList<>();
+        for (PolicyProposalId id : ids) {
+            if (stillPending.contains(id)) {
+                expire(id).ifPresent(expired::add);
+            }
+        }
+        if (!expired.isEmpty()) {
+            log.info("{} proposta(s) em PENDING expirada(s) ({}) de {} prazo(s) alcançado(s)",
+                    expired.size(), action, ids.size());
+        }
+    }
+
+    private Optional<PolicyProposalId> expire(PolicyProposalId id) {
+        Optional<PolicyProposal> found = orderRepository.findById(id);
+        if (found.isEmpty() || found.get().getStatus() != PolicyStatus.PENDING) {
+            return Optional.empty();
+        }
+        PolicyProposal proposal = found.get();
+        Instant now = clock.instant();
+        Instant deadline = proposal.pendingSince().plus(timeout);
+        if (deadline.isAfter(now)) {
+            wheel.add(id, deadline.toEpochMilli());
+            return Optional.empty();
+        }
+
+        if (action == ExpiryAction.ESCALATE) {
+            log.warn("Proposta {} em PENDING desde {} sem as respostas de pagamento e subscrição",
+                    id.asString(), proposal.pendingSince());
+            return Optional.of(id);
+        }
+        try {
+            // A gravação exige a versão lida, ainda em PENDING: não rejeita de novo o que outra instância rejeitou
+            proposal.reject(EXPIRY_REASON, now);
+            orderRepository.save(proposal);
+            log.debug("Proposta {} rejeitada por tempo limite em PENDING", id.asString());
+            return Optional.of(id);
+        } catch (OptimisticLockingFailureException e) {
+            // Uma resposta (ou a expiração em outra instância) chegou entre a leitura e a gravação
+            log.debug("Proposta {} saiu de PENDING antes da expiração: {}", id.asString(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+}
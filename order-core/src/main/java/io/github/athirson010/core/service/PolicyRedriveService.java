@@ -0,0 +1,119 @@
+package io.github.athirson010.core.service;
+
+import io.github.athirson010.core.port.out.FraudQueuePort;
+import io.github.athirson010.core.port.out.OrderEventPort;
+import io.github.athirson010.core.port.out.OrderRepository;
+import io.github.athirson010.domain.enums.PolicyStatus;
+import io.github.athirson010.domain.model.PolicyProposal;
+import io.github.athirson010.domain.model.PolicyProposalId;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Reenvio de uma proposta que ficou sem a mensagem que a levaria adiante, a partir das lacunas encontradas pela
+ * reconciliação ({@code PolicyReconciliationJob}, que varre o MongoDB).
+ * <p>
+ * A proposta é relida pelo repositório e só é reenviada se a lacuna continua: a varredura pode ter lido um documento
+ * desatualizado. Só reenvia para os brokers cujos publicadores existem na instância (profiles {@code api} e
+ * {@code order-consumer}).
+ */
+@Slf4j
+@Service
+public class PolicyRedriveService {
+
+    public enum Gap {
+        /**
+         * Em RECEIVED sem a mensagem na fila {@code order-service-consumer} (sem a marca de
+         * {@link OrderRepository#markQueued}). Reenviada para a fila e marcada.
+         */
+        NOT_QUEUED(PolicyStatus.RECEIVED),
+        /**
+         * Em PENDING sem o evento no {@code order-topic} (sem a marca de {@link OrderRepository#markPublished}).
+         * Reenviado ao tópico e marcado após a confirmação.
+         */
+        NOT_PUBLISHED(PolicyStatus.PENDING);
+
+        private final PolicyStatus status;
+
+        Gap(PolicyStatus status) {
+            this.status = status;
+        }
+
+        /**
+         * Status em que a proposta fica enquanto a lacuna existe.
+         */
+        public PolicyStatus status() {
+            return status;
+        }
+    }
+
+    public enum Outcome {
+        REDRIVEN,
+        SKIPPED,
+        UNAVAILABLE
+    }
+
+    private final OrderRepository orderRepository;
+    private final FraudQueuePort fraudQueue;
+    private final OrderEventPort orderEvents;
+
+    @Autowired
+    public PolicyRedriveService(OrderRepository orderRepository,
+                                ObjectProvider<FraudQueuePort> fraudQueue,
+                                ObjectProvider<OrderEventPort> orderEvents) {
+        this(orderRepository, fraudQueue.getIfAvailable(), orderEvents.getIfAvailable());
+    }
+
+    PolicyRedriveService(OrderRepository orderRepository, FraudQueuePort fraudQueue, OrderEventPort orderEvents) {
+        this.orderRepository = orderRepository;
+        this.fraudQueue = fraudQueue;
+        this.orderEvents = orderEvents;
+    }
+
+    /**
+     * Indica se a instância tem o publicador para reenviar a lacuna.
+     */
+    public boolean canRedrive(Gap gap) {
+        return (gap == Gap.NOT_QUEUED ? fraudQueue : orderEvents) != null;
+    }
+
+    /**
+     * Relê a proposta e, se a lacuna continua, publica de novo a mensagem que falta.
+     *
+     * @throws RuntimeException quando a publicação falha
+     */
+    public Outcome redrive(PolicyProposalId id, Gap gap) {
+        if (!canRedrive(gap)) {
+            return Outcome.UNAVAILABLE;
+        }
+        Optional<PolicyProposal> current = orderRepository.findById(id)
+                .filter(proposal -> stillMissing(proposal, gap));
+        if (current.isEmpty()) {
+            return Outcome.SKIPPED;
+        }
+
+        PolicyProposal proposal = current.get();
+        if (gap == Gap.NOT_QUEUED) {
+            fraudQueue.sendToFraudQueue(proposal);
+            orderRepository.markQueued(id, Instant.now());
+        } else {
+            orderEvents.sendOrderApprovedEvent(proposal).join();
+            orderRepository.markPublished(id, Instant.now());
+        }
+        log.info("Proposta {} reenviada pela reconciliação ({})", id.asString(), gap);
+        return Outcome.REDRIVEN;
+    }
+
+    private static boolean stillMissing(PolicyProposal proposal, Gap gap) {
+        return gap == Gap.NOT_QUEUED
+                ? proposal.getStatus() == PolicyStatus.RECEIVED
+                : proposal.getStatus() == PolicyStatus.PENDING
+                && !proposal.isPaymentResponseReceived()
+                && !proposal.isSubscriptionResponseReceived();
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.athirson010.core.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("HierarchicalTimingWheel - Testes Unitários")
+class HierarchicalTimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    @Test
+    @DisplayName("Deve expirar cada item no primeiro tick igual ou posterior ao prazo")
+    void deveExpirarNoPrimeiroTickAposOPrazo() {
+        // Given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 4, START);
+        wheel.add("a", START + 25);
+        wheel.add("b", START + 30);
+
+        // When
+        List<String> at20 = wheel.advance(START + 29);
+        List<String> at30 = wheel.advance(START + 30);
+
+        // Then
+        assertThat(at20).isEmpty();
+        assertThat(at30).containsExactlyInAnyOrder("a", "b");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve descer prazos longos pelos níveis sem expirar antes da hora")
+    void deveDescerPrazosLongosPelosNiveis() {
+        // Given
+        HierarchicalTimingWheel<Integer> wheel = new HierarchicalTimingWheel<>(1, 4, START);
+        for (int delay = 1; delay <= 300; delay++) {
+            wheel.add(delay, START + delay);
+        }
+
+        // When
+        List<Integer> expired = new ArrayList<>();
+        List<Long> expiredAt = new ArrayList<>();
+        for (long now = START + 1; now <= START + 300; now++) {
+            for (Integer delay : wheel.advance(now)) {
+                expired.add(delay);
+                expiredAt.add(now);
+            }
+        }
+
+        // Then
+        assertThat(wheel.levels()).isEqualTo(5);
+        assertThat(expired).hasSize(300);
+        for (int index = 0; index < expired.size(); index++) {
+            assertThat(expiredAt.get(index)).isEqualTo(START + expired.get(index));
+        }
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve recusar prazo já vencido e avançar vários ticks de uma vez")
+    void deveRecusarPrazoVencidoEAvancarVariosTicks() {
+        // Given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, START);
+        boolean expiredAdded = wheel.add("vencido", START);
+        wheel.add("longo", START + 5_000);
+
+        // When
+        List<String> beforeDeadline = wheel.advance(START + 4_990);
+        List<String> afterDeadline = wheel.advance(START + 60_000);
+
+        // Then
+        assertThat(expiredAdded).isFalse();
+        assertThat(beforeDeadline).isEmpty();
+        assertThat(afterDeadline).containsExactly("longo");
+    }
+
+    @Test
+    @DisplayName("Deve recusar configuração inválida")
+    void deveRecusarConfiguracaoInvalida() {
+        assertThatThrownBy(() -> new HierarchicalTimingWheel<String>(0, 8, START))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HierarchicalTimingWheel<String>(10, 1, START))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
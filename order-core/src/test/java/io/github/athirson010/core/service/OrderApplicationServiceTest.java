@@ -10,23 +10,32 @@ import io.github.athirson010.domain.exception.InvalidCancellationException;
 import io.github.athirson010.domain.model.Money;
 import io.github.athirson010.domain.model.PolicyProposal;
 import io.github.athirson010.domain.model.PolicyProposalId;
+import io.github.athirson010.domain.model.PolicyProposalPage;
+import io.github.athirson010.domain.model.PolicyStatusStatistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -78,6 +87,23 @@ class OrderApplicationServiceTest {
 
         verify(orderRepository, times(1)).save(policyProposal);
         verify(fraudQueuePort, times(1)).sendToFraudQueue(policyProposal);
+        verify(orderRepository).markQueued(eq(policyId), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("Não deve falhar a criação quando a marca de enfileiramento não for gravada")
+    void naoDeveFalharCriacaoQuandoMarcaDeEnfileiramentoFalhar() {
+        // Given
+        when(orderRepository.save(any(PolicyProposal.class))).thenReturn(policyProposal);
+        doThrow(new IllegalStateException("MongoDB indisponível"))
+                .when(orderRepository).markQueued(eq(policyId), any(Instant.class));
+
+        // When
+        PolicyProposal result = orderApplicationService.createPolicyRequest(policyProposal);
+
+        // Then
+        assertThat(result).isSameAs(policyProposal);
+        verify(fraudQueuePort).sendToFraudQueue(policyProposal);
     }
 
     @Test
@@ -199,4 +225,127 @@ class OrderApplicationServiceTest {
         verify(orderRepository, times(1)).findById(policyId);
         verify(orderRepository, never()).save(any(PolicyProposal.class));
     }
+
+    @Test
+    @DisplayName("Deve reler e cancelar quando a proposta mudou entre a leitura e a gravação")
+    void deveRelerECancelarQuandoPropostaMudou() {
+        // Given: o consumer levou a proposta a PENDING depois da primeira leitura
+        PolicyProposal pending = copy(policyProposal);
+        pending.validate(Instant.now());
+        pending.markAsPending(Instant.now());
+        when(orderRepository.findById(policyId)).thenReturn(Optional.of(policyProposal), Optional.of(pending));
+        when(orderRepository.save(any(PolicyProposal.class)))
+                .thenThrow(new OptimisticLockingFailureException("Proposta mudou desde a versão 1"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        PolicyProposal result = orderApplicationService.cancelPolicyRequest(policyId, "Cliente solicitou cancelamento");
+
+        // Then
+        assertThat(result).isSameAs(pending);
+        assertThat(result.getStatus()).isEqualTo(PolicyStatus.CANCELED);
+        verify(orderRepository, times(2)).findById(policyId);
+        verify(fraudQueuePort, times(1)).sendToFraudQueue(pending);
+    }
+
+    @Test
+    @DisplayName("Deve recusar o cancelamento quando a proposta relida chegou a um status final")
+    void deveRecusarCancelamentoQuandoPropostaRelidaFinalizou() {
+        // Given
+        PolicyProposal rejected = copy(policyProposal);
+        rejected.validate(Instant.now());
+        rejected.reject("Fraude", Instant.now());
+        when(orderRepository.findById(policyId)).thenReturn(Optional.of(policyProposal), Optional.of(rejected));
+        when(orderRepository.save(any(PolicyProposal.class)))
+                .thenThrow(new OptimisticLockingFailureException("Proposta mudou desde a versão 1"));
+
+        // When/Then
+        assertThatThrownBy(() -> orderApplicationService.cancelPolicyRequest(policyId, "Motivo"))
+                .isInstanceOf(InvalidCancellationException.class);
+        verify(orderRepository, times(1)).save(any(PolicyProposal.class));
+        verify(fraudQueuePort, never()).sendToFraudQueue(any(PolicyProposal.class));
+    }
+
+    @Test
+    @DisplayName("Deve propagar o conflito de versão depois de esgotar as tentativas de cancelamento")
+    void devePropagarConflitoAposEsgotarTentativas() {
+        // Given
+        when(orderRepository.findById(policyId)).thenAnswer(invocation -> Optional.of(copy(policyProposal)));
+        when(orderRepository.save(any(PolicyProposal.class)))
+                .thenThrow(new OptimisticLockingFailureException("Proposta mudou desde a versão 1"));
+
+        // When/Then
+        assertThatThrownBy(() -> orderApplicationService.cancelPolicyRequest(policyId, "Motivo"))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        verify(orderRepository, times(OrderApplicationService.MAX_CANCEL_ATTEMPTS)).save(any(PolicyProposal.class));
+        verify(fraudQueuePort, never()).sendToFraudQueue(any(PolicyProposal.class));
+    }
+
+    @Test
+    @DisplayName("Deve delegar listagem paginada de propostas do cliente ao repositório")
+    void deveDelegarListagemPaginadaAoRepositorio() {
+        // Given
+        UUID customerId = UUID.randomUUID();
+        Set<PolicyStatus> statuses = Set.of(PolicyStatus.PENDING);
+        when(orderRepository.findSummariesByCustomerId(customerId, statuses, null, 20))
+                .thenReturn(PolicyProposalPage.empty());
+
+        // When
+        PolicyProposalPage page = orderApplicationService.listPolicyRequestsByCustomer(customerId, statuses, null, 20);
+
+        // Then
+        assertThat(page.items()).isEmpty();
+        assertThat(page.hasNext()).isFalse();
+        verify(orderRepository, times(1)).findSummariesByCustomerId(customerId, statuses, null, 20);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar tamanho de página fora do intervalo permitido")
+    void deveRejeitarTamanhoDePaginaForaDoIntervalo() {
+        // Given
+        UUID customerId = UUID.randomUUID();
+
+        // When/Then
+        assertThatThrownBy(() -> orderApplicationService.listPolicyRequestsByCustomer(customerId, Set.of(), null, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Tamanho de página");
+        assertThatThrownBy(() -> orderApplicationService.listPolicyRequestsByCustomer(customerId, Set.of(), null, 101))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verify(orderRepository, never()).findSummariesByCustomerId(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Deve consultar contadores de status a partir do início da janela de horas")
+    void deveConsultarContadoresDeStatusComJanelaDeHoras() {
+        // Given
+        when(orderRepository.loadStatusStatistics(any(Instant.class))).thenReturn(PolicyStatusStatistics.empty());
+
+        // When
+        PolicyStatusStatistics result = orderApplicationService.getStatusStatistics(24);
+
+        // Then
+        assertThat(result).isNotNull();
+        ArgumentCaptor<Instant> sinceCaptor = ArgumentCaptor.forClass(Instant.class);
+        verify(orderRepository).loadStatusStatistics(sinceCaptor.capture());
+        Instant expected = Instant.now().truncatedTo(ChronoUnit.HOURS).minus(23, ChronoUnit.HOURS);
+        assertThat(sinceCaptor.getValue()).isBetween(expected.minus(1, ChronoUnit.HOURS), expected);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar janela de horas fora do intervalo permitido")
+    void deveRejeitarJanelaDeHorasForaDoIntervalo() {
+        // When/Then
+        assertThatThrownBy(() -> orderApplicationService.getStatusStatistics(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Janela de horas");
+        assertThatThrownBy(() -> orderApplicationService.getStatusStatistics(169))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verify(orderRepository, never()).loadStatusStatistics(any());
+    }
+
+    private static PolicyProposal copy(PolicyProposal proposal) {
+        return proposal.toBuilder().history(new ArrayList<>(proposal.getHistory())).build();
+    }
 }
@@ -0,0 +1,234 @@
+package io.github.athirson010.core.service;
+
+import io.github.athirson010.core.port.out.OrderRepository;
+import io.github.athirson010.core.service.PendingExpiryService.ExpiryAction;
+import io.github.athirson010.domain.enums.Category;
+import io.github.athirson010.domain.enums.PaymentMethod;
+import io.github.athirson010.domain.enums.PolicyStatus;
+import io.github.athirson010.domain.enums.SalesChannel;
+import io.github.athirson010.domain.model.Money;
+import io.github.athirson010.domain.model.PendingProposal;
+import io.github.athirson010.domain.model.PolicyProposal;
+import io.github.athirson010.domain.model.PolicyProposalId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PendingExpiryService - Testes Unitários")
+class PendingExpiryServiceTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-10T10:00:00Z");
+    private static final Duration TIMEOUT = Duration.ofHours(24);
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private Clock clock;
+
+    @Test
+    @DisplayName("Deve rejeitar a proposta registrada quando o prazo em PENDING vence")
+    void deveRejeitarPropostaQuandoPrazoVence() {
+        // Given
+        at(NOW);
+        PendingExpiryService service = service(ExpiryAction.REJECT);
+        when(orderRepository.findPending(null, 10)).thenReturn(List.of());
+        PolicyProposal proposal = pendingProposal(NOW);
+        service.register(proposal);
+        service.tick();
+        when(orderRepository.findPendingIds(anyCollection())).thenReturn(Set.of(proposal.getId()));
+        when(orderRepository.findById(proposal.getId())).thenReturn(Optional.of(pendingProposal(proposal.getId(), NOW)));
+
+        // When
+        at(NOW.plus(TIMEOUT).minusSeconds(1));
+        service.tick();
+        verify(orderRepository, never()).findPendingIds(anyCollection());
+        at(NOW.plus(TIMEOUT));
+        service.tick();
+
+        // Then
+        ArgumentCaptor<PolicyProposal> saved = ArgumentCaptor.forClass(PolicyProposal.class);
+        verify(orderRepository).save(saved.capture());
+        assertThat(saved.getValue().getStatus()).isEqualTo(PolicyStatus.REJECTED);
+        assertThat(saved.getValue().getHistory()).last()
+                .satisfies(entry -> assertThat(entry.reason()).isEqualTo(PendingExpiryService.EXPIRY_REASON));
+        assertThat(service.scheduled()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve reconstruir os prazos em páginas e expirar logo os já vencidos")
+    void deveReconstruirPrazosEmPaginas() {
+        // Given
+        at(NOW);
+        PendingExpiryService service = service(ExpiryAction.REJECT);
+        PendingProposal overdue = new PendingProposal(PolicyProposalId.generate(), NOW.minus(TIMEOUT).minusSeconds(60));
+        List<PendingProposal> firstPage = new ArrayList<>(List.of(overdue));
+        for (int i = 0; i < 9; i++) {
+            firstPage.add(new PendingProposal(PolicyProposalId.generate(), NOW.minus(TIMEOUT).plusSeconds(3600 + i)));
+        }
+        PendingProposal last = new PendingProposal(PolicyProposalId.generate(), NOW.minusSeconds(60));
+        when(orderRepository.findPending(null, 10)).thenReturn(firstPage);
+        when(orderRepository.findPending(firstPage.get(9), 10)).thenReturn(List.of(last));
+        when(orderRepository.findPendingIds(anyCollection())).thenReturn(Set.of());
+
+        // When
+        service.tick();
+        at(NOW.plusSeconds(1));
+        service.tick();
+
+        // Then
+        verify(orderRepository).findPendingIds(Set.of(overdue.id()));
+        verify(orderRepository, never()).findById(any());
+        assertThat(service.scheduled()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Deve preencher pendingSince das propostas antigas antes de reconstruir os prazos")
+    void devePreencherPendingSinceAntesDeReconstruir() {
+        // Given
+        at(NOW);
+        PendingExpiryService service = service(ExpiryAction.REJECT);
+        when(orderRepository.backfillPendingSince(10)).thenReturn(10, 3);
+        PendingProposal legacy = new PendingProposal(PolicyProposalId.generate(), NOW.minusSeconds(60));
+        when(orderRepository.findPending(null, 10)).thenReturn(List.of(legacy));
+
+        // When
+        service.tick();
+
+        // Then
+        InOrder inOrder = inOrder(orderRepository);
+        inOrder.verify(orderRepository, times(2)).backfillPendingSince(10);
+        inOrder.verify(orderRepository).findPending(null, 10);
+        assertThat(service.scheduled()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Não deve gravar propostas que saíram de PENDING nem em modo ESCALATE")
+    void naoDeveGravarPropostasForaDePendingNemEmEscalate() {
+        // Given
+        at(NOW);
+        PendingExpiryService service = service(ExpiryAction.ESCALATE);
+        when(orderRepository.findPending(null, 10)).thenReturn(List.of());
+        PolicyProposal answered = pendingProposal(NOW);
+        PolicyProposal stuck = pendingProposal(NOW);
+        service.register(answered);
+        service.register(stuck);
+        service.tick();
+        when(orderRepository.findPendingIds(anyCollection())).thenReturn(Set.of(stuck.getId()));
+        when(orderRepository.findById(stuck.getId())).thenReturn(Optional.of(stuck));
+
+        // When
+        at(NOW.plus(TIMEOUT));
+        service.tick();
+
+        // Then
+        verify(orderRepository, never()).findById(answered.getId());
+        verify(orderRepository, never()).save(any(PolicyProposal.class));
+        assertThat(service.scheduled()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve devolver os prazos ao wheel quando o repositório falha e ignorar gravação concorrente")
+    void deveDevolverPrazosQuandoRepositorioFalha() {
+        // Given
+        at(NOW);
+        PendingExpiryService service = service(ExpiryAction.REJECT);
+        when(orderRepository.findPending(null, 10)).thenReturn(List.of());
+        PolicyProposal proposal = pendingProposal(NOW);
+        service.register(proposal);
+        service.tick();
+        when(orderRepository.findPendingIds(anyCollection()))
+                .thenThrow(new IllegalStateException("MongoDB indisponível"))
+                .thenReturn(Set.of(proposal.getId()));
+        when(orderRepository.findById(proposal.getId())).thenReturn(Optional.of(pendingProposal(proposal.getId(), NOW)));
+        when(orderRepository.save(any(PolicyProposal.class)))
+                .thenThrow(new OptimisticLockingFailureException("Proposta já está em APPROVED"));
+
+        // When
+        at(NOW.plus(TIMEOUT));
+        service.tick();
+        int afterFailure = service.scheduled();
+        at(NOW.plus(TIMEOUT).plusSeconds(1));
+        service.tick();
+
+        // Then
+        assertThat(afterFailure).isEqualTo(1);
+        verify(orderRepository, times(2)).findPendingIds(anyCollection());
+        verify(orderRepository).save(any(PolicyProposal.class));
+        assertThat(service.scheduled()).isZero();
+    }
+
+    @Test
+    @DisplayName("Não deve registrar prazos quando desabilitado")
+    void naoDeveRegistrarQuandoDesabilitado() {
+        // Given
+        at(NOW);
+        PendingExpiryService service = new PendingExpiryService(
+                orderRepository, false, TIMEOUT, Duration.ofSeconds(1), 64, 10, ExpiryAction.REJECT, clock);
+
+        // When
+        service.register(pendingProposal(NOW));
+        service.afterPropertiesSet();
+
+        // Then
+        assertThat(service.scheduled()).isZero();
+        verify(orderRepository, never()).findPending(any(), anyInt());
+        verify(orderRepository, never()).backfillPendingSince(anyInt());
+        service.destroy();
+    }
+
+    private PendingExpiryService service(ExpiryAction action) {
+        return new PendingExpiryService(orderRepository, true, TIMEOUT, Duration.ofSeconds(1), 64, 10, action, clock);
+    }
+
+    private void at(Instant instant) {
+        lenient().when(clock.millis()).thenReturn(instant.toEpochMilli());
+        lenient().when(clock.instant()).thenReturn(instant);
+    }
+
+    private static PolicyProposal pendingProposal(Instant pendingSince) {
+        return pendingProposal(PolicyProposalId.generate(), pendingSince);
+    }
+
+    private static PolicyProposal pendingProposal(PolicyProposalId id, Instant pendingSince) {
+        PolicyProposal proposal = PolicyProposal.builder()
+                .id(id)
+                .customerId(UUID.randomUUID())
+                .productId("PROD-AUTO-2024")
+                .category(Category.AUTO)
+                .salesChannel(SalesChannel.MOBILE)
+                .paymentMethod(PaymentMethod.CREDIT_CARD)
+                .totalMonthlyPremiumAmount(Money.brl(new BigDecimal("350.00")))
+                .insuredAmount(Money.brl(new BigDecimal("200000.00")))
+                .coverages(Map.of("COLISAO", Money.brl(new BigDecimal("200000.00"))))
+                .assistances(List.of("GUINCHO_24H"))
+                .status(PolicyStatus.VALIDATED)
+                .createdAt(pendingSince)
+                .build();
+        proposal.markAsPending(pendingSince);
+        return proposal;
+    }
+}
@@ -0,0 +1,151 @@
+package io.github.athirson010.core.service;
+
+import io.github.athirson010.core.port.out.FraudQueuePort;
+import io.github.athirson010.core.port.out.OrderEventPort;
+import io.github.athirson010.core.port.out.OrderRepository;
+import io.github.athirson010.core.service.PolicyRedriveService.Gap;
+import io.github.athirson010.core.service.PolicyRedriveService.Outcome;
+import io.github.athirson010.domain.enums.Category;
+import io.github.athirson010.domain.enums.PaymentMethod;
+import io.github.athirson010.domain.enums.SalesChannel;
+import io.github.athirson010.domain.model.Money;
+import io.github.athirson010.domain.model.PolicyProposal;
+import io.github.athirson010.domain.model.PolicyProposalId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PolicyRedriveService - Testes Unitários")
+class PolicyRedriveServiceTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-10T10:00:00Z");
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private FraudQueuePort fraudQueue;
+
+    @Mock
+    private OrderEventPort orderEvents;
+
+    @Test
+    @DisplayName("Deve reenviar para a fila a proposta que continua em RECEIVED")
+    void deveReenviarParaFila() {
+        // Given
+        PolicyProposal proposal = proposal();
+        when(orderRepository.findById(proposal.getId())).thenReturn(Optional.of(proposal));
+
+        // When
+        Outcome outcome = service().redrive(proposal.getId(), Gap.NOT_QUEUED);
+
+        // Then
+        assertThat(outcome).isEqualTo(Outcome.REDRIVEN);
+        verify(fraudQueue).sendToFraudQueue(proposal);
+        verify(orderRepository).markQueued(eq(proposal.getId()), any(Instant.class));
+        verifyNoInteractions(orderEvents);
+    }
+
+    @Test
+    @DisplayName("Deve reenviar ao tópico a proposta em PENDING sem respostas")
+    void deveReenviarAoTopico() {
+        // Given
+        PolicyProposal proposal = proposal();
+        proposal.validate(NOW);
+        proposal.markAsPending(NOW);
+        when(orderRepository.findById(proposal.getId())).thenReturn(Optional.of(proposal));
+        when(orderEvents.sendOrderApprovedEvent(proposal)).thenReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        Outcome outcome = service().redrive(proposal.getId(), Gap.NOT_PUBLISHED);
+
+        // Then
+        assertThat(outcome).isEqualTo(Outcome.REDRIVEN);
+        verify(orderEvents).sendOrderApprovedEvent(proposal);
+        verify(orderRepository).markPublished(eq(proposal.getId()), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("Não deve marcar como publicada quando o tópico recusa o evento reenviado")
+    void naoDeveMarcarQuandoTopicoRecusa() {
+        // Given
+        PolicyProposal proposal = proposal();
+        proposal.validate(NOW);
+        proposal.markAsPending(NOW);
+        when(orderRepository.findById(proposal.getId())).thenReturn(Optional.of(proposal));
+        when(orderEvents.sendOrderApprovedEvent(proposal))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker indisponível")));
+
+        // When / Then
+        assertThatThrownBy(() -> service().redrive(proposal.getId(), Gap.NOT_PUBLISHED))
+                .hasCauseInstanceOf(IllegalStateException.class);
+        verify(orderRepository, never()).markPublished(any(), any());
+    }
+
+    @Test
+    @DisplayName("Não deve reenviar quando a proposta já avançou no repositório")
+    void naoDeveReenviarQuandoPropostaAvancou() {
+        // Given
+        PolicyProposal proposal = proposal();
+        proposal.validate(NOW);
+        when(orderRepository.findById(proposal.getId())).thenReturn(Optional.of(proposal));
+
+        // When
+        Outcome outcome = service().redrive(proposal.getId(), Gap.NOT_QUEUED);
+
+        // Then
+        assertThat(outcome).isEqualTo(Outcome.SKIPPED);
+        verifyNoInteractions(fraudQueue);
+    }
+
+    @Test
+    @DisplayName("Não deve reenviar quando a instância não tem o publicador")
+    void naoDeveReenviarSemPublicador() {
+        // Given
+        PolicyRedriveService service = new PolicyRedriveService(orderRepository, null, orderEvents);
+
+        // When
+        Outcome outcome = service.redrive(PolicyProposalId.generate(), Gap.NOT_QUEUED);
+
+        // Then
+        assertThat(service.canRedrive(Gap.NOT_QUEUED)).isFalse();
+        assertThat(service.canRedrive(Gap.NOT_PUBLISHED)).isTrue();
+        assertThat(outcome).isEqualTo(Outcome.UNAVAILABLE);
+        verifyNoInteractions(orderRepository);
+    }
+
+    private PolicyRedriveService service() {
+        return new PolicyRedriveService(orderRepository, fraudQueue, orderEvents);
+    }
+
+    private static PolicyProposal proposal() {
+        return PolicyProposal.create(
+                UUID.randomUUID(),
+                "PROD-AUTO-2024",
+                Category.AUTO,
+                SalesChannel.MOBILE,
+                PaymentMethod.CREDIT_CARD,
+                Money.brl(new BigDecimal("350.00")),
+                Money.brl(new BigDecimal("200000.00")),
+                Map.of("COLISAO", Money.brl(new BigDecimal("200000.00"))),
+                List.of("GUINCHO_24H"),
+                NOW);
+    }
+}
@@ -0,0 +1,11 @@
+package io.github.athirson010.domain.enums;
+
+/**
+ * Raia de processamento da proposta na fila order-service-consumer. Cada raia tem fila e consumers próprios,
+ * para que um volume grande de propostas de baixo valor não atrase as prioritárias.
+ */
+public enum ProcessingLane {
+    PRIORITY,
+    STANDARD,
+    BULK
+}
@@ -0,0 +1,16 @@
+package io.github.athirson010.domain.model;
+
+import java.time.Instant;
+
+/**
+ * Proposta em PENDING e o momento em que entrou nesse status. Também serve de cursor (keyset) sobre o par
+ * (pendingSince, id) na reconstrução dos prazos de expiração.
+ */
+public record PendingProposal(PolicyProposalId id, Instant pendingSince) {
+
+    public PendingProposal {
+        if (id == null || pendingSince == null) {
+            throw new IllegalArgumentException("Pending proposal requires id and pendingSince");
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package io.github.athirson010.domain.model;
+
+import io.github.athirson010.domain.enums.Category;
+import io.github.athirson010.domain.enums.PolicyStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Último estado conhecido de uma proposta, como publicado no tópico compactado de estado.
+ * {@code customerId} e {@code category} podem ser nulos quando o documento já não existia na publicação.
+ */
+public record PolicyLatestState(PolicyProposalId id,
+                                UUID customerId,
+                                Category category,
+                                PolicyStatus status,
+                                Instant changedAt) {
+
+    public PolicyLatestState {
+        if (id == null || status == null) {
+            throw new IllegalArgumentException("Latest state requires id and status");
+        }
+    }
+}
@@ -12,7 +12,7 @@ import java.util.*;
 
 @Getter
 @ToString
-@Builder
+@Builder(toBuilder = true)
 @AllArgsConstructor
 @NoArgsConstructor
 public class PolicyProposal {
@@ -34,17 +34,10 @@ public class PolicyProposal {
     private Instant createdAt;
     private Instant finishedAt;
 
-    @Builder.Default
-    private boolean paymentConfirmed = false;
-
-    @Builder.Default
-    private boolean subscriptionConfirmed = false;
-
-    @Builder.Default
-    private boolean paymentResponseReceived = false;
-
-    @Builder.Default
-    private boolean subscriptionResponseReceived = false;
+    /**
+     * Respostas de pagamento e subscrição, nos bits definidos em {@link PolicyStateMachine}.
+     */
+    private int confirmationFlags;
 
     private String paymentRejectionReason;
 
@@ -53,6 +46,12 @@ public class PolicyProposal {
     @Builder.Default
     private List<HistoryEntry> history = new ArrayList<>();
 
+    /**
+     * Versão gravada no repositório quando esta cópia foi lida ou salva; 0 para proposta ainda não gravada.
+     * Controle de concorrência otimista: a gravação só substitui o registro que ainda estiver nesta versão.
+     */
+    private long version;
+
     /**
      * Factory method para criar uma nova proposta de apólice no estado inicial RECEIVED.
      * Inicializa o histórico com a entrada RECEIVED.
@@ -109,9 +108,7 @@ public class PolicyProposal {
      * @throws InvalidTransitionException se a proposta já estiver em estado final
      */
     public void cancel(String reason, Instant now) {
-        if (this.status == PolicyStatus.CANCELED ||
-                this.status == PolicyStatus.REJECTED ||
-                this.status == PolicyStatus.APPROVED) {
+        if (!PolicyStateMachine.canCancel(this.status)) {
             throw new InvalidTransitionException(
                     String.format("Cannot cancel policy proposal in final state: %s", this.status)
             );
@@ -160,51 +157,8 @@ public class PolicyProposal {
      * @param now             timestamp da resposta
      */
     public void processPaymentResponse(boolean approved, String rejectionReason, Instant now) {
-        // Se já está rejeitado, apenas adiciona histórico da resposta de pagamento
-        if (this.status == PolicyStatus.REJECTED) {
-            if (this.paymentResponseReceived) {
-                throw new IllegalStateException("Payment response already received for this policy");
-            }
-
-            this.paymentResponseReceived = true;
-            this.paymentConfirmed = approved;
-            this.paymentRejectionReason = rejectionReason;
-
-            // Adiciona entrada no histórico informando o resultado do pagamento
-            String historyMessage = approved
-                    ? "Pagamento aprovado (após rejeição por subscrição)"
-                    : "Pagamento rejeitado: " + (rejectionReason != null ? rejectionReason : "Sem motivo especificado");
-            addHistoryEntry(PolicyStatus.REJECTED, now, historyMessage);
-            return;
-        }
-
-        // Validação normal para status PENDING
-        if (this.status != PolicyStatus.PENDING) {
-            throw new InvalidTransitionException(
-                    String.format("Cannot process payment response for policy in status: %s. Must be PENDING.", this.status)
-            );
-        }
-
-        if (this.paymentResponseReceived) {
-            throw new IllegalStateException("Payment response already received for this policy");
-        }
-
-        this.paymentResponseReceived = true;
-        this.paymentConfirmed = approved;
+        processResponse(Response.PAYMENT, approved, rejectionReason, now);
         this.paymentRejectionReason = rejectionReason;
-
-        // REJEIÇÃO IMEDIATA: Se pagamento rejeitado, rejeita a apólice imediatamente
-        if (!approved) {
-            String reason = "Pagamento rejeitado: " + (rejectionReason != null ? rejectionReason : "Sem motivo especificado");
-            reject(reason, now);
-            return;
-        }
-
-        // APROVAÇÃO: Só aprova se subscription também foi aprovada
-        if (this.subscriptionResponseReceived && this.subscriptionConfirmed) {
-            approve(now);
-        }
-        // Senão, permanece PENDING aguardando resposta de subscription
     }
 
     /**
@@ -219,54 +173,47 @@ public class PolicyProposal {
      * @param now             timestamp da resposta
      */
     public void processSubscriptionResponse(boolean approved, String rejectionReason, Instant now) {
-        // Se já está rejeitado, apenas adiciona histórico da resposta de subscrição
-        if (this.status == PolicyStatus.REJECTED) {
-            if (this.subscriptionResponseReceived) {
-                throw new IllegalStateException("Subscription response already received for this policy");
-            }
-
-            this.subscriptionResponseReceived = true;
-            this.subscriptionConfirmed = approved;
-            this.subscriptionRejectionReason = rejectionReason;
-
-            // Adiciona entrada no histórico informando o resultado da subscrição
-            String historyMessage = approved
-                    ? "Subscrição aprovada (após rejeição por pagamento)"
-                    : "Subscrição rejeitada: " + (rejectionReason != null ? rejectionReason : "Sem motivo especificado");
-            addHistoryEntry(PolicyStatus.REJECTED, now, historyMessage);
-            return;
-        }
+        processResponse(Response.SUBSCRIPTION, approved, rejectionReason, now);
+        this.subscriptionRejectionReason = rejectionReason;
+    }
 
-        // Validação normal para status PENDING
-        if (this.status != PolicyStatus.PENDING) {
-            throw new InvalidTransitionException(
-                    String.format("Cannot process subscription response for policy in status: %s. Must be PENDING.", this.status)
+    /**
+     * Registra a resposta na máscara de confirmações. Em PENDING, uma rejeição rejeita a proposta imediatamente e a
+     * aprovação só acontece quando as duas respostas foram aprovadas. Em REJECTED a resposta é apenas registrada no
+     * histórico.
+     */
+    private void processResponse(Response response, boolean approved, String rejectionReason, Instant now) {
+        if (!PolicyStateMachine.acceptsResponses(this.status)) {
+            throw new InvalidTransitionException(String.format(
+                    "Cannot process %s response for policy in status: %s. Must be PENDING.", response.label, this.status)
             );
         }
-
-        if (this.subscriptionResponseReceived) {
-            throw new IllegalStateException("Subscription response already received for this policy");
+        if ((this.confirmationFlags & response.receivedFlag) != 0) {
+            throw new IllegalStateException(response.title + " response already received for this policy");
         }
 
-        this.subscriptionResponseReceived = true;
-        this.subscriptionConfirmed = approved;
-        this.subscriptionRejectionReason = rejectionReason;
+        this.confirmationFlags |= approved ? response.receivedFlag | response.confirmedFlag : response.receivedFlag;
+        String rejection = response.rejectedMessage
+                + (rejectionReason != null ? rejectionReason : "Sem motivo especificado");
+
+        // Se já está rejeitado, apenas adiciona histórico da resposta
+        if (this.status == PolicyStatus.REJECTED) {
+            addHistoryEntry(PolicyStatus.REJECTED, now, approved ? response.approvedAfterRejectionMessage : rejection);
+            return;
+        }
 
-        // REJEIÇÃO IMEDIATA: Se subscrição rejeitada, rejeita a apólice imediatamente
+        // REJEIÇÃO IMEDIATA: Se a resposta foi rejeitada, rejeita a apólice imediatamente
         if (!approved) {
-            String reason = "Subscrição rejeitada: " + (rejectionReason != null ? rejectionReason : "Sem motivo especificado");
-            reject(reason, now);
+            reject(rejection, now);
             return;
         }
 
-        // APROVAÇÃO: Só aprova se payment também foi aprovado
-        if (this.paymentResponseReceived && this.paymentConfirmed) {
+        // APROVAÇÃO: Só aprova quando a outra resposta também foi aprovada; senão permanece PENDING
+        if (PolicyStateMachine.isFullyConfirmed(this.confirmationFlags)) {
             approve(now);
         }
-        // Senão, permanece PENDING aguardando resposta de payment
     }
 
-
     /**
      * @deprecated Use processPaymentResponse() instead
      */
@@ -316,29 +263,13 @@ public class PolicyProposal {
 
     /**
      * Valida se a transição de estado é permitida pela máquina de estados.
-     * Regras de transição:
-     * - RECEIVED → VALIDATED ou CANCELED
-     * - VALIDATED → PENDING ou REJECTED
-     * - PENDING → APPROVED ou REJECTED
-     * - Estados finais (APPROVED, REJECTED, CANCELED) são imutáveis
+     * Regras de transição em {@link PolicyStateMachine}.
      *
      * @param targetStatus estado de destino da transição
      * @throws InvalidTransitionException se a transição não for válida
      */
     private void validateTransition(PolicyStatus targetStatus) {
-        if (this.status.isFinalState()) {
-            throw new InvalidTransitionException(this.status, targetStatus);
-        }
-
-        boolean isValid = switch (this.status) {
-            case RECEIVED -> targetStatus == PolicyStatus.VALIDATED || targetStatus == PolicyStatus.CANCELED;
-            case VALIDATED -> targetStatus == PolicyStatus.PENDING || targetStatus == PolicyStatus.REJECTED;
-            case PENDING ->
-                    targetStatus == PolicyStatus.APPROVED || targetStatus == PolicyStatus.REJECTED || targetStatus == PolicyStatus.PENDING;
-            default -> false;
-        };
-
-        if (!isValid) {
+        if (!PolicyStateMachine.canTransition(this.status, targetStatus)) {
             throw new InvalidTransitionException(this.status, targetStatus);
         }
     }
@@ -351,6 +282,19 @@ public class PolicyProposal {
         return Collections.unmodifiableList(history);
     }
 
+    /**
+     * Momento em que a proposta entrou em PENDING, ou {@code null} fora desse status. Em PENDING a entrada do
+     * histórico é sempre a última, então só ela é lida (sem hidratar um histórico carregado sob demanda).
+     * Não é getter para não virar campo na serialização por bean.
+     */
+    public Instant pendingSince() {
+        if (status != PolicyStatus.PENDING || history.isEmpty()) {
+            return null;
+        }
+        HistoryEntry last = history.get(history.size() - 1);
+        return last.status() == PolicyStatus.PENDING ? last.timestamp() : null;
+    }
+
     public Map<String, Money> getCoverages() {
         return Collections.unmodifiableMap(coverages);
     }
@@ -358,4 +302,80 @@ public class PolicyProposal {
     public List<String> getAssistances() {
         return Collections.unmodifiableList(assistances);
     }
+
+    /**
+     * Registra a versão atribuída pelo repositório na gravação desta cópia, para que uma nova gravação da mesma
+     * instância parta dela.
+     */
+    public void assignVersion(long version) {
+        this.version = version;
+    }
+
+    public boolean isPaymentConfirmed() {
+        return (confirmationFlags & PolicyStateMachine.PAYMENT_CONFIRMED) != 0;
+    }
+
+    public boolean isSubscriptionConfirmed() {
+        return (confirmationFlags & PolicyStateMachine.SUBSCRIPTION_CONFIRMED) != 0;
+    }
+
+    public boolean isPaymentResponseReceived() {
+        return (confirmationFlags & PolicyStateMachine.PAYMENT_RESPONSE_RECEIVED) != 0;
+    }
+
+    public boolean isSubscriptionResponseReceived() {
+        return (confirmationFlags & PolicyStateMachine.SUBSCRIPTION_RESPONSE_RECEIVED) != 0;
+    }
+
+    /**
+     * Mantém no builder um método por flag de confirmação, além de {@code confirmationFlags}.
+     */
+    public static class PolicyProposalBuilder {
+
+        public PolicyProposalBuilder paymentConfirmed(boolean value) {
+            return flag(PolicyStateMachine.PAYMENT_CONFIRMED, value);
+        }
+
+        public PolicyProposalBuilder subscriptionConfirmed(boolean value) {
+            return flag(PolicyStateMachine.SUBSCRIPTION_CONFIRMED, value);
+        }
+
+        public PolicyProposalBuilder paymentResponseReceived(boolean value) {
+            return flag(PolicyStateMachine.PAYMENT_RESPONSE_RECEIVED, value);
+        }
+
+        public PolicyProposalBuilder subscriptionResponseReceived(boolean value) {
+            return flag(PolicyStateMachine.SUBSCRIPTION_RESPONSE_RECEIVED, value);
+        }
+
+        private PolicyProposalBuilder flag(int flag, boolean value) {
+            return confirmationFlags(value ? confirmationFlags | flag : confirmationFlags & ~flag);
+        }
+    }
+
+    private enum Response {
+        PAYMENT("payment", "Payment",
+                PolicyStateMachine.PAYMENT_RESPONSE_RECEIVED, PolicyStateMachine.PAYMENT_CONFIRMED,
+                "Pagamento rejeitado: ", "Pagamento aprovado (após rejeição por subscrição)"),
+        SUBSCRIPTION("subscription", "Subscription",
+                PolicyStateMachine.SUBSCRIPTION_RESPONSE_RECEIVED, PolicyStateMachine.SUBSCRIPTION_CONFIRMED,
+                "Subscrição rejeitada: ", "Subscrição aprovada (após rejeição por pagamento)");
+
+        private final String label;
+        private final String title;
+        private final int receivedFlag;
+        private final int confirmedFlag;
+        private final String rejectedMessage;
+        private final String approvedAfterRejectionMessage;
+
+        Response(String label, String title, int receivedFlag, int confirmedFlag,
+                 String rejectedMessage, String approvedAfterRejectionMessage) {
+            this.label = label;
+            this.title = title;
+            this.receivedFlag = receivedFlag;
+            this.confirmedFlag = confirmedFlag;
+            this.rejectedMessage = rejectedMessage;
+            this.approvedAfterRejectionMessage = approvedAfterRejectionMessage;
+        }
+    }
 }
@@ -0,0 +1,22 @@
+package io.github.athirson010.domain.model;
+
+import java.util.List;
+
+/**
+ * Página de propostas resumidas. {@code nextCursor} é nulo quando não há mais resultados.
+ */
+public record PolicyProposalPage(List<PolicyProposalSummary> items,
+                                 ProposalPageCursor nextCursor) {
+
+    public PolicyProposalPage {
+        items = List.copyOf(items);
+    }
+
+    public static PolicyProposalPage empty() {
+        return new PolicyProposalPage(List.of(), null);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
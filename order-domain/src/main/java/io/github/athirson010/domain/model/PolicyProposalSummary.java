@@ -0,0 +1,26 @@
+package io.github.athirson010.domain.model;
+
+import io.github.athirson010.domain.enums.Category;
+import io.github.athirson010.domain.enums.PaymentMethod;
+import io.github.athirson010.domain.enums.PolicyStatus;
+import io.github.athirson010.domain.enums.SalesChannel;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Visão resumida de uma proposta de apólice para listagens.
+ * Não carrega coberturas, assistências nem histórico de status.
+ */
+public record PolicyProposalSummary(PolicyProposalId id,
+                                    UUID customerId,
+                                    String productId,
+                                    Category category,
+                                    SalesChannel salesChannel,
+                                    PaymentMethod paymentMethod,
+                                    PolicyStatus status,
+                                    Money totalMonthlyPremiumAmount,
+                                    Money insuredAmount,
+                                    Instant createdAt,
+                                    Instant finishedAt) {
+}
@@ -0,0 +1,114 @@
+package io.github.athirson010.domain.model;
+
+import io.github.athirson010.domain.enums.PolicyStatus;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Definição declarativa da máquina de estados da proposta, compartilhada pelo domínio, pelo serviço de aplicação e
+ * pelas pré-condições de persistência. Todas as verificações são consultas a tabelas montadas na carga da classe.
+ * <p>
+ * Transições permitidas:
+ * <ul>
+ *     <li>RECEIVED → VALIDATED ou CANCELED</li>
+ *     <li>VALIDATED → PENDING, REJECTED ou CANCELED</li>
+ *     <li>PENDING → PENDING, APPROVED, REJECTED ou CANCELED</li>
+ *     <li>Estados finais (APPROVED, REJECTED, CANCELED) não têm saída</li>
+ * </ul>
+ * As respostas de pagamento e subscrição são registradas em uma máscara de bits ({@code *_CONFIRMED} e
+ * {@code *_RESPONSE_RECEIVED}). Os valores dos bits são gravados no MongoDB e no journal em memória: não altere.
+ */
+public final class PolicyStateMachine {
+
+    public static final int PAYMENT_CONFIRMED = 1;
+    public static final int SUBSCRIPTION_CONFIRMED = 1 << 1;
+    public static final int PAYMENT_RESPONSE_RECEIVED = 1 << 2;
+    public static final int SUBSCRIPTION_RESPONSE_RECEIVED = 1 << 3;
+
+    /**
+     * Pagamento e subscrição respondidos e aprovados: condição para PENDING → APPROVED.
+     */
+    public static final int FULLY_CONFIRMED =
+            PAYMENT_CONFIRMED | SUBSCRIPTION_CONFIRMED | PAYMENT_RESPONSE_RECEIVED | SUBSCRIPTION_RESPONSE_RECEIVED;
+
+    private static final Map<PolicyStatus, Set<PolicyStatus>> TRANSITIONS = new EnumMap<>(PolicyStatus.class);
+    private static final Map<PolicyStatus, Set<PolicyStatus>> WRITABLE_OVER = new EnumMap<>(PolicyStatus.class);
+
+    /**
+     * Status em que respostas de pagamento e subscrição são aceitas. Em REJECTED a resposta que chega depois da
+     * rejeição só é registrada no histórico.
+     */
+    private static final Set<PolicyStatus> ACCEPTS_RESPONSES = EnumSet.of(PolicyStatus.PENDING, PolicyStatus.REJECTED);
+
+    static {
+        allow(PolicyStatus.RECEIVED, PolicyStatus.VALIDATED, PolicyStatus.CANCELED);
+        allow(PolicyStatus.VALIDATED, PolicyStatus.PENDING, PolicyStatus.REJECTED, PolicyStatus.CANCELED);
+        allow(PolicyStatus.PENDING,
+                PolicyStatus.PENDING, PolicyStatus.APPROVED, PolicyStatus.REJECTED, PolicyStatus.CANCELED);
+        allow(PolicyStatus.APPROVED);
+        allow(PolicyStatus.REJECTED);
+        allow(PolicyStatus.CANCELED);
+
+        for (PolicyStatus target : PolicyStatus.values()) {
+            // Regravar o mesmo status é sempre permitido (respostas tardias, histórico adicional)
+            Set<PolicyStatus> sources = EnumSet.of(target);
+            boolean added = true;
+            while (added) {
+                added = false;
+                for (Map.Entry<PolicyStatus, Set<PolicyStatus>> entry : TRANSITIONS.entrySet()) {
+                    if (!sources.contains(entry.getKey()) && !Collections.disjoint(entry.getValue(), sources)) {
+                        added = sources.add(entry.getKey());
+                    }
+                }
+            }
+            WRITABLE_OVER.put(target, Collections.unmodifiableSet(sources));
+        }
+    }
+
+    private PolicyStateMachine() {
+    }
+
+    public static boolean canTransition(PolicyStatus from, PolicyStatus to) {
+        return TRANSITIONS.get(from).contains(to);
+    }
+
+    public static boolean canCancel(PolicyStatus from) {
+        return canTransition(from, PolicyStatus.CANCELED);
+    }
+
+    public static Set<PolicyStatus> targetsOf(PolicyStatus from) {
+        return TRANSITIONS.get(from);
+    }
+
+    /**
+     * Status armazenados que uma gravação da proposta em {@code target} pode substituir: os que alcançam
+     * {@code target} por uma ou mais transições e o próprio {@code target}. Várias transições podem ser gravadas de
+     * uma vez (RECEIVED → VALIDATED → PENDING no consumidor). Usado como filtro da gravação, impede que uma cópia desatualizada
+     * sobrescreva um status posterior (por exemplo PENDING sobre APPROVED).
+     */
+    public static Set<PolicyStatus> writableOver(PolicyStatus target) {
+        return WRITABLE_OVER.get(target);
+    }
+
+    public static boolean canOverwrite(PolicyStatus stored, PolicyStatus target) {
+        return WRITABLE_OVER.get(target).contains(stored);
+    }
+
+    public static boolean acceptsResponses(PolicyStatus status) {
+        return ACCEPTS_RESPONSES.contains(status);
+    }
+
+    public static boolean isFullyConfirmed(int confirmationFlags) {
+        return (confirmationFlags & FULLY_CONFIRMED) == FULLY_CONFIRMED;
+    }
+
+    private static void allow(PolicyStatus from, PolicyStatus... to) {
+        Set<PolicyStatus> targets = EnumSet.noneOf(PolicyStatus.class);
+        Collections.addAll(targets, to);
+        TRANSITIONS.put(from, Collections.unmodifiableSet(targets));
+    }
+}
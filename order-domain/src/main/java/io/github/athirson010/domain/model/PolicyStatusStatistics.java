@@ -0,0 +1,39 @@
+package io.github.athirson010.domain.model;
+
+import io.github.athirson010.domain.enums.Category;
+import io.github.athirson010.domain.enums.PolicyStatus;
+import io.github.athirson010.domain.enums.SalesChannel;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Contadores agregados de propostas por status.
+ * <p>
+ * {@code byStatus}, {@code byCategory} e {@code bySalesChannel} representam quantas propostas
+ * estão atualmente em cada status. {@code byHour} conta as transições para cada status ocorridas
+ * em cada hora (início da hora em UTC).
+ */
+public record PolicyStatusStatistics(Map<PolicyStatus, Long> byStatus,
+                                     Map<Category, Map<PolicyStatus, Long>> byCategory,
+                                     Map<SalesChannel, Map<PolicyStatus, Long>> bySalesChannel,
+                                     NavigableMap<Instant, Map<PolicyStatus, Long>> byHour) {
+
+    public PolicyStatusStatistics {
+        byStatus = byStatus == null ? Map.of() : Map.copyOf(byStatus);
+        byCategory = byCategory == null ? Map.of() : Map.copyOf(byCategory);
+        bySalesChannel = bySalesChannel == null ? Map.of() : Map.copyOf(bySalesChannel);
+        byHour = Collections.unmodifiableNavigableMap(byHour == null ? new TreeMap<>() : new TreeMap<>(byHour));
+    }
+
+    public static PolicyStatusStatistics empty() {
+        return new PolicyStatusStatistics(Map.of(), Map.of(), Map.of(), new TreeMap<>());
+    }
+
+    public long countOf(PolicyStatus status) {
+        return byStatus.getOrDefault(status, 0L);
+    }
+}
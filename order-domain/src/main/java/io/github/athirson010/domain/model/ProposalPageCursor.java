@@ -0,0 +1,54 @@
+package io.github.athirson010.domain.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Cursor de paginação por chave (keyset) sobre o par (createdAt, id).
+ * A próxima página contém as propostas estritamente anteriores a este par
+ * na ordenação decrescente por data de criação.
+ */
+public record ProposalPageCursor(Instant createdAt, PolicyProposalId id) {
+
+    private static final String SEPARATOR = "|";
+
+    public ProposalPageCursor {
+        if (createdAt == null || id == null) {
+            throw new IllegalArgumentException("Cursor requires createdAt and id");
+        }
+    }
+
+    public static ProposalPageCursor of(PolicyProposalSummary summary) {
+        return new ProposalPageCursor(summary.createdAt(), summary.id());
+    }
+
+    /**
+     * Reconstrói o cursor a partir do token opaco devolvido ao cliente.
+     *
+     * @param token token gerado por {@link #asToken()}
+     * @return cursor decodificado
+     * @throws IllegalArgumentException se o token for inválido
+     */
+    public static ProposalPageCursor fromToken(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = decoded.indexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new IllegalArgumentException("Invalid page cursor: " + token);
+            }
+            return new ProposalPageCursor(
+                    Instant.parse(decoded.substring(0, separatorIndex)),
+                    PolicyProposalId.from(decoded.substring(separatorIndex + 1))
+            );
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid page cursor: " + token);
+        }
+    }
+
+    public String asToken() {
+        String raw = createdAt.toString() + SEPARATOR + id.asString();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
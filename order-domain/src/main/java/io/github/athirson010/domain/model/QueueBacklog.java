@@ -0,0 +1,26 @@
+package io.github.athirson010.domain.model;
+
+/**
+ * Amostra do estado de uma fila: mensagens pendentes (prontas + não confirmadas), consumers conectados e taxa
+ * de consumo observada pelo broker.
+ */
+public record QueueBacklog(long depth, int consumers, double consumeRatePerSecond) {
+
+    public QueueBacklog {
+        if (depth < 0 || consumers < 0 || consumeRatePerSecond < 0) {
+            throw new IllegalArgumentException("Backlog de fila inválido: depth=" + depth
+                    + ", consumers=" + consumers + ", consumeRatePerSecond=" + consumeRatePerSecond);
+        }
+    }
+
+    /**
+     * Tempo estimado, em segundos, para os consumers esvaziarem a fila no ritmo atual. Infinito quando há
+     * mensagens e nenhum consumo.
+     */
+    public double estimatedLagSeconds() {
+        if (depth == 0) {
+            return 0;
+        }
+        return consumeRatePerSecond > 0 ? depth / consumeRatePerSecond : Double.POSITIVE_INFINITY;
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.athirson010.domain.model;
+
+import io.github.athirson010.domain.enums.PolicyStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PolicyStateMachine - Testes Unitários")
+class PolicyStateMachineTest {
+
+    @Test
+    @DisplayName("Deve definir as transições permitidas a partir de cada status")
+    void deveDefinirTransicoesPermitidas() {
+        assertThat(PolicyStateMachine.targetsOf(PolicyStatus.RECEIVED))
+                .containsExactlyInAnyOrder(PolicyStatus.VALIDATED, PolicyStatus.CANCELED);
+        assertThat(PolicyStateMachine.targetsOf(PolicyStatus.VALIDATED))
+                .containsExactlyInAnyOrder(PolicyStatus.PENDING, PolicyStatus.REJECTED, PolicyStatus.CANCELED);
+        assertThat(PolicyStateMachine.targetsOf(PolicyStatus.PENDING)).containsExactlyInAnyOrder(
+                PolicyStatus.PENDING, PolicyStatus.APPROVED, PolicyStatus.REJECTED, PolicyStatus.CANCELED);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = PolicyStatus.class, names = {"APPROVED", "REJECTED", "CANCELED"})
+    @DisplayName("Estados finais não devem ter transições nem permitir cancelamento")
+    void estadosFinaisNaoDevemTerTransicoes(PolicyStatus status) {
+        assertThat(PolicyStateMachine.targetsOf(status)).isEmpty();
+        assertThat(PolicyStateMachine.canCancel(status)).isFalse();
+        assertThat(status.isFinalState()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve permitir gravar sobre o mesmo status ou sobre qualquer status que o alcance")
+    void devePermitirGravarSobreStatusAnterior() {
+        assertThat(PolicyStateMachine.writableOver(PolicyStatus.RECEIVED)).containsExactly(PolicyStatus.RECEIVED);
+        assertThat(PolicyStateMachine.writableOver(PolicyStatus.APPROVED)).containsExactlyInAnyOrder(
+                PolicyStatus.RECEIVED, PolicyStatus.VALIDATED, PolicyStatus.PENDING, PolicyStatus.APPROVED);
+        assertThat(PolicyStateMachine.writableOver(PolicyStatus.CANCELED)).containsExactlyInAnyOrder(
+                PolicyStatus.RECEIVED, PolicyStatus.VALIDATED, PolicyStatus.PENDING, PolicyStatus.CANCELED);
+
+        assertThat(PolicyStateMachine.canOverwrite(PolicyStatus.REJECTED, PolicyStatus.REJECTED)).isTrue();
+        assertThat(PolicyStateMachine.canOverwrite(PolicyStatus.RECEIVED, PolicyStatus.PENDING)).isTrue();
+        assertThat(PolicyStateMachine.canOverwrite(PolicyStatus.APPROVED, PolicyStatus.PENDING)).isFalse();
+        assertThat(PolicyStateMachine.canOverwrite(PolicyStatus.CANCELED, PolicyStatus.VALIDATED)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve exigir as duas respostas recebidas e aprovadas para aprovar")
+    void deveExigirAsDuasRespostasAprovadas() {
+        int paymentApproved = PolicyStateMachine.PAYMENT_RESPONSE_RECEIVED | PolicyStateMachine.PAYMENT_CONFIRMED;
+        int subscriptionRejected = PolicyStateMachine.SUBSCRIPTION_RESPONSE_RECEIVED;
+        int subscriptionApproved = subscriptionRejected | PolicyStateMachine.SUBSCRIPTION_CONFIRMED;
+
+        assertThat(PolicyStateMachine.isFullyConfirmed(paymentApproved)).isFalse();
+        assertThat(PolicyStateMachine.isFullyConfirmed(paymentApproved | subscriptionRejected)).isFalse();
+        assertThat(PolicyStateMachine.isFullyConfirmed(paymentApproved | subscriptionApproved)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve refletir as flags do builder na máscara de confirmações")
+    void deveRefletirFlagsDoBuilderNaMascara() {
+        PolicyProposal proposal = PolicyProposal.builder()
+                .paymentResponseReceived(true)
+                .paymentConfirmed(true)
+                .subscriptionResponseReceived(true)
+                .subscriptionConfirmed(false)
+                .build();
+
+        assertThat(proposal.getConfirmationFlags()).isEqualTo(
+                PolicyStateMachine.PAYMENT_RESPONSE_RECEIVED
+                        | PolicyStateMachine.PAYMENT_CONFIRMED
+                        | PolicyStateMachine.SUBSCRIPTION_RESPONSE_RECEIVED);
+        assertThat(proposal.isPaymentConfirmed()).isTrue();
+        assertThat(proposal.isSubscriptionConfirmed()).isFalse();
+        assertThat(proposal.isSubscriptionResponseReceived()).isTrue();
+    }
+}
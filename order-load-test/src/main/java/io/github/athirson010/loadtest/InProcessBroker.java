@@ -0,0 +1,207 @@
+package io.github.athirson010.loadtest;
+
+import io.github.athirson010.adapters.in.messaging.rabbitmq.InsuranceSubscriptionConfirmationConsumer;
+import io.github.athirson010.adapters.in.messaging.rabbitmq.OrderQueueConsumer;
+import io.github.athirson010.adapters.in.messaging.rabbitmq.PaymentConfirmationConsumer;
+import io.github.athirson010.adapters.out.messaging.rabbitmq.PolicyProposalMessageConverter;
+import io.github.athirson010.adapters.out.messaging.rabbitmq.ProcessingLaneRouter;
+import io.github.athirson010.componenttest.templates.PolicyFlowScenarioBuilder;
+import io.github.athirson010.core.port.out.ClaimCheckCachePort;
+import io.github.athirson010.core.port.out.FraudQueuePort;
+import io.github.athirson010.core.port.out.OrderEventPort;
+import io.github.athirson010.core.port.out.OrderRepository;
+import io.github.athirson010.domain.enums.PolicyStatus;
+import io.github.athirson010.domain.enums.ProcessingLane;
+import io.github.athirson010.domain.model.PolicyProposal;
+import io.github.athirson010.domain.model.PolicyProposalId;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Broker em processo no lugar do RabbitMQ e do Kafka: implementa {@link FraudQueuePort} e {@link OrderEventPort}
+ * e entrega as mensagens aos consumers reais.
+ * <p>
+ * A publicação monta a mensagem como o {@code FraudQueueAdapter} (mesmo conversor, raia, cabeçalho
+ * {@code x-published-at} e claim-check) e a entrega ao listener da raia em um pool com a concorrência de
+ * {@code rabbitmq.lanes.*.concurrency}; a fila de cada pool faz o papel da fila do RabbitMQ. O evento de
+ * aprovação faz o papel do tópico Kafka: gera as respostas de pagamento e subscrição do cenário sorteado e as
+ * entrega, em ordem aleatória e uma após a outra, aos consumers de confirmação. Respostas da mesma proposta nunca
+ * são processadas em paralelo.
+ */
+@Slf4j
+@Component
+public class InProcessBroker implements FraudQueuePort, OrderEventPort, DisposableBean {
+
+    /**
+     * Mesmo nome de {@code FraudQueueAdapter.PUBLISHED_AT_HEADER}, lido pelo {@code ProcessingLaneMetrics}.
+     */
+    static final String PUBLISHED_AT_HEADER = "x-published-at";
+
+    /**
+     * Marca, na thread da raia, que o consumer publicou o evento de aprovação: a proposta segue para as
+     * confirmações e não termina na entrega à raia.
+     */
+    private static final ThreadLocal<Boolean> APPROVED_IN_DELIVERY = ThreadLocal.withInitial(() -> false);
+
+    private final PolicyProposalMessageConverter messageConverter;
+    private final ProcessingLaneRouter laneRouter;
+    private final ClaimCheckCachePort claimCheckCache;
+    private final OrderRepository orderRepository;
+    private final LoadTestScenarios scenarios;
+    private final StageLatencyRecorder recorder;
+    private final ObjectProvider<OrderQueueConsumer> orderConsumer;
+    private final ObjectProvider<PaymentConfirmationConsumer> paymentConsumer;
+    private final ObjectProvider<InsuranceSubscriptionConfirmationConsumer> subscriptionConsumer;
+    private final DataSize claimCheckThreshold;
+    private final Map<ProcessingLane, ExecutorService> laneExecutors = new EnumMap<>(ProcessingLane.class);
+    private final ExecutorService confirmationExecutor;
+
+    public InProcessBroker(PolicyProposalMessageConverter messageConverter,
+                           ProcessingLaneRouter laneRouter,
+                           ClaimCheckCachePort claimCheckCache,
+                           OrderRepository orderRepository,
+                           LoadTestScenarios scenarios,
+                           StageLatencyRecorder recorder,
+                           ObjectProvider<OrderQueueConsumer> orderConsumer,
+                           ObjectProvider<PaymentConfirmationConsumer> paymentConsumer,
+                           ObjectProvider<InsuranceSubscriptionConfirmationConsumer> subscriptionConsumer,
+                           @Value("${rabbitmq.claim-check.threshold:0B}") DataSize claimCheckThreshold,
+                           @Value("${rabbitmq.lanes.priority.concurrency:4}") int priorityConcurrency,
+                           @Value("${rabbitmq.lanes.standard.concurrency:2}") int standardConcurrency,
+                           @Value("${rabbitmq.lanes.bulk.concurrency:1}") int bulkConcurrency,
+                           @Value("${load-test.broker.confirmation-concurrency:4}") int confirmationConcurrency) {
+        this.messageConverter = messageConverter;
+        this.laneRouter = laneRouter;
+        this.claimCheckCache = claimCheckCache;
+        this.orderRepository = orderRepository;
+        this.scenarios = scenarios;
+        this.recorder = recorder;
+        this.orderConsumer = orderConsumer;
+        this.paymentConsumer = paymentConsumer;
+        this.subscriptionConsumer = subscriptionConsumer;
+        this.claimCheckThreshold = claimCheckThreshold;
+        laneExecutors.put(ProcessingLane.PRIORITY, newPool("lane-priority-", priorityConcurrency));
+        laneExecutors.put(ProcessingLane.STANDARD, newPool("lane-standard-", standardConcurrency));
+        laneExecutors.put(ProcessingLane.BULK, newPool("lane-bulk-", bulkConcurrency));
+        this.confirmationExecutor = newPool("confirmations-", confirmationConcurrency);
+    }
+
+    @Override
+    public void sendToFraudQueue(PolicyProposal policyProposal) {
+        String policyId = policyProposal.getId().asString();
+        Message message = messageConverter.toMessage(policyProposal, new MessageProperties());
+        if (exceedsClaimCheckThreshold(message)) {
+            claimCheckCache.put(policyProposal);
+            message = messageConverter.toClaimCheckMessage(policyProposal, new MessageProperties());
+        }
+
+        ProcessingLane lane = laneRouter.laneOf(policyProposal);
+        message.getMessageProperties().setHeader(PUBLISHED_AT_HEADER, System.currentTimeMillis());
+
+        // Só inclusões são medidas; cancelamentos passam pela raia sem fechar etapa
+        boolean tracked = policyProposal.getStatus() == PolicyStatus.RECEIVED;
+        if (tracked) {
+            recorder.published(policyId);
+        }
+        Message delivery = message;
+        laneExecutors.get(lane).execute(() -> deliver(lane, delivery, policyId, tracked));
+    }
+
+    @Override
+    public CompletableFuture<Void> sendOrderApprovedEvent(PolicyProposal policyProposal) {
+        String policyId = policyProposal.getId().asString();
+        APPROVED_IN_DELIVERY.set(true);
+        recorder.approved(policyId);
+        confirmationExecutor.execute(() -> confirm(policyId));
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public void sendOrderCancelledEvent(PolicyProposal policyProposal) {
+        log.debug("Evento de cancelamento descartado (sem consumers no teste de carga). PolicyId={}",
+                policyProposal.getId().asString());
+    }
+
+    private void deliver(ProcessingLane lane, Message message, String policyId, boolean tracked) {
+        APPROVED_IN_DELIVERY.set(false);
+        try {
+            OrderQueueConsumer consumer = orderConsumer.getObject();
+            switch (lane) {
+                case PRIORITY -> consumer.consumePriorityMessage(message);
+                case STANDARD -> consumer.consumeMessage(message);
+                case BULK -> consumer.consumeBulkMessage(message);
+            }
+        } catch (RuntimeException e) {
+            // O RabbitMQ reentregaria ou mandaria para a DLQ; aqui a proposta conta como falha
+            log.warn("Falha no OrderQueueConsumer. PolicyId={}: {}", policyId, e.getMessage());
+            if (tracked) {
+                recorder.fail(policyId);
+            }
+            return;
+        }
+        if (!tracked) {
+            return;
+        }
+        recorder.consumed(policyId);
+        if (!APPROVED_IN_DELIVERY.get()) {
+            recorder.complete(policyId, finalStatusOf(policyId));
+        }
+    }
+
+    private void confirm(String policyId) {
+        PolicyFlowScenarioBuilder scenario = scenarios.confirmations(policyId);
+        String payment = scenario.getPaymentBuilder().buildAsJson();
+        String subscription = scenario.getSubscriptionBuilder().buildAsJson();
+        try {
+            if (ThreadLocalRandom.current().nextBoolean()) {
+                paymentConsumer.getObject().consumePaymentConfirmation(payment);
+                subscriptionConsumer.getObject().consumeInsuranceSubscriptionConfirmation(subscription);
+            } else {
+                subscriptionConsumer.getObject().consumeInsuranceSubscriptionConfirmation(subscription);
+                paymentConsumer.getObject().consumePaymentConfirmation(payment);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Falha nos consumers de confirmação. PolicyId={}: {}", policyId, e.getMessage());
+            recorder.fail(policyId);
+            return;
+        }
+        recorder.complete(policyId, finalStatusOf(policyId));
+    }
+
+    private PolicyStatus finalStatusOf(String policyId) {
+        return orderRepository.findById(PolicyProposalId.from(policyId))
+                .map(PolicyProposal::getStatus)
+                .filter(PolicyStatus::isFinalState)
+                .orElse(null);
+    }
+
+    private boolean exceedsClaimCheckThreshold(Message message) {
+        return claimCheckThreshold != null
+                && claimCheckThreshold.toBytes() > 0
+                && message.getBody().length > claimCheckThreshold.toBytes();
+    }
+
+    private static ExecutorService newPool(String threadNamePrefix, int threads) {
+        return Executors.newFixedThreadPool(Math.max(1, threads), new CustomizableThreadFactory(threadNamePrefix));
+    }
+
+    @Override
+    public void destroy() {
+        laneExecutors.values().forEach(ExecutorService::shutdownNow);
+        confirmationExecutor.shutdownNow();
+    }
+}
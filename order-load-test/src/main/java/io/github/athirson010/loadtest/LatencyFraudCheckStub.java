@@ -0,0 +1,53 @@
+package io.github.athirson010.loadtest;
+
+import io.github.athirson010.core.port.out.FraudCheckPort;
+import io.github.athirson010.domain.enums.RiskClassification;
+import io.github.athirson010.domain.model.FraudAnalysisResult;
+import io.github.athirson010.domain.model.PolicyProposal;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@link FraudCheckPort} no lugar da API de fraudes: responde {@code load-test.fraud.classification} depois de
+ * {@code load-test.fraud.latency} mais um atraso aleatório de até {@code load-test.fraud.jitter}, ocupando a
+ * thread do consumer como a chamada HTTP real ocuparia.
+ */
+@Component
+public class LatencyFraudCheckStub implements FraudCheckPort {
+
+    private final long latencyNanos;
+    private final long jitterNanos;
+    private final RiskClassification classification;
+
+    public LatencyFraudCheckStub(
+            @Value("${load-test.fraud.latency:5ms}") Duration latency,
+            @Value("${load-test.fraud.jitter:5ms}") Duration jitter,
+            @Value("${load-test.fraud.classification:REGULAR}") RiskClassification classification) {
+        this.latencyNanos = latency.toNanos();
+        this.jitterNanos = jitter.toNanos();
+        this.classification = classification;
+    }
+
+    @Override
+    public FraudAnalysisResult analyzeFraud(PolicyProposal policyProposal) {
+        long delayNanos = latencyNanos
+                + (jitterNanos > 0 ? ThreadLocalRandom.current().nextLong(jitterNanos + 1) : 0);
+        long deadline = System.nanoTime() + delayNanos;
+        for (long remaining = delayNanos; remaining > 0; remaining = deadline - System.nanoTime()) {
+            LockSupport.parkNanos(remaining);
+        }
+        return FraudAnalysisResult.builder()
+                .orderId(policyProposal.getId().value())
+                .customerId(policyProposal.getCustomerId())
+                .analyzedAt(Instant.now())
+                .classification(classification)
+                .occurrences(List.of())
+                .build();
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.athirson010.loadtest;
+
+import io.github.athirson010.adapters.out.fraud.FraudApiAdapter;
+import io.github.athirson010.adapters.out.messaging.kafka.OrderKafkaProducer;
+import io.github.athirson010.adapters.out.messaging.rabbitmq.FraudQueueAdapter;
+import io.github.athirson010.adapters.out.messaging.rabbitmq.RabbitManagementQueueBacklogAdapter;
+import io.github.athirson010.application.OrderApplication;
+import io.github.athirson010.application.config.KafkaConfig;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.amqp.RabbitAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.mongo.MongoDataAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.mongo.MongoRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.autoconfigure.mongo.MongoAutoConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+
+/**
+ * Aplicação completa (API e os três consumers) em um único processo, com MongoDB, RabbitMQ, Kafka e a API de
+ * fraudes substituídos pelo {@code OrderInMemoryAdapter} (profile {@code in-memory}), {@link InProcessBroker} e
+ * {@link LatencyFraudCheckStub}. Executa o {@link LoadTestDriver}, imprime o relatório e encerra.
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration(exclude = {
+        MongoAutoConfiguration.class,
+        MongoDataAutoConfiguration.class,
+        MongoRepositoriesAutoConfiguration.class,
+        RabbitAutoConfiguration.class,
+        KafkaAutoConfiguration.class
+})
+@ComponentScan(basePackages = "io.github.athirson010", excludeFilters = {
+        @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = {
+                OrderApplication.class,
+                KafkaConfig.class,
+                FraudQueueAdapter.class,
+                OrderKafkaProducer.class,
+                FraudApiAdapter.class,
+                RabbitManagementQueueBacklogAdapter.class
+        })
+})
+public class LoadTestApplication {
+
+    /**
+     * Perfis da aplicação real, o {@code in-memory} (persistência sem MongoDB) e o {@code load-test}
+     * ({@code application-load-test.properties}).
+     */
+    static final String[] PROFILES = {
+            "api",
+            "order-consumer",
+            "order-response-payment-consumer",
+            "order-response-insurance-consumer",
+            "in-memory",
+            "load-test"
+    };
+
+    public static void main(String[] args) throws InterruptedException {
+        SpringApplication application = new SpringApplication(LoadTestApplication.class);
+        application.setAdditionalProfiles(PROFILES);
+        try (ConfigurableApplicationContext context = application.run(args)) {
+            LoadTestReport report = context.getBean(LoadTestDriver.class).run();
+            System.out.println(report.format());
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package io.github.athirson010.loadtest;
+
+import io.github.athirson010.loadtest.LoadTestReport.StageSummary;
+import io.github.athirson010.loadtest.StageLatencyRecorder.Stage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Gera a carga no {@code POST /policies} pelo {@code PolicyRequestController} real (MockMvc sobre o
+ * {@code DispatcherServlet} da aplicação) e espera cada proposta aceita chegar a um status final.
+ * <p>
+ * {@code load-test.requests} requisições são enviadas por {@code load-test.concurrency} clientes em paralelo,
+ * depois de {@code load-test.warmup-requests} de aquecimento, que não entram no relatório.
+ */
+@Slf4j
+@Component
+public class LoadTestDriver {
+
+    private final WebApplicationContext context;
+    private final StageLatencyRecorder recorder;
+    private final LoadTestScenarios scenarios;
+    private final int requests;
+    private final int concurrency;
+    private final int warmupRequests;
+    private final Duration timeout;
+
+    public LoadTestDriver(WebApplicationContext context,
+                          StageLatencyRecorder recorder,
+                          LoadTestScenarios scenarios,
+                          @Value("${load-test.requests:10000}") int requests,
+                          @Value("${load-test.concurrency:32}") int concurrency,
+                          @Value("${load-test.warmup-requests:1000}") int warmupRequests,
+                          @Value("${load-test.timeout:5m}") Duration timeout) {
+        if (requests <= 0 || concurrency <= 0 || warmupRequests < 0) {
+            throw new IllegalArgumentException("Parâmetros de carga inválidos: requests=" + requests
+                    + ", concurrency=" + concurrency + ", warmup-requests=" + warmupRequests);
+        }
+        this.context = context;
+        this.recorder = recorder;
+        this.scenarios = scenarios;
+        this.requests = requests;
+        this.concurrency = concurrency;
+        this.warmupRequests = warmupRequests;
+        this.timeout = timeout;
+    }
+
+    public LoadTestReport run() throws InterruptedException {
+        MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+        if (warmupRequests > 0) {
+            log.info("Aquecimento: {} requisições", warmupRequests);
+            execute(mockMvc, warmupRequests);
+            recorder.reset();
+        }
+        log.info("Carga: {} requisições com {} clientes", requests, concurrency);
+        return execute(mockMvc, requests);
+    }
+
+    private LoadTestReport execute(MockMvc mockMvc, int total) throws InterruptedException {
+        AtomicLong sequence = new AtomicLong();
+        AtomicLong accepted = new AtomicLong();
+        AtomicLong throttled = new AtomicLong();
+        AtomicLong apiErrors = new AtomicLong();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        long start = System.nanoTime();
+
+        ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+        try {
+            for (int client = 0; client < concurrency; client++) {
+                clients.execute(() -> {
+                    long next;
+                    while ((next = sequence.getAndIncrement()) < total && System.nanoTime() < deadline) {
+                        switch (submit(mockMvc, next)) {
+                            case 201 -> accepted.incrementAndGet();
+                            case 429 -> throttled.incrementAndGet();
+                            default -> apiErrors.incrementAndGet();
+                        }
+                    }
+                });
+            }
+            clients.shutdown();
+            clients.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } finally {
+            clients.shutdownNow();
+        }
+
+        while (recorder.completed() < accepted.get() && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        List<StageSummary> stages = new ArrayList<>();
+        for (Stage stage : Stage.values()) {
+            stages.add(StageSummary.of(stage, recorder.histogram(stage), elapsed));
+        }
+        return new LoadTestReport(elapsed,
+                accepted.get() + throttled.get() + apiErrors.get(),
+                accepted.get(),
+                throttled.get(),
+                apiErrors.get(),
+                recorder.failed(),
+                Math.max(0, accepted.get() - recorder.completed()),
+                recorder.finalStatuses(),
+                stages);
+    }
+
+    private int submit(MockMvc mockMvc, long sequence) {
+        String body = scenarios.policyRequest(sequence);
+        long start = System.nanoTime();
+        try {
+            int status = mockMvc.perform(post("/policies")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andReturn()
+                    .getResponse()
+                    .getStatus();
+            recorder.record(Stage.API, System.nanoTime() - start);
+            return status;
+        } catch (Exception e) {
+            log.warn("Falha no POST /policies: {}", e.getMessage());
+            return HttpStatus.INTERNAL_SERVER_ERROR.value();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package io.github.athirson010.loadtest;
+
+import io.github.athirson010.domain.enums.PolicyStatus;
+import io.github.athirson010.loadtest.StageLatencyRecorder.Stage;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Resultado de uma execução do teste de carga: volume por desfecho e, por etapa, vazão e percentis de latência.
+ */
+public record LoadTestReport(Duration elapsed,
+                             long submitted,
+                             long accepted,
+                             long throttled,
+                             long apiErrors,
+                             long failed,
+                             long incomplete,
+                             Map<PolicyStatus, Long> finalStatuses,
+                             List<StageSummary> stages) {
+
+    public LoadTestReport {
+        finalStatuses = Map.copyOf(finalStatuses);
+        stages = List.copyOf(stages);
+    }
+
+    /**
+     * Latências em milissegundos; {@code throughputPerSecond} é a contagem da etapa sobre o tempo total.
+     */
+    public record StageSummary(Stage stage,
+                               long count,
+                               double throughputPerSecond,
+                               double p50Millis,
+                               double p95Millis,
+                               double p99Millis,
+                               double maxMillis) {
+
+        static StageSummary of(Stage stage, Histogram micros, Duration elapsed) {
+            double seconds = Math.max(elapsed.toNanos(), 1) / 1e9;
+            return new StageSummary(stage,
+                    micros.getTotalCount(),
+                    micros.getTotalCount() / seconds,
+                    micros.getValueAtPercentile(50) / 1_000.0,
+                    micros.getValueAtPercentile(95) / 1_000.0,
+                    micros.getValueAtPercentile(99) / 1_000.0,
+                    micros.getMaxValue() / 1_000.0);
+        }
+    }
+
+    public StageSummary stage(Stage stage) {
+        return stages.stream()
+                .filter(summary -> summary.stage() == stage)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    public String format() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format(Locale.ROOT, "Duração: %.1fs | Enviadas: %d | Aceitas (201): %d | Recusadas (429): %d"
+                        + " | Erros na API: %d | Falhas nos consumers: %d | Sem status final: %d%n",
+                elapsed.toMillis() / 1_000.0, submitted, accepted, throttled, apiErrors, failed, incomplete));
+        out.append("Status finais: ").append(finalStatuses).append(System.lineSeparator());
+        out.append(String.format(Locale.ROOT, "%-15s %10s %10s %10s %10s %10s %10s%n",
+                "Etapa", "Qtde", "Vazão/s", "p50 ms", "p95 ms", "p99 ms", "máx ms"));
+        for (StageSummary summary : stages) {
+            out.append(String.format(Locale.ROOT, "%-15s %10d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+                    summary.stage(), summary.count(), summary.throughputPerSecond(),
+                    summary.p50Millis(), summary.p95Millis(), summary.p99Millis(), summary.maxMillis()));
+        }
+        return out.toString();
+    }
+}
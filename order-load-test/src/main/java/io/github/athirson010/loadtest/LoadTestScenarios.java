@@ -0,0 +1,67 @@
+package io.github.athirson010.loadtest;
+
+import io.github.athirson010.componenttest.templates.PolicyFlowScenarioBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Tráfego do teste de carga a partir dos templates dos testes de componente ({@link PolicyFlowScenarioBuilder}).
+ * <p>
+ * As requisições alternam AUTO, VIDA e RESIDENCIAL (raias STANDARD e PRIORITY), cada uma com um cliente novo. As
+ * confirmações de cada proposta aprovada na validação seguem um cenário sorteado: sucesso, pagamento rejeitado ou
+ * subscrição rejeitada, nas proporções {@code load-test.scenario.*-rejected-ratio}. As duas respostas são sempre
+ * enviadas, porque a proposta só sai de PENDING quando ambas chegam.
+ */
+@Component
+public class LoadTestScenarios {
+
+    private static final List<Supplier<PolicyFlowScenarioBuilder>> REQUEST_FLOWS = List.of(
+            PolicyFlowScenarioBuilder::autoRegularFlow,
+            PolicyFlowScenarioBuilder::vidaRegularFlow,
+            PolicyFlowScenarioBuilder::residencialRegularFlow);
+
+    private final double paymentRejectedRatio;
+    private final double subscriptionRejectedRatio;
+
+    public LoadTestScenarios(
+            @Value("${load-test.scenario.payment-rejected-ratio:0.05}") double paymentRejectedRatio,
+            @Value("${load-test.scenario.subscription-rejected-ratio:0.05}") double subscriptionRejectedRatio) {
+        if (paymentRejectedRatio < 0 || subscriptionRejectedRatio < 0
+                || paymentRejectedRatio + subscriptionRejectedRatio > 1) {
+            throw new IllegalArgumentException("Proporções de rejeição inválidas: pagamento=" + paymentRejectedRatio
+                    + ", subscrição=" + subscriptionRejectedRatio);
+        }
+        this.paymentRejectedRatio = paymentRejectedRatio;
+        this.subscriptionRejectedRatio = subscriptionRejectedRatio;
+    }
+
+    /**
+     * Corpo JSON do {@code POST /policies} da requisição {@code sequence}.
+     */
+    public String policyRequest(long sequence) {
+        return REQUEST_FLOWS.get((int) (sequence % REQUEST_FLOWS.size())).get()
+                .getPolicyBuilder()
+                .withCustomerId(UUID.randomUUID().toString())
+                .buildAsJson();
+    }
+
+    /**
+     * Cenário de confirmações da proposta, com pagamento e subscrição preenchidos.
+     */
+    public PolicyFlowScenarioBuilder confirmations(String policyRequestId) {
+        double draw = ThreadLocalRandom.current().nextDouble();
+        if (draw < paymentRejectedRatio) {
+            return PolicyFlowScenarioBuilder.failedByPayment(policyRequestId, "INSUFFICIENT_FUNDS")
+                    .withSubscriptionApproved(policyRequestId);
+        }
+        if (draw < paymentRejectedRatio + subscriptionRejectedRatio) {
+            return PolicyFlowScenarioBuilder.failedBySubscription(policyRequestId, "RISK_NOT_ACCEPTED");
+        }
+        return PolicyFlowScenarioBuilder.successfulFlow(policyRequestId);
+    }
+}
@@ -0,0 +1,165 @@
+package io.github.athirson010.loadtest;
+
+import io.github.athirson010.domain.enums.PolicyStatus;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Latência por etapa do fluxo, em histogramas HdrHistogram (microssegundos, 3 dígitos significativos).
+ * <p>
+ * As etapas assíncronas são medidas por proposta: o broker marca a publicação e o evento de aprovação e fecha a
+ * proposta quando ela chega a um status final ({@link #complete}).
+ */
+@Component
+public class StageLatencyRecorder {
+
+    public enum Stage {
+        /** {@code POST /policies}: admissão, persistência e publicação na fila, medido pelo cliente. */
+        API,
+        /** Publicação na fila até o fim do {@code OrderQueueConsumer}: espera na raia, fraude e validação. */
+        ORDER_CONSUMER,
+        /** Evento de aprovação até o processamento das duas confirmações (pagamento e subscrição). */
+        CONFIRMATIONS,
+        /** Publicação na fila até o status final. */
+        END_TO_END
+    }
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<Stage, Histogram> histograms = new EnumMap<>(Stage.class);
+    private final Map<String, Timeline> timelines = new ConcurrentHashMap<>();
+    private final AtomicLongArray finalStatuses = new AtomicLongArray(PolicyStatus.values().length);
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    public StageLatencyRecorder() {
+        for (Stage stage : Stage.values()) {
+            histograms.put(stage, new ConcurrentHistogram(SIGNIFICANT_DIGITS));
+        }
+    }
+
+    public void record(Stage stage, long elapsedNanos) {
+        histograms.get(stage).recordValue(Math.max(0, elapsedNanos / 1_000));
+    }
+
+    public void published(String policyId) {
+        timelines.putIfAbsent(policyId, new Timeline(System.nanoTime()));
+    }
+
+    /**
+     * Fim do {@code OrderQueueConsumer}. Pode chegar depois do {@link #complete}: as confirmações rodam em outra
+     * thread a partir do evento de aprovação, publicado ainda dentro do consumer.
+     */
+    public void consumed(String policyId) {
+        Timeline timeline = timelines.get(policyId);
+        if (timeline != null) {
+            record(Stage.ORDER_CONSUMER, System.nanoTime() - timeline.publishedAt);
+            release(policyId, timeline);
+        }
+    }
+
+    public void approved(String policyId) {
+        Timeline timeline = timelines.get(policyId);
+        if (timeline != null) {
+            timeline.approvedAt = System.nanoTime();
+        }
+    }
+
+    /**
+     * Fecha a proposta com o status final (ou {@code null} se ela parou antes de um status final).
+     */
+    public void complete(String policyId, PolicyStatus status) {
+        long now = System.nanoTime();
+        Timeline timeline = timelines.get(policyId);
+        if (timeline != null) {
+            if (timeline.approvedAt != 0) {
+                record(Stage.CONFIRMATIONS, now - timeline.approvedAt);
+            }
+            if (status != null) {
+                record(Stage.END_TO_END, now - timeline.publishedAt);
+            }
+            release(policyId, timeline);
+        }
+        if (status != null) {
+            finalStatuses.incrementAndGet(status.ordinal());
+        }
+    }
+
+    /**
+     * Proposta abandonada por erro em algum consumer.
+     */
+    public void fail(String policyId) {
+        if (timelines.remove(policyId) != null) {
+            failed.incrementAndGet();
+            completed.incrementAndGet();
+        }
+    }
+
+    /**
+     * Propostas encerradas: consumer e status final registrados, ou falha.
+     */
+    public long completed() {
+        return completed.get();
+    }
+
+    public long failed() {
+        return failed.get();
+    }
+
+    public Map<PolicyStatus, Long> finalStatuses() {
+        Map<PolicyStatus, Long> counts = new EnumMap<>(PolicyStatus.class);
+        for (PolicyStatus status : PolicyStatus.values()) {
+            long count = finalStatuses.get(status.ordinal());
+            if (count > 0) {
+                counts.put(status, count);
+            }
+        }
+        return counts;
+    }
+
+    public Histogram histogram(Stage stage) {
+        return histograms.get(stage).copy();
+    }
+
+    /**
+     * Zera medições e contadores, por exemplo depois do aquecimento.
+     */
+    public void reset() {
+        histograms.values().forEach(Histogram::reset);
+        timelines.clear();
+        for (int i = 0; i < finalStatuses.length(); i++) {
+            finalStatuses.set(i, 0);
+        }
+        completed.set(0);
+        failed.set(0);
+    }
+
+    private void release(String policyId, Timeline timeline) {
+        if (timeline.pending.decrementAndGet() == 0) {
+            timelines.remove(policyId, timeline);
+            completed.incrementAndGet();
+        }
+    }
+
+    /**
+     * Instantes de uma proposta em andamento; sai do mapa quando consumer e status final foram registrados.
+     */
+    private static final class Timeline {
+
+        private final long publishedAt;
+        private final AtomicInteger pending = new AtomicInteger(2);
+        private volatile long approvedAt;
+
+        private Timeline(long publishedAt) {
+            this.publishedAt = publishedAt;
+        }
+    }
+}
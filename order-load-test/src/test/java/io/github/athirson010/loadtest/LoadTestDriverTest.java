@@ -0,0 +1,58 @@
+package io.github.athirson010.loadtest;
+
+import io.github.athirson010.core.port.out.OrderRepository;
+import io.github.athirson010.domain.enums.PolicyStatus;
+import io.github.athirson010.loadtest.StageLatencyRecorder.Stage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(
+        classes = LoadTestApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.MOCK,
+        properties = {
+                "load-test.requests=200",
+                "load-test.concurrency=8",
+                "load-test.warmup-requests=0",
+                "load-test.timeout=1m",
+                "load-test.fraud.latency=1ms",
+                "load-test.fraud.jitter=0ms",
+                "load-test.scenario.payment-rejected-ratio=0",
+                "load-test.scenario.subscription-rejected-ratio=0"
+        }
+)
+@ActiveProfiles({"api", "order-consumer", "order-response-payment-consumer", "order-response-insurance-consumer", "in-memory",
+        "load-test"})
+@DisplayName("LoadTestDriver - Fluxo completo com stand-ins em memória")
+class LoadTestDriverTest {
+
+    @Autowired
+    private LoadTestDriver driver;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Test
+    @DisplayName("Deve levar todas as propostas da API até APPROVED e medir cada etapa")
+    void deveProcessarFluxoCompleto() throws InterruptedException {
+        LoadTestReport report = driver.run();
+
+        assertThat(report.accepted()).isEqualTo(200);
+        assertThat(report.throttled()).isZero();
+        assertThat(report.apiErrors()).isZero();
+        assertThat(report.failed()).isZero();
+        assertThat(report.incomplete()).isZero();
+        assertThat(report.finalStatuses()).isEqualTo(Map.of(PolicyStatus.APPROVED, 200L));
+        assertThat(orderRepository.loadStatusStatistics(null).countOf(PolicyStatus.APPROVED)).isEqualTo(200);
+        for (Stage stage : Stage.values()) {
+            assertThat(report.stage(stage).count()).as(stage.name()).isEqualTo(200);
+            assertThat(report.stage(stage).p99Millis()).as(stage.name()).isPositive();
+        }
+    }
+}